@@ -0,0 +1,436 @@
+package com.yidigun.base.processors;
+
+import com.squareup.javapoet.*;
+import com.yidigun.base.ErrorCode;
+import com.yidigun.base.GenerateErrorCodeEnum;
+import com.yidigun.base.GenerateErrorCodeEnumTasks;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Serial;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/// [GenerateErrorCodeEnum] 어노테이션을 처리하는 프로세서.
+///
+/// CSV 파일을 읽어 [ErrorCode]를 구현한 열거 타입을 생성한다. 생성된 열거 타입은 다음을 포함한다.
+///
+/// - CSV의 각 행에 해당하는 상수. `javadoc` 필드가 있으면 상수의 문서 주석이 된다. (`\n`은 줄바꿈으로 변환)
+/// - `code`, `message`와 [GenerateErrorCodeEnum#dataFields()]의 추가 필드, 각 필드의 접근자 메소드
+/// - 인터페이스에 `success()`의 구현이 없으면 `false`를 반환하는 `success()`
+/// - `public static E of(String code)`: 클래스 초기화 시 한번 만든 개방 주소(open addressing) 해시 테이블로 조회하므로
+///   코드 수와 관계없이 상수 시간에 조회한다. 없는 코드이면 [IllegalArgumentException]을 던진다.
+/// - 인터페이스의 `static String codeOf(...)` 메소드마다 `public static E of(...)` 팩토리 메소드
+///
+/// CSV 파일은 [StandardLocation#SOURCE_PATH], [StandardLocation#CLASS_PATH], [StandardLocation#CLASS_OUTPUT] 순서로 찾고,
+/// 찾지 못하면 프로세서의 클래스 로더에서 찾는다. `#`으로 시작하는 줄은 주석이며, 값은 인용부호(`"`)로 감쌀 수 있다.
+///
+/// @see GenerateErrorCodeEnum
+@SupportedAnnotationTypes({
+        "com.yidigun.base.GenerateErrorCodeEnum",
+        "com.yidigun.base.GenerateErrorCodeEnumTasks"
+})
+@SupportedSourceVersion(SourceVersion.RELEASE_17)
+public class GenerateErrorCodeEnumProcessor extends AbstractProcessor {
+
+    /// 필드명 형식
+    private static final Pattern FIELD_NAME = Pattern.compile("^[a-zA-Z_$][a-zA-Z0-9_$]*$");
+
+    /// 필드명 구분자
+    private static final Pattern FIELD_DELIMITER = Pattern.compile("\\s*,\\s*");
+
+    /// 필수 필드
+    private static final List<String> REQUIRED_FIELDS = List.of("name", "code", "message");
+
+    /// 상수 문서 주석으로 사용하는 필드
+    private static final String JAVADOC_FIELD = "javadoc";
+
+    private static final ClassName GENERATED = ClassName.get("javax.annotation.processing", "Generated");
+
+    private static final CSVFormat CSV_FORMAT = CSVFormat.DEFAULT.builder()
+            .setCommentMarker('#')
+            .setIgnoreEmptyLines(true)
+            .setIgnoreSurroundingSpaces(true)
+            .setTrim(true)
+            .get();
+
+    /// 생성 작업 하나의 설정
+    private record Task(Element element, AnnotationMirror mirror, String name, String toPackage,
+                        String from, String dataFields, TypeElement implement) {}
+
+    /// 처리 중단을 알리는 예외
+    private static final class TaskException extends Exception {
+        @Serial
+        private static final long serialVersionUID = 8993844047980409533L;
+
+        TaskException(String message) {
+            super(message);
+        }
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<Element> elements = new LinkedHashSet<>();
+        elements.addAll(roundEnv.getElementsAnnotatedWith(GenerateErrorCodeEnum.class));
+        elements.addAll(roundEnv.getElementsAnnotatedWith(GenerateErrorCodeEnumTasks.class));
+
+        for (Element element : elements) {
+            for (Task task : tasks(element)) {
+                try {
+                    generate(task);
+                }
+                catch (TaskException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), task.element, task.mirror);
+                }
+            }
+        }
+        return true;
+    }
+
+    /// 요소에 지정된 모든 [GenerateErrorCodeEnum] 설정을 읽는다. 반복 지정된 경우 컨테이너 어노테이션도 확인한다.
+    private List<Task> tasks(Element element) {
+        String single = GenerateErrorCodeEnum.class.getCanonicalName();
+        String container = GenerateErrorCodeEnumTasks.class.getCanonicalName();
+        List<Task> tasks = new ArrayList<>();
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            String type = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (type.equals(single)) {
+                tasks.add(task(element, mirror));
+            }
+            else if (type.equals(container)) {
+                Object value = values(mirror).get("value");
+                if (value instanceof List<?> list) {
+                    for (Object item : list) {
+                        tasks.add(task(element, (AnnotationMirror) ((AnnotationValue) item).getValue()));
+                    }
+                }
+            }
+        }
+        return tasks;
+    }
+
+    private Task task(Element element, AnnotationMirror mirror) {
+        Map<String, Object> values = values(mirror);
+        TypeMirror implement = (TypeMirror) values.get("implement");
+        return new Task(element, mirror,
+                (String) values.get("value"),
+                (String) values.get("toPackage"),
+                (String) values.get("from"),
+                (String) values.get("dataFields"),
+                (TypeElement) ((DeclaredType) implement).asElement());
+    }
+
+    private Map<String, Object> values(AnnotationMirror mirror) {
+        Map<String, Object> values = new HashMap<>();
+        processingEnv.getElementUtils().getElementValuesWithDefaults(mirror)
+                .forEach((k, v) -> values.put(k.getSimpleName().toString(), v.getValue()));
+        return values;
+    }
+
+    /// 열거 타입을 생성한다.
+    private void generate(Task task) throws TaskException {
+        Elements elementUtils = processingEnv.getElementUtils();
+
+        // 이름과 패키지
+        String name = task.name.trim();
+        String packageName = task.toPackage.trim();
+        int dot = name.lastIndexOf('.');
+        if (dot >= 0) {
+            if (packageName.isEmpty()) {
+                packageName = name.substring(0, dot);
+            }
+            name = name.substring(dot + 1);
+        }
+        if (packageName.isEmpty()) {
+            packageName = elementUtils.getPackageOf(task.element).getQualifiedName().toString();
+        }
+        if (!SourceVersion.isIdentifier(name) || SourceVersion.isKeyword(name)) {
+            throw new TaskException("Invalid enum name: " + task.name);
+        }
+
+        // 구현할 인터페이스
+        TypeElement errorCode = elementUtils.getTypeElement(ErrorCode.class.getCanonicalName());
+        TypeElement implement = task.implement;
+        if (implement.equals(errorCode) && task.element.getKind() == ElementKind.INTERFACE &&
+                processingEnv.getTypeUtils().isAssignable(task.element.asType(), errorCode.asType())) {
+            implement = (TypeElement) task.element;
+        }
+
+        // 필드
+        List<String> fields = List.of(FIELD_DELIMITER.split(task.dataFields.trim()));
+        for (String field : fields) {
+            if (!FIELD_NAME.matcher(field).matches()) {
+                throw new TaskException("Invalid field name: " + field);
+            }
+        }
+        if (!fields.containsAll(REQUIRED_FIELDS)) {
+            throw new TaskException("dataFields must contain " + REQUIRED_FIELDS + ": " + task.dataFields);
+        }
+        if (new HashSet<>(fields).size() != fields.size()) {
+            throw new TaskException("Duplicated field name: " + task.dataFields);
+        }
+        List<String> extraFields = fields.stream()
+                .filter(f -> !REQUIRED_FIELDS.contains(f) && !f.equals(JAVADOC_FIELD))
+                .toList();
+
+        // 인터페이스의 추상 메소드 확인
+        boolean implementSuccess = false;
+        List<ExecutableElement> codeOfMethods = new ArrayList<>();
+        for (Element member : elementUtils.getAllMembers(implement)) {
+            if (member.getKind() != ElementKind.METHOD) continue;
+            ExecutableElement method = (ExecutableElement) member;
+            String methodName = method.getSimpleName().toString();
+            Set<Modifier> modifiers = method.getModifiers();
+            if (modifiers.contains(Modifier.STATIC)) {
+                if (methodName.equals("codeOf") && member.getEnclosingElement().equals(implement) &&
+                        method.getReturnType().toString().equals("java.lang.String")) {
+                    codeOfMethods.add(method);
+                }
+                continue;
+            }
+            if (!modifiers.contains(Modifier.ABSTRACT) ||
+                    ((TypeElement) method.getEnclosingElement()).getQualifiedName().contentEquals("java.lang.Object")) {
+                continue;
+            }
+            if (methodName.equals("success") && method.getParameters().isEmpty()) {
+                implementSuccess = true;
+            }
+            else if (!methodName.equals("code") && !methodName.equals("message")) {
+                if (!method.getParameters().isEmpty() || !extraFields.contains(methodName)) {
+                    throw new TaskException("Abstract method " + implement.getSimpleName() + "." + methodName +
+                            "() is not in dataFields: " + task.dataFields);
+                }
+                if (!method.getReturnType().toString().equals("java.lang.String")) {
+                    throw new TaskException("Only String fields are supported: " + methodName);
+                }
+            }
+        }
+
+        // 데이터
+        List<CSVRecord> records = read(task.from);
+        Set<String> names = new HashSet<>();
+        Set<String> codes = new HashSet<>();
+        int nameIndex = fields.indexOf("name");
+        int codeIndex = fields.indexOf("code");
+        for (CSVRecord record : records) {
+            if (record.size() < fields.size()) {
+                throw new TaskException(task.from + ":" + record.getRecordNumber() + ": expected " +
+                        fields.size() + " fields " + fields + " but " + record.size());
+            }
+            String constant = record.get(nameIndex);
+            if (!SourceVersion.isIdentifier(constant) || SourceVersion.isKeyword(constant)) {
+                throw new TaskException(task.from + ":" + record.getRecordNumber() + ": invalid name: " + constant);
+            }
+            if (!names.add(constant)) {
+                throw new TaskException(task.from + ":" + record.getRecordNumber() + ": duplicated name: " + constant);
+            }
+            if (!codes.add(record.get(codeIndex))) {
+                throw new TaskException(task.from + ":" + record.getRecordNumber() + ": duplicated code: " + record.get(codeIndex));
+            }
+        }
+
+        JavaFile file = JavaFile.builder(packageName,
+                        enumType(ClassName.get(packageName, name), implement, task, fields, extraFields,
+                                records, implementSuccess, codeOfMethods))
+                .skipJavaLangImports(true)
+                .indent("    ")
+                .build();
+        try {
+            file.writeTo(processingEnv.getFiler());
+        }
+        catch (IOException e) {
+            throw new TaskException("Failed to write " + packageName + "." + name + ": " + e.getMessage());
+        }
+    }
+
+    private TypeSpec enumType(ClassName type, TypeElement implement, Task task, List<String> fields,
+                              List<String> extraFields, List<CSVRecord> records,
+                              boolean implementSuccess, List<ExecutableElement> codeOfMethods) {
+        List<String> valueFields = new ArrayList<>(List.of("code", "message"));
+        valueFields.addAll(extraFields);
+
+        TypeSpec.Builder builder = TypeSpec.enumBuilder(type)
+                .addModifiers(Modifier.PUBLIC)
+                .addSuperinterface(ClassName.get(implement))
+                .addAnnotation(AnnotationSpec.builder(GENERATED)
+                        .addMember("value", "$S", getClass().getCanonicalName())
+                        .addMember("comments", "$S", "from " + task.from)
+                        .build())
+                .addJavadoc("[$T] 오류 코드.\n\n`$L`에서 생성되었다.\n", ClassName.get(implement), task.from);
+
+        // 상수
+        int javadocIndex = fields.indexOf(JAVADOC_FIELD);
+        for (CSVRecord record : records) {
+            CodeBlock.Builder args = CodeBlock.builder();
+            for (int i = 0; i < valueFields.size(); i++) {
+                args.add((i == 0)? "$S": ", $S", record.get(fields.indexOf(valueFields.get(i))));
+            }
+            TypeSpec.Builder constant = TypeSpec.anonymousClassBuilder(args.build());
+            if (javadocIndex >= 0 && !record.get(javadocIndex).isEmpty()) {
+                constant.addJavadoc("$L\n", record.get(javadocIndex).replace("\\n", "\n"));
+            }
+            builder.addEnumConstant(record.get(fields.indexOf("name")), constant.build());
+        }
+
+        // 조회 테이블
+        builder.addField(FieldSpec.builder(ArrayTypeName.of(type), "CODE_TABLE",
+                        Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .addJavadoc("code -> 상수 개방 주소 해시 테이블\n")
+                .build());
+        builder.addStaticBlock(CodeBlock.builder()
+                .addStatement("$T[] values = values()", type)
+                .addStatement("int capacity = Integer.highestOneBit(Math.max(1, values.length) * 2 - 1) << 1")
+                .addStatement("$T[] table = new $T[capacity]", type, type)
+                .beginControlFlow("for ($T value : values)", type)
+                .addStatement("int index = slot(value.code, capacity - 1)")
+                .beginControlFlow("while (table[index] != null)")
+                .addStatement("index = (index + 1) & (capacity - 1)")
+                .endControlFlow()
+                .addStatement("table[index] = value")
+                .endControlFlow()
+                .addStatement("CODE_TABLE = table")
+                .build());
+
+        // 필드, 생성자, 접근자
+        MethodSpec.Builder constructor = MethodSpec.constructorBuilder();
+        for (String field : valueFields) {
+            builder.addField(String.class, field, Modifier.PRIVATE, Modifier.FINAL);
+            constructor.addParameter(String.class, field)
+                    .addStatement("this.$N = $N", field, field);
+            MethodSpec.Builder accessor = MethodSpec.methodBuilder(field)
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(String.class)
+                    .addStatement("return $N", field);
+            if (field.equals("code") || field.equals("message") || declares(implement, field)) {
+                accessor.addAnnotation(Override.class);
+            }
+            builder.addMethod(accessor.build());
+        }
+        builder.addMethod(constructor.build());
+
+        if (implementSuccess) {
+            builder.addMethod(MethodSpec.methodBuilder("success")
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(TypeName.BOOLEAN)
+                    .addStatement("return false")
+                    .build());
+        }
+
+        // 팩토리 메소드
+        builder.addMethod(MethodSpec.methodBuilder("slot")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(TypeName.INT)
+                .addParameter(String.class, "code")
+                .addParameter(TypeName.INT, "mask")
+                .addStatement("int h = code.hashCode()")
+                .addStatement("return (h ^ (h >>> 16)) & mask")
+                .build());
+        builder.addMethod(MethodSpec.methodBuilder("of")
+                .addJavadoc("지정한 코드의 상수를 반환한다.\n@param code 오류 코드\n@return 상수\n" +
+                        "@throws IllegalArgumentException 없는 코드인 경우\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(type)
+                .addParameter(String.class, "code")
+                .beginControlFlow("if (code != null)")
+                .addStatement("int mask = CODE_TABLE.length - 1")
+                .addStatement("int index = slot(code, mask)")
+                .addStatement("$T value", type)
+                .beginControlFlow("while ((value = CODE_TABLE[index]) != null)")
+                .beginControlFlow("if (value.code.equals(code))")
+                .addStatement("return value")
+                .endControlFlow()
+                .addStatement("index = (index + 1) & mask")
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("throw new IllegalArgumentException($S + code)", "Unknown " + type.simpleName() + " code: ")
+                .build());
+
+        for (ExecutableElement codeOf : codeOfMethods) {
+            MethodSpec.Builder factory = MethodSpec.methodBuilder("of")
+                    .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                    .returns(type);
+            List<String> args = new ArrayList<>();
+            for (VariableElement parameter : codeOf.getParameters()) {
+                factory.addParameter(TypeName.get(parameter.asType()), parameter.getSimpleName().toString());
+                args.add(parameter.getSimpleName().toString());
+            }
+            for (TypeMirror thrown : codeOf.getThrownTypes()) {
+                factory.addException(TypeName.get(thrown));
+            }
+            factory.varargs(codeOf.isVarArgs());
+            if (codeOf.getParameters().size() == 1 &&
+                    codeOf.getParameters().get(0).asType().toString().equals("java.lang.String")) {
+                continue; // of(String)과 충돌
+            }
+            builder.addMethod(factory
+                    .addStatement("return of($T.codeOf($L))", ClassName.get(implement), String.join(", ", args))
+                    .build());
+        }
+        return builder.build();
+    }
+
+    /// 인터페이스(상위 인터페이스 포함)가 인자 없는 메소드를 선언했는지 확인한다.
+    private boolean declares(TypeElement type, String methodName) {
+        for (Element member : processingEnv.getElementUtils().getAllMembers(type)) {
+            if (member.getKind() == ElementKind.METHOD && member.getSimpleName().contentEquals(methodName) &&
+                    ((ExecutableElement) member).getParameters().isEmpty() &&
+                    ((ExecutableElement) member).getReturnType().getKind() != TypeKind.VOID &&
+                    !member.getModifiers().contains(Modifier.STATIC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /// CSV 파일을 읽는다.
+    private List<CSVRecord> read(String from) throws TaskException {
+        if (from == null || from.isBlank()) {
+            throw new TaskException("Source file is not specified");
+        }
+        String path = from.startsWith("/")? from.substring(1): from;
+        try (InputStream in = open(path)) {
+            if (in == null) {
+                throw new TaskException("Source file not found: " + from);
+            }
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+                 CSVParser parser = CSV_FORMAT.parse(reader)) {
+                return parser.getRecords();
+            }
+        }
+        catch (IOException | RuntimeException e) {
+            throw new TaskException("Failed to read " + from + ": " + e.getMessage());
+        }
+    }
+
+    private InputStream open(String path) {
+        for (StandardLocation location : List.of(StandardLocation.SOURCE_PATH,
+                StandardLocation.CLASS_PATH, StandardLocation.CLASS_OUTPUT)) {
+            try {
+                FileObject file = processingEnv.getFiler().getResource(location, "", path);
+                return file.openInputStream();
+            }
+            catch (IOException | RuntimeException ignored) {
+                // 다음 위치에서 찾는다.
+            }
+        }
+        ClassLoader loader = getClass().getClassLoader();
+        return (loader != null)? loader.getResourceAsStream(path): ClassLoader.getSystemResourceAsStream(path);
+    }
+}
@@ -0,0 +1,192 @@
+package com.yidigun.base.processors;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import com.yidigun.base.ErrorCode;
+import com.yidigun.base.ProjectInfo;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GenerateErrorCodeEnumProcessorTest {
+
+    private static final String RESOURCE_DIR = "com/yidigun/base/processors/";
+
+    private Compilation compile(String name, String source) {
+        return Compiler.javac()
+                .withProcessors(new GenerateErrorCodeEnumProcessor())
+                .withOptions("-Xlint:all",
+                        "-Xlint:-processing",
+                        "--release", ProjectInfo.javaReleaseNoString())
+                .compile(JavaFileObjects.forSourceString(name, source));
+    }
+
+    /// 컴파일 결과의 클래스 파일을 읽는 클래스 로더
+    private static ClassLoader loader(Compilation compilation) throws IOException {
+        Map<String, byte[]> classes = new HashMap<>();
+        for (JavaFileObject file : compilation.generatedFiles()) {
+            if (file.getKind() == JavaFileObject.Kind.CLASS) {
+                String name = file.toUri().getPath()
+                        .replaceFirst("^.*?/CLASS_OUTPUT/", "")
+                        .replaceFirst("\\.class$", "")
+                        .replace('/', '.');
+                try (InputStream in = file.openInputStream()) {
+                    classes.put(name, in.readAllBytes());
+                }
+            }
+        }
+        return new ClassLoader(GenerateErrorCodeEnumProcessorTest.class.getClassLoader()) {
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException {
+                byte[] bytes = classes.get(name);
+                if (bytes == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                return defineClass(name, bytes, 0, bytes.length);
+            }
+        };
+    }
+
+    private static ErrorCode of(Class<?> type, String code) throws ReflectiveOperationException {
+        try {
+            return (ErrorCode) type.getMethod("of", String.class).invoke(null, code);
+        }
+        catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+
+    @Test
+    public void testGenerate() throws Exception {
+        Compilation compilation = compile("com.yidigun.test.TestStatusIf", """
+package com.yidigun.test;
+
+import com.yidigun.base.ErrorCode;
+import com.yidigun.base.GenerateErrorCodeEnum;
+
+@GenerateErrorCodeEnum(value = "TestStatus", from = "%stest-status.txt")
+public interface TestStatusIf extends ErrorCode {
+
+    @Override
+    default boolean success() {
+        return code().equals("00");
+    }
+
+    static String codeOf(int no) {
+        return (no == 0)? "00": "E" + no;
+    }
+}
+""".formatted(RESOURCE_DIR));
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("com.yidigun.test.TestStatus")
+                .contentsAsUtf8String().contains("public static TestStatus of(String code)");
+
+        Class<?> type = loader(compilation).loadClass("com.yidigun.test.TestStatus");
+        assertTrue(type.isEnum());
+        Object[] constants = type.getEnumConstants();
+        assertEquals("PASSED", ((Enum<?>) constants[0]).name());
+
+        for (Object constant : constants) {
+            ErrorCode errorCode = (ErrorCode) constant;
+            assertSame(constant, of(type, errorCode.code()));
+        }
+        ErrorCode passed = of(type, "00");
+        assertTrue(passed.success());
+        assertEquals("Test passed successfully.", passed.message());
+        assertFalse(of(type, "E1").success());
+
+        Method ofInt = type.getMethod("of", int.class);
+        assertSame(of(type, "E2"), ofInt.invoke(null, 2));
+
+        assertThrows(IllegalArgumentException.class, () -> of(type, "XX"));
+        assertThrows(IllegalArgumentException.class, () -> of(type, null));
+    }
+
+    @Test
+    public void testDataFields() throws Exception {
+        Compilation compilation = compile("com.yidigun.test.package-info", """
+@GenerateErrorCodeEnum(value = "com.yidigun.test.sql.SQLStateClass",
+                       from = "%1$ssqlstate-class.txt",
+                       dataFields = "name, code, message, standard",
+                       implement = SQLStateClassIf.class)
+@GenerateErrorCodeEnum(value = "HttpStatus", from = "%1$shttp-status.txt",
+                       dataFields = "name,code,message,javadoc")
+package com.yidigun.test;
+
+import com.yidigun.base.GenerateErrorCodeEnum;
+import com.yidigun.base.processors.SQLStateClassIf;
+""".formatted(RESOURCE_DIR));
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("com.yidigun.test.HttpStatus")
+                .contentsAsUtf8String().contains("`404 Not Found`");
+        // RFC 4180 방식("")으로 이스케이프한 따옴표는 문서 주석에 그대로 들어간다.
+        assertThat(compilation).generatedSourceFile("com.yidigun.test.HttpStatus")
+                .contentsAsUtf8String().contains("<a href=\"https://save418.com/\">The Save 418 Movement</a>");
+        assertThat(compilation).generatedSourceFile("com.yidigun.test.HttpStatus")
+                .contentsAsUtf8String().contains("(\"rate limiting\")");
+        assertThat(compilation).generatedSourceFile("com.yidigun.test.HttpStatus")
+                .contentsAsUtf8String().doesNotContain("\\\"");
+
+        ClassLoader loader = loader(compilation);
+        Class<?> sqlState = loader.loadClass("com.yidigun.test.sql.SQLStateClass");
+        SQLStateClassIf timeout = (SQLStateClassIf) of(sqlState, "Q~");
+        assertEquals("QUERY_TIMEOUT", ((Enum<?>) timeout).name());
+        assertEquals("custom", timeout.standard());
+        assertTrue(timeout.timeout());
+        assertFalse(timeout.success());
+
+        Class<?> httpStatus = loader.loadClass("com.yidigun.test.HttpStatus");
+        assertEquals("Not Found", of(httpStatus, "404").message());
+    }
+
+    @Test
+    public void testErrors() {
+        // 인터페이스의 추가 필드가 dataFields에 없음
+        Compilation missingField = compile("com.yidigun.test.MissingFieldIf", """
+package com.yidigun.test;
+
+import com.yidigun.base.ErrorCode;
+import com.yidigun.base.GenerateErrorCodeEnum;
+
+@GenerateErrorCodeEnum(value = "MissingField", from = "%ssqlstate-class.txt")
+public interface MissingFieldIf extends ErrorCode {
+    String standard();
+}
+""".formatted(RESOURCE_DIR));
+        assertThat(missingField).failed();
+        assertThat(missingField).hadErrorContaining("is not in dataFields");
+
+        // 중복 코드
+        Compilation duplicated = compile("com.yidigun.test.package-info", """
+@GenerateErrorCodeEnum(value = "Duplicated", from = "%sduplicated-code.txt")
+package com.yidigun.test;
+
+import com.yidigun.base.GenerateErrorCodeEnum;
+""".formatted(RESOURCE_DIR));
+        assertThat(duplicated).failed();
+        assertThat(duplicated).hadErrorContaining("duplicated code: E1");
+
+        // 파일 없음
+        Compilation notFound = compile("com.yidigun.test.package-info", """
+@GenerateErrorCodeEnum(value = "NotFound", from = "no-such-file.txt")
+package com.yidigun.test;
+
+import com.yidigun.base.GenerateErrorCodeEnum;
+""");
+        assertThat(notFound).failed();
+        assertThat(notFound).hadErrorContaining("Source file not found");
+    }
+}
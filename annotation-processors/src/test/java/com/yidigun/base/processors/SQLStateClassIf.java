@@ -0,0 +1,13 @@
+package com.yidigun.base.processors;
+
+import com.yidigun.base.ErrorCode;
+
+/// [GenerateErrorCodeEnumProcessorTest]에서 추가 필드를 확인하기 위한 인터페이스
+public interface SQLStateClassIf extends ErrorCode {
+
+    String standard();
+
+    default boolean timeout() {
+        return code().endsWith("~");
+    }
+}
@@ -129,6 +129,8 @@ allprojects {
 
     tasks.withType<Test> {
         useJUnitPlatform()
+        // 벤치마크 테스트 실행: ./gradlew test -Pbenchmark=true
+        rootProject.findProperty("benchmark")?.let { systemProperty("benchmark", it.toString()) }
     }
 
     tasks.withType<Jar> {
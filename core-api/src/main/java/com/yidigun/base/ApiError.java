@@ -4,23 +4,54 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 /// 디버그 모드와 프로덕션 모드를 구분하여 메시지 출력을 다르게 하는 예외 클래스.
 ///
+/// ## 스택 트레이스 정책
+///
+/// [ErrorCode]만으로 만드는 오류(예: [Result#ofNullable(Object)]의 [ErrorCode#NOT_FOUND])는 예상된 결과인 경우가 많아
+/// 스택 트레이스가 필요 없지만, 예외 객체를 만들 때마다 [#fillInStackTrace()] 비용이 든다.
+/// [#of(ErrorCode)]는 [StackTracePolicy]에 따라 스택 트레이스가 없는 공유 객체를 반환할 수 있다.
+///
+/// ```java
+/// ApiError.setStackTracePolicy(ApiError.StackTracePolicy.SAMPLED);
+/// ApiError.setStackTraceSampleRate(1000); // 1000번에 한번만 스택 트레이스를 기록한다.
+/// ```
+///
+/// 공유 객체는 스택 트레이스, 억제된 예외(suppressed), 원인 예외를 가지지 않으며 변경할 수 없다.
+///
+/// 디버그 모드와 스택 트레이스 정책은 [ApiErrorConfig]에서 읽는다.
+/// 생성된 오류(공유 객체 사용 포함)는 [ErrorMetrics]에 코드별로 기록된다.
 public class ApiError extends RuntimeException implements Serializable, ErrorCode {
 
     @Serial
     private static final long serialVersionUID = -3937138005793701689L;
 
-    // TODO: 메시지 번들 적용 방안
     private static final String DEFAULT_ERROR_MESSAGE = "An error occurred. Please contact support.";
 
+    /// 프로덕션 모드의 기본 메시지 코드. 지역화된 메시지는 [ErrorMessages]의 `API_ERROR` 키로 찾는다.
+    private static final ErrorCode DEFAULT_ERROR = ErrorCode.of("API_ERROR", DEFAULT_ERROR_MESSAGE);
+
+    /// 공유 객체 캐시의 최대 크기
+    private static final int MAX_SHARED = 1024;
+
+    /// 오류 코드별 스택 트레이스가 없는 공유 객체
+    private static final Map<ErrorCode, ApiError> SHARED = new ConcurrentHashMap<>();
+
     private final ErrorCode errorCode;
 
+    /// 설정 번호별로 캐시한 문자열 표현
+    private transient volatile Rendered rendered;
+
     /// 알 수 없는 오류 생성
     public ApiError() {
         super();
         errorCode = ErrorCode.UNKNOWN;
+        ErrorMetrics.recordError(this.errorCode);
     }
 
     /// 메시지를 이용하여 단순 오류 생성
@@ -28,6 +59,7 @@ public class ApiError extends RuntimeException implements Serializable, ErrorCod
     public ApiError(@NotNull String message) {
         super(message);
         errorCode = ErrorCode.of(message);
+        ErrorMetrics.recordError(this.errorCode);
     }
 
     /// 메시지와 오류 코드를 이용하여 오류 생성
@@ -36,6 +68,7 @@ public class ApiError extends RuntimeException implements Serializable, ErrorCod
     public ApiError(@NotNull String message, @NotNull ErrorCode errorCode) {
         super(message);
         this.errorCode = errorCode;
+        ErrorMetrics.recordError(this.errorCode);
     }
 
     /// 오류 코드를 이용하여 오류 생성
@@ -43,6 +76,7 @@ public class ApiError extends RuntimeException implements Serializable, ErrorCod
     public ApiError(@NotNull ErrorCode errorCode) {
         super(errorCode.message());
         this.errorCode = errorCode;
+        ErrorMetrics.recordError(this.errorCode);
     }
 
     /// 메시지와 원인 예외를 이용하여 오류 생성
@@ -51,6 +85,7 @@ public class ApiError extends RuntimeException implements Serializable, ErrorCod
     public ApiError(@NotNull String message, @NotNull Throwable cause) {
         super(message, cause);
         errorCode = ErrorCode.of(cause);
+        ErrorMetrics.recordError(this.errorCode);
     }
 
     /// 원인 예외를 이용하여 오류 생성
@@ -58,6 +93,15 @@ public class ApiError extends RuntimeException implements Serializable, ErrorCod
     public ApiError(@NotNull Throwable cause) {
         super(cause);
         errorCode = ErrorCode.of(cause);
+        ErrorMetrics.recordError(this.errorCode);
+    }
+
+    /// 스택 트레이스가 없는 공유 객체 생성
+    /// @param errorCode 오류 코드
+    /// @param shared 공유 객체 여부 (생성자 구분용)
+    private ApiError(@NotNull ErrorCode errorCode, boolean shared) {
+        super(errorCode.message(), null, false, false);
+        this.errorCode = errorCode;
     }
 
     /// 메시지, 원인 예외, 예외 전파 설정, 쓰기 가능 여부를 이용하여 오류 생성
@@ -68,6 +112,72 @@ public class ApiError extends RuntimeException implements Serializable, ErrorCod
     public ApiError(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
         super(message, cause, enableSuppression, writableStackTrace);
         errorCode = ErrorCode.of(cause);
+        ErrorMetrics.recordError(this.errorCode);
+    }
+
+    /// 오류 코드에 해당하는 오류를 반환한다.
+    ///
+    /// [#getStackTracePolicy()]에 따라 새 객체를 만들거나 스택 트레이스가 없는 공유 객체를 반환한다.
+    /// `errorCode`가 [ApiError]이면 그대로 반환한다.
+    /// @param errorCode 오류 코드
+    /// @return 오류 객체
+    public static ApiError of(@NotNull ErrorCode errorCode) {
+        if (errorCode instanceof ApiError apiError) {
+            return apiError;
+        }
+        ApiErrorConfig config = ApiErrorConfig.current();
+        return switch (config.stackTracePolicy()) {
+            case ALWAYS -> new ApiError(errorCode);
+            case NEVER -> recorded(shared(errorCode));
+            case SAMPLED -> (ThreadLocalRandom.current().nextInt(config.stackTraceSampleRate()) == 0)?
+                    new ApiError(errorCode): recorded(shared(errorCode));
+        };
+    }
+
+    /// 공유 객체의 사용을 생성으로 간주하여 [ErrorMetrics]에 기록한다.
+    private static ApiError recorded(ApiError shared) {
+        ErrorMetrics.recordError(shared.errorCode);
+        return shared;
+    }
+
+    /// 오류 코드의 공유 객체를 반환한다. 캐시가 가득 차면 캐시하지 않은 새 객체를 반환한다.
+    private static ApiError shared(ErrorCode errorCode) {
+        ApiError error = SHARED.get(errorCode);
+        if (error == null) {
+            error = new ApiError(errorCode, true);
+            if (SHARED.size() < MAX_SHARED) {
+                ApiError prev = SHARED.putIfAbsent(errorCode, error);
+                if (prev != null) error = prev;
+            }
+        }
+        return error;
+    }
+
+    /// [#of(ErrorCode)]의 스택 트레이스 정책을 반환한다.
+    /// @return 스택 트레이스 정책
+    public static StackTracePolicy getStackTracePolicy() {
+        return ApiErrorConfig.current().stackTracePolicy();
+    }
+
+    /// [#of(ErrorCode)]의 스택 트레이스 정책을 설정한다. 기본값은 [StackTracePolicy#ALWAYS]이다.
+    /// @param policy 스택 트레이스 정책
+    /// @see ApiErrorConfig#withStackTracePolicy(StackTracePolicy)
+    public static void setStackTracePolicy(@NotNull StackTracePolicy policy) {
+        ApiErrorConfig.update(config -> config.withStackTracePolicy(policy));
+    }
+
+    /// [StackTracePolicy#SAMPLED] 정책에서 스택 트레이스를 기록할 비율을 설정한다. 기본값은 100이다.
+    /// @param oneIn 평균적으로 `oneIn`번에 한번 스택 트레이스를 기록한다.
+    /// @throws IllegalArgumentException `oneIn`이 1보다 작은 경우
+    /// @see ApiErrorConfig#withStackTraceSampleRate(int)
+    public static void setStackTraceSampleRate(int oneIn) {
+        ApiErrorConfig.update(config -> config.withStackTraceSampleRate(oneIn));
+    }
+
+    /// 오류 코드
+    /// @return 생성할 때 지정한 오류 코드. 원인 예외로 생성했으면 원인 예외의 오류 코드
+    public ErrorCode errorCode() {
+        return errorCode;
     }
 
     @Override
@@ -78,7 +188,7 @@ public class ApiError extends RuntimeException implements Serializable, ErrorCod
     @Override
     public String message() {
         String message = (isDebugMode())? super.getMessage(): DEFAULT_ERROR_MESSAGE;
-        return message.isEmpty()? errorCode.message() : message;
+        return (message == null || message.isEmpty())? errorCode.message() : message;
     }
 
     @Override
@@ -86,6 +196,28 @@ public class ApiError extends RuntimeException implements Serializable, ErrorCod
         return message();
     }
 
+    /// 지역화된 오류 메시지. 프로덕션 모드이면 지역화된 기본 메시지를 반환한다.
+    /// 디버그 모드에서 오류 코드와 다른 메시지를 지정하여 생성했으면 그 메시지를, 그렇지 않으면 오류 코드의 지역화된 메시지를 반환한다.
+    /// @param locale 로케일
+    /// @param args 메시지 인자
+    /// @return 지역화된 오류 메시지
+    @Override
+    public String localizedMessage(@NotNull Locale locale, Object... args) {
+        if (!isDebugMode()) {
+            return DEFAULT_ERROR.localizedMessage(locale);
+        }
+        String message = super.getMessage();
+        if (message != null && !message.isEmpty() && !message.equals(errorCode.message())) {
+            return message;
+        }
+        return errorCode.localizedMessage(locale, args);
+    }
+
+    @Override
+    public String getLocalizedMessage() {
+        return localizedMessage(Locale.getDefault());
+    }
+
     @Override
     public boolean success() {
         return false;
@@ -93,19 +225,84 @@ public class ApiError extends RuntimeException implements Serializable, ErrorCod
 
     @Override
     public String toString() {
-        // TODO: JSON 형태로 포매팅
-        if (isDebugMode()) {
-            return super.toString();
-        } else {
-            return "ApiError: An error occurred. Please contact support.";
-        }
+        return rendered(ApiErrorConfig.current()).string;
+    }
+
+    /// 오류 코드와 메시지를 JSON 객체 문자열로 반환한다. (예: `{"code":"NOT_FOUND","message":"..."}`)
+    /// 메시지는 [#message()]와 같이 디버그 모드에 따라 달라진다.
+    /// 결과는 설정, 기본 로케일, [ErrorMessages]가 바뀔 때까지 캐시되므로, 같은 오류를 반복해서 출력해도 문자열을 다시 만들지 않는다.
+    /// @return JSON 객체 문자열
+    public String toJson() {
+        return rendered(ApiErrorConfig.current()).json;
+    }
+
+    /// [#toJson()]의 결과를 덧붙인다.
+    /// @param sb 덧붙일 [StringBuilder]
+    /// @return `sb`
+    public StringBuilder appendJson(@NotNull StringBuilder sb) {
+        return sb.append(toJson());
     }
 
     /// 디버그 모드인지 확인하는 메소드.
     /// @return true: 디버그 모드, false: 프로덕션 모드
     private boolean isDebugMode() {
-        // TODO: 범용적으로 활용 가능한 방안 연구
-        String debugMode = System.getenv("DEBUG_MODE");
-        return "true".equalsIgnoreCase(debugMode) || "1".equals(debugMode);
+        return ApiErrorConfig.current().debugMode();
+    }
+
+    /// 설정에 맞는 문자열 표현을 반환한다.
+    /// 디버그 모드의 문자열은 [#getLocalizedMessage()]를 사용하므로 기본 로케일과 메시지 번호도 확인한다.
+    private Rendered rendered(ApiErrorConfig config) {
+        Rendered r = rendered;
+        Locale locale = Locale.getDefault();
+        int generation = ErrorMessages.generation();
+        if (r == null || r.version != config.version() || r.generation != generation || !r.locale.equals(locale)) {
+            String message = message();
+            String string = config.debugMode()? super.toString(): "ApiError: " + DEFAULT_ERROR_MESSAGE;
+            StringBuilder json = new StringBuilder(64);
+            json.append("{\"code\":");
+            appendJsonString(json, code());
+            json.append(",\"message\":");
+            appendJsonString(json, message);
+            json.append('}');
+            rendered = r = new Rendered(config.version(), locale, generation, string, json.toString());
+        }
+        return r;
+    }
+
+    private static void appendJsonString(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append("null");
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+                    else sb.append(c);
+                }
+            }
+        }
+        sb.append('"');
+    }
+
+    /// 설정 번호, 로케일, 메시지 번호별 문자열 표현
+    private record Rendered(int version, Locale locale, int generation, String string, String json) {}
+
+    /// [#of(ErrorCode)]가 스택 트레이스를 기록하는 정책
+    public enum StackTracePolicy {
+        /// 항상 스택 트레이스를 기록한 새 객체를 생성한다.
+        ALWAYS,
+        /// 스택 트레이스가 없는 공유 객체를 사용한다.
+        NEVER,
+        /// 일정 비율로만 스택 트레이스를 기록하고, 나머지는 공유 객체를 사용한다.
+        /// @see #setStackTraceSampleRate(int)
+        SAMPLED
     }
 }
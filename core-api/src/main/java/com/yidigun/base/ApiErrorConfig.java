@@ -0,0 +1,196 @@
+package com.yidigun.base;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+
+/// [ApiError]의 실행 시간 설정.
+///
+/// 설정은 불변 객체이며 [#current()]는 캐시된 설정을 반환한다. 환경 변수와 시스템 프로퍼티는 처음 사용할 때와
+/// [#reload()]를 호출할 때만 읽는다. 시스템 프로퍼티가 환경 변수보다 우선한다.
+///
+/// | 설정 | 시스템 프로퍼티 | 환경 변수 | 기본값 |
+/// |------|----------------|-----------|--------|
+/// | 디버그 모드 | `yidigun.debugMode` | `DEBUG_MODE` | `false` |
+/// | 스택 트레이스 정책 | `yidigun.apiError.stackTrace` | `API_ERROR_STACK_TRACE` | `ALWAYS` |
+/// | 샘플링 비율 | `yidigun.apiError.stackTraceSampleRate` | `API_ERROR_STACK_TRACE_SAMPLE_RATE` | `100` |
+/// | 오류 지표 수집 | `yidigun.apiError.metrics` | `API_ERROR_METRICS` | `true` |
+///
+/// ```java
+/// ApiErrorConfig.update(config -> config
+///         .withDebugMode(false)
+///         .withStackTracePolicy(ApiError.StackTracePolicy.NEVER));
+/// ```
+///
+/// 프로그램에서 변경한 설정은 [#reload()]를 호출하면 환경 설정 값으로 되돌아간다.
+public final class ApiErrorConfig {
+
+    /// 디버그 모드 시스템 프로퍼티
+    public static final String DEBUG_MODE_PROPERTY = "yidigun.debugMode";
+    /// 디버그 모드 환경 변수
+    public static final String DEBUG_MODE_ENV = "DEBUG_MODE";
+    /// 스택 트레이스 정책 시스템 프로퍼티
+    public static final String STACK_TRACE_PROPERTY = "yidigun.apiError.stackTrace";
+    /// 스택 트레이스 정책 환경 변수
+    public static final String STACK_TRACE_ENV = "API_ERROR_STACK_TRACE";
+    /// 샘플링 비율 시스템 프로퍼티
+    public static final String SAMPLE_RATE_PROPERTY = "yidigun.apiError.stackTraceSampleRate";
+    /// 샘플링 비율 환경 변수
+    public static final String SAMPLE_RATE_ENV = "API_ERROR_STACK_TRACE_SAMPLE_RATE";
+    /// 오류 지표 수집 시스템 프로퍼티
+    public static final String METRICS_PROPERTY = "yidigun.apiError.metrics";
+    /// 오류 지표 수집 환경 변수
+    public static final String METRICS_ENV = "API_ERROR_METRICS";
+
+    /// 기본 설정
+    public static final ApiErrorConfig DEFAULT = new ApiErrorConfig(false, ApiError.StackTracePolicy.ALWAYS, 100, true, 0);
+
+    private static volatile ApiErrorConfig current;
+
+    private final boolean debugMode;
+    private final ApiError.StackTracePolicy stackTracePolicy;
+    private final int stackTraceSampleRate;
+    private final boolean metricsEnabled;
+    /// 설정이 바뀔 때마다 증가하는 번호. 설정에 따라 캐시한 값을 무효화할 때 사용한다.
+    private final int version;
+
+    private ApiErrorConfig(boolean debugMode, ApiError.StackTracePolicy stackTracePolicy,
+                           int stackTraceSampleRate, boolean metricsEnabled, int version) {
+        this.debugMode = debugMode;
+        this.stackTracePolicy = stackTracePolicy;
+        this.stackTraceSampleRate = stackTraceSampleRate;
+        this.metricsEnabled = metricsEnabled;
+        this.version = version;
+    }
+
+    /// 현재 설정을 반환한다.
+    /// @return 현재 설정
+    public static ApiErrorConfig current() {
+        ApiErrorConfig config = current;
+        if (config == null) {
+            synchronized (ApiErrorConfig.class) {
+                config = current;
+                if (config == null) {
+                    config = current = load(0);
+                }
+            }
+        }
+        return config;
+    }
+
+    /// 환경 변수와 시스템 프로퍼티를 다시 읽는다. 프로그램에서 변경한 설정은 사라진다.
+    /// @return 새 설정
+    public static synchronized ApiErrorConfig reload() {
+        ApiErrorConfig config = current;
+        return current = load((config == null)? 0: config.version + 1);
+    }
+
+    /// 현재 설정을 변경한다.
+    /// @param updater 현재 설정으로부터 새 설정을 만드는 함수
+    /// @return 새 설정
+    public static synchronized ApiErrorConfig update(@NotNull UnaryOperator<ApiErrorConfig> updater) {
+        ApiErrorConfig config = current();
+        ApiErrorConfig updated = updater.apply(config);
+        return current = new ApiErrorConfig(updated.debugMode, updated.stackTracePolicy,
+                updated.stackTraceSampleRate, updated.metricsEnabled, config.version + 1);
+    }
+
+    private static ApiErrorConfig load(int version) {
+        String debugMode = setting(DEBUG_MODE_PROPERTY, DEBUG_MODE_ENV);
+        String policy = setting(STACK_TRACE_PROPERTY, STACK_TRACE_ENV);
+        String sampleRate = setting(SAMPLE_RATE_PROPERTY, SAMPLE_RATE_ENV);
+        String metrics = setting(METRICS_PROPERTY, METRICS_ENV);
+
+        ApiError.StackTracePolicy stackTracePolicy = DEFAULT.stackTracePolicy;
+        if (policy != null) {
+            try {
+                stackTracePolicy = ApiError.StackTracePolicy.valueOf(policy.trim().toUpperCase(Locale.ROOT));
+            }
+            catch (IllegalArgumentException ignored) {
+                // 잘못된 값은 기본값을 사용한다.
+            }
+        }
+        int stackTraceSampleRate = DEFAULT.stackTraceSampleRate;
+        if (sampleRate != null) {
+            try {
+                stackTraceSampleRate = Math.max(1, Integer.parseInt(sampleRate.trim()));
+            }
+            catch (NumberFormatException ignored) {
+                // 잘못된 값은 기본값을 사용한다.
+            }
+        }
+        return new ApiErrorConfig(
+                debugMode != null && ("true".equalsIgnoreCase(debugMode.trim()) || "1".equals(debugMode.trim())),
+                stackTracePolicy, stackTraceSampleRate,
+                metrics == null || !("false".equalsIgnoreCase(metrics.trim()) || "0".equals(metrics.trim())),
+                version);
+    }
+
+    private static String setting(String property, String env) {
+        String value = System.getProperty(property);
+        return (value != null)? value: System.getenv(env);
+    }
+
+    /// 디버그 모드 여부. 디버그 모드가 아니면 [ApiError]는 상세 메시지 대신 기본 메시지를 출력한다.
+    /// @return 디버그 모드이면 `true`
+    public boolean debugMode() { return debugMode; }
+
+    /// [ApiError#of(ErrorCode)]의 스택 트레이스 정책
+    /// @return 스택 트레이스 정책
+    public ApiError.StackTracePolicy stackTracePolicy() { return stackTracePolicy; }
+
+    /// [ApiError.StackTracePolicy#SAMPLED] 정책에서 스택 트레이스를 기록할 비율
+    /// @return 평균적으로 이 횟수에 한번 스택 트레이스를 기록한다.
+    public int stackTraceSampleRate() { return stackTraceSampleRate; }
+
+    /// [ErrorMetrics]에 오류 지표를 수집할지 여부
+    /// @return 수집하면 `true`
+    public boolean metricsEnabled() { return metricsEnabled; }
+
+    /// 설정 번호. 설정이 바뀔 때마다 증가한다.
+    /// @return 설정 번호
+    int version() { return version; }
+
+    /// 디버그 모드를 변경한 새 설정을 반환한다.
+    /// @param debugMode 디버그 모드 여부
+    /// @return 새 설정
+    public ApiErrorConfig withDebugMode(boolean debugMode) {
+        return new ApiErrorConfig(debugMode, stackTracePolicy, stackTraceSampleRate, metricsEnabled, version);
+    }
+
+    /// 스택 트레이스 정책을 변경한 새 설정을 반환한다.
+    /// @param stackTracePolicy 스택 트레이스 정책
+    /// @return 새 설정
+    public ApiErrorConfig withStackTracePolicy(@NotNull ApiError.StackTracePolicy stackTracePolicy) {
+        return new ApiErrorConfig(debugMode, stackTracePolicy, stackTraceSampleRate, metricsEnabled, version);
+    }
+
+    /// 샘플링 비율을 변경한 새 설정을 반환한다.
+    /// @param oneIn 평균적으로 `oneIn`번에 한번 스택 트레이스를 기록한다.
+    /// @return 새 설정
+    /// @throws IllegalArgumentException `oneIn`이 1보다 작은 경우
+    public ApiErrorConfig withStackTraceSampleRate(int oneIn) {
+        if (oneIn < 1) {
+            throw new IllegalArgumentException("Invalid sample rate: " + oneIn);
+        }
+        return new ApiErrorConfig(debugMode, stackTracePolicy, oneIn, metricsEnabled, version);
+    }
+
+    /// 오류 지표 수집 여부를 변경한 새 설정을 반환한다.
+    /// @param metricsEnabled 수집 여부
+    /// @return 새 설정
+    public ApiErrorConfig withMetricsEnabled(boolean metricsEnabled) {
+        return new ApiErrorConfig(debugMode, stackTracePolicy, stackTraceSampleRate, metricsEnabled, version);
+    }
+
+    @Override
+    public String toString() {
+        return "ApiErrorConfig{" +
+                "debugMode=" + debugMode +
+                ", stackTracePolicy=" + stackTracePolicy +
+                ", stackTraceSampleRate=" + stackTraceSampleRate +
+                ", metricsEnabled=" + metricsEnabled +
+                '}';
+    }
+}
@@ -0,0 +1,364 @@
+package com.yidigun.base;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/// 비동기로 처리되는 [Result].
+///
+/// [CompletableFuture]`<Result<T>>`를 감싸며 [Result]와 같은 결합 메소드를 제공한다.
+/// 처리 중 발생한 예외는 [Result#failure(Throwable)]로 변환되므로, 내부의 [CompletableFuture]는 예외로 완료되지 않는다.
+///
+/// ```java
+/// AsyncResult<Member> member = AsyncResult.supply(() -> memberService.find(memberNo));
+/// AsyncResult<List<Order>> orders = AsyncResult.supply(() -> orderService.findByMember(memberNo));
+///
+/// Result<MemberPage> page = member
+///         .zip(orders, MemberPage::new)
+///         .join();
+/// ```
+///
+/// 작업은 기본적으로 [#defaultExecutor()]에서 실행된다. 가상 스레드(Java 21 이상)를 사용할 수 있으면
+/// 작업마다 가상 스레드를 사용하여, 하위 호출을 기다리는 동안 플랫폼 스레드를 점유하지 않는다.
+///
+/// @param <T> 성공시 반환되는 값의 타입
+public final class AsyncResult<T> {
+
+    private final CompletableFuture<Result<T>> future;
+
+    private AsyncResult(CompletableFuture<Result<T>> future) {
+        this.future = future;
+    }
+
+    /// 기본 실행기 홀더 (처음 사용할 때 초기화한다)
+    private static final class DefaultExecutor {
+        static final Executor INSTANCE = create();
+
+        private static Executor create() {
+            try {
+                // Java 21 이상: Executors.newVirtualThreadPerTaskExecutor()
+                return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            }
+            catch (ReflectiveOperationException | RuntimeException e) {
+                return ForkJoinPool.commonPool();
+            }
+        }
+    }
+
+    /// 작업을 실행할 기본 실행기를 반환한다.
+    /// 가상 스레드를 사용할 수 있으면 작업마다 가상 스레드를 만드는 실행기, 그렇지 않으면 [ForkJoinPool#commonPool()]이다.
+    /// @return 기본 실행기
+    public static Executor defaultExecutor() {
+        return DefaultExecutor.INSTANCE;
+    }
+
+    /// [CompletionStage]를 감싼다. 예외로 완료되면 실패 결과가 된다.
+    /// @param stage 결과를 완료할 [CompletionStage]
+    /// @return 비동기 결과
+    /// @param <T> 반환되는 값의 타입
+    public static <T> AsyncResult<T> of(@NotNull CompletionStage<? extends Result<T>> stage) {
+        return new AsyncResult<>(stage.handle(AsyncResult::settle).toCompletableFuture());
+    }
+
+    /// 값을 반환하는 [CompletionStage]를 감싼다. 값으로 완료되면 성공, 예외로 완료되면 실패 결과가 된다.
+    /// @param stage 값을 완료할 [CompletionStage]
+    /// @return 비동기 결과
+    /// @param <T> 반환되는 값의 타입
+    public static <T> AsyncResult<T> ofValue(@NotNull CompletionStage<? extends T> stage) {
+        return new AsyncResult<>(stage.<Result<T>>handle((value, ex) ->
+                (ex == null)? Result.ofNullable(value): failure(ex)).toCompletableFuture());
+    }
+
+    /// 이미 완료된 결과를 감싼다.
+    /// @param result 결과 객체
+    /// @return 완료된 비동기 결과
+    /// @param <T> 반환되는 값의 타입
+    public static <T> AsyncResult<T> completed(@NotNull Result<T> result) {
+        return new AsyncResult<>(CompletableFuture.completedFuture(result));
+    }
+
+    /// 작업을 [#defaultExecutor()]에서 실행한다.
+    /// @param task 결과를 반환하는 작업
+    /// @return 비동기 결과
+    /// @param <T> 반환되는 값의 타입
+    public static <T> AsyncResult<T> supply(@NotNull Supplier<Result<T>> task) {
+        return supply(task, defaultExecutor());
+    }
+
+    /// 작업을 지정한 실행기에서 실행한다.
+    /// @param task 결과를 반환하는 작업
+    /// @param executor 실행기
+    /// @return 비동기 결과
+    /// @param <T> 반환되는 값의 타입
+    public static <T> AsyncResult<T> supply(@NotNull Supplier<Result<T>> task, @NotNull Executor executor) {
+        try {
+            return new AsyncResult<>(CompletableFuture.supplyAsync(() -> call(task), executor));
+        }
+        catch (RejectedExecutionException e) {
+            return completed(Result.failure(e));
+        }
+    }
+
+    //
+    // Fan-out helpers
+    //
+
+    /// 모든 결과가 성공하면 결과값 목록을 성공으로 반환한다.
+    /// 하나라도 실패하면 나머지를 기다리지 않고 처음 실패한 결과의 오류로 실패한다.
+    /// @param results 비동기 결과 목록
+    /// @return 결과값 목록 (순서는 `results`와 같다)
+    /// @param <T> 반환되는 값의 타입
+    public static <T> AsyncResult<List<T>> all(@NotNull Collection<? extends AsyncResult<? extends T>> results) {
+        int size = results.size();
+        CompletableFuture<Result<List<T>>> all = new CompletableFuture<>();
+        if (size == 0) {
+            all.complete(Result.of(List.of()));
+            return new AsyncResult<>(all);
+        }
+
+        Object[] values = new Object[size];
+        AtomicInteger remaining = new AtomicInteger(size);
+        int i = 0;
+        for (AsyncResult<? extends T> result : results) {
+            int index = i++;
+            result.future.thenAccept(r -> {
+                if (!r.success()) {
+                    all.complete(Result.propagate(r.error()));
+                }
+                else {
+                    values[index] = r.value();
+                    if (remaining.decrementAndGet() == 0) {
+                        @SuppressWarnings("unchecked")
+                        List<T> list = (List<T>) Collections.unmodifiableList(Arrays.asList(values));
+                        all.complete(Result.of(list));
+                    }
+                }
+            });
+        }
+        return new AsyncResult<>(all);
+    }
+
+    /// 모든 결과가 성공하면 결과값 목록을 성공으로 반환한다.
+    /// @param results 비동기 결과 목록
+    /// @return 결과값 목록
+    /// @param <T> 반환되는 값의 타입
+    /// @see #all(Collection)
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> AsyncResult<List<T>> all(@NotNull AsyncResult<? extends T>... results) {
+        return all(List.of(results));
+    }
+
+    /// 처음 성공한 결과를 반환한다.
+    /// 모두 실패하면 목록에서 첫번째 결과의 오류로 실패한다.
+    /// @param results 비동기 결과 목록
+    /// @return 처음 성공한 결과
+    /// @param <T> 반환되는 값의 타입
+    /// @throws IllegalArgumentException 목록이 비어 있는 경우
+    @SuppressWarnings("unchecked")
+    public static <T> AsyncResult<T> any(@NotNull Collection<? extends AsyncResult<? extends T>> results) {
+        if (results.isEmpty()) {
+            throw new IllegalArgumentException("No results");
+        }
+        CompletableFuture<Result<T>> any = new CompletableFuture<>();
+        AsyncResult<? extends T> first = results.iterator().next();
+        AtomicInteger remaining = new AtomicInteger(results.size());
+        for (AsyncResult<? extends T> result : results) {
+            result.future.thenAccept(r -> {
+                if (r.success()) {
+                    any.complete((Result<T>) r);
+                }
+                else if (remaining.decrementAndGet() == 0) {
+                    any.complete((Result<T>) first.future.join());
+                }
+            });
+        }
+        return new AsyncResult<>(any);
+    }
+
+    /// 처음 성공한 결과를 반환한다.
+    /// @param results 비동기 결과 목록
+    /// @return 처음 성공한 결과
+    /// @param <T> 반환되는 값의 타입
+    /// @see #any(Collection)
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> AsyncResult<T> any(@NotNull AsyncResult<? extends T>... results) {
+        return any(List.of(results));
+    }
+
+    /// 작업들을 [#defaultExecutor()]에서 동시에 실행하고 [#all(Collection)]로 모은다.
+    /// @param tasks 결과를 반환하는 작업 목록
+    /// @return 결과값 목록
+    /// @param <T> 반환되는 값의 타입
+    public static <T> AsyncResult<List<T>> supplyAll(@NotNull Collection<? extends Supplier<Result<T>>> tasks) {
+        List<AsyncResult<T>> results = new ArrayList<>(tasks.size());
+        for (Supplier<Result<T>> task : tasks) {
+            results.add(supply(task));
+        }
+        return all(results);
+    }
+
+    /// 작업들을 [#defaultExecutor()]에서 동시에 실행하고 [#any(Collection)]로 처음 성공한 결과를 반환한다.
+    /// @param tasks 결과를 반환하는 작업 목록
+    /// @return 처음 성공한 결과
+    /// @param <T> 반환되는 값의 타입
+    /// @throws IllegalArgumentException 목록이 비어 있는 경우
+    public static <T> AsyncResult<T> supplyAny(@NotNull Collection<? extends Supplier<Result<T>>> tasks) {
+        List<AsyncResult<T>> results = new ArrayList<>(tasks.size());
+        for (Supplier<Result<T>> task : tasks) {
+            results.add(supply(task));
+        }
+        return any(results);
+    }
+
+    //
+    // Result combinators
+    //
+
+    /// 성공인 경우 결과값을 변환한다.
+    /// @param mapper 변환 함수
+    /// @return 변환된 비동기 결과
+    /// @param <R> 변환된 값의 타입
+    /// @see Result#mapValue(Function)
+    public <R> AsyncResult<R> mapValue(@NotNull Function<? super T, ? extends R> mapper) {
+        return then(r -> r.mapValue(mapper));
+    }
+
+    /// 성공인 경우 결과값으로 다음 처리를 수행한다.
+    /// @param mapper 다음 처리 함수
+    /// @return 다음 처리의 비동기 결과
+    /// @param <R> 다음 처리 결과값의 타입
+    /// @see Result#flatMapResult(Function)
+    public <R> AsyncResult<R> flatMapResult(@NotNull Function<? super T, ? extends Result<? extends R>> mapper) {
+        return then(r -> r.flatMapResult(mapper));
+    }
+
+    /// 성공인 경우 결과값으로 다음 비동기 처리를 수행한다. 실패인 경우 다음 처리를 수행하지 않는다.
+    /// @param mapper 다음 비동기 처리 함수
+    /// @return 다음 처리의 비동기 결과
+    /// @param <R> 다음 처리 결과값의 타입
+    @SuppressWarnings("unchecked")
+    public <R> AsyncResult<R> flatMapAsync(@NotNull Function<? super T, ? extends AsyncResult<? extends R>> mapper) {
+        return new AsyncResult<>(future.thenCompose(r -> {
+            if (!r.success()) {
+                return CompletableFuture.completedFuture((Result<R>) r);
+            }
+            try {
+                return ((AsyncResult<R>) mapper.apply(r.value())).future;
+            }
+            catch (RuntimeException e) {
+                return CompletableFuture.completedFuture(Result.<R>failure(e));
+            }
+        }).handle(AsyncResult::settle));
+    }
+
+    /// 실패인 경우 오류로부터 대체 값을 구하여 성공 결과로 만든다.
+    /// @param recoveryFunction 실패시 대체 값을 생성하는 함수
+    /// @return 비동기 결과
+    /// @see Result#recover(Function)
+    public AsyncResult<T> recover(@NotNull Function<? super ApiError, ? extends T> recoveryFunction) {
+        return then(r -> r.recover(recoveryFunction));
+    }
+
+    /// 두 결과가 모두 성공인 경우 결과값을 결합한다. 두 결과는 동시에 진행된다.
+    /// @param other 결합할 다른 비동기 결과
+    /// @param combiner 결합 함수
+    /// @return 결합된 비동기 결과
+    /// @param <U> 다른 결과값의 타입
+    /// @param <R> 결합된 값의 타입
+    /// @see Result#zip(Result, BiFunction)
+    public <U, R> AsyncResult<R> zip(@NotNull AsyncResult<? extends U> other,
+                                     @NotNull BiFunction<? super T, ? super U, ? extends R> combiner) {
+        return new AsyncResult<>(future.thenCombine(other.future, (a, b) -> a.<U, R>zip(b, combiner))
+                .handle(AsyncResult::settle));
+    }
+
+    //
+    // Completion
+    //
+
+    /// 완료를 기다려 결과를 반환한다. 예외를 던지지 않는다.
+    /// @return 결과 객체
+    public Result<T> join() {
+        try {
+            return future.join();
+        }
+        catch (CancellationException e) {
+            return Result.failure(e);
+        }
+    }
+
+    /// 지정한 시간 동안 완료를 기다려 결과를 반환한다. 예외를 던지지 않는다.
+    /// @param timeout 최대 대기 시간
+    /// @return 결과 객체, 시간이 초과되면 [TimeoutException] 실패 결과
+    public Result<T> join(@NotNull Duration timeout) {
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.failure(e);
+        }
+        catch (ExecutionException | TimeoutException | CancellationException e) {
+            return failure(e);
+        }
+    }
+
+    /// 완료 여부를 반환한다.
+    /// @return 완료되었으면 `true`
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /// 내부의 [CompletableFuture]를 반환한다. 이 [CompletableFuture]는 예외로 완료되지 않는다.
+    /// @return 결과 객체로 완료될 [CompletableFuture]
+    public CompletableFuture<Result<T>> toCompletableFuture() {
+        return future;
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncResult{" + (future.isDone()? future.join(): "pending") + '}';
+    }
+
+    /// 결과 객체에 동기 처리를 적용한다. 처리 중 발생한 예외는 실패 결과가 된다.
+    private <R> AsyncResult<R> then(Function<Result<T>, Result<R>> next) {
+        return new AsyncResult<>(future.thenApply(r -> {
+            try {
+                return next.apply(r);
+            }
+            catch (RuntimeException e) {
+                return Result.<R>failure(e);
+            }
+        }));
+    }
+
+    private static <T> Result<T> call(Supplier<Result<T>> task) {
+        try {
+            return Objects.requireNonNull(task.get(), "task returned null");
+        }
+        catch (RuntimeException e) {
+            return Result.failure(e);
+        }
+    }
+
+    private static <T> Result<T> settle(Result<T> result, Throwable ex) {
+        return (ex != null)? failure(ex):
+                (result != null)? result: Result.failure(new NullPointerException("null result"));
+    }
+
+    /// [CompletionException], [ExecutionException]의 원인 예외로 실패 결과를 만든다.
+    private static <T> Result<T> failure(Throwable ex) {
+        while ((ex instanceof CompletionException || ex instanceof ExecutionException) && ex.getCause() != null) {
+            ex = ex.getCause();
+        }
+        return Result.failure(ex);
+    }
+}
@@ -4,6 +4,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Locale;
 import java.util.Objects;
 
 /// 오류 코드를 정의하기 위한 기본 인터페이스
@@ -44,8 +45,7 @@ public interface ErrorCode extends Serializable {
     /// 알 수 없는 오류
     ErrorCode UNKNOWN = new AdHocErrorCode();
 
-    /// 항목을 찾을 수 없는 오류
-    // TODO: 메시지 번들 적용 방안
+    /// 항목을 찾을 수 없는 오류. 지역화된 메시지는 [#localizedMessage(Locale, Object...)]로 얻는다.
     ErrorCode NOT_FOUND = new AdHocErrorCode("NOT_FOUND", "Requested resources not found.");
 
     /// 오류 코드
@@ -68,6 +68,15 @@ public interface ErrorCode extends Serializable {
         return message();
     }
 
+    /// 지역화된 오류 메시지
+    /// @param locale 로케일
+    /// @param args 메시지 인자
+    /// @return [ErrorMessages#getDefault()]에서 [#code()]로 찾은 메시지, 없으면 [#message()]
+    /// @see ErrorMessages
+    default String localizedMessage(@NotNull Locale locale, Object... args) {
+        return ErrorMessages.getDefault().message(this, locale, args);
+    }
+
     /// 해당 오류 코드가 성공으로 간주될지 여부
     /// @return 성공으로 간주되어야 할 경우 true, 그렇지 않으면 false
     boolean success();
@@ -88,20 +97,25 @@ final class AdHocErrorCode implements ErrorCode {
 
     private final String code;
     private final String message;
+    /// 코드 없이 메시지만 지정하여 생성했는지 여부. 이 경우 지역화하지 않고 지정한 메시지를 사용한다.
+    private final boolean messageOnly;
 
     public AdHocErrorCode() {
         this.code = "UNKNOWN_ERROR";
         this.message = null;
+        this.messageOnly = false;
     }
 
     public AdHocErrorCode(String message) {
         this.code = "UNKNOWN_ERROR";
         this.message = message;
+        this.messageOnly = (message != null);
     }
 
     public AdHocErrorCode(@NotNull String code, String message) {
         this.code = code;
         this.message = message;
+        this.messageOnly = false;
     }
 
     @Override
@@ -119,12 +133,16 @@ final class AdHocErrorCode implements ErrorCode {
         return false;
     }
 
+    @Override
+    public String localizedMessage(@NotNull Locale locale, Object... args) {
+        return messageOnly? message: ErrorCode.super.localizedMessage(locale, args);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof AdHocErrorCode that)) return false;
-        return code.equals(that.code()) &&
-                Objects.requireNonNull(message).equals(that.message());
+        return code.equals(that.code) && Objects.equals(message, that.message);
     }
 
     @Override
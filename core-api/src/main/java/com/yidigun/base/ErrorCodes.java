@@ -0,0 +1,55 @@
+package com.yidigun.base;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/// [ErrorCode] 열거형의 코드 조회 유틸리티.
+///
+/// 열거형마다 [ErrorCode#code()] -> 상수 맵을 처음 조회할 때 한번만 만들어 [ClassValue]에 캐시하므로,
+/// `values()` 배열 복제와 선형 탐색 없이 O(1)로 조회한다.
+///
+/// ```java
+/// DbErrorCode code = ErrorCodes.lookup(DbErrorCode.class, "DB001");
+/// ```
+///
+/// 같은 코드를 가진 상수가 여러개이면 먼저 선언된 상수를 반환한다.
+public final class ErrorCodes {
+
+    private static final ClassValue<Map<String, Enum<?>>> REGISTRY = new ClassValue<>() {
+        @Override
+        protected Map<String, Enum<?>> computeValue(@NotNull Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            if (constants == null) {
+                throw new IllegalArgumentException("Not an enum type: " + type.getName());
+            }
+            Map<String, Enum<?>> map = new HashMap<>((int) (constants.length / 0.75f) + 1);
+            for (Object constant : constants) {
+                map.putIfAbsent(((ErrorCode) constant).code(), (Enum<?>) constant);
+            }
+            return Map.copyOf(map);
+        }
+    };
+
+    private ErrorCodes() {}
+
+    /// 코드에 해당하는 열거형 상수를 반환한다.
+    /// @param type [ErrorCode]를 구현한 열거형 타입
+    /// @param code 오류 코드
+    /// @return 열거형 상수, 없으면 `null`
+    /// @param <E> 열거형 타입
+    public static <E extends Enum<E> & ErrorCode> E lookup(@NotNull Class<E> type, String code) {
+        return (code == null)? null: type.cast(REGISTRY.get(type).get(code));
+    }
+
+    /// 코드에 해당하는 열거형 상수를 반환한다.
+    /// @param type [ErrorCode]를 구현한 열거형 타입
+    /// @param code 오류 코드
+    /// @return 열거형 상수를 감싼 [Optional], 없으면 빈 [Optional]
+    /// @param <E> 열거형 타입
+    public static <E extends Enum<E> & ErrorCode> Optional<E> find(@NotNull Class<E> type, String code) {
+        return Optional.ofNullable(lookup(type, code));
+    }
+}
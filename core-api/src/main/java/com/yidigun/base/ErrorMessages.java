@@ -0,0 +1,215 @@
+package com.yidigun.base;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.text.MessageFormat;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/// [ErrorCode]의 지역화된 메시지.
+///
+/// [ErrorCode#code()]를 키로 리소스 번들에서 메시지 패턴을 찾아 [MessageFormat]으로 형식화한다.
+/// 번들에 없는 코드는 [ErrorCode#message()]를 그대로 사용한다.
+///
+/// ```properties
+/// # com/example/errors_ko.properties
+/// NOT_FOUND=요청한 자원을 찾을 수 없습니다.
+/// DB001=데이터베이스 연결에 실패했습니다. ({0})
+/// ```
+///
+/// ```java
+/// ErrorMessages messages = ErrorMessages.of("com.example.errors");
+/// String message = messages.message(DbErrorCode.DB001, Locale.KOREAN, host);
+/// ```
+///
+/// ## 캐시
+///
+/// 번들은 [Locale]별로 처음 사용할 때 읽으며, 읽은 패턴은 모두 미리 파싱하여 변경할 수 없는 스냅샷으로 캐시한다.
+/// 인자가 없는 패턴은 형식화한 문자열을 그대로 저장하고, 인자가 있는 패턴은 파싱된 [MessageFormat]을 복제하여 사용하므로
+/// 패턴을 다시 파싱하거나 동기화하지 않고 여러 스레드에서 동시에 사용할 수 있다. [#reload()]를 호출하면 캐시를 비운다.
+///
+/// ## 번들 검색 순서
+///
+/// 지정한 번들을 순서대로 찾고, 마지막으로 기본 번들 [#DEFAULT_BUNDLE]을 찾는다.
+/// [Locale]에 맞는 번들이 없으면 [Locale#getDefault()]가 아닌 기본(root) 번들을 사용한다.
+public final class ErrorMessages {
+
+    /// 기본 번들 이름
+    public static final String DEFAULT_BUNDLE = "com.yidigun.base.errors";
+
+    /// [#getDefault()]에 사용할 번들 목록(`,`로 구분)을 지정하는 시스템 프로퍼티
+    public static final String BUNDLES_PROPERTY = "yidigun.errorMessages";
+
+    private static final ResourceBundle.Control CONTROL =
+            ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private static volatile ErrorMessages defaultInstance;
+
+    /// 기본 객체를 바꾸거나 캐시를 비울 때마다 증가하는 번호. 메시지로 만든 값을 캐시할 때 무효화 여부를 확인하는 데 사용한다.
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
+    private final List<String> baseNames;
+    private final ClassLoader loader;
+
+    /// [Locale]별 스냅샷
+    private final Map<Locale, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    private ErrorMessages(List<String> baseNames, ClassLoader loader) {
+        this.baseNames = baseNames;
+        this.loader = loader;
+    }
+
+    /// 번들을 지정하여 생성한다.
+    /// @param baseNames 번들 이름 목록. 앞에 있는 번들이 우선한다.
+    /// @return 새 객체
+    public static ErrorMessages of(@NotNull String... baseNames) {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return of((loader != null)? loader: ErrorMessages.class.getClassLoader(), baseNames);
+    }
+
+    /// 번들과 클래스 로더를 지정하여 생성한다.
+    /// @param loader 번들을 읽을 클래스 로더
+    /// @param baseNames 번들 이름 목록. 앞에 있는 번들이 우선한다.
+    /// @return 새 객체
+    public static ErrorMessages of(@NotNull ClassLoader loader, @NotNull String... baseNames) {
+        List<String> names = new ArrayList<>(baseNames.length + 1);
+        for (String baseName : baseNames) {
+            if (!baseName.isBlank() && !names.contains(baseName.trim())) {
+                names.add(baseName.trim());
+            }
+        }
+        if (!names.contains(DEFAULT_BUNDLE)) {
+            names.add(DEFAULT_BUNDLE);
+        }
+        return new ErrorMessages(List.copyOf(names), loader);
+    }
+
+    /// 기본 객체를 반환한다. 처음 사용할 때 [#BUNDLES_PROPERTY]에 지정한 번들로 생성한다.
+    /// @return 기본 객체
+    public static ErrorMessages getDefault() {
+        ErrorMessages messages = defaultInstance;
+        if (messages == null) {
+            synchronized (ErrorMessages.class) {
+                messages = defaultInstance;
+                if (messages == null) {
+                    String bundles = System.getProperty(BUNDLES_PROPERTY, "");
+                    messages = defaultInstance = of(bundles.split("\\s*,\\s*"));
+                }
+            }
+        }
+        return messages;
+    }
+
+    /// 기본 객체를 변경한다.
+    /// @param messages 새 기본 객체
+    public static void setDefault(@NotNull ErrorMessages messages) {
+        defaultInstance = Objects.requireNonNull(messages);
+        GENERATION.incrementAndGet();
+    }
+
+    /// 메시지 번호. 기본 객체를 바꾸거나 캐시를 비울 때마다 증가한다.
+    /// @return 메시지 번호
+    static int generation() {
+        return GENERATION.get();
+    }
+
+    /// 번들 이름 목록
+    /// @return 검색 순서대로의 번들 이름 목록
+    public List<String> baseNames() {
+        return baseNames;
+    }
+
+    /// 오류 코드의 메시지를 [Locale#getDefault()]로 형식화한다.
+    /// @param errorCode 오류 코드
+    /// @param args 메시지 인자
+    /// @return 메시지
+    public String message(@NotNull ErrorCode errorCode, Object... args) {
+        return message(errorCode, Locale.getDefault(), args);
+    }
+
+    /// 오류 코드의 메시지를 형식화한다. 번들에 없는 코드이면 [ErrorCode#message()]를 반환한다.
+    /// @param errorCode 오류 코드
+    /// @param locale 로케일
+    /// @param args 메시지 인자
+    /// @return 메시지
+    public String message(@NotNull ErrorCode errorCode, @NotNull Locale locale, Object... args) {
+        Template template = snapshot(locale).templates.get(errorCode.code());
+        return (template != null)? template.format(args): errorCode.message();
+    }
+
+    /// 오류 코드의 메시지 패턴이 번들에 있는지 확인한다.
+    /// @param code 오류 코드
+    /// @param locale 로케일
+    /// @return 패턴이 있으면 `true`
+    public boolean contains(String code, @NotNull Locale locale) {
+        return code != null && snapshot(locale).templates.containsKey(code);
+    }
+
+    /// 캐시된 번들을 모두 비운다. 다음 사용 시 번들을 다시 읽는다.
+    public void reload() {
+        snapshots.clear();
+        ResourceBundle.clearCache(loader);
+        GENERATION.incrementAndGet();
+    }
+
+    private Snapshot snapshot(Locale locale) {
+        Snapshot snapshot = snapshots.get(locale);
+        return (snapshot != null)? snapshot: snapshots.computeIfAbsent(locale, this::load);
+    }
+
+    /// 로케일의 번들을 읽어 스냅샷을 만든다.
+    private Snapshot load(Locale locale) {
+        Map<String, Template> templates = new HashMap<>();
+        for (String baseName : baseNames) {
+            ResourceBundle bundle;
+            try {
+                bundle = ResourceBundle.getBundle(baseName, locale, loader, CONTROL);
+            }
+            catch (MissingResourceException e) {
+                continue;
+            }
+            for (String key : bundle.keySet()) {
+                if (!templates.containsKey(key)) {
+                    templates.put(key, Template.compile(bundle.getString(key), locale));
+                }
+            }
+        }
+        return new Snapshot(Map.copyOf(templates));
+    }
+
+    @Override
+    public String toString() {
+        return "ErrorMessages" + baseNames;
+    }
+
+    /// 로케일별로 파싱된 메시지 패턴
+    private record Snapshot(Map<String, Template> templates) {}
+
+    /// 파싱된 메시지 패턴. 인자가 없으면 `format`은 `null`이다.
+    private record Template(String constant, MessageFormat format) {
+
+        static Template compile(String pattern, Locale locale) {
+            MessageFormat format;
+            try {
+                format = new MessageFormat(pattern, locale);
+            }
+            catch (IllegalArgumentException e) {
+                // 잘못된 패턴은 그대로 출력한다.
+                return new Template(pattern, null);
+            }
+            String constant = format.format(NO_ARGS);
+            return new Template(constant, (format.getFormatsByArgumentIndex().length == 0)? null: format);
+        }
+
+        String format(Object[] args) {
+            if (format == null || args == null || args.length == 0) {
+                return constant;
+            }
+            // MessageFormat은 스레드에 안전하지 않으므로 파싱된 원본을 복제하여 사용한다.
+            return ((MessageFormat) format.clone()).format(args);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.yidigun.base;
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.management.*;
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/// [ErrorCode#code()]별 오류 지표.
+///
+/// [Result]의 실패 결과와 [ApiError] 생성 횟수를 코드별 [LongAdder]로 센다. 여러 스레드에서 동시에 오류가 발생해도
+/// 락이나 CAS 경합 없이 기록되며, 로그 문자열을 만들지 않는다. [ApiErrorConfig#metricsEnabled()]가 `false`이면 기록하지 않는다.
+///
+/// [#timed(Supplier)]로 실행하면 실패 결과를 만든 호출의 소요 시간을 코드별 지연 시간 구간(2의 거듭제곱 마이크로초)에 기록한다.
+///
+/// ```java
+/// Result<Member> result = ErrorMetrics.timed(() -> memberService.find(memberNo));
+///
+/// ErrorMetrics.Snapshot snapshot = ErrorMetrics.snapshot();
+/// snapshot.codes().values().forEach(c -> log.info("{}: {}", c.code(), c.failures()));
+/// ```
+///
+/// 지표는 [#snapshot()], [ErrorMetricsExporter] SPI, JMX MBean([#registerMBean()])으로 확인한다.
+///
+/// 코드 종류가 [#MAX_CODES]개를 넘으면 이후의 코드는 [#OTHER_CODE]로 합산한다.
+public final class ErrorMetrics {
+
+    /// MBean 이름
+    public static final String OBJECT_NAME = "com.yidigun.base:type=ErrorMetrics";
+
+    /// 최대 코드 종류 수
+    public static final int MAX_CODES = 4096;
+
+    /// [#MAX_CODES]를 넘은 코드를 합산하는 코드
+    public static final String OTHER_CODE = "_OTHER";
+
+    /// 지연 시간 구간 수. `i`번째 구간은 `2^(i-1)` 이상 `2^i` 미만 마이크로초이며, 마지막 구간은 그 이상 전부이다.
+    public static final int LATENCY_BUCKETS = 24;
+
+    private static final Map<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+
+    /// 등록된 내보내기 구현. 처음 사용할 때 [ServiceLoader]로 읽는다.
+    private static volatile List<ErrorMetricsExporter> exporters;
+
+    private ErrorMetrics() {}
+
+    /// 코드별 계수기
+    private static final class Counter {
+        final String code;
+        final LongAdder failures = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        /// 지연 시간을 기록할 때 생성한다.
+        volatile LongAdder[] latency;
+
+        Counter(String code) {
+            this.code = code;
+        }
+
+        LongAdder[] latency() {
+            LongAdder[] buckets = latency;
+            if (buckets == null) {
+                synchronized (this) {
+                    buckets = latency;
+                    if (buckets == null) {
+                        buckets = new LongAdder[LATENCY_BUCKETS];
+                        for (int i = 0; i < buckets.length; i++) {
+                            buckets[i] = new LongAdder();
+                        }
+                        latency = buckets;
+                    }
+                }
+            }
+            return buckets;
+        }
+    }
+
+    private static Counter counter(String code) {
+        String key = (code != null)? code: ErrorCode.UNKNOWN.code();
+        Counter counter = COUNTERS.get(key);
+        if (counter == null) {
+            if (COUNTERS.size() >= MAX_CODES) {
+                key = OTHER_CODE;
+            }
+            counter = COUNTERS.computeIfAbsent(key, Counter::new);
+        }
+        return counter;
+    }
+
+    /// 실패 결과 생성을 기록한다.
+    /// @param error 오류
+    static void recordFailure(@NotNull ApiError error) {
+        if (ApiErrorConfig.current().metricsEnabled()) {
+            counter(error.code()).failures.increment();
+        }
+    }
+
+    /// [ApiError] 생성을 기록한다.
+    /// @param errorCode 오류 코드
+    static void recordError(@NotNull ErrorCode errorCode) {
+        if (ApiErrorConfig.current().metricsEnabled()) {
+            counter(errorCode.code()).errors.increment();
+        }
+    }
+
+    /// 오류 코드의 지연 시간을 기록한다.
+    /// @param errorCode 오류 코드
+    /// @param nanos 소요 시간(나노초)
+    public static void recordLatency(@NotNull ErrorCode errorCode, long nanos) {
+        if (ApiErrorConfig.current().metricsEnabled()) {
+            counter(errorCode.code()).latency()[bucket(nanos)].increment();
+        }
+    }
+
+    /// 작업을 실행하고, 실패 결과이면 소요 시간을 실패 코드의 지연 시간으로 기록한다.
+    /// @param task 작업
+    /// @return 작업의 결과
+    /// @param <T> 결과값의 타입
+    public static <T> Result<T> timed(@NotNull Supplier<Result<T>> task) {
+        long start = System.nanoTime();
+        Result<T> result = task.get();
+        if (!result.success()) {
+            recordLatency(result.error(), System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    /// 소요 시간의 지연 시간 구간 번호
+    /// @param nanos 소요 시간(나노초)
+    /// @return 구간 번호 (`0` ~ [#LATENCY_BUCKETS]` - 1`)
+    public static int bucket(long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(0, nanos));
+        return Math.min(LATENCY_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+    }
+
+    /// 지연 시간 구간의 상한(마이크로초, 미포함)
+    /// @param bucket 구간 번호
+    /// @return 상한. 마지막 구간이면 [Long#MAX_VALUE]
+    public static long bucketUpperBoundMicros(int bucket) {
+        return (bucket >= LATENCY_BUCKETS - 1)? Long.MAX_VALUE: 1L << bucket;
+    }
+
+    /// 현재 지표를 반환한다.
+    /// @return 코드 순서로 정렬된 지표
+    public static Snapshot snapshot() {
+        Map<String, CodeMetrics> codes = new TreeMap<>();
+        for (Counter counter : COUNTERS.values()) {
+            LongAdder[] buckets = counter.latency;
+            long[] latency = new long[(buckets != null)? LATENCY_BUCKETS: 0];
+            for (int i = 0; i < latency.length; i++) {
+                latency[i] = buckets[i].sum();
+            }
+            codes.put(counter.code,
+                    new CodeMetrics(counter.code, counter.failures.sum(), counter.errors.sum(), latency));
+        }
+        return new Snapshot(Instant.now(), Collections.unmodifiableMap(codes));
+    }
+
+    /// 모든 지표를 지운다.
+    public static void reset() {
+        COUNTERS.clear();
+    }
+
+    /// 현재 지표를 등록된 모든 [ErrorMetricsExporter]에 전달한다.
+    /// @return 전달한 지표
+    public static Snapshot export() {
+        Snapshot snapshot = snapshot();
+        for (ErrorMetricsExporter exporter : exporters()) {
+            exporter.export(snapshot);
+        }
+        return snapshot;
+    }
+
+    /// 내보내기 구현을 추가한다.
+    /// @param exporter 내보내기 구현
+    public static void addExporter(@NotNull ErrorMetricsExporter exporter) {
+        exporters().add(exporter);
+    }
+
+    /// 내보내기 구현을 제거한다.
+    /// @param exporter 내보내기 구현
+    public static void removeExporter(@NotNull ErrorMetricsExporter exporter) {
+        exporters().remove(exporter);
+    }
+
+    private static List<ErrorMetricsExporter> exporters() {
+        List<ErrorMetricsExporter> list = exporters;
+        if (list == null) {
+            synchronized (ErrorMetrics.class) {
+                list = exporters;
+                if (list == null) {
+                    list = new CopyOnWriteArrayList<>();
+                    ServiceLoader.load(ErrorMetricsExporter.class).forEach(list::add);
+                    exporters = list;
+                }
+            }
+        }
+        return list;
+    }
+
+    /// 플랫폼 MBean 서버에 [ErrorMetricsMXBean]을 등록한다. 이미 등록되어 있으면 아무것도 하지 않는다.
+    /// @return MBean 이름
+    /// @throws IllegalStateException 등록에 실패한 경우
+    public static synchronized ObjectName registerMBean() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new MXBeanImpl(), name);
+            }
+            return name;
+        }
+        catch (JMException e) {
+            throw new IllegalStateException("Failed to register " + OBJECT_NAME, e);
+        }
+    }
+
+    /// 코드별 지표
+    /// @param code 오류 코드
+    /// @param failures 실패 결과 수
+    /// @param errors [ApiError] 생성 수
+    /// @param latency 지연 시간 구간별 수. 기록하지 않았으면 빈 배열
+    public record CodeMetrics(@NotNull String code, long failures, long errors, long @NotNull [] latency) {
+
+        @Override
+        public boolean equals(Object o) {
+            return (o instanceof CodeMetrics that) && code.equals(that.code) && failures == that.failures &&
+                    errors == that.errors && Arrays.equals(latency, that.latency);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(code, failures, errors) * 31 + Arrays.hashCode(latency);
+        }
+
+        @Override
+        public String toString() {
+            return "CodeMetrics[code=" + code + ", failures=" + failures + ", errors=" + errors +
+                    ", latency=" + Arrays.toString(latency) + "]";
+        }
+    }
+
+    /// 지표 스냅샷
+    /// @param time 생성 시각
+    /// @param codes 코드별 지표
+    public record Snapshot(@NotNull Instant time, @NotNull Map<String, CodeMetrics> codes) {
+
+        /// 전체 실패 결과 수
+        /// @return 모든 코드의 실패 결과 수의 합
+        public long totalFailures() {
+            return codes.values().stream().mapToLong(CodeMetrics::failures).sum();
+        }
+
+        /// 전체 [ApiError] 생성 수
+        /// @return 모든 코드의 생성 수의 합
+        public long totalErrors() {
+            return codes.values().stream().mapToLong(CodeMetrics::errors).sum();
+        }
+
+        /// 코드의 지표
+        /// @param code 오류 코드
+        /// @return 지표, 없으면 `null`
+        public CodeMetrics get(String code) {
+            return codes.get(code);
+        }
+    }
+
+    private static final class MXBeanImpl implements ErrorMetricsMXBean {
+
+        @Override
+        public long getTotalFailures() {
+            return snapshot().totalFailures();
+        }
+
+        @Override
+        public long getTotalErrors() {
+            return snapshot().totalErrors();
+        }
+
+        @Override
+        public Map<String, Long> getFailureCounts() {
+            Map<String, Long> counts = new TreeMap<>();
+            snapshot().codes().forEach((code, metrics) -> counts.put(code, metrics.failures()));
+            return counts;
+        }
+
+        @Override
+        public Map<String, Long> getErrorCounts() {
+            Map<String, Long> counts = new TreeMap<>();
+            snapshot().codes().forEach((code, metrics) -> counts.put(code, metrics.errors()));
+            return counts;
+        }
+
+        @Override
+        public void reset() {
+            ErrorMetrics.reset();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.yidigun.base;
+
+import org.jetbrains.annotations.NotNull;
+
+/// [ErrorMetrics]의 지표를 외부 지표 시스템으로 내보내는 SPI.
+///
+/// `META-INF/services/com.yidigun.base.ErrorMetricsExporter`에 구현 클래스를 등록하거나
+/// [ErrorMetrics#addExporter(ErrorMetricsExporter)]로 추가하면 [ErrorMetrics#export()]를 호출할 때마다 지표를 전달받는다.
+///
+/// ```java
+/// public class LoggingExporter implements ErrorMetricsExporter {
+///     @Override
+///     public void export(ErrorMetrics.Snapshot snapshot) {
+///         log.info("failures={}", snapshot.totalFailures());
+///     }
+/// }
+/// ```
+@FunctionalInterface
+public interface ErrorMetricsExporter {
+
+    /// 지표를 내보낸다.
+    /// @param snapshot 지표 스냅샷
+    void export(@NotNull ErrorMetrics.Snapshot snapshot);
+}
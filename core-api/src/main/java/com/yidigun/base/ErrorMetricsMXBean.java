@@ -0,0 +1,28 @@
+package com.yidigun.base;
+
+import java.util.Map;
+
+/// [ErrorMetrics]의 JMX 인터페이스.
+///
+/// @see ErrorMetrics#registerMBean()
+public interface ErrorMetricsMXBean {
+
+    /// 전체 실패 결과 수
+    /// @return 모든 코드의 실패 결과 수의 합
+    long getTotalFailures();
+
+    /// 전체 [ApiError] 생성 수
+    /// @return 모든 코드의 생성 수의 합
+    long getTotalErrors();
+
+    /// 코드별 실패 결과 수
+    /// @return 코드 -> 실패 결과 수
+    Map<String, Long> getFailureCounts();
+
+    /// 코드별 [ApiError] 생성 수
+    /// @return 코드 -> 생성 수
+    Map<String, Long> getErrorCounts();
+
+    /// 모든 지표를 지운다.
+    void reset();
+}
@@ -80,8 +80,9 @@ import java.lang.annotation.*;
 /// * 추가 필드를 추가할 경우 필드명은 Java 네이밍 규칙에 맞는 문자열로 되어 있어야 한다.
 ///   `^[a-zA-Z_$][a-zA-Z0-9_$]*$` 형식이어야 하며, 대소문자를 구분한다.
 /// * 필드명 정의 구분자는 `\s*,\s*`를 사용한다.
-/// * 데이터 파일의 구분자는 `\s*,\s*`를 사용하고 인용부호(`"` 또는 `'`)는 지원하지 않는다.
-///   TODO: 추후 구분자 변경, 인용부호 등 추가 기능 고려
+/// * 데이터 파일의 구분자는 `\s*,\s*`를 사용하고, 쉼표나 줄바꿈이 포함된 값은 인용부호(`"`)로 감싼다.
+///   TODO: 추후 구분자 변경 등 추가 기능 고려
+/// * 필드명이 `javadoc`인 필드는 열거 상수의 문서 주석으로 사용된다. 값의 `\n`은 줄바꿈으로 변환된다.
 ///
 /// TODO: 복수 파일 지정 기능 추가 고려
 ///
@@ -97,6 +98,8 @@ import java.lang.annotation.*;
 /// ## 정적 팩토리 메소드를 추가하는 방법
 ///
 /// 기본적으로 생성된 열거타입에는 `public static E of(String)` 팩토리 메소드가 추가된다.
+/// 이 메소드는 클래스 초기화 시 한번 만든 해시 테이블로 조회하므로 코드 수와 관계없이 상수 시간에 조회하며,
+/// 없는 코드이면 [IllegalArgumentException]을 던진다.
 ///
 /// ```java
 /// public enum SQLStateClass implements SQLStateClassIf {
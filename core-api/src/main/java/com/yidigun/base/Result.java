@@ -8,7 +8,7 @@ import java.io.Serializable;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.TreeMap;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -36,6 +36,7 @@ public final class Result<T> implements Serializable {
 
     /// API응답에 추가할 부가 정보 [Map].
     /// 이 필드는 선택적으로 사용되며, 필요에 따라 추가 정보를 담을 수 있다.
+    /// 키 순서로 정렬되며, 항목이 적은 경우가 대부분이므로 [SmallSortedMap]을 사용한다.
     private Map<String, Object> additionalData;
 
     private Result(T value, ApiError error) {
@@ -77,7 +78,7 @@ public final class Result<T> implements Serializable {
     /// @return 실패 결과 객체
     /// @param <T> 반환되는 값의 타입
     public static <T> Result<T> failure() {
-        return failure(new ApiError(ErrorCode.UNKNOWN));
+        return failure(ApiError.of(ErrorCode.UNKNOWN));
     }
 
     /// 실패 결과 객체를 생성
@@ -107,11 +108,12 @@ public final class Result<T> implements Serializable {
     }
 
     /// 실패 결과 객체를 생성
+    /// [ApiError]는 [ApiError#of(ErrorCode)]로 얻으므로 스택 트레이스 정책에 따라 공유 객체일 수 있다.
     /// @param error 오류 코드
     /// @return 실패 결과 객체
     /// @param <T> 반환되는 값의 타입
     public static <T> Result<T> failure(@NotNull ErrorCode error) {
-        return failure((error instanceof ApiError apiError)? apiError: new ApiError(error));
+        return failure(ApiError.of(error));
     }
 
     /// 실패 결과 객체를 생성
@@ -127,6 +129,16 @@ public final class Result<T> implements Serializable {
     /// @return 실패 결과 객체
     /// @param <T> 반환되는 값의 타입
     public static <T> Result<T> failure(@NotNull ApiError error) {
+        ErrorMetrics.recordFailure(error);
+        return new Result<>(null, error);
+    }
+
+    /// 다른 실패 결과의 오류를 그대로 전달하는 실패 결과 객체를 생성한다.
+    /// 이미 [ErrorMetrics]에 기록된 실패이므로 다시 기록하지 않는다.
+    /// @param error 다른 실패 결과의 오류
+    /// @return 실패 결과 객체
+    /// @param <T> 반환되는 값의 타입
+    static <T> Result<T> propagate(@NotNull ApiError error) {
         return new Result<>(null, error);
     }
 
@@ -220,7 +232,7 @@ public final class Result<T> implements Serializable {
     /// @return 현재 객체
     public Result<T> addAdditionalData(String key, Object value) {
         if (additionalData == null) {
-            additionalData = new TreeMap<>();
+            additionalData = new SmallSortedMap();
         }
         additionalData.put(key, value);
         return this;
@@ -301,6 +313,82 @@ public final class Result<T> implements Serializable {
         return success()? mapper.apply(this.value): Stream.empty();
     }
 
+    //
+    // Result combinators
+    //
+
+    /// 성공인 경우 결과값을 변환한 결과 객체를 반환한다.
+    ///
+    /// [#map(Function)]과 달리 [Stream]을 만들지 않는다. 실패인 경우 현재 객체를 그대로 반환하며,
+    /// 변환 함수가 같은 객체를 반환하면 현재 객체를 재사용한다. 부가 정보는 새 결과 객체에 복사된다.
+    ///
+    /// ```java
+    /// Result<MemberDto> dto = memberService.find(id)
+    ///         .mapValue(MemberDto::from);
+    /// ```
+    ///
+    /// @param mapper 변환 함수
+    /// @return 변환된 결과 객체
+    /// @param <R> 변환된 값의 타입
+    public <R> Result<R> mapValue(@NotNull Function<? super T, ? extends R> mapper) {
+        if (!success()) {
+            return self();
+        }
+        R mapped = mapper.apply(this.value);
+        return (mapped == this.value)? self(): withData(new Result<>(mapped, null));
+    }
+
+    /// 성공인 경우 결과값으로 다음 처리를 수행하여 그 결과 객체를 반환한다.
+    /// [#flatMap(Function)]과 달리 [Stream]을 만들지 않는다. 실패인 경우 현재 객체를 그대로 반환한다.
+    /// @param mapper 다음 처리 함수
+    /// @return 다음 처리의 결과 객체
+    /// @param <R> 다음 처리 결과값의 타입
+    @SuppressWarnings("unchecked")
+    public <R> Result<R> flatMapResult(@NotNull Function<? super T, ? extends Result<? extends R>> mapper) {
+        return success()? (Result<R>) Objects.requireNonNull(mapper.apply(this.value)): self();
+    }
+
+    /// 실패인 경우 오류로부터 대체 값을 구하여 성공 결과 객체를 반환한다. 성공인 경우 현재 객체를 그대로 반환한다.
+    /// @param recoveryFunction 실패시 대체 값을 생성하는 함수
+    /// @return 성공 결과 객체
+    public Result<T> recover(@NotNull Function<? super ApiError, ? extends T> recoveryFunction) {
+        return success()? this: withData(new Result<>(recoveryFunction.apply(this.error), null));
+    }
+
+    /// 두 결과가 모두 성공인 경우 결과값을 결합한 결과 객체를 반환한다.
+    /// 실패가 있는 경우 현재 객체, 다른 객체 순서로 먼저 실패한 객체를 그대로 반환한다.
+    /// 부가 정보는 현재 객체의 것만 복사된다.
+    /// @param other 결합할 다른 결과 객체
+    /// @param combiner 결합 함수
+    /// @return 결합된 결과 객체
+    /// @param <U> 다른 결과값의 타입
+    /// @param <R> 결합된 값의 타입
+    @SuppressWarnings("unchecked")
+    public <U, R> Result<R> zip(@NotNull Result<? extends U> other,
+                                @NotNull BiFunction<? super T, ? super U, ? extends R> combiner) {
+        if (!success()) {
+            return self();
+        }
+        else if (!other.success()) {
+            return (Result<R>) other;
+        }
+        return withData(new Result<>(combiner.apply(this.value, other.value), null));
+    }
+
+    /// 실패 결과 또는 값이 바뀌지 않은 결과를 다른 값 타입으로 재사용한다.
+    @SuppressWarnings("unchecked")
+    private <R> Result<R> self() {
+        return (Result<R>) this;
+    }
+
+    /// 현재 객체의 부가 정보를 새 결과 객체에 복사한다.
+    private <R> Result<R> withData(Result<R> result) {
+        if (additionalData != null) {
+            result.additionalData = new SmallSortedMap(additionalData);
+        }
+        return result;
+    }
+
     //
     // Optional style methods
     //
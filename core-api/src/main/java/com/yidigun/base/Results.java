@@ -0,0 +1,164 @@
+package com.yidigun.base;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collector;
+
+/// [Result] 목록과 스트림을 모으는 유틸리티.
+///
+/// 결과 하나마다 [Result#successful()], [Result#failed()]로 [java.util.stream.Stream]을 만들지 않고
+/// 한번에 성공과 실패를 나누어 모은다. 모든 [Collector]는 결합 함수(combiner)를 제공하므로
+/// `parallelStream()`에서도 사용할 수 있으며, 결과의 순서는 스트림의 순서(encounter order)를 따른다.
+///
+/// ```java
+/// Results.Partition<Member> partition = memberNos.parallelStream()
+///         .map(memberService::find)
+///         .collect(Results.collector());
+/// log.info("found {}, failed {}", partition.successCount(), partition.failureCount());
+///
+/// Result<List<Member>> all = Results.sequence(results);
+/// ```
+public final class Results {
+
+    /// [#collectAll()]의 실패 결과에 모든 오류 목록을 담는 부가 정보 키
+    public static final String ERRORS = "errors";
+
+    private Results() {}
+
+    /// 성공과 실패를 나누어 모은 결과.
+    ///
+    /// @param values 성공 결과값 목록. [Result#successful()]과 마찬가지로 `null` 값은 제외된다.
+    /// @param errors 실패 결과의 오류 목록
+    /// @param successCount 성공 결과 수 (`null` 값 포함)
+    /// @param failureCount 실패 결과 수
+    /// @param <T> 결과값의 타입
+    public record Partition<T>(@NotNull List<T> values, @NotNull List<ApiError> errors,
+                               long successCount, long failureCount) {
+
+        /// 모두 성공했는지 여부
+        /// @return 실패가 없으면 `true`
+        public boolean allSucceeded() {
+            return failureCount == 0;
+        }
+
+        /// 전체 결과 수
+        /// @return 성공 결과 수와 실패 결과 수의 합
+        public long total() {
+            return successCount + failureCount;
+        }
+    }
+
+    /// [Result] 스트림을 성공과 실패로 나누어 모으는 [Collector]를 반환한다.
+    /// @return [Partition]으로 모으는 [Collector]
+    /// @param <T> 결과값의 타입
+    public static <T> Collector<Result<? extends T>, ?, Partition<T>> collector() {
+        return Collector.of(Accumulator<T>::new, Accumulator::add, Accumulator::merge,
+                acc -> new Partition<>(Collections.unmodifiableList(acc.values),
+                        Collections.unmodifiableList(acc.errors), acc.successCount, acc.failureCount));
+    }
+
+    /// 모든 결과가 성공이면 결과값 목록을 성공으로 반환하고, 그렇지 않으면 처음 실패한 결과의 오류로 실패를 반환한다.
+    /// 실패를 만나면 나머지 결과는 확인하지 않는다.
+    /// @param results 결과 목록
+    /// @return 결과값 목록(순서 유지, `null` 값 포함) 또는 처음 실패한 결과의 오류
+    /// @param <T> 결과값의 타입
+    public static <T> Result<List<T>> sequence(@NotNull List<? extends Result<? extends T>> results) {
+        List<T> values = new ArrayList<>(results.size());
+        for (Result<? extends T> result : results) {
+            if (!result.success()) {
+                return Result.propagate(result.error());
+            }
+            values.add(result.value());
+        }
+        return Result.of(Collections.unmodifiableList(values));
+    }
+
+    /// [#sequence(List)]와 같이 모으는 [Collector]를 반환한다.
+    /// 실패를 만난 후의 결과값은 모으지 않으며, 스트림의 순서에서 처음 실패한 결과의 오류를 반환한다.
+    /// @return 결과값 목록 또는 처음 실패한 결과의 오류로 모으는 [Collector]
+    /// @param <T> 결과값의 타입
+    public static <T> Collector<Result<? extends T>, ?, Result<List<T>>> sequencing() {
+        return Collector.of(Sequence<T>::new, Sequence::add, Sequence::merge, Sequence::finish);
+    }
+
+    /// 모든 결과가 성공이면 결과값 목록을 성공으로 반환하고, 그렇지 않으면 모든 오류를 모아 실패를 반환하는 [Collector].
+    /// 실패 결과의 오류는 처음 실패한 결과의 오류이며, 모든 오류 목록은 부가 정보 [#ERRORS]에 담긴다.
+    /// @return 결과값 목록(`null` 값 제외) 또는 모든 오류를 담은 실패로 모으는 [Collector]
+    /// @param <T> 결과값의 타입
+    public static <T> Collector<Result<? extends T>, ?, Result<List<T>>> collectAll() {
+        return Collector.of(Accumulator<T>::new, Accumulator::add, Accumulator::merge, acc -> {
+            if (acc.errors.isEmpty()) {
+                return Result.of(Collections.unmodifiableList(acc.values));
+            }
+            return Result.<List<T>>propagate(acc.errors.get(0))
+                    .addAdditionalData(ERRORS, Collections.unmodifiableList(acc.errors));
+        });
+    }
+
+    /// 성공과 실패를 나누어 모으는 누적기
+    private static final class Accumulator<T> {
+        final ArrayList<T> values = new ArrayList<>();
+        final ArrayList<ApiError> errors = new ArrayList<>(0);
+        long successCount;
+        long failureCount;
+
+        void add(Result<? extends T> result) {
+            if (result.success()) {
+                successCount++;
+                T value = result.value();
+                if (value != null) {
+                    values.add(value);
+                }
+            }
+            else {
+                failureCount++;
+                errors.add(result.error());
+            }
+        }
+
+        Accumulator<T> merge(Accumulator<T> other) {
+            values.addAll(other.values);
+            errors.addAll(other.errors);
+            successCount += other.successCount;
+            failureCount += other.failureCount;
+            return this;
+        }
+    }
+
+    /// 처음 실패까지만 모으는 누적기
+    private static final class Sequence<T> {
+        final ArrayList<T> values = new ArrayList<>();
+        ApiError error;
+
+        void add(Result<? extends T> result) {
+            if (error != null) {
+                return;
+            }
+            if (result.success()) {
+                values.add(result.value());
+            }
+            else {
+                error = result.error();
+                values.clear();
+            }
+        }
+
+        Sequence<T> merge(Sequence<T> other) {
+            if (error != null) {
+                return this;
+            }
+            else if (other.error != null) {
+                return other;
+            }
+            values.addAll(other.values);
+            return this;
+        }
+
+        Result<List<T>> finish() {
+            return (error != null)? Result.propagate(error): Result.of(Collections.unmodifiableList(values));
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.yidigun.base;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.*;
+
+/// 항목이 적을 때 정렬된 배열에 저장하는 [String] 키 [Map].
+///
+/// [Result]의 부가 정보처럼 항목이 1~3개인 경우가 대부분인 맵을 위해, [TreeMap]의 노드 할당 없이 키와 값 배열만 사용한다.
+/// 항목이 [#MAX_ARRAY_SIZE]개를 넘으면 [TreeMap]으로 전환한다. 어느 경우든 키의 자연 순서로 순회한다.
+///
+/// [TreeMap]과 마찬가지로 `null` 키는 허용하지 않는다. 이 클래스는 스레드에 안전하지 않다.
+/// 직렬화하면 [TreeMap]으로 저장된다.
+final class SmallSortedMap extends AbstractMap<String, Object> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2607443113937045113L;
+
+    /// 배열에 저장할 최대 항목 수
+    static final int MAX_ARRAY_SIZE = 8;
+
+    private String[] keys;
+    private Object[] values;
+    private int size;
+
+    /// 항목이 많아진 경우의 저장소. `null`이면 배열을 사용한다.
+    private TreeMap<String, Object> tree;
+
+    private transient EntrySet entrySet;
+
+    SmallSortedMap() {
+        keys = new String[2];
+        values = new Object[2];
+    }
+
+    SmallSortedMap(@NotNull Map<String, ?> map) {
+        this();
+        if (map instanceof SmallSortedMap small) {
+            if (small.tree != null) {
+                tree = new TreeMap<>(small.tree);
+            }
+            else {
+                keys = Arrays.copyOf(small.keys, Math.max(2, small.size));
+                values = Arrays.copyOf(small.values, keys.length);
+                size = small.size;
+            }
+        }
+        else {
+            putAll(map);
+        }
+    }
+
+    private int indexOf(Object key) {
+        return Arrays.binarySearch(keys, 0, size, (String) Objects.requireNonNull(key));
+    }
+
+    @Override
+    public int size() {
+        return (tree != null)? tree.size(): size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return (tree != null)? tree.containsKey(key): indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (tree != null) {
+            return tree.get(key);
+        }
+        int index = indexOf(key);
+        return (index >= 0)? values[index]: null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (tree != null) {
+            return tree.put(key, value);
+        }
+        int index = indexOf(key);
+        if (index >= 0) {
+            Object old = values[index];
+            values[index] = value;
+            return old;
+        }
+        if (size == MAX_ARRAY_SIZE) {
+            tree = new TreeMap<>();
+            for (int i = 0; i < size; i++) {
+                tree.put(keys[i], values[i]);
+            }
+            keys = null;
+            values = null;
+            size = 0;
+            return tree.put(key, value);
+        }
+        if (size == keys.length) {
+            int capacity = Math.min(MAX_ARRAY_SIZE, size * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        int insert = -(index + 1);
+        System.arraycopy(keys, insert, keys, insert + 1, size - insert);
+        System.arraycopy(values, insert, values, insert + 1, size - insert);
+        keys[insert] = key;
+        values[insert] = value;
+        size++;
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (tree != null) {
+            return tree.remove(key);
+        }
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        Object old = values[index];
+        removeAt(index);
+        return old;
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        keys[size] = null;
+        values[size] = null;
+    }
+
+    @Override
+    public void clear() {
+        tree = null;
+        keys = new String[2];
+        values = new Object[2];
+        size = 0;
+    }
+
+    @Override
+    public @NotNull Set<Entry<String, Object>> entrySet() {
+        EntrySet es = entrySet;
+        return (es != null)? es: (entrySet = new EntrySet());
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public int size() {
+            return SmallSortedMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            SmallSortedMap.this.clear();
+        }
+
+        @Override
+        public @NotNull Iterator<Entry<String, Object>> iterator() {
+            if (tree != null) {
+                return tree.entrySet().iterator();
+            }
+            return new Iterator<>() {
+                private int next = 0;
+                private int last = -1;
+
+                @Override
+                public boolean hasNext() {
+                    return next < size;
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                    if (next >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    last = next++;
+                    return new ArrayEntry(last);
+                }
+
+                @Override
+                public void remove() {
+                    if (last < 0) {
+                        throw new IllegalStateException();
+                    }
+                    removeAt(last);
+                    next = last;
+                    last = -1;
+                }
+            };
+        }
+    }
+
+    /// 배열 항목에 대한 [Entry]. [#setValue(Object)]는 맵에 반영된다.
+    private final class ArrayEntry implements Entry<String, Object> {
+        private final String key;
+        private final int index;
+
+        ArrayEntry(int index) {
+            this.key = keys[index];
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return (tree == null && index < size && keys[index] == key)? values[index]: get(key);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            if (tree == null && index < size && keys[index] == key) {
+                Object old = values[index];
+                values[index] = value;
+                return old;
+            }
+            return put(key, value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return (o instanceof Entry<?, ?> e) && key.equals(e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+
+    @Serial
+    private Object writeReplace() {
+        return (tree != null)? tree: new TreeMap<>(this);
+    }
+}
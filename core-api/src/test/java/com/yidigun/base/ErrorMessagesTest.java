@@ -0,0 +1,94 @@
+package com.yidigun.base;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ErrorMessagesTest {
+
+    private static final String TEST_BUNDLE = "com.yidigun.base.test-errors";
+
+    private static final ErrorCode TEST001 = ErrorCode.of("TEST001", "Connection failed.");
+    private static final ErrorCode TEST002 = ErrorCode.of("TEST002", "Constant.");
+    private static final ErrorCode TEST999 = ErrorCode.of("TEST999", "Not in bundle.");
+
+    @Test
+    public void testMessage() {
+        ErrorMessages messages = ErrorMessages.of(TEST_BUNDLE);
+        assertEquals(List.of(TEST_BUNDLE, ErrorMessages.DEFAULT_BUNDLE), messages.baseNames());
+
+        assertEquals("Connection to db failed after 1,234 attempts.",
+                messages.message(TEST001, Locale.ENGLISH, "db", 1234));
+        assertEquals("db에 3번 연결하지 못했습니다.", messages.message(TEST001, Locale.KOREAN, "db", 3));
+        assertEquals("db에 3번 연결하지 못했습니다.", messages.message(TEST001, Locale.KOREA, "db", 3));
+        assertEquals("It's a constant message.", messages.message(TEST002, Locale.KOREAN));
+
+        // 앞의 번들이 우선하고, 없으면 기본 번들을 사용한다.
+        assertEquals("Nothing here.", messages.message(ErrorCode.NOT_FOUND, Locale.KOREAN));
+        assertEquals("알 수 없는 오류가 발생했습니다.", messages.message(ErrorCode.UNKNOWN, Locale.KOREAN));
+
+        // 번들에 없는 코드는 ErrorCode.message()
+        assertEquals("Not in bundle.", messages.message(TEST999, Locale.KOREAN));
+        assertTrue(messages.contains("TEST001", Locale.ENGLISH));
+        assertFalse(messages.contains("TEST999", Locale.ENGLISH));
+
+        messages.reload();
+        assertEquals("Nothing here.", messages.message(ErrorCode.NOT_FOUND, Locale.ENGLISH));
+    }
+
+    @Test
+    public void testLocalizedMessage() {
+        assertEquals("요청한 자원을 찾을 수 없습니다.", ErrorCode.NOT_FOUND.localizedMessage(Locale.KOREAN));
+        assertEquals("Requested resources not found.", ErrorCode.NOT_FOUND.localizedMessage(Locale.ENGLISH));
+        assertEquals("Custom message", ErrorCode.of("Custom message").localizedMessage(Locale.KOREAN));
+        // 코드를 지정하면 코드가 UNKNOWN_ERROR라도 번들의 메시지를 사용한다.
+        assertEquals("알 수 없는 오류가 발생했습니다.",
+                ErrorCode.of("UNKNOWN_ERROR", "Custom message").localizedMessage(Locale.KOREAN));
+
+        ApiErrorConfig saved = ApiErrorConfig.current();
+        try {
+            ApiError error = new ApiError(ErrorCode.NOT_FOUND);
+            ApiErrorConfig.update(config -> config.withDebugMode(false));
+            assertEquals("오류가 발생했습니다. 관리자에게 문의하세요.", error.localizedMessage(Locale.KOREAN));
+
+            ApiErrorConfig.update(config -> config.withDebugMode(true));
+            assertEquals("요청한 자원을 찾을 수 없습니다.", error.localizedMessage(Locale.KOREAN));
+            assertEquals("explicit", new ApiError("explicit", ErrorCode.NOT_FOUND).localizedMessage(Locale.KOREAN));
+        }
+        finally {
+            ApiErrorConfig.update(config -> saved);
+        }
+    }
+
+    @Test
+    public void testConcurrentFormat() throws Exception {
+        ErrorMessages messages = ErrorMessages.of(TEST_BUNDLE);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int base = t * 250;
+                tasks.add(() -> {
+                    for (int i = base; i < base + 250; i++) {
+                        String expected = "host" + i + "에 " + i + "번 연결하지 못했습니다.";
+                        if (!expected.equals(messages.message(TEST001, Locale.KOREAN, "host" + i, i))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                });
+            }
+            for (Future<Boolean> result : executor.invokeAll(tasks)) {
+                assertTrue(result.get());
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+}
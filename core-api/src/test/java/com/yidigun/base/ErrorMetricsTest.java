@@ -0,0 +1,127 @@
+package com.yidigun.base;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ErrorMetricsTest {
+
+    private static final ErrorCode METRIC001 = ErrorCode.of("METRIC001", "Metric test 1");
+    private static final ErrorCode METRIC002 = ErrorCode.of("METRIC002", "Metric test 2");
+
+    private static long failures(String code) {
+        ErrorMetrics.CodeMetrics metrics = ErrorMetrics.snapshot().get(code);
+        return (metrics != null)? metrics.failures(): 0;
+    }
+
+    private static long errors(String code) {
+        ErrorMetrics.CodeMetrics metrics = ErrorMetrics.snapshot().get(code);
+        return (metrics != null)? metrics.errors(): 0;
+    }
+
+    @Test
+    public void testCount() throws Exception {
+        long failures = failures("METRIC001");
+        long errors = errors("METRIC001");
+
+        ApiError error = new ApiError(METRIC001);
+        Result.failure(error);
+        Result.failure(METRIC001);
+        assertEquals(failures + 2, failures("METRIC001"));
+        assertEquals(errors + 2, errors("METRIC001"));
+
+        // 이미 기록된 실패를 전달하는 경우에는 다시 기록하지 않는다.
+        Results.sequence(List.of(Result.of(1), Result.<Integer>failure(error)));
+        assertEquals(failures + 3, failures("METRIC001"));
+
+        // 여러 스레드에서 동시에 기록
+        long before = failures("METRIC002");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                tasks.add(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        Result.failure(METRIC002);
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> f : executor.invokeAll(tasks)) {
+                f.get();
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+        assertEquals(before + 4000, failures("METRIC002"));
+    }
+
+    @Test
+    public void testDisabled() {
+        ApiErrorConfig saved = ApiErrorConfig.current();
+        try {
+            ApiErrorConfig.update(config -> config.withMetricsEnabled(false));
+            long failures = failures("METRIC001");
+            Result.failure(METRIC001);
+            assertEquals(failures, failures("METRIC001"));
+        }
+        finally {
+            ApiErrorConfig.update(config -> saved);
+        }
+    }
+
+    @Test
+    public void testLatency() {
+        assertEquals(0, ErrorMetrics.bucket(0));
+        assertEquals(0, ErrorMetrics.bucket(999));
+        assertEquals(1, ErrorMetrics.bucket(1_000));
+        assertEquals(10, ErrorMetrics.bucket(TimeUnit.MILLISECONDS.toNanos(1)));
+        assertEquals(ErrorMetrics.LATENCY_BUCKETS - 1, ErrorMetrics.bucket(TimeUnit.HOURS.toNanos(1)));
+        assertEquals(1024, ErrorMetrics.bucketUpperBoundMicros(10));
+
+        ErrorCode code = ErrorCode.of("METRIC_LATENCY", "Latency test");
+        Result<String> result = ErrorMetrics.timed(() -> Result.failure(code));
+        assertFalse(result.success());
+        ErrorMetrics.timed(() -> Result.of("ok"));
+        ErrorMetrics.recordLatency(code, TimeUnit.MILLISECONDS.toNanos(1));
+
+        long[] latency = ErrorMetrics.snapshot().get("METRIC_LATENCY").latency();
+        assertEquals(ErrorMetrics.LATENCY_BUCKETS, latency.length);
+        assertEquals(2, Arrays.stream(latency).sum());
+        assertEquals(1, latency[10]);
+    }
+
+    @Test
+    public void testExportAndMBean() throws Exception {
+        Result.failure(METRIC001);
+
+        List<ErrorMetrics.Snapshot> exported = new ArrayList<>();
+        ErrorMetricsExporter exporter = exported::add;
+        ErrorMetrics.addExporter(exporter);
+        try {
+            ErrorMetrics.Snapshot snapshot = ErrorMetrics.export();
+            assertEquals(List.of(snapshot), exported);
+            assertTrue(snapshot.totalFailures() >= 1);
+        }
+        finally {
+            ErrorMetrics.removeExporter(exporter);
+        }
+
+        ObjectName name = ErrorMetrics.registerMBean();
+        assertEquals(name, ErrorMetrics.registerMBean());
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        assertTrue((Long) server.getAttribute(name, "TotalFailures") >= 1);
+        TabularData counts = (TabularData) server.getAttribute(name, "FailureCounts");
+        assertNotNull(counts.get(new Object[] { "METRIC001" }));
+    }
+}
@@ -0,0 +1,67 @@
+package com.yidigun.base;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SmallSortedMapTest {
+
+    @Test
+    public void testMatchesTreeMap() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (int round = 0; round < 200; round++) {
+            SmallSortedMap map = new SmallSortedMap();
+            TreeMap<String, Object> expected = new TreeMap<>();
+            for (int op = 0; op < 40; op++) {
+                String key = "k" + random.nextInt(12);
+                switch (random.nextInt(4)) {
+                    case 0, 1 -> assertEquals(expected.put(key, op), map.put(key, op));
+                    case 2 -> assertEquals(expected.remove(key), map.remove(key));
+                    default -> assertEquals(expected.get(key), map.get(key));
+                }
+                assertEquals(expected, map);
+                assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()));
+                assertEquals(expected.hashCode(), map.hashCode());
+            }
+        }
+    }
+
+    @Test
+    public void testIteratorAndEntries() {
+        SmallSortedMap map = new SmallSortedMap(Map.of("c", 3, "a", 1, "b", 2));
+        assertEquals("{a=1, b=2, c=3}", map.toString());
+
+        Iterator<Map.Entry<String, Object>> it = map.entrySet().iterator();
+        it.next().setValue(10);
+        it.next();
+        it.remove();
+        assertEquals("c", it.next().getKey());
+        assertFalse(it.hasNext());
+        assertEquals(Map.of("a", 10, "c", 3), map);
+
+        assertThrows(NullPointerException.class, () -> map.put(null, 1));
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testResultAdditionalData() throws Exception {
+        Result<String> result = Result.of("v").addAdditionalData("page", 1).addAdditionalData("size", 20)
+                .addAdditionalData("cursor", "x");
+        assertEquals(List.of("cursor", "page", "size"), new ArrayList<>(result.additionalData().keySet()));
+        assertEquals(20, result.getAdditionalData("size", Integer.class));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(result);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Result<?> read = (Result<?>) in.readObject();
+            assertEquals(result, read);
+            assertInstanceOf(TreeMap.class, read.additionalData());
+        }
+    }
+}
@@ -30,10 +30,14 @@ dependencies {
     compileOnlyApi(libs.jetbrains.annotations)
     implementation(libs.commons.lang3)
     implementation(libs.slf4j.api)
+    implementation(libs.commons.csv)
 
     // Lombok
     lombok(libs.lombok)
 
+    // test dependencies
+    testImplementation(libs.h2)
+
     // junit
     testImplementation(libs.junit.jupiter)
     testRuntimeOnly(libs.junit.platform.launcher)
@@ -0,0 +1,174 @@
+package com.yidigun.base.utils;
+
+import com.yidigun.base.ErrorCode;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/// 오류 분류별 회로 차단기.
+///
+/// 재시도할 수 있는 오류가 같은 분류([Resilience#errorClass(ErrorCode)])로 연속 `failureThreshold`번 발생하면
+/// 그 분류의 회로가 열리고, 열린 회로가 하나라도 있으면 `openDuration` 동안 호출을 거부한다.
+/// 이후 한번의 시험 호출을 허용하여 성공하면 모든 회로를 닫고, 같은 분류로 실패하면 다시 연다.
+/// 재시도 대상이 아닌 오류는 대상 시스템이 응답한 것으로 보고 성공과 같이 처리한다.
+///
+/// 상태는 분류별 [AtomicReference]의 불변 객체로 관리하며 락을 사용하지 않는다.
+///
+/// ```java
+/// CircuitBreaker breaker = CircuitBreaker.of("member-db", 5, Duration.ofSeconds(30));
+/// Resilience.retrying(RetryPolicy.DEFAULT.withCircuitBreaker(breaker)).call(() -> dao.find(id));
+/// ```
+public final class CircuitBreaker {
+
+    /// 회로가 열려서 호출을 거부한 오류
+    public static final ErrorCode CIRCUIT_OPEN = ErrorCode.of("CIRCUIT_OPEN", "Circuit breaker is open.");
+
+    private static final State CLOSED = new State(0, false, 0L);
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+
+    /// 현재 시각 ([System#nanoTime()])
+    private final LongSupplier clock;
+
+    /// 오류 분류별 회로
+    private final Map<Object, AtomicReference<State>> circuits = new ConcurrentHashMap<>();
+
+    /// 회로 상태
+    /// @param failures 연속 실패 횟수
+    /// @param open 열림 여부
+    /// @param openedAt 열린 시각 또는 시험 호출을 허용한 시각 ([System#nanoTime()])
+    private record State(int failures, boolean open, long openedAt) {}
+
+    private CircuitBreaker(String name, int failureThreshold, long openNanos, LongSupplier clock) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openNanos;
+        this.clock = clock;
+    }
+
+    /// 회로 차단기를 만든다.
+    /// @param name 이름
+    /// @param failureThreshold 회로를 여는 연속 실패 횟수
+    /// @param openDuration 회로가 열려 있는 시간
+    /// @return 새 회로 차단기
+    /// @throws IllegalArgumentException `failureThreshold`가 1보다 작거나 `openDuration`이 음수인 경우
+    public static CircuitBreaker of(@NotNull String name, int failureThreshold, @NotNull Duration openDuration) {
+        return of(name, failureThreshold, openDuration, System::nanoTime);
+    }
+
+    /// 시각을 지정하여 회로 차단기를 만든다. 테스트에서 시간을 직접 진행시킬 때 사용한다.
+    /// @param name 이름
+    /// @param failureThreshold 회로를 여는 연속 실패 횟수
+    /// @param openDuration 회로가 열려 있는 시간
+    /// @param clock [System#nanoTime()]과 같은 단위의 현재 시각
+    /// @return 새 회로 차단기
+    static CircuitBreaker of(String name, int failureThreshold, Duration openDuration, LongSupplier clock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("Invalid failure threshold: " + failureThreshold);
+        }
+        if (openDuration.isNegative()) {
+            throw new IllegalArgumentException("Invalid open duration: " + openDuration);
+        }
+        return new CircuitBreaker(name, failureThreshold, openDuration.toNanos(), Objects.requireNonNull(clock));
+    }
+
+    /// 이름
+    /// @return 이름
+    public String name() { return name; }
+
+    /// 호출을 허용하는지 확인한다. 열린 회로가 모두 열린 시간이 지났으면 이 호출을 시험 호출로 허용한다.
+    /// @return 허용하면 `true`
+    public boolean tryAcquire() {
+        long now = clock.getAsLong();
+        List<AtomicReference<State>> expired = null;
+        List<State> expiredStates = null;
+        for (AtomicReference<State> circuit : circuits.values()) {
+            State state = circuit.get();
+            if (state.open) {
+                if (now - state.openedAt < openNanos) {
+                    return false;
+                }
+                if (expired == null) {
+                    expired = new ArrayList<>(2);
+                    expiredStates = new ArrayList<>(2);
+                }
+                expired.add(circuit);
+                expiredStates.add(state);
+            }
+        }
+        if (expired == null) {
+            return true;
+        }
+        // 시험 호출 허용: 열린 시각을 갱신하여 다른 호출은 계속 거부한다.
+        // 다른 호출이 먼저 갱신했으면 그 호출이 시험 호출이므로 거부한다.
+        for (int i = 0; i < expired.size(); i++) {
+            State state = expiredStates.get(i);
+            if (!expired.get(i).compareAndSet(state, new State(state.failures, true, now))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /// 호출 성공을 기록한다. 모든 회로를 닫는다.
+    public void onSuccess() {
+        for (AtomicReference<State> circuit : circuits.values()) {
+            if (circuit.get() != CLOSED) {
+                circuit.set(CLOSED);
+            }
+        }
+    }
+
+    /// 재시도할 수 있는 오류로 인한 실패를 기록한다.
+    /// @param errorClass 오류 분류
+    public void onFailure(@NotNull Object errorClass) {
+        AtomicReference<State> circuit = circuits.computeIfAbsent(errorClass, k -> new AtomicReference<>(CLOSED));
+        long now = clock.getAsLong();
+        State state, next;
+        do {
+            state = circuit.get();
+            int failures = state.failures + 1;
+            // 열린 회로의 시험 호출이 실패했거나, 연속 실패 횟수에 도달하면 연다.
+            next = (state.open || failures >= failureThreshold)?
+                    new State(failures, true, now): new State(failures, false, 0L);
+        } while (!circuit.compareAndSet(state, next));
+    }
+
+    /// 회로가 열려 있는지 확인한다.
+    /// @return 열린 회로가 있으면 `true`
+    public boolean isOpen() {
+        for (AtomicReference<State> circuit : circuits.values()) {
+            if (circuit.get().open) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /// 열린 회로의 오류 분류
+    /// @return 오류 분류 이름 목록
+    public Set<String> openCircuits() {
+        Set<String> open = new TreeSet<>();
+        circuits.forEach((errorClass, circuit) -> {
+            if (circuit.get().open) {
+                open.add(String.valueOf(errorClass));
+            }
+        });
+        return open;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker{" +
+                "name='" + name + '\'' +
+                ", failureThreshold=" + failureThreshold +
+                ", open=" + openCircuits() +
+                '}';
+    }
+}
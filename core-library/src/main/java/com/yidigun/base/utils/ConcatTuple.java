@@ -0,0 +1,130 @@
+package com.yidigun.base.utils;
+
+import java.io.Serial;
+import java.util.Arrays;
+
+/// 두 튜플을 이어붙인 튜플.
+/// [Tuple#append(Tuple)]와 [TupleJoins]가 반환한다.
+/// 중첩된 [ConcatTuple]을 가지는 경우 값은 처음 접근할 때 한번만 배열로 펼쳐지며,
+/// 그렇지 않은 경우에는 펼치지 않고 두 튜플에서 바로 읽는다.
+///
+/// 앞쪽 튜플이 다시 [ConcatTuple]인 경우(`a.append(b).append(c)...`) 펼칠 때 재귀 없이 반복문으로 복사한다.
+/// 펼치기 전에 한쪽 튜플 안의 범위만 잘라내는 경우에는 펼치지 않고 해당 튜플의 뷰를 반환한다.
+///
+/// 직렬화할 때는 펼쳐진 값을 가진 [Tuple]로 저장된다.
+final class ConcatTuple extends Tuple {
+
+    @Serial
+    private static final long serialVersionUID = 2297006316564311826L;
+
+    /// 앞쪽 튜플
+    private final Tuple left;
+
+    /// 뒤쪽 튜플
+    private final Tuple right;
+
+    /// 값 개수
+    private final int size;
+
+    /// 두 튜플이 모두 [ConcatTuple]이 아닌지 여부
+    private final boolean shallow;
+
+    /// 펼쳐진 값 배열, `null`이면 아직 펼쳐지지 않음
+    private transient volatile Object[] flat;
+
+    /// 생성자. 두 튜플은 값이 변경되지 않는 튜플([Tuple#frozen()])이어야 한다.
+    ConcatTuple(Tuple left, Tuple right) {
+        super();
+        this.left = left;
+        this.right = right;
+        this.size = left.size() + right.size();
+        this.shallow = !(left instanceof ConcatTuple) && !(right instanceof ConcatTuple);
+    }
+
+    /// 펼쳐진 값 배열을 반환한다.
+    private Object[] flatten() {
+        Object[] values = flat;
+        if (values == null) {
+            values = new Object[size];
+            copyTo(values, 0);
+            flat = values;
+        }
+        return values;
+    }
+
+    /// 값을 반환한다. 두 튜플이 모두 [ConcatTuple]이 아니면(조인 결과 등) 펼치지 않고 해당 튜플에서 바로 읽는다.
+    @Override
+    public Object get(int index) {
+        checkIndex(index);
+        Object[] values = flat;
+        if (values == null && shallow) {
+            int leftSize = left.size();
+            return (index < leftSize)? left.get(index): right.get(index - leftSize);
+        }
+        return flatten()[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return flatten().clone();
+    }
+
+    @Override
+    Object[] sharedValues() {
+        return flatten();
+    }
+
+    @Override
+    Tuple slice(int startIndex, int endIndex) {
+        Object[] values = flat;
+        if (values == null) {
+            int leftSize = left.size();
+            if (endIndex <= leftSize) {
+                return left.slice(startIndex, endIndex);
+            } else if (startIndex >= leftSize) {
+                return right.slice(startIndex - leftSize, endIndex - leftSize);
+            }
+            values = flatten();
+        }
+        return TupleView.of(values, startIndex, endIndex - startIndex);
+    }
+
+    @Override
+    Tuple frozen() {
+        return this;
+    }
+
+    @Override
+    void copyTo(Object[] dest, int position) {
+        Object[] values = flat;
+        if (values != null) {
+            System.arraycopy(values, 0, dest, position, size);
+            return;
+        }
+        // 앞쪽으로 중첩된 ConcatTuple을 따라가면서 뒤쪽 튜플부터 복사한다.
+        Tuple node = this;
+        int end = position + size;
+        while (node instanceof ConcatTuple concat && concat.flat == null) {
+            end -= concat.right.size();
+            concat.right.copyTo(dest, end);
+            node = concat.left;
+        }
+        node.copyTo(dest, position);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(flatten());
+    }
+
+    /// 펼쳐진 값을 가진 [Tuple]로 직렬화한다.
+    @Serial
+    private Object writeReplace() {
+        return new Tuple(toArray(), false);
+    }
+}
@@ -0,0 +1,467 @@
+package com.yidigun.base.utils;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.csv.CSVRecord;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/// CSV 데이터를 [NamedTuple] 또는 도메인 객체로 읽고 쓰는 스트리밍 코덱.
+///
+/// 첫번째 레코드는 항상 헤더로 취급한다. 헤더는 [TupleSchema]로 만들어 모든 행이 공유하므로
+/// 행마다 이름 배열을 복사하지 않는다.
+///
+/// ```java
+/// CsvCodec csv = CsvCodec.of();
+///
+/// try (Stream<NamedTuple> rows = csv.readTuples(reader)) {
+///     rows.forEach(row -> process(row.get("member_no", String.class)));
+/// }
+///
+/// try (Stream<Member> members = csv.read(reader, Member.class)) {
+///     ...
+/// }
+///
+/// csv.write(writer, Member.class, members);
+/// ```
+///
+/// ## 도메인 객체 매핑
+///
+/// 도메인 객체로 읽으려면 인자 없는 생성자와 쓰기 가능한 프로퍼티가 필요하다.
+/// 헤더 이름은 프로퍼티 이름 또는 프로퍼티 이름의 `snake_case` 형식과 일치해야 하며,
+/// 일치하는 프로퍼티가 없는 컬럼은 무시된다.
+/// 문자열 값은 프로퍼티 타입에 맞게 변환되며, 빈 문자열은 `null`(기본 타입은 기본값)로 취급한다.
+///
+/// 쓰기는 [StatementBinders#insert(Class, String)]와 같이 필드에 대응하는 읽기 가능한 프로퍼티를
+/// 필드 선언 순서대로 사용한다.
+///
+/// ## 병렬 읽기
+///
+/// [#readTuplesParallel(Path)]는 파일을 메모리 매핑하여 줄바꿈 경계로 청크를 나누고 청크 단위로 병렬 파싱한다.
+/// 청크 경계를 줄바꿈 문자로 찾기 때문에 따옴표 안에 줄바꿈이 포함된 CSV 파일에는 사용할 수 없다.
+/// 파일 인코딩은 `UTF-8`이어야 한다.
+///
+/// @see NamedTuple
+public final class CsvCodec {
+
+    /// 병렬 읽기의 기본 청크 크기 (16MB)
+    public static final int DEFAULT_CHUNK_SIZE = 16 * 1024 * 1024;
+
+    /// 헤더 설정이 없는 레코드 파싱용 포맷
+    private final CSVFormat format;
+
+    /// 병렬 읽기의 청크 크기
+    private final int chunkSize;
+
+    private CsvCodec(CSVFormat format, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.format = format;
+        this.chunkSize = chunkSize;
+    }
+
+    /// `RFC 4180` 형식(쉼표 구분)의 코덱을 생성한다.
+    /// @return CSV 코덱
+    public static CsvCodec of() {
+        return of(',');
+    }
+
+    /// 구분자를 지정하여 `RFC 4180` 기반의 코덱을 생성한다.
+    /// @param delimiter 구분자 (예: `'\t'`)
+    /// @return CSV 코덱
+    public static CsvCodec of(char delimiter) {
+        CSVFormat format = CSVFormat.RFC4180.builder()
+                .setDelimiter(delimiter)
+                .setRecordSeparator('\n')
+                .get();
+        return new CsvCodec(format, DEFAULT_CHUNK_SIZE);
+    }
+
+    /// 구분자
+    /// @return 구분자
+    public char delimiter() { return format.getDelimiterString().charAt(0); }
+
+    /// 병렬 읽기의 청크 크기
+    /// @return 청크 크기 (바이트)
+    public int chunkSize() { return chunkSize; }
+
+    /// 병렬 읽기의 청크 크기를 변경한 새로운 코덱을 반환한다.
+    /// @param chunkSize 청크 크기 (바이트)
+    /// @return 새로운 코덱
+    public CsvCodec withChunkSize(int chunkSize) {
+        return (chunkSize == this.chunkSize)? this: new CsvCodec(format, chunkSize);
+    }
+
+    /// CSV 데이터를 [NamedTuple]의 스트림으로 읽는다.
+    ///
+    /// 반환된 스트림은 소비되는 시점에 한 행씩 파싱하며, 스트림을 닫으면 `reader`도 닫힌다.
+    ///
+    /// @param reader 입력
+    /// @return 헤더 이름을 공유하는 [NamedTuple] 스트림. 빈 입력인 경우 빈 스트림
+    /// @throws UncheckedIOException 입력 오류가 발생한 경우
+    public Stream<NamedTuple> readTuples(@NotNull Reader reader) {
+        return readRecords(reader, header -> tupleMapper(TupleSchema.of(header)));
+    }
+
+    /// CSV 데이터를 도메인 객체의 스트림으로 읽는다.
+    ///
+    /// 반환된 스트림은 소비되는 시점에 한 행씩 파싱하며, 스트림을 닫으면 `reader`도 닫힌다.
+    ///
+    /// @param reader 입력
+    /// @param type 도메인 객체 클래스
+    /// @return 도메인 객체 스트림. 빈 입력인 경우 빈 스트림
+    /// @param <T> 도메인 객체 타입
+    /// @throws UncheckedIOException 입력 오류가 발생한 경우
+    /// @throws PropertyMapException 인자 없는 생성자가 없거나 값 변환에 실패한 경우
+    public <T> Stream<T> read(@NotNull Reader reader, @NotNull Class<T> type) {
+        ObjectReader<T> objectReader = ObjectReader.of(type);
+        return readRecords(reader, header -> objectReader.bind(header)::read);
+    }
+
+    /// 파일을 청크 단위로 병렬 파싱하여 [NamedTuple]의 스트림으로 읽는다.
+    ///
+    /// 반환된 스트림은 병렬 스트림이며, 순서가 있는 종단 연산(`toList()`, `forEachOrdered()` 등)을
+    /// 사용하면 파일의 행 순서가 유지된다.
+    ///
+    /// @param path UTF-8 인코딩 CSV 파일 경로
+    /// @return 헤더 이름을 공유하는 [NamedTuple] 병렬 스트림
+    /// @throws UncheckedIOException 파일 읽기 오류가 발생한 경우
+    public Stream<NamedTuple> readTuplesParallel(@NotNull Path path) {
+        return readParallel(path, header -> tupleMapper(TupleSchema.of(header)));
+    }
+
+    /// 파일을 청크 단위로 병렬 파싱하여 도메인 객체의 스트림으로 읽는다.
+    /// @param path UTF-8 인코딩 CSV 파일 경로
+    /// @param type 도메인 객체 클래스
+    /// @return 도메인 객체 병렬 스트림
+    /// @param <T> 도메인 객체 타입
+    /// @throws UncheckedIOException 파일 읽기 오류가 발생한 경우
+    /// @see #readTuplesParallel(Path)
+    public <T> Stream<T> readParallel(@NotNull Path path, @NotNull Class<T> type) {
+        ObjectReader<T> objectReader = ObjectReader.of(type);
+        return readParallel(path, header -> objectReader.bind(header)::read);
+    }
+
+    /// [NamedTuple]들을 CSV로 출력한다.
+    /// 헤더는 첫번째 튜플의 이름 목록을 사용하며, 이름이 없는 값은 `index[n]` 형식의 이름을 사용한다.
+    /// @param writer 출력
+    /// @param tuples 출력할 튜플들
+    /// @return 출력한 행 수 (헤더 제외)
+    /// @throws UncheckedIOException 출력 오류가 발생한 경우
+    public long writeTuples(@NotNull Writer writer, @NotNull Iterable<? extends NamedTuple> tuples) {
+        try {
+            CSVPrinter printer = new CSVPrinter(writer, format);
+            long rows = 0L;
+            for (NamedTuple tuple : tuples) {
+                if (rows == 0L) {
+                    for (int i = 0; i < tuple.size(); i++) {
+                        printer.print(tuple.nameAt(i));
+                    }
+                    printer.println();
+                }
+                for (int i = 0; i < tuple.size(); i++) {
+                    printer.print(tuple.get(i));
+                }
+                printer.println();
+                rows++;
+            }
+            printer.flush();
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /// 도메인 객체들을 CSV로 출력한다.
+    /// 헤더는 필드에 대응하는 프로퍼티 이름을 필드 선언 순서대로 사용한다.
+    /// @param writer 출력
+    /// @param type 도메인 객체 클래스
+    /// @param items 출력할 객체들
+    /// @return 출력한 행 수 (헤더 제외)
+    /// @param <T> 도메인 객체 타입
+    /// @throws UncheckedIOException 출력 오류가 발생한 경우
+    public <T> long write(@NotNull Writer writer, @NotNull Class<T> type, @NotNull Iterable<? extends T> items) {
+        Map<String, PropertyHandle> reflection =
+                PropertyMapUtils.findProperties(type, PropertyMap.AccessMethod.REFLECTION);
+        Map<String, PropertyHandle> lambda =
+                PropertyMapUtils.findProperties(type, PropertyMap.AccessMethod.LAMBDA_META_FACTORY);
+        List<String> names = new ArrayList<>();
+        List<PropertyHandle> getters = new ArrayList<>();
+        for (Field field : PropertyMapUtils.getDeclaredInstanceFields(type)) {
+            if (reflection.get(field.getName()) instanceof ReflectionProperty property && property.getter() != null) {
+                names.add(property.name());
+                getters.add(lambda.getOrDefault(property.name(), property));
+            }
+        }
+
+        try {
+            CSVPrinter printer = new CSVPrinter(writer, format);
+            printer.printRecord(names);
+            long rows = 0L;
+            for (T item : items) {
+                for (PropertyHandle getter : getters) {
+                    printer.print(getter.getValue(item));
+                }
+                printer.println();
+                rows++;
+            }
+            printer.flush();
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /// 첫 레코드를 헤더로 읽고, 나머지 레코드를 `mapperFactory`가 만든 변환 함수로 변환하는 스트림을 만든다.
+    private <R> Stream<R> readRecords(Reader reader,
+                                      Function<String[], Function<CSVRecord, R>> mapperFactory) {
+        CSVParser parser;
+        try {
+            parser = CSVParser.parse(reader, format);
+        } catch (IOException e) {
+            closeSuppressed(reader, e);
+            throw new UncheckedIOException(e);
+        }
+        try {
+            Iterator<CSVRecord> iterator = parser.iterator();
+            if (!iterator.hasNext()) {
+                parser.close();
+                return Stream.empty();
+            }
+            Function<CSVRecord, R> mapper = mapperFactory.apply(header(iterator.next()));
+            return parser.stream()
+                    .map(mapper)
+                    .onClose(() -> closeQuietly(parser));
+        } catch (IOException e) {
+            closeSuppressed(parser, e);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException | Error e) {
+            // 헤더 파싱이나 변환 함수 생성에 실패하면 스트림을 반환하지 않으므로 여기서 닫는다.
+            closeSuppressed(parser, e);
+            throw e;
+        }
+    }
+
+    /// 파일을 청크로 나누어 병렬로 파싱하는 스트림을 만든다.
+    private <R> Stream<R> readParallel(Path path,
+                                       Function<String[], Function<CSVRecord, R>> mapperFactory) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long headerEnd = nextLineStart(channel, 0L, size);
+            if (headerEnd == 0L) {
+                return Stream.empty();
+            }
+            String[] header;
+            try (CSVParser parser = CSVParser.parse(decode(channel, 0L, headerEnd), format)) {
+                header = header(parser.iterator().next());
+            }
+            Function<CSVRecord, R> mapper = mapperFactory.apply(header);
+
+            List<long[]> chunks = new ArrayList<>();
+            for (long start = headerEnd; start < size; ) {
+                long end = nextLineStart(channel, Math.min(start + chunkSize, size), size);
+                chunks.add(new long[] { start, end });
+                start = end;
+            }
+            return chunks.parallelStream()
+                    .flatMap(chunk -> parseChunk(path, chunk[0], chunk[1], mapper));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /// 청크 하나를 메모리 매핑하여 파싱한다. 청크 단위로 파일을 다시 열기 때문에 스레드간에 채널을 공유하지 않는다.
+    private <R> Stream<R> parseChunk(Path path, long start, long end, Function<CSVRecord, R> mapper) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            CSVParser parser = CSVParser.parse(decode(channel, start, end), format);
+            return parser.stream().map(mapper).onClose(() -> closeQuietly(parser));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /// 파일의 일부 영역을 메모리 매핑하여 UTF-8로 디코딩한다.
+    private static Reader decode(FileChannel channel, long start, long end) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        CharBuffer chars = StandardCharsets.UTF_8.decode(buffer);
+        return new CharArrayReader(chars.array(), chars.arrayOffset() + chars.position(), chars.remaining());
+    }
+
+    /// `from` 위치부터 처음 나오는 줄바꿈 문자의 다음 위치를 찾는다. 줄바꿈이 없으면 `size`를 반환한다.
+    private static long nextLineStart(FileChannel channel, long from, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long position = from;
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    /// 헤더 레코드를 이름 배열로 변환한다. 첫 컬럼의 UTF-8 BOM은 제거한다.
+    private static String[] header(CSVRecord record) {
+        String[] header = record.values();
+        if (header.length > 0 && !header[0].isEmpty() && header[0].charAt(0) == '\uFEFF') {
+            header[0] = header[0].substring(1);
+        }
+        return header;
+    }
+
+    /// 레코드를 헤더 스키마를 공유하는 [NamedTuple]로 변환하는 함수를 만든다.
+    private static Function<CSVRecord, NamedTuple> tupleMapper(TupleSchema schema) {
+        return record -> {
+            Object[] values = new Object[record.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = record.get(i);
+            }
+            return new NamedTuple(schema, values, false);
+        };
+    }
+
+    /// 오류 처리 중에 닫는다. 닫을 때 발생한 예외는 원래 예외에 추가한다.
+    private static void closeSuppressed(Closeable closeable, Throwable primary) {
+        try {
+            closeable.close();
+        } catch (IOException | RuntimeException e) {
+            primary.addSuppressed(e);
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /// CSV 레코드를 도메인 객체로 변환하는 방법.
+    /// 클래스별로 생성자와 쓰기 가능한 프로퍼티를 미리 찾아두고, 헤더가 결정되면 컬럼 순서대로 배열을 구성한다.
+    private record ObjectReader<T>(Constructor<T> constructor,
+                                   Map<String, PropertyHandle> setters,
+                                   Map<String, Class<?>> types,
+                                   PropertyHandle[] columnSetters,
+                                   Class<?>[] columnTypes) {
+
+        static <T> ObjectReader<T> of(Class<T> type) {
+            Constructor<T> constructor;
+            try {
+                constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+            } catch (NoSuchMethodException | RuntimeException e) {
+                throw new PropertyMapException("No accessible no-arg constructor: " + type.getName(), e);
+            }
+
+            Map<String, PropertyHandle> reflection =
+                    PropertyMapUtils.findProperties(type, PropertyMap.AccessMethod.REFLECTION);
+            Map<String, PropertyHandle> lambda =
+                    PropertyMapUtils.findProperties(type, PropertyMap.AccessMethod.LAMBDA_META_FACTORY);
+            Map<String, PropertyHandle> setters = new HashMap<>();
+            Map<String, Class<?>> types = new HashMap<>();
+            for (PropertyHandle handle : reflection.values()) {
+                if (handle instanceof ReflectionProperty property && property.setter() != null) {
+                    PropertyHandle setter = lambda.getOrDefault(property.name(), property);
+                    Class<?> propertyType = property.setter().getParameterTypes()[0];
+                    for (String name : List.of(property.name(), StringUtils.toSnakeCase(property.name()))) {
+                        setters.putIfAbsent(name, setter);
+                        types.putIfAbsent(name, propertyType);
+                    }
+                }
+            }
+            return new ObjectReader<>(constructor, setters, types, null, null);
+        }
+
+        /// 헤더 순서에 맞춘 설정 배열을 가진 변환기를 만든다.
+        ObjectReader<T> bind(String[] header) {
+            PropertyHandle[] columnSetters = new PropertyHandle[header.length];
+            Class<?>[] columnTypes = new Class<?>[header.length];
+            for (int i = 0; i < header.length; i++) {
+                columnSetters[i] = setters.get(header[i]);
+                columnTypes[i] = types.get(header[i]);
+            }
+            return new ObjectReader<>(constructor, setters, types, columnSetters, columnTypes);
+        }
+
+        T read(CSVRecord record) {
+            T item;
+            try {
+                item = constructor.newInstance();
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new PropertyMapException("Cannot instantiate " + constructor.getDeclaringClass().getName(), e);
+            }
+            int size = Math.min(record.size(), columnSetters.length);
+            for (int i = 0; i < size; i++) {
+                if (columnSetters[i] != null) {
+                    Object value = convert(record.get(i), columnTypes[i]);
+                    if (value != null || !columnTypes[i].isPrimitive()) {
+                        columnSetters[i].setValue(item, value);
+                    }
+                }
+            }
+            return item;
+        }
+    }
+
+    /// CSV 문자열 값을 프로퍼티 타입으로 변환한다. 빈 문자열은 [String] 타입이 아니면 `null`로 변환한다.
+    static Object convert(String value, Class<?> type) {
+        if (type == String.class || type == Object.class || type == CharSequence.class) {
+            return value;
+        }
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            Class<?> boxed = PropertyMapUtils.boxedType(type);
+            if (boxed == Long.class) return Long.valueOf(value);
+            else if (boxed == Integer.class) return Integer.valueOf(value);
+            else if (boxed == Double.class) return Double.valueOf(value);
+            else if (boxed == Boolean.class) return Boolean.valueOf(value);
+            else if (boxed == Float.class) return Float.valueOf(value);
+            else if (boxed == Short.class) return Short.valueOf(value);
+            else if (boxed == Byte.class) return Byte.valueOf(value);
+            else if (boxed == Character.class) return value.charAt(0);
+            else if (type == BigDecimal.class) return new BigDecimal(value);
+            else if (type == Instant.class) return Instant.parse(value);
+            else if (type == LocalDate.class) return LocalDate.parse(value);
+            else if (type == LocalDateTime.class) return LocalDateTime.parse(value);
+            else if (type.isEnum()) return enumValue(type, value);
+        } catch (RuntimeException e) {
+            throw new PropertyMapException("Cannot convert '" + value + "' to " + type.getName(), e);
+        }
+        throw new PropertyMapException("Unsupported property type: " + type.getName());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object enumValue(Class<?> type, String value) {
+        return Enum.valueOf((Class<? extends Enum>) type, value);
+    }
+}
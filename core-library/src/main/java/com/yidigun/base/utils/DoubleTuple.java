@@ -0,0 +1,124 @@
+package com.yidigun.base.utils;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+
+/// `double` 값들을 박싱 없이 저장하는 [Tuple].
+///
+/// [Tuple]의 API를 그대로 지원하며, [#getDouble(int)]로 박싱 없이 값을 꺼낼 수 있다.
+/// 값 기준으로 같은 [Tuple]과 동등하며 해시코드도 같으므로, 박싱된 튜플 대신 맵의 키로 사용할 수 있다.
+/// 해시코드는 처음 계산할 때 캐시된다.
+///
+/// ```java
+/// DoubleTuple key = DoubleTuple.ofDoubles(1.0, 2.5);
+/// double first = key.getDouble(0);
+/// assert key.equals(Tuple.of(1.0, 2.5));
+/// ```
+///
+/// @see Tuple
+public final class DoubleTuple extends Tuple {
+
+    @Serial
+    private static final long serialVersionUID = -2291847401938744015L;
+
+    /// 값 배열
+    private final double[] doubles;
+
+    /// 캐시된 해시코드, `0`이면 아직 계산되지 않음
+    private transient int hash;
+
+    private DoubleTuple(double[] doubles) {
+        super();
+        this.doubles = doubles;
+    }
+
+    /// `double` 값들을 묶어서 튜플을 생성한다.
+    /// @param values 묶을 값들
+    /// @return DoubleTuple 객체
+    public static DoubleTuple ofDoubles(double... values) {
+        return new DoubleTuple(values.clone());
+    }
+
+    @Override
+    public Object get(int index) {
+        checkIndex(index);
+        return doubles[index];
+    }
+
+    @Override
+    public int getInt(int index) {
+        throw primitiveCastException(index, get(index), int.class);
+    }
+
+    @Override
+    public long getLong(int index) {
+        throw primitiveCastException(index, get(index), long.class);
+    }
+
+    @Override
+    public double getDouble(int index) {
+        checkIndex(index);
+        return doubles[index];
+    }
+
+    @Override
+    public int size() {
+        return doubles.length;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[doubles.length];
+        for (int i = 0; i < doubles.length; i++) {
+            array[i] = doubles[i];
+        }
+        return array;
+    }
+
+    /// 튜플을 `double` 배열로 변환한다.
+    /// @return `double` 배열
+    public double[] toDoubleArray() {
+        return doubles.clone();
+    }
+
+    /// 튜플의 값을 박싱 없는 스트림으로 변환한다.
+    /// @return 값들의 [DoubleStream]
+    public DoubleStream doubleStream() {
+        return Arrays.stream(doubles);
+    }
+
+    /// 현재 튜플의 일부를 잘라내어 새로운 튜플을 반환한다.
+    /// 지정한 인덱스 범위가 전체 범위일 경우 현재 튜플을 그대로 반환한다.
+    /// @param startIndex 잘라낼 시작 인덱스 (0부터 시작)
+    /// @param endIndex 잘라낼 끝 인덱스 (exclusive, 즉 endIndex는 포함되지 않음)
+    /// @return 새로운 DoubleTuple 객체
+    @Override
+    public DoubleTuple subTuple(int startIndex, int endIndex) {
+        if (startIndex == 0 && endIndex == doubles.length) {
+            return this;
+        }
+        checkRange(startIndex, endIndex);
+        return new DoubleTuple(Arrays.copyOfRange(doubles, startIndex, endIndex));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj instanceof DoubleTuple that) {
+            return Arrays.equals(doubles, that.doubles);
+        }
+        return super.equals(obj);
+    }
+
+    /// 박싱된 값 배열의 해시코드와 같은 [Arrays#hashCode(double[])]를 반환한다.
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = Arrays.hashCode(doubles);
+            hash = h;
+        }
+        return h;
+    }
+}
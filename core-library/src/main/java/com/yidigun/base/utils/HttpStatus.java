@@ -341,11 +341,22 @@ public enum HttpStatus implements ErrorCode {
     /// 511 상태 코드는 클라이언트가 네트워크 액세스를 얻기 위해 인증을 받아야 할 필요가 있음을 나타냅니다.
     NETWORK_AUTHENTICATION_REQUIRED("511", "Network Authentication Required");
 
+    /// 상태 코드 -> [HttpStatus] 조회 테이블 (100 ~ 599)
+    private static final HttpStatus[] BY_CODE = new HttpStatus[600];
+
+    static {
+        for (HttpStatus status : values()) {
+            BY_CODE[status.status] = status;
+        }
+    }
+
     private final String code;
+    private final int status;
     private final String message;
 
     HttpStatus(String code, String message) {
         this.code = code;
+        this.status = Integer.parseInt(code);
         this.message = message;
     }
 
@@ -361,23 +372,37 @@ public enum HttpStatus implements ErrorCode {
 
     @Override
     public boolean success() {
-        return Character.getNumericValue(code.charAt(0)) <= 3;
+        return status < 400;
+    }
+
+    /// 상태 코드를 숫자로 반환합니다.
+    /// @return 상태 코드
+    public int status() {
+        return status;
     }
 
     /// 지정한 코드의 [HttpStatus]를 반환합니다.
     /// @param code 상태코드
     /// @return 상태코드
     public static HttpStatus of(int code) {
-        return of(String.valueOf(code));
+        HttpStatus status = (code >= 0 && code < BY_CODE.length)? BY_CODE[code]: null;
+        if (status == null) {
+            throw new IllegalArgumentException("Unknown HTTP status code: " + code);
+        }
+        return status;
     }
 
     /// 지정한 코드의 [HttpStatus]를 반환합니다.
     /// @param code 상태코드
     /// @return 상태코드
     public static HttpStatus of(String code) {
-        for (HttpStatus status : values()) {
-            if (status.code.equals(code)) {
-                return status;
+        if (code != null && code.length() == 3) {
+            int c0 = code.charAt(0) - '0', c1 = code.charAt(1) - '0', c2 = code.charAt(2) - '0';
+            if (c0 >= 0 && c0 <= 9 && c1 >= 0 && c1 <= 9 && c2 >= 0 && c2 <= 9) {
+                HttpStatus status = BY_CODE[c0 * 100 + c1 * 10 + c2];
+                if (status != null) {
+                    return status;
+                }
             }
         }
         throw new IllegalArgumentException("Unknown HTTP status code: " + code);
@@ -0,0 +1,126 @@
+package com.yidigun.base.utils;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/// `int` 값들을 박싱 없이 저장하는 [Tuple].
+///
+/// [Tuple]의 API를 그대로 지원하며, [#getInt(int)]로 박싱 없이 값을 꺼낼 수 있다.
+/// 값 기준으로 같은 [Tuple]과 동등하며 해시코드도 같으므로, 박싱된 튜플 대신 맵의 키로 사용할 수 있다.
+/// 해시코드는 처음 계산할 때 캐시된다.
+///
+/// ```java
+/// IntTuple key = IntTuple.ofInts(1, 2);
+/// int first = key.getInt(0);
+/// assert key.equals(Tuple.of(1, 2));
+/// ```
+///
+/// @see Tuple
+public final class IntTuple extends Tuple {
+
+    @Serial
+    private static final long serialVersionUID = -6029384718203948211L;
+
+    /// 값 배열
+    private final int[] ints;
+
+    /// 캐시된 해시코드, `0`이면 아직 계산되지 않음
+    private transient int hash;
+
+    private IntTuple(int[] ints) {
+        super();
+        this.ints = ints;
+    }
+
+    /// `int` 값들을 묶어서 튜플을 생성한다.
+    /// @param values 묶을 값들
+    /// @return IntTuple 객체
+    public static IntTuple ofInts(int... values) {
+        return new IntTuple(values.clone());
+    }
+
+    @Override
+    public Object get(int index) {
+        checkIndex(index);
+        return ints[index];
+    }
+
+    @Override
+    public int getInt(int index) {
+        checkIndex(index);
+        return ints[index];
+    }
+
+    @Override
+    public long getLong(int index) {
+        checkIndex(index);
+        return ints[index];
+    }
+
+    @Override
+    public double getDouble(int index) {
+        checkIndex(index);
+        return ints[index];
+    }
+
+    @Override
+    public int size() {
+        return ints.length;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[ints.length];
+        for (int i = 0; i < ints.length; i++) {
+            array[i] = ints[i];
+        }
+        return array;
+    }
+
+    /// 튜플을 `int` 배열로 변환한다.
+    /// @return `int` 배열
+    public int[] toIntArray() {
+        return ints.clone();
+    }
+
+    /// 튜플의 값을 박싱 없는 스트림으로 변환한다.
+    /// @return 값들의 [IntStream]
+    public IntStream intStream() {
+        return Arrays.stream(ints);
+    }
+
+    /// 현재 튜플의 일부를 잘라내어 새로운 튜플을 반환한다.
+    /// 지정한 인덱스 범위가 전체 범위일 경우 현재 튜플을 그대로 반환한다.
+    /// @param startIndex 잘라낼 시작 인덱스 (0부터 시작)
+    /// @param endIndex 잘라낼 끝 인덱스 (exclusive, 즉 endIndex는 포함되지 않음)
+    /// @return 새로운 IntTuple 객체
+    @Override
+    public IntTuple subTuple(int startIndex, int endIndex) {
+        if (startIndex == 0 && endIndex == ints.length) {
+            return this;
+        }
+        checkRange(startIndex, endIndex);
+        return new IntTuple(Arrays.copyOfRange(ints, startIndex, endIndex));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj instanceof IntTuple that) {
+            return Arrays.equals(ints, that.ints);
+        }
+        return super.equals(obj);
+    }
+
+    /// 박싱된 값 배열의 해시코드와 같은 [Arrays#hashCode(int[])]를 반환한다.
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = Arrays.hashCode(ints);
+            hash = h;
+        }
+        return h;
+    }
+}
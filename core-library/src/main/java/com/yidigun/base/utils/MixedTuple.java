@@ -0,0 +1,254 @@
+package com.yidigun.base.utils;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.Objects;
+
+/// 기본 타입 값과 참조 타입 값을 함께 저장하는 [Tuple].
+///
+/// `int`, `long`, `double` 값은 박싱 없이 `long` 배열에 저장하고, 그 외의 값은 참조 배열에 저장한다.
+/// 각 위치에 어떤 종류의 값이 저장되었는지는 타입 기술자(descriptor) 배열로 관리한다.
+/// `(long, String)`처럼 숫자와 문자열이 섞인 복합 키를 박싱 없이 표현할 때 사용한다.
+///
+/// ```java
+/// MixedTuple key = MixedTuple.builder()
+///         .add(memberNo)      // long
+///         .add(regionCode)    // String
+///         .build();
+/// long no = key.getLong(0);
+///
+/// // 박싱된 값은 기본 타입으로 저장된다
+/// assert MixedTuple.of(1L, "A").equals(key);
+/// ```
+///
+/// [Integer], [Long], [Double] 값은 [#of(Object...)]나 [Builder#add(Object)]로 추가해도 기본 타입으로 저장되므로,
+/// 같은 값을 가진 [MixedTuple]은 생성 방법과 무관하게 같은 레이아웃을 가진다.
+///
+/// @see Tuple
+public final class MixedTuple extends Tuple {
+
+    @Serial
+    private static final long serialVersionUID = 7710493827730135513L;
+
+    /// 타입 기술자: 참조 값
+    private static final byte REFERENCE = 0;
+    /// 타입 기술자: `int` 값
+    private static final byte INT = 1;
+    /// 타입 기술자: `long` 값
+    private static final byte LONG = 2;
+    /// 타입 기술자: `double` 값 ([Double#doubleToLongBits(double)]로 저장)
+    private static final byte DOUBLE = 3;
+
+    /// 위치별 타입 기술자
+    private final byte[] kinds;
+
+    /// 기본 타입 값 배열. 참조 값 위치는 `0`
+    private final long[] primitives;
+
+    /// 참조 값 배열. 기본 타입 값 위치는 `null`
+    private final Object[] references;
+
+    /// 캐시된 해시코드, `0`이면 아직 계산되지 않음
+    private transient int hash;
+
+    private MixedTuple(byte[] kinds, long[] primitives, Object[] references) {
+        super();
+        this.kinds = kinds;
+        this.primitives = primitives;
+        this.references = references;
+    }
+
+    /// 여러 개의 값을 묶어서 튜플을 생성한다.
+    /// [Integer], [Long], [Double] 값은 기본 타입으로 저장된다.
+    /// @param values 묶을 값들
+    /// @return MixedTuple 객체
+    public static MixedTuple of(Object... values) {
+        Builder builder = new Builder(values.length);
+        for (Object value : values) {
+            builder.add(value);
+        }
+        return builder.build();
+    }
+
+    /// 빌더를 생성한다.
+    /// @return 빌더
+    public static Builder builder() {
+        return new Builder(4);
+    }
+
+    /// 지정된 위치의 값 타입을 반환한다.
+    /// @param index 인덱스 (0부터 시작)
+    /// @return 기본 타입 값인 경우 `int.class`, `long.class`, `double.class`, 참조 값인 경우 `Object.class`
+    public Class<?> typeAt(int index) {
+        checkIndex(index);
+        return switch (kinds[index]) {
+            case INT -> int.class;
+            case LONG -> long.class;
+            case DOUBLE -> double.class;
+            default -> Object.class;
+        };
+    }
+
+    @Override
+    public Object get(int index) {
+        checkIndex(index);
+        return switch (kinds[index]) {
+            case INT -> (int) primitives[index];
+            case LONG -> primitives[index];
+            case DOUBLE -> Double.longBitsToDouble(primitives[index]);
+            default -> references[index];
+        };
+    }
+
+    @Override
+    public int getInt(int index) {
+        checkIndex(index);
+        return (kinds[index] == INT)? (int) primitives[index]: super.getInt(index);
+    }
+
+    @Override
+    public long getLong(int index) {
+        checkIndex(index);
+        byte kind = kinds[index];
+        return (kind == INT || kind == LONG)? primitives[index]: super.getLong(index);
+    }
+
+    @Override
+    public double getDouble(int index) {
+        checkIndex(index);
+        return switch (kinds[index]) {
+            case INT, LONG -> primitives[index];
+            case DOUBLE -> Double.longBitsToDouble(primitives[index]);
+            default -> super.getDouble(index);
+        };
+    }
+
+    @Override
+    public int size() {
+        return kinds.length;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[kinds.length];
+        for (int i = 0; i < kinds.length; i++) {
+            array[i] = get(i);
+        }
+        return array;
+    }
+
+    /// 현재 튜플의 일부를 잘라내어 새로운 튜플을 반환한다.
+    /// 지정한 인덱스 범위가 전체 범위일 경우 현재 튜플을 그대로 반환한다.
+    /// @param startIndex 잘라낼 시작 인덱스 (0부터 시작)
+    /// @param endIndex 잘라낼 끝 인덱스 (exclusive, 즉 endIndex는 포함되지 않음)
+    /// @return 새로운 MixedTuple 객체
+    @Override
+    public MixedTuple subTuple(int startIndex, int endIndex) {
+        if (startIndex == 0 && endIndex == kinds.length) {
+            return this;
+        }
+        checkRange(startIndex, endIndex);
+        return new MixedTuple(Arrays.copyOfRange(kinds, startIndex, endIndex),
+                Arrays.copyOfRange(primitives, startIndex, endIndex),
+                Arrays.copyOfRange(references, startIndex, endIndex));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj instanceof MixedTuple that) {
+            return Arrays.equals(kinds, that.kinds) &&
+                    Arrays.equals(primitives, that.primitives) &&
+                    Arrays.equals(references, that.references);
+        }
+        return super.equals(obj);
+    }
+
+    /// 박싱된 값 배열의 [Arrays#hashCode(Object[])]와 같은 값을 박싱 없이 계산한다.
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = 1;
+            for (int i = 0; i < kinds.length; i++) {
+                long p = primitives[i];
+                int element = switch (kinds[i]) {
+                    case INT -> (int) p;
+                    case LONG, DOUBLE -> (int) (p ^ (p >>> 32)); // Long.hashCode, Double.hashCode
+                    default -> Objects.hashCode(references[i]);
+                };
+                h = 31 * h + element;
+            }
+            hash = h;
+        }
+        return h;
+    }
+
+    /// [MixedTuple] 빌더
+    public static final class Builder {
+
+        private byte[] kinds;
+        private long[] primitives;
+        private Object[] references;
+        private int size;
+
+        private Builder(int capacity) {
+            this.kinds = new byte[capacity];
+            this.primitives = new long[capacity];
+            this.references = new Object[capacity];
+        }
+
+        /// `int` 값을 추가한다.
+        /// @param value 값
+        /// @return 빌더
+        public Builder add(int value) {
+            return put(INT, value, null);
+        }
+
+        /// `long` 값을 추가한다.
+        /// @param value 값
+        /// @return 빌더
+        public Builder add(long value) {
+            return put(LONG, value, null);
+        }
+
+        /// `double` 값을 추가한다.
+        /// @param value 값
+        /// @return 빌더
+        public Builder add(double value) {
+            return put(DOUBLE, Double.doubleToLongBits(value), null);
+        }
+
+        /// 값을 추가한다. [Integer], [Long], [Double] 값은 기본 타입으로 저장된다.
+        /// @param value 값
+        /// @return 빌더
+        public Builder add(Object value) {
+            if (value instanceof Integer i) return add(i.intValue());
+            else if (value instanceof Long l) return add(l.longValue());
+            else if (value instanceof Double d) return add(d.doubleValue());
+            else return put(REFERENCE, 0L, value);
+        }
+
+        private Builder put(byte kind, long primitive, Object reference) {
+            if (size == kinds.length) {
+                int capacity = Math.max(size * 2, 4);
+                kinds = Arrays.copyOf(kinds, capacity);
+                primitives = Arrays.copyOf(primitives, capacity);
+                references = Arrays.copyOf(references, capacity);
+            }
+            kinds[size] = kind;
+            primitives[size] = primitive;
+            references[size] = reference;
+            size++;
+            return this;
+        }
+
+        /// 튜플을 생성한다. 빌더는 계속 사용할 수 있다.
+        /// @return MixedTuple 객체
+        public MixedTuple build() {
+            return new MixedTuple(Arrays.copyOf(kinds, size),
+                    Arrays.copyOf(primitives, size),
+                    Arrays.copyOf(references, size));
+        }
+    }
+}
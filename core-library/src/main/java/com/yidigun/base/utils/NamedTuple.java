@@ -1,8 +1,7 @@
 package com.yidigun.base.utils;
 
-import java.io.Serial;
+import java.io.*;
 import java.util.*;
-import java.util.regex.Pattern;
 
 /// 이름(키)를 지정 가능한 [Tuple] 클래스.
 /// 이 클래스는 [Tuple]과 마찬가지로 여러 값을 묶어서 반환하거나 전달할 때 [Map]보다 가볍게 사용할 수 있다.
@@ -28,26 +27,66 @@ import java.util.regex.Pattern;
 ///
 /// 만약 이름 목록에 중복이 있는 경우, 이름으로 조회할때는 앞에 있는 값이 조회되며, 뒤쪽의 값들은 index로만 접근 가능하다.
 ///
+/// 이름 목록은 공유되는 [TupleSchema]로 관리되므로, 같은 이름 목록을 가진 튜플들은 이름 배열을 복사하지 않는다.
+/// 같은 헤더를 가진 많은 행을 만드는 경우에는 스키마를 먼저 만들어 [#of(TupleSchema, Object...)]를 사용한다.
+///
+/// ```java
+/// TupleSchema schema = TupleSchema.of("name", "age");
+/// List<NamedTuple> rows = people.stream()
+///         .map(p -> NamedTuple.of(schema, p.name(), p.age()))
+///         .toList();
+/// ```
+///
 /// @see Tuple
+/// @see TupleSchema
 public class NamedTuple extends Tuple {
 
     @Serial
     private static final long serialVersionUID = 5589351559217078374L;
 
-    /// `index[n]` 형식의 이름을 찾기 위한 정규 표현식
-    private static final Pattern INDEX_NAME_PATTERN = Pattern.compile("index\\[(\\d+)\\]");
+    /// 직렬화 형식. 이전 버전과의 호환을 위해 스키마 대신 이름 배열을 저장한다.
+    @Serial
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("names", String[].class)
+    };
+
+    /// `index[n]` 형식 이름의 접두어
+    private static final String INDEX_NAME_PREFIX = "index[";
 
-    /// 이름 배열
-    private final String[] names;
+    /// 미리 만들어 두는 `index[n]` 형식 이름의 개수
+    private static final int CACHED_INDEX_NAMES = 256;
+
+    /// `index[n]` 형식 이름 테이블
+    private static final String[] INDEX_NAMES = new String[CACHED_INDEX_NAMES];
+    static {
+        for (int i = 0; i < CACHED_INDEX_NAMES; i++) {
+            INDEX_NAMES[i] = INDEX_NAME_PREFIX + i + "]";
+        }
+    }
+
+    /// 이름 스키마. 역직렬화시에 다시 설정되므로 `final`이 아니다.
+    private transient TupleSchema schema;
 
     /// 생성자
     protected NamedTuple(String[] names, Object... values) {
-        super(values);
-        // names 가 values 보다 더 짧은 경우는 허용됨
-        // names 가 values 보다 더 긴 경우는 values 까지만 사용하고 나머지는 버림
-        this.names = (names.length > values.length)?
-                            Arrays.copyOf(names, values.length):
-                            Arrays.copyOf(names, names.length);
+        this(TupleSchema.of(names), values, true);
+    }
+
+    /// 스키마를 지정하는 생성자.
+    /// `copy`가 `false`이면 값 배열을 그대로 사용하므로, 호출자는 이후에 배열을 변경하지 않아야 한다.
+    NamedTuple(TupleSchema schema, Object[] values, boolean copy) {
+        super(values, copy);
+        // 이름이 값보다 더 적은 경우는 허용됨
+        // 이름이 값보다 더 많은 경우는 값의 갯수까지만 사용하고 나머지는 버림
+        this.schema = schema.truncate(values.length);
+    }
+
+    /// 값을 별도로 저장하는 하위 클래스(예: [TupleBatch]의 행 뷰)를 위한 생성자.
+    /// 하위 클래스는 [#get(int)], [#size()], [#toArray()]를 재정의해야 한다.
+    /// @param schema 이름 스키마
+    protected NamedTuple(TupleSchema schema) {
+        super();
+        this.schema = schema;
     }
 
     /// 이름과 값 배열을 이용해서 생성
@@ -58,13 +97,21 @@ public class NamedTuple extends Tuple {
         return new NamedTuple(names, values);
     }
 
+    /// 스키마와 값 배열을 이용해서 생성
+    /// @param schema 이름 스키마
+    /// @param values 값 배열
+    /// @return NamedTuple 객체
+    public static NamedTuple of(TupleSchema schema, Object... values) {
+        return new NamedTuple(schema, values, true);
+    }
+
     /// 이름 목록과 구분자, 값 배열을 이용하여 생성
     /// @param names 이름 목록 문자열
     /// @param delimiter 이름 목록을 구분하는 문자열
     /// @param values 값 배열
     /// @return NamedTuple 객체
     public static NamedTuple of(String names, String delimiter, Object... values) {
-        return new NamedTuple(splitNames(names, delimiter), values);
+        return new NamedTuple(TupleSchema.parse(names, delimiter), values, true);
     }
 
     /// [Tuple] 객체에 이름 목록을 지정하여 생성
@@ -72,7 +119,7 @@ public class NamedTuple extends Tuple {
     /// @param names 이름 배열
     /// @return NamedTuple 객체
     public static NamedTuple of(Tuple tuple, String... names) {
-        return new NamedTuple(names, tuple.values);
+        return new NamedTuple(TupleSchema.of(names), tuple.sharedValues(), false);
     }
 
     /// [Tuple] 객체에 이름 목록과 구분자를 지정하여 생성
@@ -80,21 +127,12 @@ public class NamedTuple extends Tuple {
     /// @param names 이름 목록 문자열
     /// @param delimiter 이름 목록을 구분하는 문자열
     public static NamedTuple of(Tuple tuple, String names, String delimiter) {
-        return new NamedTuple(splitNames(names, delimiter), tuple.values);
+        return new NamedTuple(TupleSchema.parse(names, delimiter), tuple.sharedValues(), false);
     }
 
-    /// 이름 목록을 구분자로 분할
-    /// @param names 이름 목록 문자열
-    /// @param delimiter 이름 목록을 구분하는 문자열
-    /// @return 분할된 이름 배열
-    private static String[] splitNames(String names, String delimiter) {
-        if (StringUtils.isEmpty(names))
-            return new String[0];
-        else if (StringUtils.isEmpty(delimiter))
-            return new String[] { names };
-        else
-            return StringUtils.compileDelimiterPattern(delimiter).split(names);
-    }
+    /// 이름 스키마
+    /// @return 이 튜플의 이름 스키마
+    public TupleSchema schema() { return schema; }
 
     /// 현재 튜플 뒤에 새로운 값을 추가하여 새로운 튜플을 반환한다.
     /// 이 메소드는 현재 튜플을 변경하지 않고, 새로운 튜플을 반환한다.
@@ -109,9 +147,7 @@ public class NamedTuple extends Tuple {
         if (values == null || values.length == 0) {
             return this; // 추가할 값이 없으면 현재 튜플을 그대로 반환
         }
-        Object[] newValues = Arrays.copyOf(this.values, this.values.length + values.length);
-        System.arraycopy(values, 0, newValues, this.values.length, values.length);
-        return new NamedTuple(names, newValues);
+        return named(schema, concat(this, values));
     }
 
     /// 현재 튜플 뒤에 다른 튜플의 값을 추가하여 새로운 튜플을 반환한다.
@@ -131,7 +167,7 @@ public class NamedTuple extends Tuple {
         if (tuple instanceof NamedTuple namedTuple) {
             return append(namedTuple);
         }
-        return append(tuple.values);
+        return named(schema, concat(this, tuple));
     }
 
     /// 현재 튜플 뒤에 다른 [NamedTuple]의 값을 추가하여 새로운 튜플을 반환한다.
@@ -148,11 +184,7 @@ public class NamedTuple extends Tuple {
         if (tuple == null || tuple.isEmpty()) {
             return this;
         }
-        String[] newNames = Arrays.copyOf(this.names, this.values.length + tuple.names.length);
-        System.arraycopy(tuple.names, 0, newNames, this.values.length, tuple.names.length);
-        Object[] newValues = Arrays.copyOf(this.values, this.values.length + tuple.values.length);
-        System.arraycopy(tuple.values, 0, newValues, this.values.length, tuple.values.length);
-        return new NamedTuple(newNames, newValues);
+        return named(schema.append(size(), tuple.schema), concat(this, tuple));
     }
 
     /// 현재 튜플의 일부를 잘라내어 새로운 튜플을 반환한다.
@@ -162,45 +194,73 @@ public class NamedTuple extends Tuple {
     /// @return 새로운 Tuple 객체
     @Override
     public NamedTuple subTuple(int startIndex, int endIndex) {
-        if (startIndex == 0 && endIndex == values.length) {
+        if (startIndex == 0 && endIndex == size()) {
             return this; // 전체 튜플을 반환
         }
-        Tuple subTuple = super.subTuple(startIndex, endIndex);
-        String[] subNames;
-        if (endIndex > names.length) {
-            endIndex = names.length; // prevent ArrayIndexOutOfBoundsException
+        checkRange(startIndex, endIndex);
+        return named(schema.subSchema(startIndex, endIndex), slice(startIndex, endIndex));
+    }
+
+    /// 이름 없는 튜플에 스키마를 붙인다. 값 배열을 가진 튜플은 배열을 그대로 사용하고, 뷰 튜플은 [NamedTupleView]로 감싼다.
+    /// @param schema 이름 스키마
+    /// @param tuple [#slice(int, int)] 또는 [#concat(Tuple, Tuple)]가 반환한 이름 없는 튜플
+    /// @return NamedTuple 객체
+    static NamedTuple named(TupleSchema schema, Tuple tuple) {
+        if (tuple.values.length > 0 || tuple.isEmpty()) {
+            return new NamedTuple(schema, tuple.values, false);
         }
-        subNames = (startIndex > names.length)? new String[0]: Arrays.copyOfRange(names, startIndex, endIndex);
-        return new NamedTuple(subNames, subTuple.values);
+        return new NamedTupleView(schema, tuple);
     }
 
     /// 이름에 해당하는 index를 찾는다.
     /// 이름이 지정되지 않은 값을 위해 `index[n]` 형식의 이름을 지원한다.
     private int indexOf(String name) {
-        if (StringUtils.isEmpty(name)) {
-            return -1; // 이름이 없으면 -1 반환
+        int index = schema.indexOf(name);
+        if (index >= 0 || name == null || !name.startsWith(INDEX_NAME_PREFIX)) {
+            return index;
         }
-        for (int i = 0; i < names.length; i++) {
-            if (names[i].equals(name)) {
-                return i;
-            }
-        }
-        if (!name.startsWith("index[")) {
+        return parseIndexName(name, size());
+    }
+
+    /// `index[n]` 형식의 이름을 해석한다.
+    /// @param name 이름
+    /// @param size 튜플 크기
+    /// @return `0 <= n < size`인 경우 `n`, 그 외에는 `-1`
+    static int parseIndexName(String name, int size) {
+        int end = name.length() - 1;
+        int start = INDEX_NAME_PREFIX.length();
+        if (end <= start || name.charAt(end) != ']' || end - start > 9) {
             return -1;
         }
-        return INDEX_NAME_PATTERN.matcher(name).results()
-                .findFirst()
-                .map(m -> {
-                    int index = Integer.parseInt(m.group(1));
-                    return (index >= 0 && index < names.length)? index: -1;
-                })
-                .orElse(-1);
+        int index = 0;
+        for (int i = start; i < end; i++) {
+            char c = name.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return (index < size)? index: -1;
     }
 
     /// 이름 또는 `index`로 문자열 이름(key)을 만든다.
     /// 이름이 지정되지 않을 경우 `index[n]` 형식을 반환한다.
     private String nameOrIndex(String name, int index) {
-        return (StringUtils.isEmpty(name))? "index[" + index + "]": name;
+        return (StringUtils.isEmpty(name))? indexName(index): name;
+    }
+
+    /// `index[n]` 형식의 이름을 반환한다. 작은 `n`은 미리 만들어 둔 문자열을 반환한다.
+    /// @param index 위치
+    /// @return `index[n]` 형식의 문자열
+    static String indexName(int index) {
+        return (index < CACHED_INDEX_NAMES)? INDEX_NAMES[index]: INDEX_NAME_PREFIX + index + "]";
+    }
+
+    /// 지정된 위치의 이름을 반환한다. 이름이 지정되지 않은 경우 `index[n]` 형식을 반환한다.
+    /// @param index 위치
+    /// @return 이름 또는 `index[n]` 형식의 문자열
+    String nameAt(int index) {
+        return nameOrIndex(schema.name(index), index);
     }
 
     /// 지정된 이름에 해당하는 값을 반환한다.
@@ -257,32 +317,42 @@ public class NamedTuple extends Tuple {
         return (type.isInstance(value))? Optional.of(type.cast(value)): Optional.empty();
     }
 
-    /// [Map] 형태로 변환한다.
+    /// 읽기 전용 [Map] 뷰를 반환한다.
     /// 이름이 지정된 값들은 이름을 키로 사용하고, 이름이 지정되지 않은 값들은 `index[n]` 형식의 키를 사용한다.
-    /// @return 변환된 [Map] 객체
+    /// 이름이 중복된 경우 [#get(String)]과 마찬가지로 앞쪽의 값만 맵에 포함된다.
+    /// 이름이 지정되지 않은 값의 `index[n]` 키와 같은 이름의 값이 있으면, 마찬가지로 이름이 지정된 값만 맵에 포함된다.
+    ///
+    /// 반환된 맵은 값을 복사하지 않고 튜플을 참조하며, 키 조회는 [TupleSchema]의 조회 테이블을 사용한다.
+    /// 순회 순서는 튜플의 위치 순서이다. 행 뷰([TupleBatch.Cursor] 등)의 맵은 커서가 이동하면 값이 바뀐다.
+    /// @return 읽기 전용 [Map] 뷰
     public Map<String, Object> toMap() {
-        Map<String, Object> map = new HashMap<>();
-        int i = 0;
-        for (; i < names.length; i++) {
-            map.put(nameOrIndex(names[i], i), values[i]);
+        return new NamedTupleMap(this);
+    }
+
+    /// 맵 뷰에서 키에 해당하는 위치를 찾는다. 중복된 이름의 뒤쪽 위치와 이름이 있는 위치의 `index[n]`은 키가 아니다.
+    /// @param key 키
+    /// @return 위치, 키가 아니면 `-1`
+    int mapIndexOf(Object key) {
+        if (!(key instanceof String name)) {
+            return -1;
+        }
+        int index = schema.indexOf(name);
+        if (index >= 0) {
+            return (index < size())? index: -1;
         }
-        for (; i < values.length; i++) {
-            map.put(nameOrIndex(null, i), values[i]);
+        if (!name.startsWith(INDEX_NAME_PREFIX)) {
+            return -1;
         }
-        return Collections.unmodifiableMap(map);
+        index = parseIndexName(name, size());
+        return (index >= 0 && schema.name(index) == null)? index: -1;
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("NamedTuple{");
-        int i = 0;
-        for (; i < names.length; i++) {
-            if (i > 0) sb.append(", ");
-            sb.append(nameOrIndex(names[i], i)).append("=").append(values[i]);
-        }
-        for (; i < values.length; i++) {
+        for (int i = 0, size = size(); i < size; i++) {
             if (i > 0) sb.append(", ");
-            sb.append(nameOrIndex(null, i)).append("=").append(values[i]);
+            sb.append(nameOrIndex(schema.name(i), i)).append("=").append(get(i));
         }
         sb.append('}');
         return sb.toString();
@@ -292,13 +362,27 @@ public class NamedTuple extends Tuple {
     public boolean equals(Object obj) {
         if (this == obj) return true;
         if (!(obj instanceof NamedTuple that)) return false;
-        return Arrays.equals(this.names, that.names) && super.equals(that);
+        return this.schema.equals(that.schema) && super.equals(that);
     }
 
     @Override
     public int hashCode() {
-        int result = Arrays.hashCode(names);
+        int result = schema.hashCode();
         result = 31 * result + super.hashCode();
         return result;
     }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("names", schema.names().toArray(String[]::new));
+        out.writeFields();
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        String[] names = (String[]) fields.get("names", null);
+        schema = (names == null)? TupleSchema.EMPTY: TupleSchema.of(names).truncate(values.length);
+    }
 }
@@ -0,0 +1,122 @@
+package com.yidigun.base.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/// [NamedTuple#toMap()]이 반환하는 읽기 전용 [Map] 뷰.
+/// 값을 복사하지 않고 튜플을 참조하며, 키 목록은 [TupleSchema#mapKeys()]에 캐시된 배열을 사용한다.
+///
+/// 직렬화할 때는 값을 복사한 변경 불가능한 [LinkedHashMap]으로 저장된다.
+final class NamedTupleMap extends AbstractMap<String, Object> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 3172853016457315240L;
+
+    /// 튜플
+    private final NamedTuple tuple;
+
+    NamedTupleMap(NamedTuple tuple) {
+        this.tuple = tuple;
+    }
+
+    /// 위치에 해당하는 키를 반환한다.
+    /// @return 키, 키로 사용할 수 없는 위치는 `null`
+    private String keyAt(String[] keys, int index) {
+        return (index < keys.length)? keys[index]: tuple.schema().indexKey(index);
+    }
+
+    @Override
+    public int size() {
+        TupleSchema schema = tuple.schema();
+        int size = schema.mapKeyCount();
+        // 스키마보다 많은 값은 `index[n]` 키를 사용한다.
+        for (int i = schema.size(), n = tuple.size(); i < n; i++) {
+            if (schema.indexKey(i) != null) size++;
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return tuple.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return tuple.mapIndexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = tuple.mapIndexOf(key);
+        return (index >= 0)? tuple.get(index): null;
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        int index = tuple.mapIndexOf(key);
+        return (index >= 0)? tuple.get(index): defaultValue;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        String[] keys = tuple.schema().mapKeys();
+        for (int i = 0, size = tuple.size(); i < size; i++) {
+            String key = keyAt(keys, i);
+            if (key != null) {
+                action.accept(key, tuple.get(i));
+            }
+        }
+    }
+
+    @Override
+    public @NotNull Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return NamedTupleMap.this.size();
+            }
+
+            @Override
+            public @NotNull Iterator<Entry<String, Object>> iterator() {
+                String[] keys = tuple.schema().mapKeys();
+                int size = tuple.size();
+                return new Iterator<>() {
+                    private int next = advance(0);
+
+                    private int advance(int index) {
+                        while (index < size && keyAt(keys, index) == null) {
+                            index++;
+                        }
+                        return index;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < size;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (next >= size) {
+                            throw new NoSuchElementException();
+                        }
+                        int index = next;
+                        next = advance(index + 1);
+                        return new SimpleImmutableEntry<>(keyAt(keys, index), tuple.get(index));
+                    }
+                };
+            }
+        };
+    }
+
+    /// 값을 복사한 변경 불가능한 맵으로 직렬화한다.
+    @Serial
+    private Object writeReplace() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(this));
+    }
+}
@@ -0,0 +1,65 @@
+package com.yidigun.base.utils;
+
+import java.io.Serial;
+
+/// 이름 없는 튜플([TupleView], [ConcatTuple])에 이름 스키마를 붙인 [NamedTuple].
+/// [NamedTuple#subTuple(int, int)]와 [NamedTuple#append(NamedTuple)]가 값을 복사하지 않고 반환할 때 사용한다.
+///
+/// 직렬화할 때는 값을 복사한 [NamedTuple]로 저장된다.
+final class NamedTupleView extends NamedTuple {
+
+    @Serial
+    private static final long serialVersionUID = -4424983917165342251L;
+
+    /// 값을 가진 튜플
+    private final Tuple tuple;
+
+    /// 생성자
+    /// @param schema 이름 스키마. 값 개수에 맞게 잘린다.
+    /// @param tuple 값이 변경되지 않는 이름 없는 튜플
+    NamedTupleView(TupleSchema schema, Tuple tuple) {
+        super(schema.truncate(tuple.size()));
+        this.tuple = tuple;
+    }
+
+    @Override
+    public Object get(int index) {
+        return tuple.get(index);
+    }
+
+    @Override
+    public int size() {
+        return tuple.size();
+    }
+
+    @Override
+    public Object[] toArray() {
+        return tuple.toArray();
+    }
+
+    @Override
+    Object[] sharedValues() {
+        return tuple.sharedValues();
+    }
+
+    @Override
+    Tuple slice(int startIndex, int endIndex) {
+        return tuple.slice(startIndex, endIndex);
+    }
+
+    @Override
+    Tuple frozen() {
+        return tuple;
+    }
+
+    @Override
+    void copyTo(Object[] dest, int position) {
+        tuple.copyTo(dest, position);
+    }
+
+    /// 값을 복사한 [NamedTuple]로 직렬화한다.
+    @Serial
+    private Object writeReplace() {
+        return new NamedTuple(schema(), toArray(), false);
+    }
+}
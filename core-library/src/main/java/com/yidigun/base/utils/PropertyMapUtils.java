@@ -189,6 +189,26 @@ final class PropertyMapUtils {
         );
     }
 
+    /// 클래스와 상위 클래스에 선언된 인스턴스 필드를 선언 순서대로(상위 클래스의 필드가 먼저) 반환한다.
+    /// 프로퍼티 목록에 순서가 필요한 경우(SQL 컬럼, CSV 헤더 등)에 사용한다.
+    /// @param clazz 검색할 클래스
+    /// @return 인스턴스 필드 목록
+    public static List<Field> getDeclaredInstanceFields(Class<?> clazz) {
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+            hierarchy.add(0, c);
+        }
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> c : hierarchy) {
+            for (Field field : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
     /// 자기 자신을 제외한 모든 상위 클래스와 인터페이스를 재귀적으로 찾는다.
     /// @param clazz 검색할 클래스
     /// @return 클래스와 그 상위 클래스, 인터페이스를 포함하는 [Set] 객체
@@ -0,0 +1,243 @@
+package com.yidigun.base.utils;
+
+import com.yidigun.base.ApiError;
+import com.yidigun.base.AsyncResult;
+import com.yidigun.base.ErrorCode;
+import com.yidigun.base.Result;
+import org.jetbrains.annotations.NotNull;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/// [ErrorCode] 분류에 따른 재시도와 회로 차단.
+///
+/// ```java
+/// AsyncResult<Member> member = Resilience.retrying(RetryPolicy.of(3))
+///         .call(() -> memberDao.find(memberNo));
+/// ```
+///
+/// 첫 시도는 호출한 스레드에서 실행한다. 재시도할 수 있는 오류([RetryPolicy#retryOn()], 기본값은 [#isTransient(ErrorCode)])로
+/// 실패하면, 공유 스케줄러에 대기 시간 후의 다음 시도를 예약하고 바로 반환한다. 예약된 시도는 [RetryPolicy#executor()]에서 실행되므로
+/// 대기하는 동안 스레드를 점유하지 않는다. 마지막 시도의 결과(성공 또는 실패)가 [AsyncResult]의 결과가 된다.
+/// 작업, 재시도 조건, 회로 차단기에서 예외가 발생해도 [AsyncResult]는 실패로 완료된다.
+///
+/// [RetryPolicy#circuitBreaker()]가 지정되어 있으면 회로가 열려 있는 동안 시도하지 않고 [CircuitBreaker#CIRCUIT_OPEN]으로 실패한다.
+public final class Resilience {
+
+    private Resilience() {}
+
+    /// 공유 스케줄러 홀더 (처음 사용할 때 초기화한다)
+    private static final class Scheduler {
+        static final ScheduledExecutorService INSTANCE = create();
+
+        private static ScheduledExecutorService create() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread thread = new Thread(r, "resilience-scheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+
+    /// 재시도 대기에 사용하는 공유 스케줄러. 대기 시간을 재는 데만 사용하며 작업은 실행하지 않는다.
+    /// @return 공유 스케줄러
+    static ScheduledExecutorService scheduler() {
+        return Scheduler.INSTANCE;
+    }
+
+    /// 기본 재시도 실행기 홀더 (처음 사용할 때 초기화한다)
+    private static final class DefaultExecutor {
+        static final Executor INSTANCE = create();
+
+        private static Executor create() {
+            Executor executor = AsyncResult.defaultExecutor();
+            if (executor != ForkJoinPool.commonPool()) {
+                return executor;
+            }
+            // JDBC 호출 등 블로킹 작업을 공용 풀에서 재시도하지 않도록 별도의 데몬 스레드 풀을 사용한다.
+            AtomicInteger count = new AtomicInteger();
+            return Executors.newCachedThreadPool(r -> {
+                Thread thread = new Thread(r, "resilience-retry-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /// 재시도를 실행할 기본 실행기.
+    /// 가상 스레드를 사용할 수 있으면 [AsyncResult#defaultExecutor()]를, 그렇지 않으면 [ForkJoinPool#commonPool()] 대신
+    /// 블로킹 작업에 맞는 별도의 데몬 스레드 풀을 사용한다.
+    /// @return 기본 실행기
+    public static Executor defaultExecutor() {
+        return DefaultExecutor.INSTANCE;
+    }
+
+    /// 재시도 실행기를 반환한다.
+    /// @param policy 재시도 정책
+    /// @return 재시도 실행기
+    public static Retrying retrying(@NotNull RetryPolicy policy) {
+        return new Retrying(Objects.requireNonNull(policy));
+    }
+
+    /// 일시적인 오류인지 확인한다. 다음의 경우 `true`를 반환한다.
+    ///
+    /// - [SQLStateClass]의 timeout, [SQLStateClass#CONNECTION_EXCEPTION], [SQLStateClass#TRANSACTION_ROLLBACK]
+    /// - [HttpStatus#TOO_MANY_REQUESTS], [HttpStatus#BAD_GATEWAY], [HttpStatus#SERVICE_UNAVAILABLE], [HttpStatus#GATEWAY_TIMEOUT]
+    /// - 원인 예외가 [SQLTransientException], [SQLRecoverableException], [TimeoutException], [SocketTimeoutException],
+    ///   [ConnectException]인 경우
+    ///
+    /// @param errorCode 오류 코드 또는 [ApiError]
+    /// @return 일시적인 오류이면 `true`
+    public static boolean isTransient(@NotNull ErrorCode errorCode) {
+        Object errorClass = errorClass(errorCode);
+        if (errorClass instanceof SQLStateClass state) {
+            return state.timeout() ||
+                    state == SQLStateClass.CONNECTION_EXCEPTION ||
+                    state == SQLStateClass.TRANSACTION_ROLLBACK;
+        }
+        else if (errorClass instanceof HttpStatus status) {
+            return status == HttpStatus.TOO_MANY_REQUESTS ||
+                    status == HttpStatus.BAD_GATEWAY ||
+                    status == HttpStatus.SERVICE_UNAVAILABLE ||
+                    status == HttpStatus.GATEWAY_TIMEOUT;
+        }
+        else if (errorClass instanceof Class<?> type) {
+            return SQLTransientException.class.isAssignableFrom(type) ||
+                    SQLRecoverableException.class.isAssignableFrom(type) ||
+                    TimeoutException.class.isAssignableFrom(type) ||
+                    SocketTimeoutException.class.isAssignableFrom(type) ||
+                    ConnectException.class.isAssignableFrom(type);
+        }
+        return false;
+    }
+
+    /// 오류의 분류를 반환한다. [CircuitBreaker]는 이 분류별로 회로를 관리한다.
+    ///
+    /// - [ApiError]이면 [ApiError#errorCode()]와 원인 예외로 판단한다. [SQLExceptionTranslator#translate(SQLException)]로
+    ///   DBMS별 오류 코드까지 고려하여 변환한 오류는 오류 코드가 [SQLStateClass]이므로 그 분류를 그대로 사용한다.
+    /// - [SQLStateClass]와 [HttpStatus]는 상수 자체가 분류이다.
+    /// - 원인 예외가 [SQLException]이면 [SQLStateClass#of(SQLException)], 알 수 없는 상태이면 예외 클래스가 분류이다.
+    /// - 그 밖의 원인 예외는 예외 클래스, 원인 예외가 없으면 [ErrorCode#code()]가 분류이다.
+    ///
+    /// @param errorCode 오류 코드 또는 [ApiError]
+    /// @return 오류 분류
+    public static Object errorClass(@NotNull ErrorCode errorCode) {
+        Throwable cause = null;
+        if (errorCode instanceof ApiError error) {
+            cause = error.getCause();
+            errorCode = error.errorCode();
+        }
+        if (errorCode instanceof SQLStateClass || errorCode instanceof HttpStatus) {
+            return errorCode;
+        }
+        if (cause == null && errorCode instanceof Throwable throwable) {
+            cause = throwable;
+        }
+        if (cause instanceof SQLException e && e.getSQLState() != null) {
+            SQLStateClass state = SQLStateClass.of(e);
+            if (state != SQLStateClass.UNKNOWN) {
+                return state;
+            }
+        }
+        return (cause != null)? cause.getClass(): errorCode.code();
+    }
+
+    /// 재시도 실행기
+    public static final class Retrying {
+
+        private final RetryPolicy policy;
+
+        private Retrying(RetryPolicy policy) {
+            this.policy = policy;
+        }
+
+        /// 재시도 정책
+        /// @return 재시도 정책
+        public RetryPolicy policy() {
+            return policy;
+        }
+
+        /// 작업을 실행하고, 재시도할 수 있는 오류로 실패하면 정책에 따라 재시도한다.
+        /// 작업이 던진 예외는 [Result#failure(Throwable)]로 변환한다.
+        /// @param task 결과를 반환하는 작업
+        /// @return 마지막 시도의 결과
+        /// @param <T> 결과값의 타입
+        public <T> AsyncResult<T> call(@NotNull Supplier<Result<T>> task) {
+            CompletableFuture<Result<T>> future = new CompletableFuture<>();
+            attempt(task, 1, future);
+            return AsyncResult.of(future);
+        }
+
+        /// 한번 시도한다. 예약된 시도에서 던진 예외는 실행기가 무시하므로,
+        /// 어떤 예외가 발생해도 결과를 완료하여 [AsyncResult#join()]이 끝나지 않는 일이 없도록 한다.
+        private <T> void attempt(Supplier<Result<T>> task, int attempt, CompletableFuture<Result<T>> future) {
+            try {
+                tryAttempt(task, attempt, future);
+            }
+            catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        private <T> void tryAttempt(Supplier<Result<T>> task, int attempt, CompletableFuture<Result<T>> future) {
+            CircuitBreaker breaker = policy.circuitBreaker();
+            if (breaker != null && !breaker.tryAcquire()) {
+                future.complete(Result.failure(CircuitBreaker.CIRCUIT_OPEN));
+                return;
+            }
+
+            Result<T> result;
+            try {
+                result = Objects.requireNonNull(task.get(), "null result");
+            }
+            catch (RuntimeException e) {
+                result = Result.failure(e);
+            }
+            if (result.success()) {
+                if (breaker != null) breaker.onSuccess();
+                future.complete(result);
+                return;
+            }
+
+            ApiError error = result.error();
+            boolean retryable = policy.retryOn().test(error);
+            if (breaker != null) {
+                if (retryable) breaker.onFailure(errorClass(error));
+                else breaker.onSuccess();
+            }
+            if (!retryable || attempt >= policy.maxAttempts()) {
+                future.complete(result);
+                return;
+            }
+
+            Result<T> last = result;
+            try {
+                scheduler().schedule(() -> {
+                    try {
+                        policy.executor().execute(() -> attempt(task, attempt + 1, future));
+                    }
+                    catch (RejectedExecutionException e) {
+                        future.complete(last);
+                    }
+                }, policy.delayNanos(attempt), TimeUnit.NANOSECONDS);
+            }
+            catch (RejectedExecutionException e) {
+                future.complete(last);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Retrying{" + policy + '}';
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.yidigun.base.utils;
+
+import com.yidigun.base.ApiError;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/// [Resilience#retrying(RetryPolicy)]의 재시도 정책.
+///
+/// 불변 객체이며 `with...` 메소드로 변경한 새 정책을 만든다.
+///
+/// ```java
+/// RetryPolicy policy = RetryPolicy.of(5)
+///         .withInitialDelay(Duration.ofMillis(50))
+///         .withMaxDelay(Duration.ofSeconds(2))
+///         .withCircuitBreaker(CircuitBreaker.of("member-db", 10, Duration.ofSeconds(30)));
+/// ```
+///
+/// `n`번째 재시도 전의 대기 시간은 `min(maxDelay, initialDelay * multiplier^(n-1))`에서 최대 `jitter` 비율만큼 임의로 줄인 값이다.
+public final class RetryPolicy {
+
+    /// 기본 정책: 최대 3회 시도, 100ms부터 2배씩 증가, 최대 10초, 20% 지터, [Resilience#isTransient(com.yidigun.base.ErrorCode)]
+    public static final RetryPolicy DEFAULT = of(3);
+
+    private final int maxAttempts;
+    private final Duration initialDelay;
+    private final double multiplier;
+    private final Duration maxDelay;
+    private final double jitter;
+    private final Predicate<? super ApiError> retryOn;
+    private final Executor executor;
+    private final CircuitBreaker circuitBreaker;
+
+    private RetryPolicy(int maxAttempts, Duration initialDelay, double multiplier, Duration maxDelay, double jitter,
+                        Predicate<? super ApiError> retryOn, Executor executor, CircuitBreaker circuitBreaker) {
+        this.maxAttempts = maxAttempts;
+        this.initialDelay = initialDelay;
+        this.multiplier = multiplier;
+        this.maxDelay = maxDelay;
+        this.jitter = jitter;
+        this.retryOn = retryOn;
+        this.executor = executor;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /// 최대 시도 횟수를 지정하여 기본 설정의 정책을 만든다.
+    /// @param maxAttempts 최대 시도 횟수 (첫 시도 포함)
+    /// @return 새 정책
+    /// @throws IllegalArgumentException `maxAttempts`가 1보다 작은 경우
+    public static RetryPolicy of(int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Invalid max attempts: " + maxAttempts);
+        }
+        return new RetryPolicy(maxAttempts, Duration.ofMillis(100), 2.0, Duration.ofSeconds(10), 0.2,
+                Resilience::isTransient, Resilience.defaultExecutor(), null);
+    }
+
+    /// 최대 시도 횟수 (첫 시도 포함)
+    /// @return 최대 시도 횟수
+    public int maxAttempts() { return maxAttempts; }
+
+    /// 첫 재시도 전의 대기 시간
+    /// @return 대기 시간
+    public Duration initialDelay() { return initialDelay; }
+
+    /// 대기 시간 증가 배율
+    /// @return 배율
+    public double multiplier() { return multiplier; }
+
+    /// 최대 대기 시간
+    /// @return 최대 대기 시간
+    public Duration maxDelay() { return maxDelay; }
+
+    /// 대기 시간을 임의로 줄이는 최대 비율
+    /// @return `0.0` ~ `1.0`
+    public double jitter() { return jitter; }
+
+    /// 재시도할 오류인지 판단하는 조건
+    /// @return 조건
+    public Predicate<? super ApiError> retryOn() { return retryOn; }
+
+    /// 재시도를 실행할 실행기. 기본값은 [Resilience#defaultExecutor()]이다.
+    /// @return 실행기
+    public Executor executor() { return executor; }
+
+    /// 회로 차단기
+    /// @return 회로 차단기, 사용하지 않으면 `null`
+    public CircuitBreaker circuitBreaker() { return circuitBreaker; }
+
+    /// 최대 시도 횟수를 변경한 새 정책을 반환한다.
+    /// @param maxAttempts 최대 시도 횟수 (첫 시도 포함)
+    /// @return 새 정책
+    /// @throws IllegalArgumentException `maxAttempts`가 1보다 작은 경우
+    public RetryPolicy withMaxAttempts(int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Invalid max attempts: " + maxAttempts);
+        }
+        return new RetryPolicy(maxAttempts, initialDelay, multiplier, maxDelay, jitter, retryOn, executor, circuitBreaker);
+    }
+
+    /// 첫 재시도 전의 대기 시간을 변경한 새 정책을 반환한다.
+    /// @param initialDelay 대기 시간
+    /// @return 새 정책
+    /// @throws IllegalArgumentException 음수인 경우
+    public RetryPolicy withInitialDelay(@NotNull Duration initialDelay) {
+        if (initialDelay.isNegative()) {
+            throw new IllegalArgumentException("Invalid initial delay: " + initialDelay);
+        }
+        return new RetryPolicy(maxAttempts, initialDelay, multiplier, maxDelay, jitter, retryOn, executor, circuitBreaker);
+    }
+
+    /// 대기 시간 증가 배율을 변경한 새 정책을 반환한다.
+    /// @param multiplier 배율
+    /// @return 새 정책
+    /// @throws IllegalArgumentException 1보다 작은 경우
+    public RetryPolicy withMultiplier(double multiplier) {
+        if (!(multiplier >= 1.0)) {
+            throw new IllegalArgumentException("Invalid multiplier: " + multiplier);
+        }
+        return new RetryPolicy(maxAttempts, initialDelay, multiplier, maxDelay, jitter, retryOn, executor, circuitBreaker);
+    }
+
+    /// 최대 대기 시간을 변경한 새 정책을 반환한다.
+    /// @param maxDelay 최대 대기 시간
+    /// @return 새 정책
+    /// @throws IllegalArgumentException 음수인 경우
+    public RetryPolicy withMaxDelay(@NotNull Duration maxDelay) {
+        if (maxDelay.isNegative()) {
+            throw new IllegalArgumentException("Invalid max delay: " + maxDelay);
+        }
+        return new RetryPolicy(maxAttempts, initialDelay, multiplier, maxDelay, jitter, retryOn, executor, circuitBreaker);
+    }
+
+    /// 지터 비율을 변경한 새 정책을 반환한다.
+    /// @param jitter `0.0` ~ `1.0`
+    /// @return 새 정책
+    /// @throws IllegalArgumentException 범위를 벗어난 경우
+    public RetryPolicy withJitter(double jitter) {
+        if (!(jitter >= 0.0 && jitter <= 1.0)) {
+            throw new IllegalArgumentException("Invalid jitter: " + jitter);
+        }
+        return new RetryPolicy(maxAttempts, initialDelay, multiplier, maxDelay, jitter, retryOn, executor, circuitBreaker);
+    }
+
+    /// 재시도할 오류인지 판단하는 조건을 변경한 새 정책을 반환한다.
+    /// @param retryOn 조건
+    /// @return 새 정책
+    public RetryPolicy withRetryOn(@NotNull Predicate<? super ApiError> retryOn) {
+        return new RetryPolicy(maxAttempts, initialDelay, multiplier, maxDelay, jitter,
+                Objects.requireNonNull(retryOn), executor, circuitBreaker);
+    }
+
+    /// 재시도를 실행할 실행기를 변경한 새 정책을 반환한다.
+    /// @param executor 실행기
+    /// @return 새 정책
+    public RetryPolicy withExecutor(@NotNull Executor executor) {
+        return new RetryPolicy(maxAttempts, initialDelay, multiplier, maxDelay, jitter, retryOn,
+                Objects.requireNonNull(executor), circuitBreaker);
+    }
+
+    /// 회로 차단기를 변경한 새 정책을 반환한다.
+    /// @param circuitBreaker 회로 차단기, 사용하지 않으면 `null`
+    /// @return 새 정책
+    public RetryPolicy withCircuitBreaker(CircuitBreaker circuitBreaker) {
+        return new RetryPolicy(maxAttempts, initialDelay, multiplier, maxDelay, jitter, retryOn, executor, circuitBreaker);
+    }
+
+    /// `attempt`번째 시도가 실패한 후의 대기 시간
+    /// @param attempt 실패한 시도 번호 (1부터)
+    /// @return 대기 시간(나노초)
+    public long delayNanos(int attempt) {
+        double delay = initialDelay.toNanos() * Math.pow(multiplier, Math.max(0, attempt - 1));
+        delay = Math.min(delay, (double) maxDelay.toNanos());
+        if (jitter > 0) {
+            delay *= 1.0 - jitter * ThreadLocalRandom.current().nextDouble();
+        }
+        return (long) delay;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{" +
+                "maxAttempts=" + maxAttempts +
+                ", initialDelay=" + initialDelay +
+                ", multiplier=" + multiplier +
+                ", maxDelay=" + maxDelay +
+                ", jitter=" + jitter +
+                ", circuitBreaker=" + circuitBreaker +
+                '}';
+    }
+}
@@ -0,0 +1,300 @@
+package com.yidigun.base.utils;
+
+import com.yidigun.base.ApiError;
+import com.yidigun.base.Result;
+import org.jetbrains.annotations.NotNull;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/// DBMS별 오류 코드를 고려하여 [SQLException]을 [SQLStateClass]로 분류한다.
+///
+/// SQLState만으로는 드라이버마다 다르게 보고하는 timeout, 연결 끊김 등을 구분할 수 없으므로
+/// DBMS별 오류 코드 테이블([Vendor])을 먼저 확인하고, 없으면 SQLState로 분류한다.
+/// [SQLException#getNextException()]으로 연결된 예외도 모두 확인하며, timeout이 있으면 timeout을,
+/// 그렇지 않으면 처음 분류된 클래스를 반환한다.
+///
+/// ```java
+/// SQLExceptionTranslator translator = SQLExceptionTranslator.of(dataSource);
+/// try {
+///     ...
+/// }
+/// catch (SQLException e) {
+///     return translator.failure(e);  // SQLStateClass를 오류 코드로 가지는 실패 결과
+/// }
+/// ```
+///
+/// [#of(DataSource)]는 처음 한번만 [DatabaseMetaData#getDatabaseProductName()]으로 DBMS를 확인하고 캐시한다.
+/// 다른 DBMS는 [#register(String, VendorTable)]로 추가할 수 있다.
+public final class SQLExceptionTranslator {
+
+    /// 연결된 예외를 확인하는 최대 수
+    private static final int MAX_CHAIN = 32;
+
+    /// 기본 제공 DBMS별 변환기
+    private static final Map<Vendor, SQLExceptionTranslator> BUILTIN = new EnumMap<>(Vendor.class);
+    static {
+        for (Vendor vendor : Vendor.values()) {
+            BUILTIN.put(vendor, new SQLExceptionTranslator(vendor));
+        }
+    }
+
+    private static final SQLExceptionTranslator GENERIC = BUILTIN.get(Vendor.GENERIC);
+
+    /// 제품명(소문자) -> 사용자 등록 테이블의 변환기
+    private static final Map<String, SQLExceptionTranslator> REGISTERED = new ConcurrentHashMap<>();
+
+    /// 데이터 소스(연결 풀)별 변환기
+    private static final Map<DataSource, SQLExceptionTranslator> BY_DATA_SOURCE =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final VendorTable vendor;
+
+    private SQLExceptionTranslator(VendorTable vendor) {
+        this.vendor = vendor;
+    }
+
+    /// DBMS별 분류 테이블
+    @FunctionalInterface
+    public interface VendorTable {
+
+        /// DBMS별 오류 코드로 분류한다.
+        /// @param e 예외 (연결된 예외는 하나씩 따로 전달된다)
+        /// @return 분류, 이 테이블로 분류할 수 없으면 `null`
+        SQLStateClass classify(@NotNull SQLException e);
+    }
+
+    /// 기본 제공 DBMS별 분류 테이블
+    public enum Vendor implements VendorTable {
+
+        /// PostgreSQL. 오류 코드 대신 상세 SQLState를 사용한다.
+        POSTGRESQL(Map.of(), Map.of(
+                "57014", SQLStateClass.QUERY_TIMEOUT,           // query_canceled (statement_timeout)
+                "55P03", SQLStateClass.QUERY_TIMEOUT,           // lock_not_available (lock_timeout)
+                "57P01", SQLStateClass.CONNECTION_EXCEPTION,    // admin_shutdown
+                "57P02", SQLStateClass.CONNECTION_EXCEPTION,    // crash_shutdown
+                "57P03", SQLStateClass.CONNECTION_EXCEPTION)),  // cannot_connect_now
+
+        /// H2 (`org.h2.api.ErrorCode`)
+        H2(Map.of(
+                57014, SQLStateClass.QUERY_TIMEOUT,             // STATEMENT_WAS_CANCELED
+                50200, SQLStateClass.QUERY_TIMEOUT,             // LOCK_TIMEOUT_1
+                40001, SQLStateClass.TRANSACTION_ROLLBACK,      // DEADLOCK_1
+                90067, SQLStateClass.CONNECTION_EXCEPTION,      // CONNECTION_BROKEN_1
+                90098, SQLStateClass.CONNECTION_EXCEPTION,      // DATABASE_IS_CLOSED
+                90121, SQLStateClass.CONNECTION_EXCEPTION),     // DATABASE_CALLED_AT_SHUTDOWN
+                Map.of()),
+
+        /// MySQL, MariaDB
+        MYSQL(Map.of(
+                1205, SQLStateClass.QUERY_TIMEOUT,              // ER_LOCK_WAIT_TIMEOUT
+                3024, SQLStateClass.QUERY_TIMEOUT,              // ER_QUERY_TIMEOUT (MAX_EXECUTION_TIME)
+                1317, SQLStateClass.QUERY_TIMEOUT,              // ER_QUERY_INTERRUPTED
+                1213, SQLStateClass.TRANSACTION_ROLLBACK,       // ER_LOCK_DEADLOCK
+                2002, SQLStateClass.CONNECTION_EXCEPTION,       // CR_CONNECTION_ERROR
+                2003, SQLStateClass.CONNECTION_EXCEPTION,       // CR_CONN_HOST_ERROR
+                2006, SQLStateClass.CONNECTION_EXCEPTION,       // CR_SERVER_GONE_ERROR
+                2013, SQLStateClass.CONNECTION_EXCEPTION),      // CR_SERVER_LOST
+                Map.of(
+                "70100", SQLStateClass.QUERY_TIMEOUT)),         // Connector/J: statement cancelled due to timeout
+
+        /// Oracle (`ORA-xxxxx`)
+        ORACLE(Map.of(
+                1013, SQLStateClass.QUERY_TIMEOUT,              // user requested cancel of current operation
+                51, SQLStateClass.QUERY_TIMEOUT,                // timeout occurred while waiting for a resource
+                30006, SQLStateClass.QUERY_TIMEOUT,             // resource busy; acquire with WAIT timeout expired
+                60, SQLStateClass.TRANSACTION_ROLLBACK,         // deadlock detected
+                8177, SQLStateClass.TRANSACTION_ROLLBACK,       // can't serialize access
+                12170, SQLStateClass.CONNECTION_TIMEOUT,        // TNS: connect timeout occurred
+                3113, SQLStateClass.CONNECTION_EXCEPTION,       // end-of-file on communication channel
+                3114, SQLStateClass.CONNECTION_EXCEPTION,       // not connected to ORACLE
+                12541, SQLStateClass.CONNECTION_EXCEPTION,      // TNS: no listener
+                17002, SQLStateClass.CONNECTION_EXCEPTION),     // IO exception (JDBC)
+                Map.of()),
+
+        /// DBMS별 테이블 없이 SQLState만 사용한다.
+        GENERIC(Map.of(), Map.of());
+
+        private final Map<Integer, SQLStateClass> byErrorCode;
+        private final Map<String, SQLStateClass> bySQLState;
+
+        Vendor(Map<Integer, SQLStateClass> byErrorCode, Map<String, SQLStateClass> bySQLState) {
+            this.byErrorCode = byErrorCode;
+            this.bySQLState = bySQLState;
+        }
+
+        @Override
+        public SQLStateClass classify(@NotNull SQLException e) {
+            if (!byErrorCode.isEmpty() && e.getErrorCode() != 0) {
+                SQLStateClass state = byErrorCode.get(e.getErrorCode());
+                if (state != null) {
+                    return state;
+                }
+            }
+            String sqlState = e.getSQLState();
+            return (sqlState != null && !bySQLState.isEmpty())? bySQLState.get(sqlState): null;
+        }
+
+        /// 제품명으로 DBMS를 찾는다.
+        /// @param productName [DatabaseMetaData#getDatabaseProductName()]
+        /// @return DBMS, 알 수 없으면 [#GENERIC]
+        public static Vendor of(String productName) {
+            if (productName == null) {
+                return GENERIC;
+            }
+            String name = productName.toLowerCase(Locale.ROOT);
+            if (name.contains("postgres")) return POSTGRESQL;
+            if (name.equals("h2")) return H2;
+            if (name.contains("mysql") || name.contains("mariadb")) return MYSQL;
+            if (name.contains("oracle")) return ORACLE;
+            return GENERIC;
+        }
+    }
+
+    /// DBMS별 테이블 없이 SQLState만 사용하는 변환기
+    /// @return 변환기
+    public static SQLExceptionTranslator generic() {
+        return GENERIC;
+    }
+
+    /// 분류 테이블을 지정한 변환기
+    /// @param vendor 분류 테이블
+    /// @return 변환기
+    public static SQLExceptionTranslator of(@NotNull VendorTable vendor) {
+        return (vendor instanceof Vendor builtin)? BUILTIN.get(builtin): new SQLExceptionTranslator(vendor);
+    }
+
+    /// 제품명에 맞는 변환기. [#register(String, VendorTable)]로 등록한 테이블이 우선한다.
+    /// @param productName [DatabaseMetaData#getDatabaseProductName()]
+    /// @return 변환기
+    public static SQLExceptionTranslator of(String productName) {
+        if (productName != null) {
+            String name = productName.toLowerCase(Locale.ROOT);
+            for (Map.Entry<String, SQLExceptionTranslator> entry : REGISTERED.entrySet()) {
+                if (name.contains(entry.getKey())) {
+                    return entry.getValue();
+                }
+            }
+        }
+        return of(Vendor.of(productName));
+    }
+
+    /// 연결의 DBMS에 맞는 변환기. 매번 [DatabaseMetaData]를 조회하므로 가능하면 [#of(DataSource)]를 사용한다.
+    /// @param connection 연결
+    /// @return 변환기, DBMS를 확인할 수 없으면 [#generic()]
+    public static SQLExceptionTranslator of(@NotNull Connection connection) {
+        try {
+            return of(connection.getMetaData().getDatabaseProductName());
+        }
+        catch (SQLException e) {
+            return GENERIC;
+        }
+    }
+
+    /// 데이터 소스(연결 풀)의 DBMS에 맞는 변환기. 데이터 소스별로 처음 한번만 DBMS를 확인하고 캐시한다.
+    /// DBMS를 확인할 수 없으면 [#generic()]을 반환하고 캐시하지 않는다.
+    /// @param dataSource 데이터 소스
+    /// @return 변환기
+    public static SQLExceptionTranslator of(@NotNull DataSource dataSource) {
+        SQLExceptionTranslator translator = BY_DATA_SOURCE.get(dataSource);
+        if (translator == null) {
+            try (Connection connection = dataSource.getConnection()) {
+                translator = of(connection.getMetaData().getDatabaseProductName());
+            }
+            catch (SQLException e) {
+                return GENERIC;
+            }
+            BY_DATA_SOURCE.put(dataSource, translator);
+        }
+        return translator;
+    }
+
+    /// 분류 테이블을 등록한다. 이미 [#of(DataSource)]로 캐시된 변환기에는 반영되지 않는다.
+    /// @param productName 제품명에 포함된 문자열 (대소문자 구분 없음)
+    /// @param vendor 분류 테이블
+    public static void register(@NotNull String productName, @NotNull VendorTable vendor) {
+        REGISTERED.put(productName.toLowerCase(Locale.ROOT), of(Objects.requireNonNull(vendor)));
+    }
+
+    /// 등록한 분류 테이블을 제거한다. 이미 [#of(DataSource)]로 캐시된 변환기에는 반영되지 않는다.
+    /// @param productName [#register(String, VendorTable)]에 지정한 제품명
+    public static void unregister(@NotNull String productName) {
+        REGISTERED.remove(productName.toLowerCase(Locale.ROOT));
+    }
+
+    /// 예외를 분류한다. 연결된 예외([SQLException#getNextException()])와 [SQLException]인 원인 예외도 확인한다.
+    /// @param e 예외
+    /// @return 분류, 알 수 없으면 [SQLStateClass#UNKNOWN]
+    public SQLStateClass classify(@NotNull SQLException e) {
+        SQLStateClass found = SQLStateClass.UNKNOWN;
+        int count = 0;
+        for (SQLException next = e; next != null && count < MAX_CHAIN; next = next.getNextException(), count++) {
+            SQLStateClass state = classifyOne(next);
+            if (state == SQLStateClass.UNKNOWN && next.getCause() instanceof SQLException cause && cause != next) {
+                state = classifyOne(cause);
+            }
+            if (state.timeout()) {
+                return state;
+            }
+            if (found == SQLStateClass.UNKNOWN) {
+                found = state;
+            }
+        }
+        return found;
+    }
+
+    private SQLStateClass classifyOne(SQLException e) {
+        SQLStateClass state = vendor.classify(e);
+        if (state != null) {
+            return state;
+        }
+        String sqlState = e.getSQLState();
+        boolean connection = sqlState != null && sqlState.startsWith("08");
+        if (e instanceof SQLTimeoutException) {
+            return connection? SQLStateClass.CONNECTION_TIMEOUT: SQLStateClass.QUERY_TIMEOUT;
+        }
+        if (sqlState != null) {
+            // ODBC 호환 timeout 상태 (H2, MySQL 등)
+            if (sqlState.equals("HYT00")) return SQLStateClass.QUERY_TIMEOUT;
+            if (sqlState.equals("HYT01")) return SQLStateClass.CONNECTION_TIMEOUT;
+            // 널리 쓰이는 문장 취소(statement_timeout 등), lock 대기 timeout 상태 (PostgreSQL, DB2 등)
+            if (sqlState.equals("57014") || sqlState.equals("55P03")) return SQLStateClass.QUERY_TIMEOUT;
+            if (sqlState.length() >= 2) {
+                state = SQLStateClass.of(sqlState);
+                if (state != SQLStateClass.UNKNOWN) {
+                    return state;
+                }
+            }
+        }
+        if (e instanceof SQLTransientConnectionException ||
+                e instanceof SQLNonTransientConnectionException ||
+                e instanceof SQLRecoverableException) {
+            return SQLStateClass.CONNECTION_EXCEPTION;
+        }
+        return SQLStateClass.UNKNOWN;
+    }
+
+    /// 예외를 [SQLStateClass]를 오류 코드로 가지는 [ApiError]로 변환한다.
+    /// @param e 예외
+    /// @return 원인 예외가 `e`인 오류
+    public ApiError translate(@NotNull SQLException e) {
+        ApiError error = new ApiError((e.getMessage() == null)? "": e.getMessage(), classify(e));
+        error.initCause(e);
+        return error;
+    }
+
+    /// 예외를 [SQLStateClass]를 오류 코드로 가지는 실패 결과로 변환한다.
+    /// @param e 예외
+    /// @return 실패 결과
+    /// @param <T> 결과값의 타입
+    public <T> Result<T> failure(@NotNull SQLException e) {
+        return Result.failure(translate(e));
+    }
+
+    @Override
+    public String toString() {
+        return "SQLExceptionTranslator{" + vendor + '}';
+    }
+}
@@ -3,12 +3,11 @@ package com.yidigun.base.utils;
 import com.yidigun.base.ErrorCode;
 
 import java.sql.SQLException;
-import java.sql.SQLTimeoutException;
 
 public enum SQLStateClass implements ErrorCode {
 
     // PosrtgreSQL SQL State Classes
-    // TODO: 다른 DB 정보 확인
+    // 다른 DBMS의 오류 코드는 SQLExceptionTranslator.Vendor에서 이 클래스들로 분류한다.
 
     // 커스텀 클래스
     UNKNOWN("??", "Unknown SQL State Class (maybe DBMS specific)")
@@ -60,6 +59,21 @@ public enum SQLStateClass implements ErrorCode {
     ,INTERNAL_ERROR("XX", "Internal Error")
     ;
 
+    /// 표준 클래스 조회 테이블. 두 문자(`0-9`, `A-Z`)를 36진수로 묶은 값을 인덱스로 사용한다.
+    private static final SQLStateClass[] BY_CLASS = new SQLStateClass[36 * 36];
+
+    /// 조회 테이블에 넣을 수 없는 커스텀 클래스
+    private static final SQLStateClass[] CUSTOM = { UNKNOWN, CONNECTION_TIMEOUT, QUERY_TIMEOUT };
+
+    static {
+        for (SQLStateClass state : values()) {
+            int key = key(state.code.charAt(0), state.code.charAt(1));
+            if (key >= 0) {
+                BY_CLASS[key] = state;
+            }
+        }
+    }
+
     private final String code;
     private final String message;
 
@@ -84,25 +98,39 @@ public enum SQLStateClass implements ErrorCode {
             throw new IllegalArgumentException("SQL State codes must be 5 characters long, and code classes must be 2 characters long: code=" + code);
         }
 
-        String clazz = code.substring(0, 2);
-        for (SQLStateClass state : values()) {
-            if (state.code.equals(clazz)) {
+        char c0 = code.charAt(0), c1 = code.charAt(1);
+        int key = key(c0, c1);
+        if (key >= 0) {
+            SQLStateClass state = BY_CLASS[key];
+            return (state != null)? state: UNKNOWN;
+        }
+
+        // 커스텀 클래스
+        for (SQLStateClass state : CUSTOM) {
+            if (state.code.charAt(0) == c0 && state.code.charAt(1) == c1) {
                 return state;
             }
         }
         return UNKNOWN;
     }
 
-    public static SQLStateClass of(SQLException cause) {
-
-        // Timeout 예외 별도 처리
-        if (cause instanceof SQLTimeoutException timeoutException) {
-            return (cause.getSQLState().startsWith("08"))?
-                    CONNECTION_TIMEOUT: QUERY_TIMEOUT;
-        }
+    /// 두 문자를 조회 테이블 인덱스로 변환한다.
+    /// @return 인덱스, 두 문자가 모두 `0-9`, `A-Z`가 아니면 `-1`
+    private static int key(char c0, char c1) {
+        int d0 = digit(c0), d1 = digit(c1);
+        return (d0 < 0 || d1 < 0)? -1: d0 * 36 + d1;
+    }
 
-        // TODO: JDBC 드라이버 별 Timeout 예외 식별
+    private static int digit(char c) {
+        return (c >= '0' && c <= '9')? c - '0':
+                (c >= 'A' && c <= 'Z')? c - 'A' + 10: -1;
+    }
 
-        return of(cause.getSQLState());
+    /// 예외를 분류한다. DBMS별 오류 코드는 고려하지 않으며, timeout 예외와 연결된 예외도 확인한다.
+    /// @param cause 예외
+    /// @return 분류, 알 수 없으면 [#UNKNOWN]
+    /// @see SQLExceptionTranslator
+    public static SQLStateClass of(SQLException cause) {
+        return SQLExceptionTranslator.generic().classify(cause);
     }
 }
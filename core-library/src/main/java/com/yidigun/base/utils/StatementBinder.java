@@ -0,0 +1,300 @@
+package com.yidigun.base.utils;
+
+import com.yidigun.base.ApiError;
+import com.yidigun.base.Result;
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.*;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/// 도메인 객체의 프로퍼티를 [PreparedStatement]의 파라미터로 바인딩하는 재사용 가능한 바인더.
+///
+/// 바인더는 생성 시점에 컬럼 순서대로 프로퍼티 접근자(getter)와 파라미터 설정 방법을 미리 결정해 두므로,
+/// 행(row)마다 [PropertyMap]을 생성하고 컬럼 이름으로 값을 조회하는 비용이 없다.
+/// 바인더 객체는 불변이며 여러 스레드에서 공유해도 안전하다.
+///
+/// ```java
+/// StatementBinder<Member> binder = StatementBinders.insert(Member.class, "member")
+///         .withChunkSize(5000);
+///
+/// try (Connection conn = dataSource.getConnection()) {
+///     conn.setAutoCommit(false);
+///     Result<Long> result = binder.executeBatch(conn, members);
+///     if (result.success()) conn.commit(); else conn.rollback();
+/// }
+/// ```
+///
+/// ## 트랜잭션
+///
+/// 바인더는 트랜잭션을 관리하지 않는다. 청크 단위로 [PreparedStatement#executeBatch()]를 호출할 뿐이므로,
+/// 실패한 청크 이전의 청크들을 롤백할지 커밋할지는 호출자가 결정해야 한다.
+///
+/// ## 오류 분류
+///
+/// 실패한 [SQLException]은 [SQLExceptionTranslator]로 분류하므로, DBMS별 오류 코드로만 구분되는 timeout 등도
+/// [SQLStateClass]로 분류되어 [Resilience]의 재시도 대상이 된다. [#withTranslator(SQLExceptionTranslator)]로
+/// 지정하지 않으면 처음 실패했을 때 커넥션의 DBMS로 변환기를 결정하고, 이후의 실패에는 그 변환기를 재사용한다.
+///
+/// @param <T> 바인딩할 도메인 객체 타입
+/// @see StatementBinders
+/// @see SQLStateClass
+public final class StatementBinder<T> {
+
+    /// 실패 결과의 부가정보 키: 실패한 청크의 순번(0부터 시작)
+    public static final String FAILED_CHUNK = "failedChunk";
+
+    /// 실패 결과의 부가정보 키: 실패 전까지 처리된 행 수
+    public static final String COMPLETED_ROWS = "completedRows";
+
+    /// 바인딩 대상 클래스
+    private final Class<T> type;
+
+    /// 실행할 SQL 문
+    private final String sql;
+
+    /// 컬럼 이름 배열
+    private final String[] columns;
+
+    /// 컬럼 순서에 대응하는 프로퍼티 접근자 배열
+    private final PropertyHandle[] getters;
+
+    /// 컬럼 순서에 대응하는 파라미터 설정 방법 배열
+    private final ParameterSetter[] setters;
+
+    /// [PreparedStatement#executeBatch()] 한번에 처리할 행 수
+    private final int chunkSize;
+
+    /// 오류 변환기, `null`이면 실패한 커넥션의 DBMS로 결정한다.
+    private final SQLExceptionTranslator translator;
+
+    /// 실패한 커넥션의 DBMS로 결정한 오류 변환기 (처음 실패할 때 결정한다)
+    private volatile SQLExceptionTranslator resolved;
+
+    StatementBinder(Class<T> type, String sql, String[] columns,
+                    PropertyHandle[] getters, ParameterSetter[] setters, int chunkSize) {
+        this(type, sql, columns, getters, setters, chunkSize, null);
+    }
+
+    private StatementBinder(Class<T> type, String sql, String[] columns,
+                            PropertyHandle[] getters, ParameterSetter[] setters, int chunkSize,
+                            SQLExceptionTranslator translator) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.type = type;
+        this.sql = sql;
+        this.columns = columns;
+        this.getters = getters;
+        this.setters = setters;
+        this.chunkSize = chunkSize;
+        this.translator = translator;
+    }
+
+    /// 바인딩 대상 클래스
+    /// @return 도메인 객체 클래스
+    public Class<T> type() { return type; }
+
+    /// 바인더가 사용하는 SQL 문
+    /// @return SQL 문
+    public String sql() { return sql; }
+
+    /// 파라미터 순서대로 나열된 컬럼 이름 목록
+    /// @return 컬럼 이름 목록
+    public List<String> columns() { return List.of(columns); }
+
+    /// 청크 크기
+    /// @return [PreparedStatement#executeBatch()] 한번에 처리할 행 수
+    public int chunkSize() { return chunkSize; }
+
+    /// 오류 변환기
+    /// @return 지정한 변환기, 지정하지 않았으면 `null`
+    public SQLExceptionTranslator translator() { return translator; }
+
+    /// 청크 크기를 변경한 새로운 바인더를 반환한다.
+    /// 프로퍼티 접근자 등은 그대로 공유된다.
+    /// @param chunkSize [PreparedStatement#executeBatch()] 한번에 처리할 행 수
+    /// @return 새로운 바인더
+    public StatementBinder<T> withChunkSize(int chunkSize) {
+        return (chunkSize == this.chunkSize)? this:
+                new StatementBinder<>(type, sql, columns, getters, setters, chunkSize, translator);
+    }
+
+    /// 오류 변환기를 지정한 새로운 바인더를 반환한다.
+    /// 여러 DBMS의 커넥션에 같은 바인더를 사용하는 경우에는 [SQLExceptionTranslator#of(javax.sql.DataSource)]로
+    /// 얻은 변환기를 지정한 바인더를 DBMS별로 만들어야 한다.
+    /// @param translator 오류 변환기, `null`이면 처음 실패한 커넥션의 DBMS로 결정한다.
+    /// @return 새로운 바인더
+    public StatementBinder<T> withTranslator(SQLExceptionTranslator translator) {
+        return (translator == this.translator)? this:
+                new StatementBinder<>(type, sql, columns, getters, setters, chunkSize, translator);
+    }
+
+    /// 객체 하나의 프로퍼티 값들을 파라미터로 설정한다.
+    /// @param statement [#sql()]로 준비된 [PreparedStatement]
+    /// @param item 바인딩할 객체
+    /// @throws SQLException 파라미터 설정 중 오류가 발생한 경우
+    public void bind(@NotNull PreparedStatement statement, @NotNull T item) throws SQLException {
+        for (int i = 0; i < getters.length; i++) {
+            setters[i].set(statement, i + 1, getters[i].getValue(item));
+        }
+    }
+
+    /// 커넥션에서 [#sql()]로 [PreparedStatement]를 준비하여 일괄 실행한다.
+    /// @param connection 커넥션
+    /// @param items 저장할 객체들
+    /// @return 성공시 처리된 행 수, 실패시 [SQLStateClass]를 오류코드로 가지는 실패 결과
+    /// @see #executeBatch(PreparedStatement, Iterable)
+    public Result<Long> executeBatch(@NotNull Connection connection, @NotNull Iterable<? extends T> items) {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            return executeBatch(statement, connection, items);
+        } catch (SQLException e) {
+            return failure(translator(connection), e, 0, 0L);
+        }
+    }
+
+    /// 준비된 [PreparedStatement]를 이용하여 [#chunkSize()] 단위로 일괄 실행한다.
+    ///
+    /// 청크 실행 중 [SQLException]이 발생하면 이후 청크는 실행하지 않고 실패 결과를 반환한다.
+    /// 실패 결과의 [ApiError]는 [SQLExceptionTranslator#classify(SQLException)]로 분류한 [SQLStateClass]를 오류 코드로 가지며,
+    /// 원인 예외와 함께 [#FAILED_CHUNK], [#COMPLETED_ROWS] 부가정보를 포함한다.
+    ///
+    /// @param statement [#sql()]로 준비된 [PreparedStatement]
+    /// @param items 저장할 객체들
+    /// @return 성공시 처리된 행 수, 실패시 [SQLStateClass]를 오류코드로 가지는 실패 결과
+    public Result<Long> executeBatch(@NotNull PreparedStatement statement, @NotNull Iterable<? extends T> items) {
+        return executeBatch(statement, null, items);
+    }
+
+    /// 일괄 실행한다. `connection`은 오류 변환기를 결정할 커넥션이며, `null`이면 [Statement#getConnection()]을 사용한다.
+    private Result<Long> executeBatch(PreparedStatement statement, Connection connection, Iterable<? extends T> items) {
+        long completed = 0L;
+        int chunk = 0;
+        int pending = 0;
+        try {
+            for (T item : items) {
+                bind(statement, item);
+                statement.addBatch();
+                if (++pending == chunkSize) {
+                    completed += countRows(statement.executeBatch(), pending);
+                    pending = 0;
+                    chunk++;
+                }
+            }
+            if (pending > 0) {
+                completed += countRows(statement.executeBatch(), pending);
+            }
+            return Result.of(completed);
+        } catch (BatchUpdateException e) {
+            int[] counts = e.getUpdateCounts();
+            long partial = (counts == null)? 0L: countRows(counts, counts.length);
+            return failure(translator(statement, connection), e, chunk, completed + partial);
+        } catch (SQLException e) {
+            return failure(translator(statement, connection), e, chunk, completed);
+        }
+    }
+
+    /// [PreparedStatement#executeBatch()] 결과로 처리된 행 수를 계산한다.
+    /// 드라이버가 [Statement#SUCCESS_NO_INFO]를 반환하는 경우는 1건으로 간주한다.
+    private static long countRows(int[] counts, int submitted) {
+        if (counts == null) {
+            return submitted;
+        }
+        long rows = 0L;
+        for (int count : counts) {
+            if (count >= 0) rows += count;
+            else if (count == Statement.SUCCESS_NO_INFO) rows++;
+        }
+        return rows;
+    }
+
+    /// 실패한 커넥션의 오류 변환기. 지정한 변환기가 있으면 그 변환기를 사용하고,
+    /// 없으면 처음 한번만 [DatabaseMetaData]로 DBMS를 확인한다. 확인할 수 없으면 캐시하지 않고 [SQLExceptionTranslator#generic()]을 사용한다.
+    private SQLExceptionTranslator translator(Connection connection) {
+        SQLExceptionTranslator result = (translator != null)? translator: resolved;
+        if (result == null) {
+            try {
+                result = SQLExceptionTranslator.of(connection.getMetaData().getDatabaseProductName());
+                resolved = result;
+            } catch (SQLException e) {
+                result = SQLExceptionTranslator.generic();
+            }
+        }
+        return result;
+    }
+
+    private SQLExceptionTranslator translator(Statement statement, Connection connection) {
+        SQLExceptionTranslator result = (translator != null)? translator: resolved;
+        if (result != null) {
+            return result;
+        }
+        try {
+            return translator((connection != null)? connection: statement.getConnection());
+        } catch (SQLException e) {
+            return SQLExceptionTranslator.generic();
+        }
+    }
+
+    /// [SQLException]을 [SQLStateClass] 오류코드를 가진 실패 결과로 변환한다.
+    private static Result<Long> failure(SQLExceptionTranslator translator, SQLException e, int chunk, long completed) {
+        return translator.<Long>failure(e)
+                .addAdditionalData(FAILED_CHUNK, chunk)
+                .addAdditionalData(COMPLETED_ROWS, completed);
+    }
+
+    @Override
+    public String toString() {
+        return "StatementBinder{" +
+                "type=" + type.getName() +
+                ", sql='" + sql + '\'' +
+                ", columns=" + Arrays.toString(columns) +
+                ", chunkSize=" + chunkSize +
+                ", translator=" + translator +
+                '}';
+    }
+
+    /// 프로퍼티 값을 [PreparedStatement]의 파라미터로 설정하는 방법.
+    /// 프로퍼티 타입에 따라 바인더 생성 시점에 한번만 결정된다.
+    @FunctionalInterface
+    interface ParameterSetter {
+
+        /// 파라미터를 설정한다.
+        /// @param statement 대상 [PreparedStatement]
+        /// @param index 파라미터 인덱스 (1부터 시작)
+        /// @param value 프로퍼티 값
+        /// @throws SQLException 파라미터 설정 중 오류가 발생한 경우
+        void set(PreparedStatement statement, int index, Object value) throws SQLException;
+
+        /// 프로퍼티 타입에 맞는 설정 방법을 선택한다.
+        /// @param type 프로퍼티 타입
+        /// @return 설정 방법
+        static ParameterSetter of(Class<?> type) {
+            Class<?> boxed = PropertyMapUtils.boxedType(type);
+            if (boxed == Long.class)
+                return nullable(Types.BIGINT, (s, i, v) -> s.setLong(i, (Long) v));
+            else if (boxed == Integer.class)
+                return nullable(Types.INTEGER, (s, i, v) -> s.setInt(i, (Integer) v));
+            else if (boxed == Double.class)
+                return nullable(Types.DOUBLE, (s, i, v) -> s.setDouble(i, (Double) v));
+            else if (boxed == Boolean.class)
+                return nullable(Types.BOOLEAN, (s, i, v) -> s.setBoolean(i, (Boolean) v));
+            else if (type == String.class)
+                return nullable(Types.VARCHAR, (s, i, v) -> s.setString(i, (String) v));
+            else if (type == Instant.class)
+                return nullable(Types.TIMESTAMP, (s, i, v) -> s.setTimestamp(i, Timestamp.from((Instant) v)));
+            else if (type.isEnum())
+                return nullable(Types.VARCHAR, (s, i, v) -> s.setString(i, ((Enum<?>) v).name()));
+            else
+                return (s, i, v) -> s.setObject(i, v);
+        }
+
+        /// `null` 값은 [PreparedStatement#setNull(int, int)]로 처리하는 설정 방법을 만든다.
+        private static ParameterSetter nullable(int sqlType, ParameterSetter setter) {
+            return (s, i, v) -> {
+                if (v == null) s.setNull(i, sqlType);
+                else setter.set(s, i, v);
+            };
+        }
+    }
+}
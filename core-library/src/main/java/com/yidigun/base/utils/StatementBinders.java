@@ -0,0 +1,93 @@
+package com.yidigun.base.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/// [StatementBinder]를 생성하는 정적 팩토리 메소드 모음.
+///
+/// 프로퍼티 검색은 [PropertyMap]과 동일한 규칙과 캐시를 사용하며,
+/// 실제 값 조회에는 [PropertyMap.AccessMethod#LAMBDA_META_FACTORY] 방식의 접근자를 사용한다.
+///
+/// ## 컬럼 이름
+///
+/// 컬럼 이름은 프로퍼티 이름을 `snake_case`로 변환하여 사용한다. (`memberNo` -> `member_no`)
+///
+/// ```java
+/// StatementBinder<Member> binder = StatementBinders.insert(Member.class, "member");
+/// binder.sql(); // INSERT INTO member (member_no, name, register_date, create_date, update_date) VALUES (?, ?, ?, ?, ?)
+/// ```
+///
+/// @see StatementBinder
+public final class StatementBinders {
+
+    /// 기본 청크 크기
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private StatementBinders() {}
+
+    /// 클래스에 선언된 필드에 대응하는 프로퍼티들을 모두 컬럼으로 사용하는 `INSERT` 바인더를 생성한다.
+    ///
+    /// `getPrimaryKey()` 처럼 필드 없이 계산되는 프로퍼티는 제외되며,
+    /// 컬럼 순서는 필드의 선언 순서(상위 클래스의 필드가 먼저)를 따른다.
+    ///
+    /// @param type 도메인 객체 클래스
+    /// @param table 테이블 이름
+    /// @return `INSERT` 바인더
+    /// @param <T> 도메인 객체 타입
+    public static <T> StatementBinder<T> insert(@NotNull Class<T> type, @NotNull String table) {
+        Map<String, PropertyHandle> properties =
+                PropertyMapUtils.findProperties(type, PropertyMap.AccessMethod.REFLECTION);
+        List<String> names = new ArrayList<>();
+        for (Field field : PropertyMapUtils.getDeclaredInstanceFields(type)) {
+            PropertyHandle property = properties.get(field.getName());
+            if (property instanceof ReflectionProperty reflectionProperty && reflectionProperty.getter() != null) {
+                names.add(field.getName());
+            }
+        }
+        return insert(type, table, names.toArray(String[]::new));
+    }
+
+    /// 지정한 프로퍼티들을 컬럼으로 사용하는 `INSERT` 바인더를 생성한다.
+    /// @param type 도메인 객체 클래스
+    /// @param table 테이블 이름
+    /// @param properties 파라미터 순서대로 나열한 프로퍼티 이름
+    /// @return `INSERT` 바인더
+    /// @param <T> 도메인 객체 타입
+    /// @throws PropertyMapException 읽을 수 없는 프로퍼티가 지정된 경우
+    public static <T> StatementBinder<T> insert(@NotNull Class<T> type, @NotNull String table, String... properties) {
+        if (properties == null || properties.length == 0) {
+            throw new IllegalArgumentException("No properties to bind: " + type.getName());
+        }
+
+        Map<String, PropertyHandle> reflection =
+                PropertyMapUtils.findProperties(type, PropertyMap.AccessMethod.REFLECTION);
+        Map<String, PropertyHandle> lambda =
+                PropertyMapUtils.findProperties(type, PropertyMap.AccessMethod.LAMBDA_META_FACTORY);
+
+        String[] columns = new String[properties.length];
+        PropertyHandle[] getters = new PropertyHandle[properties.length];
+        StatementBinder.ParameterSetter[] setters = new StatementBinder.ParameterSetter[properties.length];
+        StringJoiner columnList = new StringJoiner(", ", "(", ")");
+        StringJoiner valueList = new StringJoiner(", ", "(", ")");
+
+        for (int i = 0; i < properties.length; i++) {
+            String name = properties[i];
+            if (!(reflection.get(name) instanceof ReflectionProperty property) || property.getter() == null) {
+                throw new PropertyMapException("Not a readable property: " + type.getName() + "." + name);
+            }
+            columns[i] = StringUtils.toSnakeCase(name);
+            getters[i] = lambda.getOrDefault(name, property);
+            setters[i] = StatementBinder.ParameterSetter.of(property.getter().getReturnType());
+            columnList.add(columns[i]);
+            valueList.add("?");
+        }
+
+        String sql = "INSERT INTO " + table + " " + columnList + " VALUES " + valueList;
+        return new StatementBinder<>(type, sql, columns, getters, setters, DEFAULT_CHUNK_SIZE);
+    }
+}
@@ -1,5 +1,6 @@
 package com.yidigun.base.utils;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
@@ -16,9 +17,93 @@ public class StringUtils {
 
     private static final Map<String, Pattern> delimiterPatternCache = new ConcurrentHashMap<>();
 
+    /// 앞뒤 공백을 포함하여 구분자와 일치하는 정규식을 반환한다. 구분자는 문자 그대로 비교한다.
+    /// 공백만으로 이루어진 구분자는 연속된 공백과 일치한다.
+    /// @param delimiter 구분자
+    /// @return 캐시된 정규식
     public static Pattern compileDelimiterPattern(String delimiter) {
         return delimiterPatternCache.computeIfAbsent(delimiter.trim(),
-                d -> Pattern.compile("\\s*" + d.trim() + "\\s*"));
+                d -> Pattern.compile(d.isEmpty()? "\\s+": "\\s*" + Pattern.quote(d) + "\\s*"));
+    }
+
+    /// 구분자로 문자열을 분할하고 각 항목의 앞뒤 공백을 제거한다. 정규식을 사용하지 않는다.
+    ///
+    /// 구분자는 앞뒤 공백을 제거한 후 문자 그대로 비교하며, 공백만으로 이루어진 구분자는 연속된 공백을 구분자로 사용한다.
+    /// [Pattern#split(CharSequence)]와 마찬가지로 끝쪽의 빈 항목은 제외된다.
+    ///
+    /// ```java
+    /// StringUtils.splitTrimmed(" id, name ,email ", ",");  // ["id", "name", "email"]
+    /// StringUtils.splitTrimmed("a|b||", "|");                 // ["a", "b"]
+    /// StringUtils.splitTrimmed("a  b\tc", " ");               // ["a", "b", "c"]
+    /// ```
+    ///
+    /// @param str 분할할 문자열
+    /// @param delimiter 구분자
+    /// @return 분할된 문자열 배열, 문자열이 `null`이거나 공백뿐이면 빈 배열
+    public static String[] splitTrimmed(String str, String delimiter) {
+        if (isBlank(str)) {
+            return new String[0];
+        }
+        String d = delimiter.trim();
+        int length = str.length();
+        String[] parts = new String[8];
+        int count = 0;
+        int start = 0;
+        while (start <= length) {
+            int end;
+            int next;
+            if (d.isEmpty()) {
+                while (start < length && str.charAt(start) <= ' ') start++;
+                if (start == length) break;
+                end = start;
+                while (end < length && str.charAt(end) > ' ') end++;
+                next = end;
+            } else {
+                int index = str.indexOf(d, start);
+                end = (index < 0)? length: index;
+                next = (index < 0)? length + 1: index + d.length();
+            }
+            if (count == parts.length) {
+                parts = Arrays.copyOf(parts, count * 2);
+            }
+            parts[count++] = trim(str, start, end);
+            start = next;
+        }
+        while (count > 0 && parts[count - 1].isEmpty()) {
+            count--;
+        }
+        return Arrays.copyOf(parts, count);
+    }
+
+    /// 범위의 앞뒤 공백([String#trim()]과 같은 기준)을 제거한 부분 문자열을 반환한다.
+    private static String trim(String str, int start, int end) {
+        while (start < end && str.charAt(start) <= ' ') start++;
+        while (end > start && str.charAt(end - 1) <= ' ') end--;
+        return str.substring(start, end);
+    }
+
+    /// `camelCase` 이름을 `snake_case`로 변환한다. (`memberNo` -> `member_no`, `SName` -> `s_name`)
+    /// @param name 변환할 이름
+    /// @return 변환된 이름
+    public static String toSnakeCase(String name) {
+        if (isEmpty(name)) {
+            return name;
+        }
+        StringBuilder sb = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c)) {
+                if (i > 0 && (Character.isLowerCase(name.charAt(i - 1)) ||
+                        (i + 1 < name.length() && Character.isLowerCase(name.charAt(i + 1)) &&
+                                name.charAt(i - 1) != '_'))) {
+                    sb.append('_');
+                }
+                sb.append(Character.toLowerCase(c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
     }
 
 }
@@ -3,9 +3,7 @@ package com.yidigun.base.utils;
 import java.io.NotSerializableException;
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.stream.Stream;
 
 /// 여러 개의 값의 묶음을 나타내는 DTO 객체.
@@ -33,21 +31,63 @@ import java.util.stream.Stream;
 /// 이 객체는 [Serializable]을 구현하여 직렬화가 가능하지만,
 /// 저장된 값 타입들이 직렬화 가능하지 않은 경우 [NotSerializableException]이 발생할 수 있다.
 ///
+/// ## 기본 타입 튜플
+///
+/// 숫자 값만 묶는 경우에는 박싱 없이 값을 저장하는 [IntTuple], [LongTuple], [DoubleTuple]과
+/// 기본 타입과 참조 타입을 함께 저장하는 [MixedTuple]을 사용할 수 있다.
+/// 이 튜플들은 [Tuple]의 API를 그대로 지원하면서 [#getInt(int)], [#getLong(int)], [#getDouble(int)]로
+/// 박싱 없이 값을 꺼낼 수 있어 대량 집계의 맵 키 등에 적합하다.
+///
+/// 튜플의 동등성은 구현 클래스와 무관하게 값(박싱된 값 기준)으로 비교하며, 해시코드는 박싱된 값 배열의
+/// [Arrays#hashCode(Object[])]와 같다. 단, [NamedTuple]은 이름까지 비교하므로 다른 튜플과 같지 않다.
+///
+/// ```java
+/// Map<LongTuple, Long> counts = new HashMap<>();
+/// counts.merge(LongTuple.ofLongs(memberNo, productNo), 1L, Long::sum);
+///
+/// assert LongTuple.ofLongs(1L, 2L).equals(Tuple.of(1L, 2L));
+/// ```
+///
+/// ## 뷰 튜플
+///
+/// [#subTuple(int, int)]와 [#append(Tuple)]는 결과가 작은 경우를 제외하면 값을 복사하지 않는다.
+/// 잘라낸 튜플은 원본 배열의 범위를 참조하고, 이어붙인 튜플은 처음 값에 접근할 때 한번만 배열로 펼쳐진다.
+/// 따라서 여러 단계에 걸쳐 튜플을 자르고 이어붙여도 값은 반복해서 복사되지 않는다.
+/// 뷰 튜플의 동등성과 해시코드는 같은 값을 가진 일반 튜플과 같다.
+///
+/// 작은 부분 튜플이 큰 원본 배열을 계속 참조하므로, 오래 보관할 부분 튜플은 `Tuple.of(view.toArray())`로 복사해 두는 것이 좋다.
+///
 @SuppressWarnings("serial")
 public class Tuple implements Serializable {
 
     @Serial
     private static final long serialVersionUID = -3044263871932530732L;
 
+    /// 값을 별도로 저장하는 하위 클래스가 사용하는 빈 값 배열
+    private static final Object[] NO_VALUES = new Object[0];
+
     /// 값 배열
     protected final Object[] values;
 
+    /// 값을 별도의 배열로 저장하는 하위 클래스(기본 타입 튜플 등)를 위한 생성자.
+    /// 하위 클래스는 [#get(int)], [#size()], [#toArray()]를 재정의해야 한다.
+    protected Tuple() {
+        this.values = NO_VALUES;
+    }
+
     /// 생성자
     protected Tuple(Object... values) {
         this.values = new Object[values.length];
         System.arraycopy(values, 0, this.values, 0, values.length);
     }
 
+    /// 배열을 복사할지 여부를 지정할 수 있는 생성자.
+    /// `copy`가 `false`이면 전달한 배열을 그대로 사용하므로, 호출자는 이후에 배열을 변경하지 않아야 한다.
+    Tuple(Object[] values, boolean copy) {
+        this.values = (copy || values.getClass() != Object[].class)?
+                Arrays.copyOf(values, values.length, Object[].class): values;
+    }
+
     /// 여러 개의 값을 묶어서 반환하는 정적 팩토리 메소드.
     /// @param values 묶을 값들
     /// @return Tuple 객체
@@ -64,10 +104,7 @@ public class Tuple implements Serializable {
         if (values == null || values.length == 0) {
             return this;
         }
-        Object[] newValues = new Object[this.values.length + values.length];
-        System.arraycopy(this.values, 0, newValues, 0, this.values.length);
-        System.arraycopy(values, 0, newValues, this.values.length, values.length);
-        return new Tuple(newValues);
+        return concat(this, values);
     }
 
     /// 현재 튜플 뒤에 다른 튜플의 값을 추가하여 새로운 튜플을 반환한다.
@@ -79,7 +116,7 @@ public class Tuple implements Serializable {
         if (tuple == null || tuple.isEmpty()) {
             return this;
         }
-        return append(tuple.values);
+        return concat(this, tuple);
     }
 
     /// 현재 튜플의 일부를 잘라내어 새로운 튜플을 반환한다.
@@ -88,26 +125,141 @@ public class Tuple implements Serializable {
     /// @param endIndex 잘라낼 끝 인덱스 (exclusive, 즉 endIndex는 포함되지 않음)
     /// @return 새로운 Tuple 객체
     public Tuple subTuple(int startIndex, int endIndex) {
-        if (startIndex == 0 && endIndex == values.length) {
+        if (startIndex == 0 && endIndex == size()) {
             return this; // 전체 튜플을 반환
         }
-        else if (startIndex < 0 || endIndex > values.length || startIndex >= endIndex) {
+        checkRange(startIndex, endIndex);
+        return slice(startIndex, endIndex);
+    }
+
+    /// 지정된 범위의 값을 가지는 이름 없는 불변 튜플을 반환한다. 범위는 이미 검사된 것으로 가정한다.
+    /// [Object] 배열로 값을 저장하는 튜플은 배열을 복사하지 않고 범위만 참조하는 뷰를 반환한다.
+    /// @param startIndex 시작 인덱스
+    /// @param endIndex 끝 인덱스 (exclusive)
+    /// @return 이름 없는 튜플
+    Tuple slice(int startIndex, int endIndex) {
+        if (values.length > 0) {
+            return TupleView.of(values, startIndex, endIndex - startIndex);
+        }
+        return new Tuple(Arrays.copyOfRange(sharedValues(), startIndex, endIndex), false);
+    }
+
+    /// 값이 변경되지 않는 튜플을 반환한다. [ConcatTuple]의 구성 요소로 사용된다.
+    /// [Object] 배열로 값을 저장하는 튜플은 자신을 그대로 반환하고,
+    /// 그 외의 튜플(값이 바뀔 수 있는 행 뷰 등)은 값을 복사한 튜플을 반환한다.
+    /// @return 불변 튜플
+    Tuple frozen() {
+        return (values.length > 0 || size() == 0)? this: new Tuple(toArray(), false);
+    }
+
+    /// 값을 배열에 복사한다.
+    /// @param dest 대상 배열
+    /// @param position 대상 배열의 시작 위치
+    void copyTo(Object[] dest, int position) {
+        System.arraycopy(sharedValues(), 0, dest, position, size());
+    }
+
+    /// 두 튜플을 이어붙인 이름 없는 튜플을 반환한다.
+    /// 결과가 작으면 값을 복사하고, 그렇지 않으면 처음 값에 접근할 때 펼쳐지는 [ConcatTuple]을 반환한다.
+    static Tuple concat(Tuple left, Tuple right) {
+        int size = left.size() + right.size();
+        if (size <= TupleView.COPY_THRESHOLD) {
+            Object[] newValues = new Object[size];
+            left.copyTo(newValues, 0);
+            right.copyTo(newValues, left.size());
+            return new Tuple(newValues, false);
+        }
+        return new ConcatTuple(left.frozen(), right.frozen());
+    }
+
+    /// 튜플 뒤에 값 배열을 이어붙인 이름 없는 튜플을 반환한다. 값 배열은 복사된다.
+    static Tuple concat(Tuple left, Object[] values) {
+        int size = left.size();
+        if (size + values.length <= TupleView.COPY_THRESHOLD) {
+            Object[] newValues = new Object[size + values.length];
+            left.copyTo(newValues, 0);
+            System.arraycopy(values, 0, newValues, size, values.length);
+            return new Tuple(newValues, false);
+        }
+        return new ConcatTuple(left.frozen(), new Tuple(values, true));
+    }
+
+    /// [#subTuple(int, int)]의 범위를 검사한다.
+    /// @param startIndex 시작 인덱스
+    /// @param endIndex 끝 인덱스 (exclusive)
+    /// @throws IndexOutOfBoundsException 범위가 올바르지 않은 경우
+    protected void checkRange(int startIndex, int endIndex) {
+        if (startIndex < 0 || endIndex > size() || startIndex >= endIndex) {
             throw new IndexOutOfBoundsException("Invalid subTuple range: " + startIndex + " to " + endIndex);
         }
-        Object[] subValues = Arrays.copyOfRange(values, startIndex, endIndex);
-        return new Tuple(subValues);
+    }
+
+    /// 인덱스를 검사한다.
+    /// @param index 인덱스
+    /// @throws IndexOutOfBoundsException 인덱스가 범위를 벗어난 경우
+    protected void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
     }
 
     /// `index`번째 값을 반환한다.
     /// @param index 반환할 값의 인덱스 (0부터 시작)
     /// @return 반환할 값
     public Object get(int index) {
-        if (index < 0 || index >= values.length) {
-            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + values.length);
-        }
+        checkIndex(index);
         return values[index];
     }
 
+    /// `index`번째 값을 `int`로 반환한다.
+    /// 값이 [Integer], [Short], [Byte]가 아닌 경우 [ClassCastException]을 던진다.
+    /// 기본 타입 튜플에서는 박싱 없이 값을 반환한다.
+    /// @param index 반환할 값의 인덱스 (0부터 시작)
+    /// @return 반환할 값
+    /// @throws ClassCastException 값을 `int`로 변환할 수 없는 경우
+    public int getInt(int index) throws ClassCastException {
+        Object value = get(index);
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).intValue();
+        }
+        throw primitiveCastException(index, value, int.class);
+    }
+
+    /// `index`번째 값을 `long`으로 반환한다.
+    /// 값이 [Long] 이거나 [#getInt(int)]로 읽을 수 있는 값이 아닌 경우 [ClassCastException]을 던진다.
+    /// 기본 타입 튜플에서는 박싱 없이 값을 반환한다.
+    /// @param index 반환할 값의 인덱스 (0부터 시작)
+    /// @return 반환할 값
+    /// @throws ClassCastException 값을 `long`으로 변환할 수 없는 경우
+    public long getLong(int index) throws ClassCastException {
+        Object value = get(index);
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        throw primitiveCastException(index, value, long.class);
+    }
+
+    /// `index`번째 값을 `double`로 반환한다.
+    /// 값이 [Double], [Float] 이거나 [#getLong(int)]로 읽을 수 있는 값이 아닌 경우 [ClassCastException]을 던진다.
+    /// 기본 타입 튜플에서는 박싱 없이 값을 반환한다.
+    /// @param index 반환할 값의 인덱스 (0부터 시작)
+    /// @return 반환할 값
+    /// @throws ClassCastException 값을 `double`로 변환할 수 없는 경우
+    public double getDouble(int index) throws ClassCastException {
+        Object value = get(index);
+        if (value instanceof Double || value instanceof Float || value instanceof Long ||
+                value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).doubleValue();
+        }
+        throw primitiveCastException(index, value, double.class);
+    }
+
+    /// 기본 타입으로 값을 읽을 수 없을 때 던질 예외를 만든다.
+    static ClassCastException primitiveCastException(int index, Object value, Class<?> type) {
+        return new ClassCastException("Cannot cast value at index " + index + " (" +
+                ((value == null)? "null": value.getClass().getName()) + ") to " + type.getName());
+    }
+
     /// `index`번째 값을 반환한다.
     /// 자료형이 일치하지 않을 경우 `null`을 반환한다.
     /// @param index 반환할 값의 인덱스 (0부터 시작)
@@ -163,6 +315,13 @@ public class Tuple implements Serializable {
         return values.clone();
     }
 
+    /// 값 배열을 반환한다. [Object] 배열로 값을 저장하는 튜플은 내부 배열을 그대로 반환하고,
+    /// 그 외의 튜플은 [#toArray()]로 만든 배열을 반환한다. 반환된 배열은 변경하면 안된다.
+    /// @return 값 배열
+    Object[] sharedValues() {
+        return (values.length == 0)? toArray(): values;
+    }
+
     /// 튜플의 크기를 반환한다.
     /// @return 튜플의 크기
     public int size() {
@@ -172,37 +331,54 @@ public class Tuple implements Serializable {
     /// 튜플이 비어있는지 확인한다.
     /// @return true: 비어있음, false: 비어있지 않음
     public boolean isEmpty() {
-        return values.length == 0;
+        return size() == 0;
     }
 
     /// 튜플의 값을 List로 변환한다.
-    /// @return List 객체로 변환된 값들
+    /// @return 변경 불가능한 List 객체로 변환된 값들
     public List<Object> toList() {
-        return Arrays.asList(values);
+        return Collections.unmodifiableList(Arrays.asList(sharedValues()));
     }
 
     /// 튜플의 값을 스트림으로 변환한다.
     /// @return 값들의 Stream
     public Stream<Object> stream() {
-        return Arrays.stream(values);
+        return Arrays.stream(sharedValues());
     }
 
     @Override
     public String toString() {
-        return "Tuple" + Arrays.toString(values);
+        return "Tuple" + Arrays.toString(sharedValues());
     }
 
+    /// 값으로 비교한다. 구현 클래스가 달라도 박싱된 값들이 같으면 같은 튜플이다.
+    /// 단, 이름을 가지는 [NamedTuple]과 그렇지 않은 튜플은 같지 않다.
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
-        if (obj == null || getClass() != obj.getClass()) return false;
-        Tuple tuple = (Tuple) obj;
-        return Arrays.equals(values, tuple.values);
+        if (!(obj instanceof Tuple that) || (obj instanceof NamedTuple) != (this instanceof NamedTuple)) return false;
+        if (this.values.length > 0 && that.values.length > 0) {
+            return Arrays.equals(values, that.values);
+        }
+        int size = size();
+        if (size != that.size()) return false;
+        for (int i = 0; i < size; i++) {
+            if (!Objects.equals(get(i), that.get(i))) return false;
+        }
+        return true;
     }
 
+    /// 박싱된 값 배열의 [Arrays#hashCode(Object[])]와 같은 값을 반환한다.
     @Override
     public int hashCode() {
-        return Arrays.hashCode(values);
+        if (values.length > 0) {
+            return Arrays.hashCode(values);
+        }
+        int h = 1;
+        for (int i = 0, size = size(); i < size; i++) {
+            h = 31 * h + Objects.hashCode(get(i));
+        }
+        return h;
     }
 
     /// 첫번째 값을 반환한다.
@@ -0,0 +1,773 @@
+package com.yidigun.base.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serial;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.DoublePredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/// 같은 [TupleSchema]를 가지는 여러 행(row)을 컬럼 단위로 저장하는 불변 배치.
+///
+/// `List<NamedTuple>`은 행마다 튜플 객체와 값 배열, 박싱된 숫자 객체를 만들지만,
+/// [TupleBatch]는 컬럼마다 하나의 배열만 사용한다. `int`, `long`, `double` 컬럼은 기본 타입 배열로 저장하고,
+/// `null` 값은 컬럼별 비트맵으로 표시한다. 그 외의 컬럼은 [Object] 배열로 저장한다.
+///
+/// ```java
+/// TupleBatch batch = TupleBatch.builder(TupleSchema.of("member_no", "name", "amount"),
+///                 long.class, String.class, double.class)
+///         .addRow(1L, "John", 100.0)
+///         .addRow(2L, "Jane", 250.5)
+///         .build();
+///
+/// int[] selected = batch.filterDouble("amount", a -> a > 150.0);
+/// double total = batch.sumDouble("amount", selected);
+///
+/// TupleBatch.Cursor row = batch.cursor();
+/// while (row.next()) {
+///     long memberNo = row.getLong(0);   // 박싱 없음
+///     String name = row.get("name", String.class);
+/// }
+/// ```
+///
+/// ## 행 뷰
+///
+/// [#row(int)], [#iterator()], [#forEach(Consumer)]는 행마다 위치가 고정된 [NamedTuple] 뷰를 만들며, 값은 복사하지 않는다.
+/// [#cursor()]가 반환하는 [Cursor]는 위치를 옮겨가며 재사용되는 뷰이므로 행마다 객체를 만들지 않는다.
+/// 커서의 값(과 `equals`/`hashCode`)은 위치에 따라 달라지므로, 행을 보관해야 하는 경우에는
+/// 고정된 뷰를 사용하거나 [NamedTuple#toArray()] 등으로 값을 복사해야 한다.
+///
+/// ## 컬럼 연산
+///
+/// `filter` 계열 메소드는 조건을 만족하는 행 번호의 배열(selection vector)을 반환한다.
+/// 반환된 배열은 다시 `filter`, `sum`, `min`, `max`, [#take(int[])]에 전달하여 조합할 수 있다.
+/// 집계 연산은 `null` 값을 건너뛴다.
+///
+/// @see TupleSchema
+/// @see NamedTuple
+public final class TupleBatch implements Iterable<NamedTuple> {
+
+    /// 이름 스키마
+    private final TupleSchema schema;
+
+    /// 컬럼 배열
+    private final Column[] columns;
+
+    /// 행 수
+    private final int size;
+
+    private TupleBatch(TupleSchema schema, Column[] columns, int size) {
+        this.schema = schema;
+        this.columns = columns;
+        this.size = size;
+    }
+
+    /// 스키마와 컬럼 타입을 지정하여 빌더를 생성한다.
+    /// 컬럼 타입이 `int`, `long`, `double`(또는 박싱 타입)이면 기본 타입 배열로 저장하고,
+    /// 그 외에는 [Object] 배열로 저장한다.
+    /// @param schema 이름 스키마
+    /// @param columnTypes 컬럼 타입 (스키마 크기와 같아야 함)
+    /// @return 빌더
+    /// @throws IllegalArgumentException 컬럼 타입 수가 스키마 크기와 다른 경우
+    public static Builder builder(@NotNull TupleSchema schema, @NotNull Class<?>... columnTypes) {
+        if (columnTypes.length != schema.size()) {
+            throw new IllegalArgumentException("Column types (" + columnTypes.length +
+                    ") do not match schema size (" + schema.size() + ")");
+        }
+        return new Builder(schema, columnTypes);
+    }
+
+    /// [NamedTuple] 목록으로 배치를 생성한다.
+    /// 스키마는 첫번째 튜플의 스키마를 사용하며, 각 컬럼의 값이 모두 [Integer], [Long], [Double] 중
+    /// 한가지 타입(또는 `null`)이면 기본 타입 컬럼으로 저장한다.
+    /// 스키마보다 값이 적은 튜플의 나머지 컬럼은 `null`로 저장한다.
+    /// @param tuples 튜플 목록
+    /// @return 배치
+    /// @throws IllegalArgumentException 튜플의 스키마가 서로 다르거나, 스키마보다 값이 많은 튜플이 있는 경우
+    public static TupleBatch of(@NotNull List<? extends NamedTuple> tuples) {
+        if (tuples.isEmpty()) {
+            return new TupleBatch(TupleSchema.EMPTY, new Column[0], 0);
+        }
+        TupleSchema schema = tuples.get(0).schema();
+        for (NamedTuple tuple : tuples) {
+            if (!tuple.schema().equals(schema)) {
+                throw new IllegalArgumentException("Schema mismatch: " + tuple.schema() + " != " + schema);
+            }
+            // 이름 없는 값이 더 있으면 컬럼에 담을 수 없으므로 잘라내지 않고 거부한다.
+            if (tuple.size() > schema.size()) {
+                throw new IllegalArgumentException("Tuple size (" + tuple.size() +
+                        ") exceeds schema size (" + schema.size() + ")");
+            }
+        }
+        Class<?>[] types = new Class<?>[schema.size()];
+        for (int c = 0; c < types.length; c++) {
+            Class<?> type = null;
+            for (NamedTuple tuple : tuples) {
+                Object value = (c < tuple.size())? tuple.get(c): null;
+                if (value == null) continue;
+                if (type == null) type = value.getClass();
+                else if (type != value.getClass()) { type = Object.class; break; }
+            }
+            types[c] = (type == null)? Object.class: type;
+        }
+        Builder builder = new Builder(schema, types);
+        for (NamedTuple tuple : tuples) {
+            builder.addRow(tuple);
+        }
+        return builder.build();
+    }
+
+    /// 이름 스키마
+    /// @return 이름 스키마
+    public TupleSchema schema() { return schema; }
+
+    /// 행 수
+    /// @return 행 수
+    public int size() { return size; }
+
+    /// 행이 없는지 확인한다.
+    /// @return 행이 없으면 `true`
+    public boolean isEmpty() { return size == 0; }
+
+    /// 컬럼 수
+    /// @return 컬럼 수
+    public int columnCount() { return columns.length; }
+
+    /// 컬럼의 저장 타입
+    /// @param column 컬럼 인덱스
+    /// @return `int.class`, `long.class`, `double.class` 또는 `Object.class`
+    public Class<?> columnType(int column) { return columns[column].type(); }
+
+    /// 이름에 해당하는 컬럼 인덱스를 찾는다.
+    /// @param name 컬럼 이름
+    /// @return 컬럼 인덱스
+    /// @throws IllegalArgumentException 컬럼이 없는 경우
+    public int columnIndex(String name) {
+        int index = schema.indexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException("No such column: " + name);
+        }
+        return index;
+    }
+
+    /// 값을 반환한다.
+    /// @param row 행 번호
+    /// @param column 컬럼 인덱스
+    /// @return 값
+    public Object get(int row, int column) {
+        Objects.checkIndex(row, size);
+        return columns[column].get(row);
+    }
+
+    /// 위치가 고정된 행 뷰를 반환한다. 값은 복사되지 않는다.
+    /// @param row 행 번호
+    /// @return 행 뷰
+    public NamedTuple row(int row) {
+        return new Row(Objects.checkIndex(row, size));
+    }
+
+    /// 모든 행을 순회하는 재사용 커서를 반환한다. 처음에는 첫번째 행 이전에 위치한다.
+    /// @return 커서
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /// 위치가 고정된 행 뷰들을 순회한다.
+    /// @return 행 뷰 iterator
+    @Override
+    public @NotNull Iterator<NamedTuple> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+            @Override public boolean hasNext() { return next < size; }
+            @Override public NamedTuple next() {
+                if (next >= size) throw new NoSuchElementException();
+                return row(next++);
+            }
+        };
+    }
+
+    /// 위치가 고정된 행 뷰들을 순회한다. [#iterator()]와 같이 `action`에 전달된 튜플은 보관해도 된다.
+    /// 행마다 객체를 만들지 않으려면 [#cursor()]를 사용한다.
+    /// @param action 행마다 실행할 작업
+    @Override
+    public void forEach(Consumer<? super NamedTuple> action) {
+        for (int r = 0; r < size; r++) {
+            action.accept(new Row(r));
+        }
+    }
+
+    /// 모든 행을 [NamedTuple]로 복사한 목록을 반환한다.
+    /// @return 튜플 목록
+    public List<NamedTuple> toList() {
+        List<NamedTuple> list = new ArrayList<>(size);
+        for (int r = 0; r < size; r++) {
+            Object[] values = new Object[columns.length];
+            for (int c = 0; c < columns.length; c++) {
+                values[c] = columns[c].get(r);
+            }
+            list.add(new NamedTuple(schema, values, false));
+        }
+        return list;
+    }
+
+    /// 선택된 행들만 가지는 새로운 배치를 만든다.
+    /// @param selection 행 번호 배열
+    /// @return 새로운 배치
+    public TupleBatch take(int @NotNull [] selection) {
+        Column[] taken = new Column[columns.length];
+        for (int c = 0; c < columns.length; c++) {
+            taken[c] = columns[c].take(selection);
+        }
+        return new TupleBatch(schema, taken, selection.length);
+    }
+
+    /// `long` 조건을 만족하는 행 번호를 찾는다. `int`, `long` 컬럼에 사용할 수 있으며 `null` 값은 제외된다.
+    /// @param column 컬럼 이름
+    /// @param predicate 조건
+    /// @return 행 번호 배열 (selection vector)
+    public int[] filterLong(String column, LongPredicate predicate) {
+        return filterLong(column, predicate, null);
+    }
+
+    /// 선택된 행 중에서 `long` 조건을 만족하는 행 번호를 찾는다.
+    /// @param column 컬럼 이름
+    /// @param predicate 조건
+    /// @param selection 대상 행 번호 배열, `null`이면 모든 행
+    /// @return 행 번호 배열 (selection vector)
+    public int[] filterLong(String column, LongPredicate predicate, int[] selection) {
+        Column col = numeric(column, false);
+        int n = (selection == null)? size: selection.length;
+        int[] result = new int[n];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            int r = (selection == null)? i: selection[i];
+            if (!col.isNull(r) && predicate.test(col.getLong(r))) {
+                result[count++] = r;
+            }
+        }
+        return (count == n)? result: Arrays.copyOf(result, count);
+    }
+
+    /// `double` 조건을 만족하는 행 번호를 찾는다. 숫자 컬럼에 사용할 수 있으며 `null` 값은 제외된다.
+    /// @param column 컬럼 이름
+    /// @param predicate 조건
+    /// @return 행 번호 배열 (selection vector)
+    public int[] filterDouble(String column, DoublePredicate predicate) {
+        return filterDouble(column, predicate, null);
+    }
+
+    /// 선택된 행 중에서 `double` 조건을 만족하는 행 번호를 찾는다.
+    /// @param column 컬럼 이름
+    /// @param predicate 조건
+    /// @param selection 대상 행 번호 배열, `null`이면 모든 행
+    /// @return 행 번호 배열 (selection vector)
+    public int[] filterDouble(String column, DoublePredicate predicate, int[] selection) {
+        Column col = numeric(column, true);
+        int n = (selection == null)? size: selection.length;
+        int[] result = new int[n];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            int r = (selection == null)? i: selection[i];
+            if (!col.isNull(r) && predicate.test(col.getDouble(r))) {
+                result[count++] = r;
+            }
+        }
+        return (count == n)? result: Arrays.copyOf(result, count);
+    }
+
+    /// 값 조건을 만족하는 행 번호를 찾는다. 모든 컬럼에 사용할 수 있다.
+    /// @param column 컬럼 이름
+    /// @param predicate 조건 (`null` 값도 전달됨)
+    /// @param selection 대상 행 번호 배열, `null`이면 모든 행
+    /// @return 행 번호 배열 (selection vector)
+    public int[] filter(String column, Predicate<Object> predicate, int[] selection) {
+        Column col = columns[columnIndex(column)];
+        int n = (selection == null)? size: selection.length;
+        int[] result = new int[n];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            int r = (selection == null)? i: selection[i];
+            if (predicate.test(col.get(r))) {
+                result[count++] = r;
+            }
+        }
+        return (count == n)? result: Arrays.copyOf(result, count);
+    }
+
+    /// `int`, `long` 컬럼의 합계
+    /// @param column 컬럼 이름
+    /// @param selection 대상 행 번호 배열, `null`이면 모든 행
+    /// @return 합계
+    public long sumLong(String column, int[] selection) {
+        Column col = numeric(column, false);
+        if (selection == null && col instanceof LongColumn longs && longs.nulls == null) {
+            long sum = 0L;
+            for (int r = 0; r < size; r++) sum += longs.values[r];
+            return sum;
+        }
+        long sum = 0L;
+        int n = (selection == null)? size: selection.length;
+        for (int i = 0; i < n; i++) {
+            int r = (selection == null)? i: selection[i];
+            if (!col.isNull(r)) sum += col.getLong(r);
+        }
+        return sum;
+    }
+
+    /// 숫자 컬럼의 합계
+    /// @param column 컬럼 이름
+    /// @param selection 대상 행 번호 배열, `null`이면 모든 행
+    /// @return 합계
+    public double sumDouble(String column, int[] selection) {
+        Column col = numeric(column, true);
+        if (selection == null && col instanceof DoubleColumn doubles && doubles.nulls == null) {
+            double sum = 0.0;
+            for (int r = 0; r < size; r++) sum += doubles.values[r];
+            return sum;
+        }
+        double sum = 0.0;
+        int n = (selection == null)? size: selection.length;
+        for (int i = 0; i < n; i++) {
+            int r = (selection == null)? i: selection[i];
+            if (!col.isNull(r)) sum += col.getDouble(r);
+        }
+        return sum;
+    }
+
+    /// `int`, `long` 컬럼의 최소값
+    /// @param column 컬럼 이름
+    /// @param selection 대상 행 번호 배열, `null`이면 모든 행
+    /// @return 최소값, 대상 값이 없으면 빈 값
+    public OptionalLong minLong(String column, int[] selection) {
+        return extremeLong(column, selection, true);
+    }
+
+    /// `int`, `long` 컬럼의 최대값
+    /// @param column 컬럼 이름
+    /// @param selection 대상 행 번호 배열, `null`이면 모든 행
+    /// @return 최대값, 대상 값이 없으면 빈 값
+    public OptionalLong maxLong(String column, int[] selection) {
+        return extremeLong(column, selection, false);
+    }
+
+    /// 숫자 컬럼의 최소값
+    /// @param column 컬럼 이름
+    /// @param selection 대상 행 번호 배열, `null`이면 모든 행
+    /// @return 최소값, 대상 값이 없으면 빈 값
+    public OptionalDouble minDouble(String column, int[] selection) {
+        return extremeDouble(column, selection, true);
+    }
+
+    /// 숫자 컬럼의 최대값
+    /// @param column 컬럼 이름
+    /// @param selection 대상 행 번호 배열, `null`이면 모든 행
+    /// @return 최대값, 대상 값이 없으면 빈 값
+    public OptionalDouble maxDouble(String column, int[] selection) {
+        return extremeDouble(column, selection, false);
+    }
+
+    private OptionalLong extremeLong(String column, int[] selection, boolean min) {
+        Column col = numeric(column, false);
+        boolean found = false;
+        long result = 0L;
+        int n = (selection == null)? size: selection.length;
+        for (int i = 0; i < n; i++) {
+            int r = (selection == null)? i: selection[i];
+            if (col.isNull(r)) continue;
+            long v = col.getLong(r);
+            if (!found || (min? v < result: v > result)) {
+                result = v;
+                found = true;
+            }
+        }
+        return found? OptionalLong.of(result): OptionalLong.empty();
+    }
+
+    private OptionalDouble extremeDouble(String column, int[] selection, boolean min) {
+        Column col = numeric(column, true);
+        boolean found = false;
+        double result = 0.0;
+        int n = (selection == null)? size: selection.length;
+        for (int i = 0; i < n; i++) {
+            int r = (selection == null)? i: selection[i];
+            if (col.isNull(r)) continue;
+            double v = col.getDouble(r);
+            if (!found || (min? v < result: v > result)) {
+                result = v;
+                found = true;
+            }
+        }
+        return found? OptionalDouble.of(result): OptionalDouble.empty();
+    }
+
+    /// 숫자 연산이 가능한 컬럼을 찾는다.
+    private Column numeric(String name, boolean allowDouble) {
+        Column column = columns[columnIndex(name)];
+        if (column instanceof ObjectColumn || (!allowDouble && column instanceof DoubleColumn)) {
+            throw new IllegalArgumentException("Column '" + name + "' is not a " +
+                    ((allowDouble)? "numeric": "integral") + " column: " + column.type());
+        }
+        return column;
+    }
+
+    @Override
+    public String toString() {
+        return "TupleBatch{schema=" + schema + ", size=" + size + '}';
+    }
+
+    /// [TupleBatch]의 행을 가리키는 [NamedTuple] 뷰.
+    ///
+    /// 값은 배치의 컬럼에서 직접 읽으며, [#getInt(int)], [#getLong(int)], [#getDouble(int)]는 박싱하지 않는다.
+    /// 직렬화하면 현재 행의 값을 복사한 [NamedTuple]로 저장된다.
+    abstract class RowView extends NamedTuple {
+
+        @Serial
+        private static final long serialVersionUID = 5306475512024983522L;
+
+        private RowView() {
+            super(schema);
+        }
+
+        /// 현재 행 번호
+        /// @throws IllegalStateException 행에 위치하지 않은 경우
+        abstract int current();
+
+        /// 현재 값이 `null`인지 확인한다.
+        /// @param index 컬럼 인덱스
+        /// @return `null`이면 `true`
+        public boolean isNull(int index) {
+            checkIndex(index);
+            return columns[index].isNull(current());
+        }
+
+        @Override
+        public Object get(int index) {
+            checkIndex(index);
+            return columns[index].get(current());
+        }
+
+        @Override
+        public int getInt(int index) {
+            checkIndex(index);
+            Column column = columns[index];
+            int r = current();
+            if (column instanceof IntColumn ints && !ints.isNull(r)) {
+                return ints.values[r];
+            }
+            return super.getInt(index);
+        }
+
+        @Override
+        public long getLong(int index) {
+            checkIndex(index);
+            Column column = columns[index];
+            int r = current();
+            if (!(column instanceof ObjectColumn || column instanceof DoubleColumn) && !column.isNull(r)) {
+                return column.getLong(r);
+            }
+            return super.getLong(index);
+        }
+
+        @Override
+        public double getDouble(int index) {
+            checkIndex(index);
+            Column column = columns[index];
+            int r = current();
+            if (!(column instanceof ObjectColumn) && !column.isNull(r)) {
+                return column.getDouble(r);
+            }
+            return super.getDouble(index);
+        }
+
+        @Override
+        public int size() {
+            return columns.length;
+        }
+
+        @Override
+        public Object[] toArray() {
+            int r = current();
+            Object[] values = new Object[columns.length];
+            for (int c = 0; c < columns.length; c++) {
+                values[c] = columns[c].get(r);
+            }
+            return values;
+        }
+
+        /// 현재 행의 값을 복사한 [NamedTuple]로 직렬화한다.
+        @Serial
+        Object writeReplace() {
+            return new NamedTuple(schema(), toArray(), false);
+        }
+    }
+
+    /// 위치를 옮겨가며 재사용하는 행 뷰.
+    /// 위치를 옮기면 값(과 `equals`/`hashCode`)이 바뀌므로 보관하려면 값을 복사해야 한다.
+    public final class Cursor extends RowView {
+
+        @Serial
+        private static final long serialVersionUID = 8456752877695922790L;
+
+        /// 현재 행 번호
+        private int row = -1;
+
+        private Cursor() {}
+
+        /// 다음 행으로 이동한다.
+        /// @return 다음 행이 있으면 `true`
+        public boolean next() {
+            if (row + 1 < size) {
+                row++;
+                return true;
+            }
+            row = size;
+            return false;
+        }
+
+        /// 지정한 행으로 이동한다.
+        /// @param row 행 번호
+        /// @return 이 커서
+        public Cursor moveTo(int row) {
+            this.row = Objects.checkIndex(row, size);
+            return this;
+        }
+
+        /// 현재 행 번호
+        /// @return 행 번호
+        public int position() { return row; }
+
+        @Override
+        int current() {
+            if (row < 0 || row >= size) {
+                throw new IllegalStateException("Cursor is not positioned on a row: " + row);
+            }
+            return row;
+        }
+    }
+
+    /// 위치가 고정된 행 뷰
+    private final class Row extends RowView {
+
+        @Serial
+        private static final long serialVersionUID = 6740280421161580257L;
+
+        private final int row;
+
+        private Row(int row) {
+            this.row = row;
+        }
+
+        @Override
+        int current() {
+            return row;
+        }
+    }
+
+    /// [TupleBatch] 빌더
+    public static final class Builder {
+
+        private final TupleSchema schema;
+        private final Column[] columns;
+        private int size;
+        private boolean built;
+
+        private Builder(TupleSchema schema, Class<?>[] types) {
+            this.schema = schema;
+            this.columns = new Column[types.length];
+            for (int c = 0; c < types.length; c++) {
+                Class<?> boxed = PropertyMapUtils.boxedType(types[c]);
+                columns[c] = (boxed == Integer.class)? new IntColumn(16):
+                        (boxed == Long.class)? new LongColumn(16):
+                        (boxed == Double.class)? new DoubleColumn(16):
+                        new ObjectColumn(16);
+            }
+        }
+
+        /// 행을 추가한다.
+        /// @param values 컬럼 순서대로 나열한 값 (모자란 컬럼은 `null`)
+        /// @return 빌더
+        /// @throws ClassCastException 기본 타입 컬럼에 맞지 않는 값이 전달된 경우
+        /// @throws IllegalStateException 이미 배치를 생성한 경우
+        public Builder addRow(Object... values) {
+            checkNotBuilt();
+            for (int c = 0; c < columns.length; c++) {
+                columns[c].set(size, (c < values.length)? values[c]: null);
+            }
+            size++;
+            return this;
+        }
+
+        /// 튜플을 행으로 추가한다.
+        /// @param tuple 튜플
+        /// @return 빌더
+        /// @throws IllegalStateException 이미 배치를 생성한 경우
+        public Builder addRow(Tuple tuple) {
+            checkNotBuilt();
+            int n = tuple.size();
+            for (int c = 0; c < columns.length; c++) {
+                columns[c].set(size, (c < n)? tuple.get(c): null);
+            }
+            size++;
+            return this;
+        }
+
+        /// 배치를 생성한다. 컬럼 배열을 복사하지 않고 넘겨주므로 생성 후에는 빌더를 사용할 수 없다.
+        /// @return 배치
+        /// @throws IllegalStateException 이미 배치를 생성한 경우
+        public TupleBatch build() {
+            checkNotBuilt();
+            built = true;
+            for (Column column : columns) {
+                column.trim(size);
+            }
+            return new TupleBatch(schema, columns, size);
+        }
+
+        private void checkNotBuilt() {
+            if (built) {
+                throw new IllegalStateException("Batch has already been built");
+            }
+        }
+    }
+
+    /// 컬럼 저장소. 빌드 중에는 크기가 늘어나며, 빌드 후에는 변경되지 않는다.
+    private abstract static class Column {
+
+        /// `null` 비트맵, `null` 값이 없으면 `null`
+        long[] nulls;
+
+        abstract Class<?> type();
+        abstract Object get(int row);
+        abstract int capacity();
+        abstract void grow(int capacity);
+        abstract void setValue(int row, Object value);
+        abstract Column take(int[] selection);
+
+        long getLong(int row) { return number(row).longValue(); }
+        double getDouble(int row) { return number(row).doubleValue(); }
+
+        /// 기본 타입 배열이 아닌 컬럼의 숫자 값
+        private Number number(int row) {
+            Object value = get(row);
+            if (value instanceof Number number) {
+                return number;
+            }
+            throw new ClassCastException("Value at row " + row + " is not a number: " +
+                    ((value == null)? "null": value.getClass().getName()));
+        }
+
+        boolean isNull(int row) {
+            return nulls != null && (row >>> 6) < nulls.length && (nulls[row >>> 6] & (1L << row)) != 0;
+        }
+
+        void set(int row, Object value) {
+            if (row >= capacity()) {
+                grow(Math.max(capacity() * 2, row + 1));
+            }
+            if (value == null && !(this instanceof ObjectColumn)) {
+                if (nulls == null) {
+                    nulls = new long[(capacity() + 63) >>> 6];
+                } else if (nulls.length * 64 <= row) {
+                    nulls = Arrays.copyOf(nulls, (capacity() + 63) >>> 6);
+                }
+                nulls[row >>> 6] |= 1L << row;
+            } else {
+                setValue(row, value);
+            }
+        }
+
+        void trim(int size) {
+            if (capacity() != size) {
+                grow(size);
+            }
+            if (nulls != null) {
+                nulls = Arrays.copyOf(nulls, (size + 63) >>> 6);
+            }
+        }
+
+        long[] takeNulls(int[] selection) {
+            if (nulls == null) {
+                return null;
+            }
+            long[] taken = null;
+            for (int i = 0; i < selection.length; i++) {
+                if (isNull(selection[i])) {
+                    if (taken == null) taken = new long[(selection.length + 63) >>> 6];
+                    taken[i >>> 6] |= 1L << i;
+                }
+            }
+            return taken;
+        }
+    }
+
+    private static final class IntColumn extends Column {
+        int[] values;
+        IntColumn(int capacity) { values = new int[capacity]; }
+        Class<?> type() { return int.class; }
+        Object get(int row) { return isNull(row)? null: values[row]; }
+        long getLong(int row) { return values[row]; }
+        double getDouble(int row) { return values[row]; }
+        int capacity() { return values.length; }
+        void grow(int capacity) { values = Arrays.copyOf(values, capacity); }
+        void setValue(int row, Object value) { values[row] = (Integer) value; }
+        Column take(int[] selection) {
+            IntColumn taken = new IntColumn(selection.length);
+            for (int i = 0; i < selection.length; i++) taken.values[i] = values[selection[i]];
+            taken.nulls = takeNulls(selection);
+            return taken;
+        }
+    }
+
+    private static final class LongColumn extends Column {
+        long[] values;
+        LongColumn(int capacity) { values = new long[capacity]; }
+        Class<?> type() { return long.class; }
+        Object get(int row) { return isNull(row)? null: values[row]; }
+        long getLong(int row) { return values[row]; }
+        double getDouble(int row) { return values[row]; }
+        int capacity() { return values.length; }
+        void grow(int capacity) { values = Arrays.copyOf(values, capacity); }
+        void setValue(int row, Object value) { values[row] = (Long) value; }
+        Column take(int[] selection) {
+            LongColumn taken = new LongColumn(selection.length);
+            for (int i = 0; i < selection.length; i++) taken.values[i] = values[selection[i]];
+            taken.nulls = takeNulls(selection);
+            return taken;
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+        double[] values;
+        DoubleColumn(int capacity) { values = new double[capacity]; }
+        Class<?> type() { return double.class; }
+        Object get(int row) { return isNull(row)? null: values[row]; }
+        double getDouble(int row) { return values[row]; }
+        int capacity() { return values.length; }
+        void grow(int capacity) { values = Arrays.copyOf(values, capacity); }
+        void setValue(int row, Object value) { values[row] = (Double) value; }
+        Column take(int[] selection) {
+            DoubleColumn taken = new DoubleColumn(selection.length);
+            for (int i = 0; i < selection.length; i++) taken.values[i] = values[selection[i]];
+            taken.nulls = takeNulls(selection);
+            return taken;
+        }
+    }
+
+    private static final class ObjectColumn extends Column {
+        Object[] values;
+        ObjectColumn(int capacity) { values = new Object[capacity]; }
+        Class<?> type() { return Object.class; }
+        Object get(int row) { return values[row]; }
+        boolean isNull(int row) { return values[row] == null; }
+        int capacity() { return values.length; }
+        void grow(int capacity) { values = Arrays.copyOf(values, capacity); }
+        void setValue(int row, Object value) { values[row] = value; }
+        Column take(int[] selection) {
+            ObjectColumn taken = new ObjectColumn(selection.length);
+            for (int i = 0; i < selection.length; i++) taken.values[i] = values[selection[i]];
+            return taken;
+        }
+    }
+}
@@ -0,0 +1,842 @@
+package com.yidigun.base.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/// [Tuple]과 [NamedTuple]을 위한 간결한 바이너리 직렬화 코덱.
+///
+/// 기본 자바 직렬화는 튜플마다 클래스 정보와 이름 배열을 기록하지만, 이 코덱은 다음과 같이 기록한다.
+///
+/// - 값마다 1바이트 타입 태그를 기록하고, 정수는 zigzag 가변길이(varint)로 기록한다.
+/// - 짧은 문자열은 스트림별 문자열 테이블에 등록하고, 같은 문자열이 다시 나오면 번호만 기록한다.
+/// - [TupleSchema]는 스트림에서 처음 나올 때 한번만 기록하고, 이후에는 번호만 기록한다.
+/// - [IntTuple], [LongTuple], [DoubleTuple]은 태그 없이 값만 기록하며, 읽을 때도 같은 타입으로 복원된다.
+///
+/// ```java
+/// try (OutputStream out = Files.newOutputStream(path)) {
+///     TupleCodec.write(out, tuples);
+/// }
+/// try (InputStream in = Files.newInputStream(path)) {
+///     List<Tuple> read = TupleCodec.read(in);
+/// }
+///
+/// // 중간 결과를 파일로 내보내고(spill) 메모리 매핑으로 다시 읽기
+/// try (FileChannel channel = FileChannel.open(spill, CREATE, WRITE, READ)) {
+///     TupleCodec.write(channel, tuples);
+///     channel.position(0L);
+///     List<Tuple> restored = TupleCodec.read(channel);
+/// }
+/// ```
+///
+/// 한 스트림에 튜플을 나누어 기록하거나 읽으려면 [Encoder], [Decoder]를 사용한다.
+///
+/// ## 지원하는 값 타입
+///
+/// `null`, [Boolean], [Byte], [Short], [Character], [Integer], [Long], [Float], [Double], [String],
+/// [BigDecimal], [Instant], [LocalDate], `byte[]`, 중첩된 [Tuple]은 전용 형식으로 기록한다.
+/// 그 외의 [Serializable] 값은 값 단위로 자바 직렬화하여 기록하며, 직렬화할 수 없는 값은 [NotSerializableException]이 발생한다.
+///
+/// 자바 직렬화된 값을 읽을 때는 [ObjectInputFilter]를 적용한다. 기본 필터([#DEFAULT_FILTER])는 `java.lang`, `java.math`,
+/// `java.time`, `java.sql`의 값 타입과 [java.util.Date], [UUID], 이 패키지의 튜플 타입만 허용하며, 다른 클래스가 필요하면
+/// [Decoder#Decoder(InputStream, ObjectInputFilter)]로 필터를 지정한다. 허용하지 않는 클래스는 [InvalidClassException]이 발생한다.
+///
+/// 스트림 형식이 올바르지 않거나, 기록된 크기가 남은 입력으로 만들 수 없는 크기이면 [StreamCorruptedException]이 발생한다.
+///
+/// @see Tuple
+/// @see TupleSchema
+public final class TupleCodec {
+
+    /// 스트림 시작 표시 ("TPL" + 형식 버전 1)
+    static final int MAGIC = 0x54504C01;
+
+    // 레코드 태그
+    private static final byte END = 0;
+    private static final byte TUPLE = 1;
+    private static final byte NAMED = 2;
+    private static final byte INTS = 3;
+    private static final byte LONGS = 4;
+    private static final byte DOUBLES = 5;
+    private static final byte MIXED = 6;
+
+    // 값 태그
+    private static final byte V_NULL = 0;
+    private static final byte V_FALSE = 1;
+    private static final byte V_TRUE = 2;
+    private static final byte V_INT = 3;
+    private static final byte V_LONG = 4;
+    private static final byte V_DOUBLE = 5;
+    private static final byte V_FLOAT = 6;
+    private static final byte V_STRING_NEW = 7;
+    private static final byte V_STRING_REF = 8;
+    private static final byte V_STRING_RAW = 9;
+    private static final byte V_SHORT = 10;
+    private static final byte V_BYTE = 11;
+    private static final byte V_CHAR = 12;
+    private static final byte V_DECIMAL = 13;
+    private static final byte V_INSTANT = 14;
+    private static final byte V_DATE = 15;
+    private static final byte V_BYTES = 16;
+    private static final byte V_TUPLE = 17;
+    private static final byte V_SERIALIZED = 18;
+
+    /// 자바 직렬화된 값을 읽을 때 사용하는 기본 필터
+    public static final ObjectInputFilter DEFAULT_FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=16;maxrefs=10000;maxarray=1048576;" +
+            "java.lang.*;java.math.*;java.time.*;java.sql.*;java.util.Date;java.util.UUID;" +
+            "com.yidigun.base.utils.Tuple;com.yidigun.base.utils.NamedTuple;com.yidigun.base.utils.IntTuple;" +
+            "com.yidigun.base.utils.LongTuple;com.yidigun.base.utils.DoubleTuple;com.yidigun.base.utils.MixedTuple;" +
+            "com.yidigun.base.utils.TupleSchema;!*");
+
+    /// 파일 채널을 한번에 메모리 매핑하는 최대 크기
+    static final int MAP_WINDOW = 64 << 20;
+
+    /// 문자열 테이블에 등록할 최대 문자열 길이
+    static final int MAX_DEDUP_LENGTH = 64;
+
+    /// 문자열 테이블의 최대 크기
+    static final int MAX_DEDUP_ENTRIES = 1 << 16;
+
+    private TupleCodec() {}
+
+    /// 튜플들을 스트림에 기록한다. 스트림은 닫지 않는다.
+    /// @param out 출력 스트림
+    /// @param tuples 기록할 튜플들
+    /// @return 기록한 튜플 수
+    /// @throws IOException 출력 오류 또는 직렬화할 수 없는 값이 있는 경우
+    public static long write(@NotNull OutputStream out, @NotNull Iterable<? extends Tuple> tuples) throws IOException {
+        Encoder encoder = new Encoder(out);
+        long count = 0L;
+        for (Tuple tuple : tuples) {
+            encoder.write(tuple);
+            count++;
+        }
+        encoder.finish();
+        return count;
+    }
+
+    /// 스트림에서 모든 튜플을 읽는다. 스트림은 닫지 않는다.
+    /// @param in 입력 스트림
+    /// @return 튜플 목록
+    /// @throws IOException 입력 오류 또는 형식이 올바르지 않은 경우
+    public static List<Tuple> read(@NotNull InputStream in) throws IOException {
+        return readAll(new Decoder(in));
+    }
+
+    private static List<Tuple> readAll(Decoder decoder) throws IOException {
+        List<Tuple> tuples = new ArrayList<>();
+        Tuple tuple;
+        while ((tuple = decoder.read()) != null) {
+            tuples.add(tuple);
+        }
+        return tuples;
+    }
+
+    /// 스트림의 튜플들을 읽는 순차 스트림을 반환한다. 반환된 스트림을 닫으면 입력 스트림도 닫힌다.
+    /// @param in 입력 스트림
+    /// @return 튜플 스트림
+    /// @throws IOException 스트림 시작 부분이 올바르지 않은 경우
+    public static Stream<Tuple> stream(@NotNull InputStream in) throws IOException {
+        Decoder decoder = new Decoder(in);
+        Iterator<Tuple> iterator = new Iterator<>() {
+            private Tuple next;
+            private boolean done;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null && !done) {
+                    try {
+                        next = decoder.read();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    done = (next == null);
+                }
+                return next != null;
+            }
+
+            @Override
+            public Tuple next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                Tuple tuple = next;
+                next = null;
+                return tuple;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        in.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /// 튜플들을 바이트 버퍼로 인코딩한다.
+    /// @param tuples 인코딩할 튜플들
+    /// @return 읽기 위치가 0인 heap 바이트 버퍼
+    /// @throws IOException 직렬화할 수 없는 값이 있는 경우
+    public static ByteBuffer encode(@NotNull Iterable<? extends Tuple> tuples) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(out, tuples);
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+
+    /// 바이트 버퍼의 현재 위치부터 튜플들을 디코딩한다. 버퍼의 위치는 스트림 끝 표시 다음으로 이동한다.
+    /// @param buffer 바이트 버퍼 (heap, direct, 메모리 매핑 버퍼 모두 가능)
+    /// @return 튜플 목록
+    /// @throws IOException 형식이 올바르지 않은 경우
+    public static List<Tuple> decode(@NotNull ByteBuffer buffer) throws IOException {
+        Decoder decoder = new Decoder(new ByteBufferInputStream(buffer));
+        List<Tuple> tuples = readAll(decoder);
+        // 디코더가 미리 읽어 두고 사용하지 않은 만큼 위치를 되돌린다.
+        buffer.position(buffer.position() - decoder.unread());
+        return tuples;
+    }
+
+    /// 튜플들을 파일 채널의 현재 위치부터 기록한다. 채널의 위치는 기록한 만큼 이동하며, 채널은 닫지 않는다.
+    /// @param channel 파일 채널
+    /// @param tuples 기록할 튜플들
+    /// @return 기록한 튜플 수
+    /// @throws IOException 출력 오류 또는 직렬화할 수 없는 값이 있는 경우
+    public static long write(@NotNull FileChannel channel, @NotNull Iterable<? extends Tuple> tuples) throws IOException {
+        return write(Channels.newOutputStream(channel), tuples);
+    }
+
+    /// 파일 채널의 현재 위치부터 메모리 매핑하여 튜플들을 읽는다. 파일은 일정한 크기의 구간으로 나누어 차례로 매핑하므로
+    /// 2GB보다 큰 파일도 읽을 수 있다.
+    /// [#write(FileChannel, Iterable)]와 같이 채널의 위치는 읽은 만큼 이동하며, 채널은 닫지 않는다.
+    /// @param channel 파일 채널
+    /// @return 튜플 목록
+    /// @throws IOException 입력 오류 또는 형식이 올바르지 않은 경우
+    public static List<Tuple> read(@NotNull FileChannel channel) throws IOException {
+        return read(channel, MAP_WINDOW);
+    }
+
+    static List<Tuple> read(FileChannel channel, int window) throws IOException {
+        MappedChannelInputStream in = new MappedChannelInputStream(channel, window);
+        Decoder decoder = new Decoder(in);
+        List<Tuple> tuples = readAll(decoder);
+        // 디코더가 미리 읽어 두고 사용하지 않은 만큼 위치를 되돌린다.
+        channel.position(in.position() - decoder.unread());
+        return tuples;
+    }
+
+    /// 하나의 스트림에 튜플을 하나씩 기록하는 인코더.
+    /// 문자열 테이블과 스키마 테이블은 인코더 단위로 유지된다.
+    /// 모든 튜플을 기록한 뒤에는 [#finish()]를 호출해야 한다.
+    public static final class Encoder implements Flushable {
+
+        private final OutputStream out;
+        private final byte[] buffer = new byte[8192];
+        private int position;
+
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final Map<TupleSchema, Integer> schemas = new IdentityHashMap<>();
+        private long written;
+        private boolean finished;
+
+        /// 인코더를 생성하고 스트림 시작 표시를 기록한다.
+        /// @param out 출력 스트림
+        /// @throws IOException 출력 오류가 발생한 경우
+        public Encoder(@NotNull OutputStream out) throws IOException {
+            this.out = out;
+            writeFixedInt(MAGIC);
+        }
+
+        /// 튜플을 기록한다.
+        /// @param tuple 튜플
+        /// @throws IOException 출력 오류 또는 직렬화할 수 없는 값이 있는 경우
+        public void write(@NotNull Tuple tuple) throws IOException {
+            if (finished) {
+                throw new IllegalStateException("Encoder already finished");
+            }
+            writeTuple(tuple);
+        }
+
+        /// 지금까지 기록한 바이트 수 (버퍼에 남아있는 바이트 포함)
+        /// @return 바이트 수
+        public long bytesWritten() {
+            return written + position;
+        }
+
+        /// 스트림 끝 표시를 기록하고 버퍼를 비운다. 출력 스트림은 닫지 않는다.
+        /// @throws IOException 출력 오류가 발생한 경우
+        public void finish() throws IOException {
+            if (!finished) {
+                writeByte(END);
+                finished = true;
+            }
+            flush();
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (position > 0) {
+                out.write(buffer, 0, position);
+                written += position;
+                position = 0;
+            }
+            out.flush();
+        }
+
+        private void writeTuple(Tuple tuple) throws IOException {
+            int size = tuple.size();
+            if (tuple instanceof IntTuple ints) {
+                writeByte(INTS);
+                writeVarInt(size);
+                for (int i = 0; i < size; i++) writeVarLong(zigzag(ints.getInt(i)));
+            } else if (tuple instanceof LongTuple longs) {
+                writeByte(LONGS);
+                writeVarInt(size);
+                for (int i = 0; i < size; i++) writeVarLong(zigzag(longs.getLong(i)));
+            } else if (tuple instanceof DoubleTuple doubles) {
+                writeByte(DOUBLES);
+                writeVarInt(size);
+                for (int i = 0; i < size; i++) writeFixedLong(Double.doubleToRawLongBits(doubles.getDouble(i)));
+            } else {
+                if (tuple instanceof NamedTuple named) {
+                    writeByte(NAMED);
+                    writeSchema(named.schema());
+                } else {
+                    writeByte((tuple instanceof MixedTuple)? MIXED: TUPLE);
+                }
+                writeVarInt(size);
+                for (int i = 0; i < size; i++) writeValue(tuple.get(i));
+            }
+        }
+
+        /// 스키마를 기록한다. 처음 나온 스키마는 `0`과 이름 목록을, 이미 기록한 스키마는 번호(1부터)를 기록한다.
+        private void writeSchema(TupleSchema schema) throws IOException {
+            Integer id = schemas.get(schema);
+            if (id != null) {
+                writeVarInt(id);
+                return;
+            }
+            schemas.put(schema, schemas.size() + 1);
+            writeVarInt(0);
+            writeVarInt(schema.size());
+            for (String name : schema.names()) {
+                writeValue(name);
+            }
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value == null) writeByte(V_NULL);
+            else if (value instanceof String s) writeString(s);
+            else if (value instanceof Integer i) { writeByte(V_INT); writeVarLong(zigzag(i)); }
+            else if (value instanceof Long l) { writeByte(V_LONG); writeVarLong(zigzag(l)); }
+            else if (value instanceof Double d) { writeByte(V_DOUBLE); writeFixedLong(Double.doubleToRawLongBits(d)); }
+            else if (value instanceof Boolean b) writeByte(b? V_TRUE: V_FALSE);
+            else if (value instanceof Float f) { writeByte(V_FLOAT); writeFixedInt(Float.floatToRawIntBits(f)); }
+            else if (value instanceof Short s) { writeByte(V_SHORT); writeVarLong(zigzag(s)); }
+            else if (value instanceof Byte b) { writeByte(V_BYTE); writeByte(b); }
+            else if (value instanceof Character c) { writeByte(V_CHAR); writeVarInt(c); }
+            else if (value instanceof BigDecimal d) { writeByte(V_DECIMAL); writeString(d.toString()); }
+            else if (value instanceof Instant t) { writeByte(V_INSTANT); writeVarLong(zigzag(t.getEpochSecond())); writeVarInt(t.getNano()); }
+            else if (value instanceof LocalDate d) { writeByte(V_DATE); writeVarLong(zigzag(d.toEpochDay())); }
+            else if (value instanceof byte[] bytes) { writeByte(V_BYTES); writeVarInt(bytes.length); writeBytes(bytes, 0, bytes.length); }
+            else if (value instanceof Tuple t) { writeByte(V_TUPLE); writeTuple(t); }
+            else if (value instanceof Serializable s) writeSerialized(s);
+            else throw new NotSerializableException(value.getClass().getName());
+        }
+
+        private void writeString(String s) throws IOException {
+            Integer id = strings.get(s);
+            if (id != null) {
+                writeByte(V_STRING_REF);
+                writeVarInt(id);
+                return;
+            }
+            if (s.length() <= MAX_DEDUP_LENGTH && strings.size() < MAX_DEDUP_ENTRIES) {
+                strings.put(s, strings.size());
+                writeByte(V_STRING_NEW);
+            } else {
+                writeByte(V_STRING_RAW);
+            }
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            writeBytes(bytes, 0, bytes.length);
+        }
+
+        private void writeSerialized(Serializable value) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+                oos.writeObject(value);
+            }
+            writeByte(V_SERIALIZED);
+            writeVarInt(bytes.size());
+            writeBytes(bytes.toByteArray(), 0, bytes.size());
+        }
+
+        private void ensure(int n) throws IOException {
+            if (position + n > buffer.length) {
+                out.write(buffer, 0, position);
+                written += position;
+                position = 0;
+            }
+        }
+
+        private void writeByte(int b) throws IOException {
+            ensure(1);
+            buffer[position++] = (byte) b;
+        }
+
+        private void writeBytes(byte[] bytes, int offset, int length) throws IOException {
+            if (length > buffer.length - position) {
+                ensure(buffer.length);
+                out.write(bytes, offset, length);
+                written += length;
+            } else {
+                System.arraycopy(bytes, offset, buffer, position, length);
+                position += length;
+            }
+        }
+
+        private void writeVarInt(int value) throws IOException {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        private void writeVarLong(long value) throws IOException {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeFixedInt(int value) throws IOException {
+            ensure(4);
+            buffer[position++] = (byte) (value >>> 24);
+            buffer[position++] = (byte) (value >>> 16);
+            buffer[position++] = (byte) (value >>> 8);
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeFixedLong(long value) throws IOException {
+            writeFixedInt((int) (value >>> 32));
+            writeFixedInt((int) value);
+        }
+    }
+
+    /// 하나의 스트림에서 튜플을 하나씩 읽는 디코더.
+    public static final class Decoder {
+
+        /// 남은 입력을 알 수 없을 때 처음 할당하는 배열의 최대 크기
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final InputStream in;
+        private final ObjectInputFilter filter;
+        private final byte[] buffer = new byte[8192];
+        private int position;
+        private int limit;
+
+        private final List<String> strings = new ArrayList<>();
+        private final List<TupleSchema> schemas = new ArrayList<>();
+        private boolean finished;
+
+        /// 디코더를 생성하고 스트림 시작 표시를 확인한다. 자바 직렬화된 값에는 [#DEFAULT_FILTER]를 적용한다.
+        /// @param in 입력 스트림
+        /// @throws IOException 입력 오류 또는 스트림 시작 표시가 올바르지 않은 경우
+        public Decoder(@NotNull InputStream in) throws IOException {
+            this(in, DEFAULT_FILTER);
+        }
+
+        /// 자바 직렬화된 값에 적용할 필터를 지정하여 디코더를 생성한다.
+        /// @param in 입력 스트림
+        /// @param filter 역직렬화 필터, `null`이면 JVM 전역 필터만 적용하므로 신뢰할 수 있는 입력에만 사용해야 한다.
+        /// @throws IOException 입력 오류 또는 스트림 시작 표시가 올바르지 않은 경우
+        public Decoder(@NotNull InputStream in, ObjectInputFilter filter) throws IOException {
+            this.in = in;
+            this.filter = filter;
+            int magic = readFixedInt();
+            if (magic != MAGIC) {
+                throw new StreamCorruptedException(String.format("Invalid stream header: %08X", magic));
+            }
+        }
+
+        /// 다음 튜플을 읽는다.
+        /// @return 튜플, 스트림의 끝이면 `null`
+        /// @throws IOException 입력 오류 또는 형식이 올바르지 않은 경우
+        public Tuple read() throws IOException {
+            if (finished) {
+                return null;
+            }
+            byte tag = readByte();
+            if (tag == END) {
+                finished = true;
+                return null;
+            }
+            return readTuple(tag);
+        }
+
+        /// 미리 읽어 두고 아직 사용하지 않은 바이트 수
+        /// @return 바이트 수
+        int unread() {
+            return limit - position;
+        }
+
+        private Tuple readTuple(byte tag) throws IOException {
+            switch (tag) {
+                case INTS -> {
+                    int size = readSize(1);
+                    int[] values = new int[initialCapacity(size, 1)];
+                    for (int i = 0; i < size; i++) {
+                        if (i == values.length) values = Arrays.copyOf(values, grow(i, size));
+                        values[i] = (int) unzigzag(readVarLong());
+                    }
+                    return IntTuple.ofInts(values);
+                }
+                case LONGS -> {
+                    int size = readSize(1);
+                    long[] values = new long[initialCapacity(size, 1)];
+                    for (int i = 0; i < size; i++) {
+                        if (i == values.length) values = Arrays.copyOf(values, grow(i, size));
+                        values[i] = unzigzag(readVarLong());
+                    }
+                    return LongTuple.ofLongs(values);
+                }
+                case DOUBLES -> {
+                    int size = readSize(Long.BYTES);
+                    double[] values = new double[initialCapacity(size, Long.BYTES)];
+                    for (int i = 0; i < size; i++) {
+                        if (i == values.length) values = Arrays.copyOf(values, grow(i, size));
+                        values[i] = Double.longBitsToDouble(readFixedLong());
+                    }
+                    return DoubleTuple.ofDoubles(values);
+                }
+                case NAMED -> {
+                    TupleSchema schema = readSchema();
+                    return new NamedTuple(schema, readValues(), false);
+                }
+                case TUPLE -> {
+                    return new Tuple(readValues(), false);
+                }
+                case MIXED -> {
+                    return MixedTuple.of(readValues());
+                }
+                default -> throw new StreamCorruptedException("Invalid record tag: " + tag);
+            }
+        }
+
+        private TupleSchema readSchema() throws IOException {
+            int id = readVarInt();
+            if (id > 0) {
+                if (id > schemas.size()) {
+                    throw new StreamCorruptedException("Unknown schema: " + id);
+                }
+                return schemas.get(id - 1);
+            }
+            int size = readSize(1);
+            String[] names = new String[initialCapacity(size, 1)];
+            for (int i = 0; i < size; i++) {
+                if (i == names.length) names = Arrays.copyOf(names, grow(i, size));
+                Object name = readValue();
+                if (name != null && !(name instanceof String)) {
+                    throw new StreamCorruptedException("Invalid schema name: " + name);
+                }
+                names[i] = (String) name;
+            }
+            TupleSchema schema = TupleSchema.of(names);
+            schemas.add(schema);
+            return schema;
+        }
+
+        private Object[] readValues() throws IOException {
+            int size = readSize(1);
+            Object[] values = new Object[initialCapacity(size, 1)];
+            for (int i = 0; i < size; i++) {
+                if (i == values.length) values = Arrays.copyOf(values, grow(i, size));
+                values[i] = readValue();
+            }
+            return values;
+        }
+
+        private Object readValue() throws IOException {
+            byte tag = readByte();
+            return switch (tag) {
+                case V_NULL -> null;
+                case V_FALSE -> Boolean.FALSE;
+                case V_TRUE -> Boolean.TRUE;
+                case V_INT -> (int) unzigzag(readVarLong());
+                case V_LONG -> unzigzag(readVarLong());
+                case V_DOUBLE -> Double.longBitsToDouble(readFixedLong());
+                case V_FLOAT -> Float.intBitsToFloat(readFixedInt());
+                case V_STRING_NEW -> {
+                    String s = readUtf8();
+                    strings.add(s);
+                    yield s;
+                }
+                case V_STRING_REF -> {
+                    int id = readVarInt();
+                    if (id < 0 || id >= strings.size()) {
+                        throw new StreamCorruptedException("Unknown string: " + id);
+                    }
+                    yield strings.get(id);
+                }
+                case V_STRING_RAW -> readUtf8();
+                case V_SHORT -> (short) unzigzag(readVarLong());
+                case V_BYTE -> readByte();
+                case V_CHAR -> (char) readVarInt();
+                case V_DECIMAL -> new BigDecimal(readString());
+                case V_INSTANT -> Instant.ofEpochSecond(unzigzag(readVarLong()), readVarInt());
+                case V_DATE -> LocalDate.ofEpochDay(unzigzag(readVarLong()));
+                case V_BYTES -> readBytes(readSize(1));
+                case V_TUPLE -> readTuple(readByte());
+                case V_SERIALIZED -> readSerialized();
+                default -> throw new StreamCorruptedException("Invalid value tag: " + tag);
+            };
+        }
+
+        private String readString() throws IOException {
+            Object value = readValue();
+            if (!(value instanceof String s)) {
+                throw new StreamCorruptedException("String expected: " + value);
+            }
+            return s;
+        }
+
+        private String readUtf8() throws IOException {
+            int length = readSize(1);
+            if (length <= limit - position) {
+                String s = new String(buffer, position, length, StandardCharsets.UTF_8);
+                position += length;
+                return s;
+            }
+            return new String(readBytes(length), StandardCharsets.UTF_8);
+        }
+
+        private Object readSerialized() throws IOException {
+            byte[] bytes = readBytes(readSize(1));
+            try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                if (filter != null) {
+                    ois.setObjectInputFilter(filter);
+                }
+                return ois.readObject();
+            } catch (ClassNotFoundException e) {
+                InvalidClassException ex = new InvalidClassException(e.getMessage());
+                ex.initCause(e);
+                throw ex;
+            }
+        }
+
+        /// 요소마다 최소 `minBytes` 바이트를 차지하는 배열의 크기를 읽는다.
+        /// 남은 입력의 크기를 알 수 있으면, 남은 입력으로 만들 수 없는 크기는 거부한다.
+        private int readSize(int minBytes) throws IOException {
+            int size = readVarInt();
+            if (size < 0) {
+                throw new StreamCorruptedException("Invalid size: " + size);
+            }
+            if (in instanceof SizedInputStream source &&
+                    (long) size * minBytes > unread() + source.remaining()) {
+                throw new StreamCorruptedException("Size exceeds remaining input: " + size);
+            }
+            return size;
+        }
+
+        /// 처음 할당할 배열의 크기. 남은 입력의 크기를 알 수 없으면 손상된 크기만큼 미리 할당하지 않도록
+        /// 버퍼에 남은 만큼만 할당하고 읽으면서 늘린다.
+        private int initialCapacity(int size, int minBytes) {
+            if (in instanceof SizedInputStream) {
+                return size;
+            }
+            return Math.min(size, Math.max(INITIAL_CAPACITY, unread() / minBytes));
+        }
+
+        private static int grow(int capacity, int size) {
+            return (int) Math.min(size, capacity * 2L);
+        }
+
+        private boolean fill() throws IOException {
+            if (position < limit) {
+                return true;
+            }
+            limit = in.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return false;
+            }
+            return true;
+        }
+
+        private byte readByte() throws IOException {
+            if (!fill()) {
+                throw new EOFException("Unexpected end of tuple stream");
+            }
+            return buffer[position++];
+        }
+
+        private byte[] readBytes(int length) throws IOException {
+            byte[] bytes = new byte[initialCapacity(length, 1)];
+            int offset = 0;
+            while (offset < length) {
+                if (!fill()) {
+                    throw new EOFException("Unexpected end of tuple stream");
+                }
+                if (offset == bytes.length) {
+                    bytes = Arrays.copyOf(bytes, grow(offset, length));
+                }
+                int n = Math.min(bytes.length - offset, limit - position);
+                System.arraycopy(buffer, position, bytes, offset, n);
+                position += n;
+                offset += n;
+            }
+            return bytes;
+        }
+
+        private int readVarInt() throws IOException {
+            long value = readVarLong();
+            if ((value >>> 32) != 0) {
+                throw new StreamCorruptedException("Varint too long: " + value);
+            }
+            return (int) value;
+        }
+
+        private long readVarLong() throws IOException {
+            long value = 0L;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new StreamCorruptedException("Malformed varint");
+        }
+
+        private int readFixedInt() throws IOException {
+            return ((readByte() & 0xFF) << 24) | ((readByte() & 0xFF) << 16) |
+                    ((readByte() & 0xFF) << 8) | (readByte() & 0xFF);
+        }
+
+        private long readFixedLong() throws IOException {
+            return ((long) readFixedInt() << 32) | (readFixedInt() & 0xFFFFFFFFL);
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /// 남은 입력의 크기를 알 수 있는 [InputStream]
+    private abstract static class SizedInputStream extends InputStream {
+
+        /// 남은 바이트 수
+        abstract long remaining();
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, remaining());
+        }
+    }
+
+    /// [ByteBuffer]를 읽는 [InputStream]. 버퍼의 위치를 읽은 만큼 이동한다.
+    private static final class ByteBufferInputStream extends SizedInputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        long remaining() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining()? buffer.get() & 0xFF: -1;
+        }
+
+        @Override
+        public int read(byte @NotNull [] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, n);
+            return n;
+        }
+    }
+
+    /// 파일 채널을 현재 위치부터 `window` 크기의 구간으로 나누어 차례로 메모리 매핑하여 읽는 [InputStream].
+    /// 채널의 위치는 변경하지 않는다.
+    private static final class MappedChannelInputStream extends SizedInputStream {
+
+        private final FileChannel channel;
+        private final int window;
+        private final long size;
+
+        /// 현재 구간의 끝 위치
+        private long mapped;
+        private MappedByteBuffer buffer;
+
+        MappedChannelInputStream(FileChannel channel, int window) throws IOException {
+            this.channel = channel;
+            this.window = window;
+            this.size = channel.size();
+            this.mapped = channel.position();
+        }
+
+        /// 다음에 읽을 채널의 위치
+        long position() {
+            return (buffer == null)? mapped: mapped - buffer.remaining();
+        }
+
+        @Override
+        long remaining() {
+            return size - position();
+        }
+
+        /// 현재 구간을 다 읽었으면 다음 구간을 매핑한다.
+        private boolean map() throws IOException {
+            if (buffer != null && buffer.hasRemaining()) {
+                return true;
+            }
+            long length = Math.min(window, size - mapped);
+            if (length <= 0L) {
+                return false;
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, mapped, length);
+            mapped += length;
+            return true;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return map()? buffer.get() & 0xFF: -1;
+        }
+
+        @Override
+        public int read(byte @NotNull [] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!map()) {
+                return -1;
+            }
+            int n = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, n);
+            return n;
+        }
+    }
+}
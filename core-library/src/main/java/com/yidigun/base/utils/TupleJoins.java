@@ -0,0 +1,410 @@
+package com.yidigun.base.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/// [Tuple] 스트림에 대한 관계형 조인(inner join) 연산.
+///
+/// 조인 결과는 왼쪽 튜플 뒤에 오른쪽 튜플을 이어붙인 튜플이며 `left.append(right)`와 같다.
+/// 즉 왼쪽 튜플이 [NamedTuple]이면 결과도 [NamedTuple]이고, 양쪽이 모두 [NamedTuple]이면 오른쪽 이름도 함께 붙는다.
+/// 결과 튜플은 값을 복사하지 않고 양쪽 튜플을 참조하는 뷰이다.
+///
+/// ```java
+/// // 참조 데이터(오른쪽)로 해시 테이블을 만들고 거래 데이터(왼쪽)를 병렬로 조회한다.
+/// Stream<Tuple> joined = TupleJoins.hash(orders.parallelStream(), members, 1, 0);
+///
+/// // 같은 참조 데이터를 여러번 조인하는 경우 해시 테이블을 재사용한다.
+/// TupleJoins.HashIndex index = TupleJoins.index(members, 0);
+/// Stream<Tuple> today = index.join(todayOrders.stream(), 1);
+///
+/// // 양쪽이 조인 키로 정렬되어 있으면 병합 조인을 사용한다.
+/// Stream<Tuple> merged = TupleJoins.merge(sortedOrders, sortedPayments, 0, 0);
+/// ```
+///
+/// ## 키 비교
+///
+/// 조인 키는 하나 이상의 컬럼 인덱스로 지정한다. `null` 값을 가지는 키는 어떤 키와도 일치하지 않는다.
+/// 정수 값([Byte], [Short], [Integer], [Long])은 `long`으로 비교하므로 [Integer] 키와 [Long] 키도 조인된다.
+/// 모든 키가 하나의 정수 컬럼인 해시 테이블은 박싱 없이 `long` 배열로 만들어진다.
+///
+/// 병합 조인의 키 값은 [Comparable]이어야 하며, 입력은 [TupleSorter#comparing(int...)]과 같은 순서
+/// (오름차순, `null`은 마지막)로 정렬되어 있어야 한다.
+///
+/// @see TupleSorter
+public final class TupleJoins {
+
+    private TupleJoins() {}
+
+    /// 오른쪽 튜플들로 해시 테이블을 만들고 왼쪽 스트림의 튜플들로 조회하는 해시 조인.
+    /// 왼쪽 스트림이 병렬 스트림이면 조회도 병렬로 수행된다.
+    /// 결과 순서는 왼쪽 튜플의 순서를 따르며, 한 왼쪽 튜플에 대한 결과는 오른쪽 튜플의 순서를 따른다.
+    /// @param left 조회(probe) 쪽 스트림
+    /// @param right 해시 테이블을 만들(build) 쪽 튜플들
+    /// @param leftKey 왼쪽 키 컬럼 인덱스
+    /// @param rightKey 오른쪽 키 컬럼 인덱스
+    /// @return 조인 결과 스트림
+    public static Stream<Tuple> hash(@NotNull Stream<? extends Tuple> left, @NotNull Iterable<? extends Tuple> right,
+                                     int leftKey, int rightKey) {
+        return index(right, rightKey).join(left, leftKey);
+    }
+
+    /// 여러 컬럼을 키로 사용하는 해시 조인.
+    /// @param left 조회(probe) 쪽 스트림
+    /// @param right 해시 테이블을 만들(build) 쪽 튜플들
+    /// @param leftKeys 왼쪽 키 컬럼 인덱스들
+    /// @param rightKeys 오른쪽 키 컬럼 인덱스들 (왼쪽과 개수가 같아야 함)
+    /// @return 조인 결과 스트림
+    /// @throws IllegalArgumentException 키 컬럼 수가 다른 경우
+    public static Stream<Tuple> hash(@NotNull Stream<? extends Tuple> left, @NotNull Iterable<? extends Tuple> right,
+                                     int @NotNull [] leftKeys, int @NotNull [] rightKeys) {
+        return index(right, rightKeys).join(left, leftKeys);
+    }
+
+    /// 해시 조인에 사용할 해시 테이블을 만든다.
+    /// @param tuples 튜플들
+    /// @param keys 키 컬럼 인덱스들
+    /// @return 해시 테이블
+    public static HashIndex index(@NotNull Iterable<? extends Tuple> tuples, int @NotNull ... keys) {
+        if (keys.length == 0) {
+            throw new IllegalArgumentException("No key columns");
+        }
+        List<Tuple> rows = new ArrayList<>();
+        List<Object> rowKeys = new ArrayList<>();
+        boolean integral = (keys.length == 1);
+        for (Tuple tuple : tuples) {
+            Object key = key(tuple, keys);
+            if (key == null) {
+                continue;
+            }
+            integral &= (key instanceof Long);
+            rows.add(tuple);
+            rowKeys.add(key);
+        }
+        return new HashIndex(keys, rows.toArray(new Tuple[0]), rowKeys, integral);
+    }
+
+    /// 조인 키로 정렬된 두 스트림을 병합하는 병합 조인. 결과 순서는 왼쪽 튜플의 순서를 따른다.
+    /// 반환된 스트림을 닫으면 두 입력 스트림도 닫힌다.
+    /// @param left 왼쪽 스트림 (키 오름차순 정렬)
+    /// @param right 오른쪽 스트림 (키 오름차순 정렬)
+    /// @param leftKey 왼쪽 키 컬럼 인덱스
+    /// @param rightKey 오른쪽 키 컬럼 인덱스
+    /// @return 조인 결과 스트림
+    public static Stream<Tuple> merge(@NotNull Stream<? extends Tuple> left, @NotNull Stream<? extends Tuple> right,
+                                      int leftKey, int rightKey) {
+        return merge(left, right, new int[] { leftKey }, new int[] { rightKey });
+    }
+
+    /// 여러 컬럼을 키로 사용하는 병합 조인.
+    /// @param left 왼쪽 스트림 (키 오름차순 정렬)
+    /// @param right 오른쪽 스트림 (키 오름차순 정렬)
+    /// @param leftKeys 왼쪽 키 컬럼 인덱스들
+    /// @param rightKeys 오른쪽 키 컬럼 인덱스들 (왼쪽과 개수가 같아야 함)
+    /// @return 조인 결과 스트림
+    /// @throws IllegalArgumentException 키 컬럼 수가 다른 경우
+    public static Stream<Tuple> merge(@NotNull Stream<? extends Tuple> left, @NotNull Stream<? extends Tuple> right,
+                                      int @NotNull [] leftKeys, int @NotNull [] rightKeys) {
+        checkKeys(leftKeys, rightKeys);
+        MergeJoin join = new MergeJoin(left.iterator(), right.iterator(), leftKeys.clone(), rightKeys.clone());
+        return StreamSupport.stream(join, false)
+                .onClose(() -> {
+                    try {
+                        left.close();
+                    } finally {
+                        right.close();
+                    }
+                });
+    }
+
+    /// 두 튜플을 조인한 결과 튜플을 만든다. `left.append(right)`와 같지만 값을 복사하지 않는다.
+    static Tuple joined(Tuple left, Tuple right) {
+        if (right.isEmpty()) {
+            return left;
+        }
+        Tuple values = left.isEmpty()? right.frozen(): new ConcatTuple(left.frozen(), right.frozen());
+        if (left instanceof NamedTuple named) {
+            TupleSchema schema = (right instanceof NamedTuple other)?
+                    named.schema().append(left.size(), other.schema()): named.schema();
+            return NamedTuple.named(schema, values);
+        }
+        return values;
+    }
+
+    private static void checkKeys(int[] leftKeys, int[] rightKeys) {
+        if (leftKeys.length == 0 || leftKeys.length != rightKeys.length) {
+            throw new IllegalArgumentException("Key columns do not match: " +
+                    Arrays.toString(leftKeys) + " and " + Arrays.toString(rightKeys));
+        }
+    }
+
+    /// 키 값을 비교 가능한 형태로 만든다. 정수 값은 [Long]으로 바꾼다.
+    private static Object normalize(Object value) {
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        return value;
+    }
+
+    /// 튜플의 키를 만든다. 키 컬럼이 하나이면 값 자체, 여러개이면 [Tuple]이다.
+    /// @return 키, 키 값 중 하나라도 `null`이면 `null`
+    private static Object key(Tuple tuple, int[] keys) {
+        if (keys.length == 1) {
+            return normalize(tuple.get(keys[0]));
+        }
+        Object[] values = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            Object value = normalize(tuple.get(keys[i]));
+            if (value == null) {
+                return null;
+            }
+            values[i] = value;
+        }
+        return new Tuple(values, false);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareKeys(Object a, Object b) {
+        if (a instanceof Tuple x && b instanceof Tuple y) {
+            for (int i = 0, size = x.size(); i < size; i++) {
+                int c = ((Comparable) x.get(i)).compareTo(y.get(i));
+                if (c != 0) return c;
+            }
+            return 0;
+        }
+        return ((Comparable) a).compareTo(b);
+    }
+
+    /// 해시 조인의 해시 테이블. 생성 후에는 변경되지 않으므로 여러 스레드에서 동시에 조회할 수 있다.
+    ///
+    /// 같은 키를 가지는 튜플들은 입력 순서대로 연결(chain)되며, 키가 하나의 정수 컬럼이면 `long` 배열의
+    /// open addressing 테이블을, 그 외에는 [HashMap]을 사용한다.
+    public static final class HashIndex {
+
+        /// 키 컬럼 인덱스들
+        private final int[] keys;
+
+        /// 튜플들
+        private final Tuple[] rows;
+
+        /// 같은 키를 가지는 다음 튜플의 위치, 없으면 `-1`
+        private final int[] next;
+
+        /// `long` 테이블의 키, `null`이면 [#heads] 맵을 사용
+        private final long[] longKeys;
+
+        /// `long` 테이블의 첫번째 튜플 위치 + 1, `0`이면 빈 슬롯
+        private final int[] longHeads;
+
+        /// 일반 키 -> 첫번째 튜플 위치
+        private final Map<Object, Integer> heads;
+
+        private HashIndex(int[] keys, Tuple[] rows, List<Object> rowKeys, boolean integral) {
+            this.keys = keys.clone();
+            this.rows = rows;
+            this.next = new int[rows.length];
+            if (integral) {
+                int capacity = Integer.highestOneBit(Math.max(rows.length, 1) * 2 - 1) << 1;
+                this.longKeys = new long[capacity];
+                this.longHeads = new int[capacity];
+                this.heads = null;
+                int mask = capacity - 1;
+                // 뒤에서부터 추가하여 연결 순서가 입력 순서가 되도록 한다.
+                for (int row = rows.length - 1; row >= 0; row--) {
+                    long key = (Long) rowKeys.get(row);
+                    int slot = spread(key) & mask;
+                    while (longHeads[slot] != 0 && longKeys[slot] != key) {
+                        slot = (slot + 1) & mask;
+                    }
+                    longKeys[slot] = key;
+                    next[row] = longHeads[slot] - 1;
+                    longHeads[slot] = row + 1;
+                }
+            } else {
+                this.longKeys = null;
+                this.longHeads = null;
+                this.heads = new HashMap<>(Math.max((int) (rows.length / 0.75f) + 1, 16));
+                for (int row = rows.length - 1; row >= 0; row--) {
+                    Integer head = heads.put(rowKeys.get(row), row);
+                    next[row] = (head == null)? -1: head;
+                }
+            }
+        }
+
+        /// 해시 테이블의 튜플 수 (`null` 키를 가진 튜플 제외)
+        /// @return 튜플 수
+        public int size() { return rows.length; }
+
+        /// 키 컬럼 인덱스들
+        /// @return 키 컬럼 인덱스 배열의 복사본
+        public int[] keys() { return keys.clone(); }
+
+        /// 키와 일치하는 튜플들을 반환한다.
+        /// @param keyValues 키 컬럼 순서대로 나열한 키 값들
+        /// @return 일치하는 튜플 목록
+        /// @throws IllegalArgumentException 키 값의 개수가 키 컬럼 수와 다른 경우
+        public List<Tuple> get(Object @NotNull ... keyValues) {
+            if (keyValues.length != keys.length) {
+                throw new IllegalArgumentException("Expected " + keys.length + " key values: " + Arrays.toString(keyValues));
+            }
+            int[] positions = new int[keyValues.length];
+            Arrays.setAll(positions, i -> i);
+            Object key = key(new Tuple(keyValues, false), positions);
+            List<Tuple> matches = new ArrayList<>();
+            for (int row = head(key); row >= 0; row = next[row]) {
+                matches.add(rows[row]);
+            }
+            return matches;
+        }
+
+        /// 왼쪽 스트림의 튜플들로 조회한 조인 결과를 반환한다. 왼쪽 스트림이 병렬 스트림이면 조회도 병렬로 수행된다.
+        /// @param left 조회(probe) 쪽 스트림
+        /// @param leftKeys 왼쪽 키 컬럼 인덱스들 (해시 테이블의 키 컬럼과 개수가 같아야 함)
+        /// @return 조인 결과 스트림
+        /// @throws IllegalArgumentException 키 컬럼 수가 다른 경우
+        public Stream<Tuple> join(@NotNull Stream<? extends Tuple> left, int @NotNull ... leftKeys) {
+            checkKeys(leftKeys, keys);
+            int[] probeKeys = leftKeys.clone();
+            return left.mapMulti((Tuple tuple, Consumer<Tuple> downstream) -> {
+                Object key = key(tuple, probeKeys);
+                if (key == null) {
+                    return;
+                }
+                for (int row = head(key); row >= 0; row = next[row]) {
+                    downstream.accept(joined(tuple, rows[row]));
+                }
+            });
+        }
+
+        /// 키에 해당하는 첫번째 튜플의 위치를 찾는다.
+        /// @return 위치, 없으면 `-1`
+        private int head(Object key) {
+            if (key == null) {
+                return -1;
+            }
+            if (longKeys == null) {
+                Integer head = heads.get(key);
+                return (head == null)? -1: head;
+            }
+            if (!(key instanceof Long value)) {
+                return -1;
+            }
+            long k = value;
+            int mask = longKeys.length - 1;
+            int slot = spread(k) & mask;
+            int head;
+            while ((head = longHeads[slot]) != 0) {
+                if (longKeys[slot] == k) {
+                    return head - 1;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private static int spread(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+
+    /// 병합 조인 스플리터레이터
+    private static final class MergeJoin extends Spliterators.AbstractSpliterator<Tuple> {
+
+        private final Iterator<? extends Tuple> left;
+        private final Iterator<? extends Tuple> right;
+        private final int[] leftKeys;
+        private final int[] rightKeys;
+
+        /// 현재 왼쪽 튜플과 키
+        private Tuple leftRow;
+        private Object leftKey;
+
+        /// 다음에 처리할 오른쪽 튜플과 키
+        private Tuple rightRow;
+        private Object rightKey;
+
+        /// 현재 오른쪽 그룹 (같은 키를 가진 오른쪽 튜플들)과 키
+        private final List<Tuple> group = new ArrayList<>();
+        private Object groupKey;
+
+        /// 현재 왼쪽 튜플에 대해 다음에 반환할 그룹 내 위치
+        private int groupIndex;
+
+        private boolean started;
+
+        MergeJoin(Iterator<? extends Tuple> left, Iterator<? extends Tuple> right, int[] leftKeys, int[] rightKeys) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.left = left;
+            this.right = right;
+            this.leftKeys = leftKeys;
+            this.rightKeys = rightKeys;
+        }
+
+        private void advanceLeft() {
+            leftRow = left.hasNext()? left.next(): null;
+            leftKey = (leftRow == null)? null: key(leftRow, leftKeys);
+            groupIndex = 0;
+        }
+
+        private void advanceRight() {
+            rightRow = right.hasNext()? right.next(): null;
+            rightKey = (rightRow == null)? null: key(rightRow, rightKeys);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Tuple> action) {
+            if (!started) {
+                started = true;
+                advanceLeft();
+                advanceRight();
+            }
+            while (leftRow != null) {
+                if (leftKey == null) {
+                    // 단일 컬럼의 null 키는 마지막에 정렬되므로 더 이상 일치하는 키가 없다.
+                    // 여러 컬럼의 키는 컬럼별로 null이 마지막이므로 null이 포함된 키 뒤에도 일치하는 키가 있을 수 있다.
+                    if (leftKeys.length == 1) {
+                        return false;
+                    }
+                    advanceLeft();
+                    continue;
+                }
+                if (groupKey != null && compareKeys(leftKey, groupKey) == 0) {
+                    if (groupIndex < group.size()) {
+                        action.accept(joined(leftRow, group.get(groupIndex++)));
+                        return true;
+                    }
+                    advanceLeft();
+                    continue;
+                }
+                // 왼쪽 키보다 작은 오른쪽 튜플과 null 키를 가진 오른쪽 튜플을 건너뛴다.
+                while (rightRow != null && (rightKey == null || compareKeys(rightKey, leftKey) < 0)) {
+                    if (rightKey == null && rightKeys.length == 1) {
+                        rightRow = null;
+                        break;
+                    }
+                    advanceRight();
+                }
+                if (rightRow == null) {
+                    // 남은 왼쪽 키는 모두 마지막 그룹의 키보다 크다.
+                    return false;
+                }
+                if (compareKeys(rightKey, leftKey) == 0) {
+                    group.clear();
+                    groupKey = rightKey;
+                    while (rightRow != null && rightKey != null && compareKeys(rightKey, groupKey) == 0) {
+                        group.add(rightRow);
+                        advanceRight();
+                    }
+                    groupIndex = 0;
+                } else {
+                    advanceLeft();
+                }
+            }
+            return false;
+        }
+    }
+}
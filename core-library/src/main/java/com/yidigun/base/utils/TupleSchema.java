@@ -0,0 +1,363 @@
+package com.yidigun.base.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/// [NamedTuple]의 이름 목록을 나타내는 불변 스키마.
+///
+/// 같은 이름 목록을 가진 스키마는 하나의 인스턴스로 공유(intern)되므로,
+/// 같은 헤더를 가진 여러 행(row)이 이름 배열을 각각 복사하지 않는다.
+/// 이름으로 위치를 찾는 테이블은 생성 시점에 한번만 만들어 두므로 조회 비용은 컬럼 수와 무관하다.
+///
+/// ```java
+/// TupleSchema schema = TupleSchema.of("member_no", "name", "register_date");
+/// for (Object[] row : rows) {
+///     NamedTuple tuple = NamedTuple.of(schema, row);
+///     ...
+/// }
+/// ```
+///
+/// 이름이 `null` 또는 빈 문자열인 위치는 이름이 없는 것으로 취급한다.
+/// 이름이 중복된 경우 이름으로 조회하면 앞쪽의 위치가 반환된다.
+///
+/// [#append(int, TupleSchema)], [#subSchema(int, int)] 등으로 파생된 스키마는 원본 스키마에 캐시되므로,
+/// 같은 모양의 튜플들을 반복해서 합치거나 잘라도 스키마는 한번만 만들어진다.
+///
+/// 공유된 스키마는 더 이상 참조되지 않으면 GC 대상이 된다.
+///
+/// @see NamedTuple
+public final class TupleSchema implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -1706934214394418412L;
+
+    /// 이름이 없는 빈 스키마
+    public static final TupleSchema EMPTY = new TupleSchema(new String[0]);
+
+    /// 스키마 하나에 캐시할 파생 스키마의 최대 개수
+    private static final int MAX_DERIVED = 64;
+
+    /// [#parse(String, String)] 캐시의 최대 크기
+    private static final int MAX_PARSED = 1024;
+
+    /// (이름 목록 문자열, 구분자) -> 스키마 캐시.
+    /// 값은 약한 참조이므로 캐시가 공유 스키마의 GC를 막지 않는다.
+    private static final Map<ParseKey, WeakReference<TupleSchema>> PARSED = new ConcurrentHashMap<>();
+
+    /// 공유 스키마 저장소. 조회는 락 없이 하고, 새 스키마를 등록할 때만 락을 사용한다.
+    /// GC된 스키마의 항목은 [#COLLECTED]로 확인하여 등록할 때 제거한다.
+    private static final Map<List<String>, SchemaRef> INTERNED = new ConcurrentHashMap<>();
+
+    /// GC된 공유 스키마의 참조 큐
+    private static final ReferenceQueue<TupleSchema> COLLECTED = new ReferenceQueue<>();
+
+    /// 이름 배열
+    private final String[] names;
+
+    /// 공유 저장소의 키로 사용되는 이름 목록
+    private final transient List<String> key;
+
+    /// 이름 -> 위치 조회 테이블 (open addressing). 값은 `위치 + 1`이며 `0`은 빈 슬롯.
+    private final transient int[] table;
+
+    /// 캐시된 해시코드
+    private final transient int hash;
+
+    /// 파생 스키마 캐시 (처음 파생할 때 생성한다)
+    private transient volatile Map<Object, TupleSchema> derived;
+
+    /// [NamedTuple#toMap()]의 위치별 키 배열 (지연 생성)
+    private transient volatile String[] mapKeys;
+
+    /// [#mapKeys()] 중 `null`이 아닌 키의 개수
+    private transient volatile int mapKeyCount;
+
+    private TupleSchema(String[] names) {
+        this.names = names;
+        this.key = Collections.unmodifiableList(Arrays.asList(names));
+        this.hash = Arrays.hashCode(names);
+
+        int capacity = Integer.highestOneBit(Math.max(names.length, 1) * 2 - 1) << 1;
+        int[] table = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i];
+            if (StringUtils.isEmpty(name)) {
+                continue;
+            }
+            int slot = spread(name.hashCode()) & mask;
+            while (table[slot] != 0 && !names[table[slot] - 1].equals(name)) {
+                slot = (slot + 1) & mask;
+            }
+            if (table[slot] == 0) {
+                table[slot] = i + 1; // 중복된 이름은 앞쪽 위치를 유지
+            }
+        }
+        this.table = table;
+    }
+
+    /// 이름 배열로 공유 스키마를 찾거나 생성한다.
+    /// @param names 이름 배열
+    /// @return 공유 스키마
+    public static TupleSchema of(@NotNull String... names) {
+        if (names.length == 0) {
+            return EMPTY;
+        }
+        SchemaRef ref = INTERNED.get(Arrays.asList(names));
+        TupleSchema schema = (ref == null)? null: ref.get();
+        return (schema != null)? schema: intern(names);
+    }
+
+    /// 공유 저장소에 없는 스키마를 등록한다. 같은 이름 목록을 동시에 등록하지 않도록 락을 사용한다.
+    private static TupleSchema intern(String[] names) {
+        synchronized (INTERNED) {
+            expungeCollected();
+            SchemaRef ref = INTERNED.get(Arrays.asList(names));
+            TupleSchema schema = (ref == null)? null: ref.get();
+            if (schema == null) {
+                schema = new TupleSchema(names.clone());
+                INTERNED.put(schema.key, new SchemaRef(schema));
+            }
+            return schema;
+        }
+    }
+
+    /// GC된 스키마의 항목을 공유 저장소에서 제거한다.
+    private static void expungeCollected() {
+        Reference<? extends TupleSchema> ref;
+        while ((ref = COLLECTED.poll()) != null) {
+            INTERNED.remove(((SchemaRef) ref).key, ref);
+        }
+    }
+
+    /// 공유 스키마의 약한 참조. 스키마가 GC된 후 항목을 제거할 수 있도록 키를 가진다.
+    private static final class SchemaRef extends WeakReference<TupleSchema> {
+        private final List<String> key;
+
+        SchemaRef(TupleSchema schema) {
+            super(schema, COLLECTED);
+            this.key = schema.key;
+        }
+    }
+
+    /// 구분자로 나열된 이름 목록 문자열을 분할하여 공유 스키마를 찾거나 생성한다.
+    /// 분할은 [StringUtils#splitTrimmed(String, String)]를 사용하며, 구분자는 문자 그대로 비교한다.
+    ///
+    /// 같은 (이름 목록 문자열, 구분자)에 대한 결과는 캐시되므로 반복문 안에서 호출해도 문자열을 다시 분할하지 않는다.
+    /// 캐시는 최대 1024개까지 저장하며, 가득 차면 GC된 스키마의 항목을 먼저 제거하고 그래도 부족하면 임의의 항목을 제거한다.
+    ///
+    /// 이름이 두개인 스키마를 만드는 `of(String...)`와 혼동되지 않도록 별도의 이름을 사용한다.
+    ///
+    /// @param names 이름 목록 문자열 (예: `"name, age"`)
+    /// @param delimiter 이름 목록을 구분하는 문자열
+    /// @return 공유 스키마
+    public static TupleSchema parse(String names, String delimiter) {
+        if (StringUtils.isEmpty(names))
+            return EMPTY;
+        else if (StringUtils.isEmpty(delimiter))
+            return of(names);
+
+        ParseKey key = new ParseKey(names, delimiter);
+        WeakReference<TupleSchema> ref = PARSED.get(key);
+        TupleSchema schema = (ref == null)? null: ref.get();
+        if (schema == null) {
+            schema = of(StringUtils.splitTrimmed(names, delimiter));
+            if (PARSED.size() >= MAX_PARSED) {
+                evictParsed();
+            }
+            PARSED.put(key, new WeakReference<>(schema));
+        }
+        return schema;
+    }
+
+    /// [#PARSED] 캐시에 자리를 만든다.
+    private static void evictParsed() {
+        PARSED.values().removeIf(ref -> ref.get() == null);
+        Iterator<ParseKey> keys = PARSED.keySet().iterator();
+        while (PARSED.size() >= MAX_PARSED && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    /// 이름 개수
+    /// @return 이름 개수 (이름이 없는 위치 포함)
+    public int size() { return names.length; }
+
+    /// 지정된 위치의 이름을 반환한다.
+    /// @param index 위치
+    /// @return 이름. 범위를 벗어나거나 이름이 없는 경우 `null`
+    public String name(int index) {
+        return (index >= 0 && index < names.length && !StringUtils.isEmpty(names[index]))? names[index]: null;
+    }
+
+    /// 이름 목록
+    /// @return 변경 불가능한 이름 목록
+    public List<String> names() { return key; }
+
+    /// 이름에 해당하는 위치를 찾는다.
+    /// @param name 이름
+    /// @return 위치, 없으면 `-1`
+    public int indexOf(String name) {
+        if (StringUtils.isEmpty(name)) {
+            return -1;
+        }
+        int mask = table.length - 1;
+        int slot = spread(name.hashCode()) & mask;
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            if (names[entry - 1].equals(name)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /// [NamedTuple#toMap()]이 사용하는 위치별 키 배열을 반환한다.
+    /// 이름이 없는 위치는 `index[n]`, 앞쪽에 같은 이름이 있어 키로 사용할 수 없는 위치는 `null`이다.
+    /// `index[n]`과 같은 이름의 컬럼이 있으면 [NamedTuple#get(String)]과 같이 그 컬럼이 우선하므로 이름이 없는 위치는 `null`이다.
+    /// 반환된 배열은 변경하면 안된다.
+    /// @return 키 배열
+    String[] mapKeys() {
+        String[] keys = mapKeys;
+        if (keys == null) {
+            keys = new String[names.length];
+            int count = 0;
+            for (int i = 0; i < names.length; i++) {
+                String name = name(i);
+                keys[i] = (name == null)? indexKey(i): (indexOf(name) == i)? name: null;
+                if (keys[i] != null) count++;
+            }
+            mapKeyCount = count;
+            mapKeys = keys;
+        }
+        return keys;
+    }
+
+    /// 이름이 없는 위치의 맵 키
+    /// @param index 위치
+    /// @return `index[n]` 형식의 키, 같은 이름의 컬럼이 있으면 `null`
+    String indexKey(int index) {
+        String key = NamedTuple.indexName(index);
+        return (indexOf(key) < 0)? key: null;
+    }
+
+    /// [#mapKeys()] 중 `null`이 아닌 키의 개수
+    /// @return 키 개수
+    int mapKeyCount() {
+        mapKeys();
+        return mapKeyCount;
+    }
+
+    /// 앞에서부터 `size`개의 이름만 가지는 스키마를 반환한다.
+    /// @param size 이름 개수
+    /// @return 파생 스키마. `size`가 현재 크기 이상이면 현재 스키마
+    public TupleSchema truncate(int size) {
+        if (size >= names.length) {
+            return this;
+        }
+        return subSchema(0, size);
+    }
+
+    /// 지정된 범위의 이름만 가지는 스키마를 반환한다.
+    /// 범위가 이름 개수를 넘어서는 경우 존재하는 이름까지만 사용한다.
+    /// @param startIndex 시작 위치
+    /// @param endIndex 끝 위치 (exclusive)
+    /// @return 파생 스키마
+    public TupleSchema subSchema(int startIndex, int endIndex) {
+        int start = Math.max(startIndex, 0);
+        int end = Math.min(endIndex, names.length);
+        if (start == 0 && end == names.length) {
+            return this;
+        }
+        if (start >= end) {
+            return EMPTY;
+        }
+        return derive(new SubKey(start, end), () -> Arrays.copyOfRange(names, start, end));
+    }
+
+    /// 현재 스키마를 `size` 위치까지 이름 없이 채운 뒤 다른 스키마의 이름을 이어붙인 스키마를 반환한다.
+    /// @param size 다른 스키마의 이름이 시작될 위치 (현재 튜플의 값 개수)
+    /// @param other 이어붙일 스키마
+    /// @return 파생 스키마
+    public TupleSchema append(int size, @NotNull TupleSchema other) {
+        if (other.names.length == 0) {
+            return truncate(size);
+        }
+        return derive(new AppendKey(size, other), () -> {
+            String[] newNames = Arrays.copyOf(names, size + other.names.length);
+            if (size < names.length) {
+                Arrays.fill(newNames, size, names.length, null);
+            }
+            System.arraycopy(other.names, 0, newNames, size, other.names.length);
+            return newNames;
+        });
+    }
+
+    /// 파생 스키마를 캐시에서 찾거나 생성한다. 캐시가 가득 찬 경우 캐시하지 않는다.
+    private TupleSchema derive(Object key, Supplier<String[]> names) {
+        Map<Object, TupleSchema> derived = this.derived;
+        if (derived == null) {
+            synchronized (this) {
+                derived = this.derived;
+                if (derived == null) {
+                    this.derived = derived = new ConcurrentHashMap<>();
+                }
+            }
+        }
+        TupleSchema schema = derived.get(key);
+        if (schema == null) {
+            schema = of(names.get());
+            if (derived.size() < MAX_DERIVED) {
+                derived.putIfAbsent(key, schema);
+            }
+        }
+        return schema;
+    }
+
+    /// 해시값의 상위 비트를 하위 비트에 섞는다.
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    /// 역직렬화된 스키마를 공유 스키마로 교체한다.
+    @Serial
+    private Object readResolve() {
+        return of(names);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof TupleSchema that)) return false;
+        return hash == that.hash && Arrays.equals(names, that.names);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "TupleSchema" + key;
+    }
+
+    /// [#parse(String, String)] 캐시 키
+    private record ParseKey(String names, String delimiter) {}
+
+    /// [#subSchema(int, int)] 캐시 키
+    private record SubKey(int start, int end) {}
+
+    /// [#append(int, TupleSchema)] 캐시 키. 스키마는 공유되므로 동일성으로 비교해도 충분하다.
+    private record AppendKey(int size, TupleSchema other) {}
+}
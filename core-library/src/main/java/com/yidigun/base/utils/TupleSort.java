@@ -0,0 +1,542 @@
+package com.yidigun.base.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serial;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/// 메모리에 있는 [Tuple] 목록을 여러 컬럼 기준으로 정렬한다.
+///
+/// [Comparator]로 정렬하면 비교할 때마다 값을 꺼내고 캐스팅해야 하지만,
+/// 이 클래스는 정렬 키를 컬럼별 배열로 한번만 추출한 후 행 번호의 순열(permutation)을 정렬하고 마지막에 행을 재배치한다.
+///
+/// - 정수(`int`, `long`, `short`, `byte`) 컬럼과 실수(`double`, `float`) 컬럼은 키를 `long`으로 변환하여 기수 정렬(radix sort)한다.
+///   [IntTuple], [LongTuple], [DoubleTuple], [MixedTuple]의 값은 박싱 없이 읽는다.
+///   정수와 실수가 섞인 컬럼은 모두 `double`로 변환하여 비교한다.
+/// - 그 외의 컬럼은 [Comparable] 값을 추출하여 병합 정렬한다. 행이 많으면 [ForkJoinPool#commonPool()]에서 병렬로 정렬한다.
+///
+/// ```java
+/// // 2번 컬럼 오름차순, 같으면 0번 컬럼 내림차순 (null은 앞으로)
+/// TupleSort.SortSpec spec = TupleSort.SortSpec.asc(2).thenDesc(0).nullsFirst();
+/// TupleSort.sort(rows, spec);
+/// ```
+///
+/// 정렬은 안정적(stable)이다. 여러 컬럼은 마지막 컬럼부터 차례로 안정 정렬하며,
+/// 연속된 [Comparable] 컬럼들은 한번의 병합 정렬로 처리한다.
+///
+/// @see TupleSorter
+public final class TupleSort {
+
+    /// 이 크기 이하의 구간은 삽입 정렬한다.
+    private static final int INSERTION_THRESHOLD = 32;
+
+    /// 이 크기보다 큰 구간은 병렬로 병합 정렬한다.
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /// 기수 정렬 한 자리의 비트 수
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int DIGITS = Long.SIZE / RADIX_BITS;
+
+    /// 컬럼 키의 종류
+    private static final byte INTEGRAL = 1, FLOATING = 2, OBJECT = 3;
+
+    private TupleSort() {}
+
+    /// 목록을 제자리에서 정렬한다.
+    /// @param rows 정렬할 목록, [List#set(int, Object)]를 지원해야 한다.
+    /// @param spec 정렬 기준
+    /// @param <T> 튜플 타입
+    /// @throws ClassCastException 값이 [Comparable]이 아니거나 서로 비교할 수 없는 경우
+    /// @throws IndexOutOfBoundsException 정렬 컬럼이 튜플의 크기를 벗어난 경우
+    public static <T extends Tuple> void sort(@NotNull List<T> rows, @NotNull SortSpec spec) {
+        Tuple[] array = rows.toArray(new Tuple[0]);
+        int[] order = order(array, spec);
+        ListIterator<T> it = rows.listIterator();
+        for (int index : order) {
+            it.next();
+            @SuppressWarnings("unchecked")
+            T row = (T) array[index];
+            it.set(row);
+        }
+    }
+
+    /// 정렬된 순서의 행 번호 배열을 반환한다. 목록은 변경하지 않는다.
+    /// @param rows 튜플 목록
+    /// @param spec 정렬 기준
+    /// @return `i`번째 원소가 정렬 후 `i`번째에 올 행의 번호인 배열
+    /// @throws ClassCastException 값이 [Comparable]이 아니거나 서로 비교할 수 없는 경우
+    /// @throws IndexOutOfBoundsException 정렬 컬럼이 튜플의 크기를 벗어난 경우
+    public static int[] order(@NotNull List<? extends Tuple> rows, @NotNull SortSpec spec) {
+        return order(rows.toArray(new Tuple[0]), spec);
+    }
+
+    private static int[] order(Tuple[] rows, SortSpec spec) {
+        int n = rows.length;
+        int[] order = new int[n];
+        Arrays.setAll(order, i -> i);
+        if (n < 2) {
+            return order;
+        }
+
+        int keyCount = spec.columns.length;
+        Key[] keys = new Key[keyCount];
+        for (int k = 0; k < keyCount; k++) {
+            keys[k] = Key.extract(rows, spec.columns[k]);
+        }
+
+        int k = keyCount - 1;
+        while (k >= 0) {
+            if (keys[k].kind != OBJECT) {
+                order = radixSort(order, keys[k], spec.descending[k], spec.nullsFirst[k]);
+                k--;
+            }
+            else {
+                int first = k;
+                while (first > 0 && keys[first - 1].kind == OBJECT) {
+                    first--;
+                }
+                mergeSort(order, comparator(keys, spec, first, k));
+                k = first - 1;
+            }
+        }
+        return order;
+    }
+
+    /// 한 컬럼의 정렬 키
+    private static final class Key {
+        final byte kind;
+        /// 기수 정렬 키 (부호 없는 정수로 비교하면 값의 순서와 같다)
+        final long[] bits;
+        final boolean[] nulls;
+        /// [#OBJECT] 키인 경우의 값
+        final Object[] values;
+
+        private Key(byte kind, long[] bits, boolean[] nulls, Object[] values) {
+            this.kind = kind;
+            this.bits = bits;
+            this.nulls = nulls;
+            this.values = values;
+        }
+
+        static Key extract(Tuple[] rows, int column) {
+            int n = rows.length;
+            long[] bits = new long[n];
+            boolean[] nulls = new boolean[n];
+            byte kind = 0;
+            for (int i = 0; i < n; i++) {
+                Tuple row = rows[i];
+                byte rowKind;
+                if (row instanceof IntTuple || row instanceof LongTuple) {
+                    rowKind = INTEGRAL;
+                    bits[i] = row.getLong(column);
+                }
+                else if (row instanceof DoubleTuple) {
+                    rowKind = FLOATING;
+                    bits[i] = Double.doubleToLongBits(row.getDouble(column));
+                }
+                else if (row instanceof MixedTuple mixed && mixed.typeAt(column) != Object.class) {
+                    Class<?> type = mixed.typeAt(column);
+                    rowKind = (type == double.class)? FLOATING: INTEGRAL;
+                    bits[i] = (rowKind == INTEGRAL)? mixed.getLong(column):
+                            Double.doubleToLongBits(mixed.getDouble(column));
+                }
+                else {
+                    Object value = row.get(column);
+                    if (value == null) {
+                        nulls[i] = true;
+                        continue;
+                    }
+                    else if (isIntegral(value)) {
+                        rowKind = INTEGRAL;
+                        bits[i] = ((Number) value).longValue();
+                    }
+                    else if (value instanceof Double || value instanceof Float) {
+                        rowKind = FLOATING;
+                        bits[i] = Double.doubleToLongBits(((Number) value).doubleValue());
+                    }
+                    else {
+                        return extractObjects(rows, column);
+                    }
+                }
+                if (kind == 0) {
+                    kind = rowKind;
+                }
+                else if (kind != rowKind) {
+                    return extractMixed(rows, column);
+                }
+            }
+
+            if (kind == FLOATING) {
+                return floating(bits, nulls);
+            }
+            for (int i = 0; i < n; i++) {
+                bits[i] ^= Long.MIN_VALUE;
+            }
+            return new Key(INTEGRAL, bits, nulls, null);
+        }
+
+        /// 정수와 실수가 섞인 컬럼은 모두 `double`로 변환한다. 숫자가 아닌 값이 있으면 [Comparable] 키를 추출한다.
+        static Key extractMixed(Tuple[] rows, int column) {
+            int n = rows.length;
+            long[] bits = new long[n];
+            boolean[] nulls = new boolean[n];
+            for (int i = 0; i < n; i++) {
+                Object value = rows[i].get(column);
+                if (value == null) {
+                    nulls[i] = true;
+                }
+                else if (isPrimitiveNumber(value)) {
+                    bits[i] = Double.doubleToLongBits(((Number) value).doubleValue());
+                }
+                else {
+                    return extractObjects(rows, column);
+                }
+            }
+            return floating(bits, nulls);
+        }
+
+        /// `double` 비트를 부호 없는 정수 순서가 [Double#compare(double, double)] 순서와 같은 키로 변환한다.
+        private static Key floating(long[] bits, boolean[] nulls) {
+            // 음수는 모든 비트를, 양수는 부호 비트만 뒤집는다.
+            for (int i = 0; i < bits.length; i++) {
+                long b = bits[i];
+                bits[i] = b ^ ((b >> 63) | Long.MIN_VALUE);
+            }
+            return new Key(FLOATING, bits, nulls, null);
+        }
+
+        static Key extractObjects(Tuple[] rows, int column) {
+            Object[] values = new Object[rows.length];
+            for (int i = 0; i < rows.length; i++) {
+                values[i] = rows[i].get(column);
+            }
+            return new Key(OBJECT, null, null, values);
+        }
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    private static boolean isPrimitiveNumber(Object value) {
+        return isIntegral(value) || value instanceof Double || value instanceof Float;
+    }
+
+    /// [SortSpec#comparator()]의 값 비교. 정렬 키와 같이 정수끼리는 `long`으로, 정수와 실수는 `double`로 비교한다.
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareValues(Object x, Object y) {
+        if (x.getClass() != y.getClass() && isPrimitiveNumber(x) && isPrimitiveNumber(y)) {
+            return (isIntegral(x) && isIntegral(y))?
+                    Long.compare(((Number) x).longValue(), ((Number) y).longValue()):
+                    Double.compare(((Number) x).doubleValue(), ((Number) y).doubleValue());
+        }
+        return ((Comparable) x).compareTo(y);
+    }
+
+    /// 한 컬럼으로 순열을 안정 기수 정렬한다.
+    private static int[] radixSort(int[] order, Key key, boolean descending, boolean nullsFirst) {
+        int n = order.length;
+        long flip = descending? -1L: 0L;
+
+        // null 행을 분리한다.
+        int[] index = new int[n];
+        long[] bits = new long[n];
+        int[] nullRows = new int[n];
+        int m = 0, nullCount = 0;
+        for (int row : order) {
+            if (key.nulls[row]) {
+                nullRows[nullCount++] = row;
+            }
+            else {
+                index[m] = row;
+                bits[m++] = key.bits[row] ^ flip;
+            }
+        }
+
+        int[][] counts = new int[DIGITS][RADIX];
+        for (int i = 0; i < m; i++) {
+            long b = bits[i];
+            for (int d = 0; d < DIGITS; d++) {
+                counts[d][(int) (b >>> (d * RADIX_BITS)) & (RADIX - 1)]++;
+            }
+        }
+
+        int[] indexBuffer = new int[m];
+        long[] bitsBuffer = new long[m];
+        for (int d = 0; d < DIGITS; d++) {
+            int[] count = counts[d];
+            int shift = d * RADIX_BITS;
+            if (m == 0 || count[(int) (bits[0] >>> shift) & (RADIX - 1)] == m) {
+                continue; // 모든 키의 이 자리가 같다.
+            }
+            for (int i = 0, sum = 0; i < RADIX; i++) {
+                int c = count[i];
+                count[i] = sum;
+                sum += c;
+            }
+            for (int i = 0; i < m; i++) {
+                int pos = count[(int) (bits[i] >>> shift) & (RADIX - 1)]++;
+                indexBuffer[pos] = index[i];
+                bitsBuffer[pos] = bits[i];
+            }
+            int[] t = index; index = indexBuffer; indexBuffer = t;
+            long[] u = bits; bits = bitsBuffer; bitsBuffer = u;
+        }
+
+        int[] result = (index.length == n)? index: new int[n];
+        if (nullsFirst) {
+            System.arraycopy(index, 0, result, nullCount, m);
+            System.arraycopy(nullRows, 0, result, 0, nullCount);
+        }
+        else {
+            if (result != index) {
+                System.arraycopy(index, 0, result, 0, m);
+            }
+            System.arraycopy(nullRows, 0, result, m, nullCount);
+        }
+        return result;
+    }
+
+    /// 행 번호 비교자
+    @FunctionalInterface
+    private interface RowComparator {
+        int compare(int a, int b);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static RowComparator comparator(Key[] keys, SortSpec spec, int first, int last) {
+        return (a, b) -> {
+            for (int k = first; k <= last; k++) {
+                Object x = keys[k].values[a];
+                Object y = keys[k].values[b];
+                if (x == y) continue;
+                if (x == null) return spec.nullsFirst[k]? -1: 1;
+                if (y == null) return spec.nullsFirst[k]? 1: -1;
+                int c = ((Comparable) x).compareTo(y);
+                if (c != 0) return spec.descending[k]? -c: c;
+            }
+            return 0;
+        };
+    }
+
+    /// 순열을 안정 병합 정렬한다.
+    private static void mergeSort(int[] order, RowComparator comparator) {
+        int[] buffer = new int[order.length];
+        if (order.length > PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ForkJoinPool.commonPool().invoke(new MergeTask(order, buffer, 0, order.length, comparator));
+        }
+        else {
+            mergeSort(order, buffer, 0, order.length, comparator);
+        }
+    }
+
+    private static void mergeSort(int[] a, int[] buffer, int from, int to, RowComparator comparator) {
+        if (to - from <= INSERTION_THRESHOLD) {
+            insertionSort(a, from, to, comparator);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(a, buffer, from, mid, comparator);
+        mergeSort(a, buffer, mid, to, comparator);
+        merge(a, buffer, from, mid, to, comparator);
+    }
+
+    private static void insertionSort(int[] a, int from, int to, RowComparator comparator) {
+        for (int i = from + 1; i < to; i++) {
+            int v = a[i];
+            int j = i - 1;
+            while (j >= from && comparator.compare(a[j], v) > 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = v;
+        }
+    }
+
+    private static void merge(int[] a, int[] buffer, int from, int mid, int to, RowComparator comparator) {
+        if (comparator.compare(a[mid - 1], a[mid]) <= 0) {
+            return; // 이미 정렬되어 있다.
+        }
+        System.arraycopy(a, from, buffer, from, to - from);
+        int i = from, j = mid, k = from;
+        while (i < mid && j < to) {
+            a[k++] = (comparator.compare(buffer[j], buffer[i]) < 0)? buffer[j++]: buffer[i++];
+        }
+        System.arraycopy(buffer, i, a, k, mid - i);
+        System.arraycopy(buffer, j, a, k + (mid - i), to - j);
+    }
+
+    private static final class MergeTask extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 3904427731950346105L;
+
+        private final int[] a;
+        private final int[] buffer;
+        private final int from, to;
+        private final RowComparator comparator;
+
+        MergeTask(int[] a, int[] buffer, int from, int to, RowComparator comparator) {
+            this.a = a;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                mergeSort(a, buffer, from, to, comparator);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new MergeTask(a, buffer, from, mid, comparator),
+                    new MergeTask(a, buffer, mid, to, comparator));
+            merge(a, buffer, from, mid, to, comparator);
+        }
+    }
+
+    /// 정렬 기준. 정렬할 컬럼 번호와 각 컬럼의 정렬 방향, null 위치를 나열한다.
+    ///
+    /// null은 정렬 방향과 관계없이 기본적으로 뒤에 온다. [#nullsFirst()], [#nullsLast()]는 마지막으로 추가한 컬럼에 적용된다.
+    ///
+    /// 이 객체는 불변이다.
+    public static final class SortSpec {
+
+        private final int[] columns;
+        private final boolean[] descending;
+        private final boolean[] nullsFirst;
+
+        private SortSpec(int[] columns, boolean[] descending, boolean[] nullsFirst) {
+            this.columns = columns;
+            this.descending = descending;
+            this.nullsFirst = nullsFirst;
+        }
+
+        /// 오름차순 정렬 기준을 생성한다.
+        /// @param column 컬럼 번호
+        /// @return 정렬 기준
+        public static SortSpec asc(int column) {
+            return new SortSpec(new int[0], new boolean[0], new boolean[0]).then(column, false);
+        }
+
+        /// 내림차순 정렬 기준을 생성한다.
+        /// @param column 컬럼 번호
+        /// @return 정렬 기준
+        public static SortSpec desc(int column) {
+            return new SortSpec(new int[0], new boolean[0], new boolean[0]).then(column, true);
+        }
+
+        /// 오름차순 컬럼을 추가한 정렬 기준을 반환한다.
+        /// @param column 컬럼 번호
+        /// @return 새 정렬 기준
+        public SortSpec thenAsc(int column) {
+            return then(column, false);
+        }
+
+        /// 내림차순 컬럼을 추가한 정렬 기준을 반환한다.
+        /// @param column 컬럼 번호
+        /// @return 새 정렬 기준
+        public SortSpec thenDesc(int column) {
+            return then(column, true);
+        }
+
+        /// 마지막 컬럼의 null을 앞에 두는 정렬 기준을 반환한다.
+        /// @return 새 정렬 기준
+        public SortSpec nullsFirst() {
+            return withNullsFirst(true);
+        }
+
+        /// 마지막 컬럼의 null을 뒤에 두는 정렬 기준을 반환한다.
+        /// @return 새 정렬 기준
+        public SortSpec nullsLast() {
+            return withNullsFirst(false);
+        }
+
+        /// 정렬 컬럼 수를 반환한다.
+        /// @return 정렬 컬럼 수
+        public int size() {
+            return columns.length;
+        }
+
+        /// `index`번째 정렬 컬럼 번호를 반환한다.
+        /// @param index 정렬 기준 내의 순서
+        /// @return 컬럼 번호
+        public int column(int index) {
+            return columns[index];
+        }
+
+        /// `index`번째 정렬 컬럼이 내림차순인지 여부를 반환한다.
+        /// @param index 정렬 기준 내의 순서
+        /// @return 내림차순이면 `true`
+        public boolean isDescending(int index) {
+            return descending[index];
+        }
+
+        /// `index`번째 정렬 컬럼의 null이 앞에 오는지 여부를 반환한다.
+        /// @param index 정렬 기준 내의 순서
+        /// @return null이 앞에 오면 `true`
+        public boolean isNullsFirst(int index) {
+            return nullsFirst[index];
+        }
+
+        /// 같은 순서로 비교하는 [Comparator]를 반환한다. [TupleSorter] 등에 사용할 수 있다.
+        /// [TupleSort#sort(List, SortSpec)]와 같이 정수와 실수가 섞인 컬럼은 `double`로 비교한다.
+        /// @return 튜플 비교자
+        public Comparator<Tuple> comparator() {
+            return (a, b) -> {
+                for (int k = 0; k < columns.length; k++) {
+                    Object x = a.get(columns[k]);
+                    Object y = b.get(columns[k]);
+                    if (x == y) continue;
+                    if (x == null) return nullsFirst[k]? -1: 1;
+                    if (y == null) return nullsFirst[k]? 1: -1;
+                    int c = compareValues(x, y);
+                    if (c != 0) return descending[k]? -c: c;
+                }
+                return 0;
+            };
+        }
+
+        private SortSpec then(int column, boolean desc) {
+            if (column < 0) {
+                throw new IllegalArgumentException("Invalid column: " + column);
+            }
+            int n = columns.length;
+            int[] c = Arrays.copyOf(columns, n + 1);
+            boolean[] d = Arrays.copyOf(descending, n + 1);
+            c[n] = column;
+            d[n] = desc;
+            return new SortSpec(c, d, Arrays.copyOf(nullsFirst, n + 1));
+        }
+
+        private SortSpec withNullsFirst(boolean first) {
+            boolean[] f = nullsFirst.clone();
+            f[f.length - 1] = first;
+            return new SortSpec(columns, descending, f);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return (obj instanceof SortSpec other) && Arrays.equals(columns, other.columns) &&
+                    Arrays.equals(descending, other.descending) && Arrays.equals(nullsFirst, other.nullsFirst);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(Arrays.hashCode(columns), Arrays.hashCode(descending), Arrays.hashCode(nullsFirst));
+        }
+
+        @Override
+        public String toString() {
+            StringJoiner joiner = new StringJoiner(", ", "SortSpec[", "]");
+            for (int k = 0; k < columns.length; k++) {
+                joiner.add(columns[k] + (descending[k]? " DESC": " ASC") + (nullsFirst[k]? " NULLS FIRST": ""));
+            }
+            return joiner.toString();
+        }
+    }
+}
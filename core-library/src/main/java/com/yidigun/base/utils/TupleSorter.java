@@ -0,0 +1,404 @@
+package com.yidigun.base.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/// 힙보다 큰 튜플 스트림을 정렬하는 외부 병합 정렬기.
+///
+/// 입력을 정해진 행 수([#runSize()])만큼씩 메모리에서 정렬한 뒤([Comparator]를 사용하는 안정 정렬),
+/// 정렬된 구간(run)을 [TupleCodec] 형식으로 임시 파일에 내보낸다(spill).
+/// 입력을 모두 읽은 후에는 임시 파일들을 순차적으로 읽으면서 k-way 병합한 결과를 스트림으로 반환한다.
+/// 입력이 한 구간에 모두 들어가면 임시 파일을 만들지 않는다.
+///
+/// ```java
+/// TupleSorter sorter = TupleSorter.of(TupleSorter.comparing(2, 0))
+///         .withRunSize(500_000);
+/// TupleSorter.Metrics metrics = new TupleSorter.Metrics();
+/// try (Stream<NamedTuple> rows = CsvCodec.of().readTuples(reader);
+///      Stream<Tuple> sorted = sorter.sort(rows, metrics)) {
+///     sorted.forEach(writer::write);
+/// }
+/// log.info("sorted {} rows with {} runs", metrics.rowsRead(), metrics.runs());
+/// ```
+///
+/// 반환된 스트림은 반드시 닫아야 한다. 스트림을 닫으면 입력 스트림도 닫히고 임시 파일이 삭제된다.
+/// 정렬은 안정적(stable)이며, 튜플의 값은 [TupleCodec]이 지원하는 타입이어야 한다.
+///
+/// 병합할 구간이 [#MAX_FAN_IN]개보다 많으면 연속된 구간들을 먼저 병합하여 구간 수를 줄인다.
+///
+/// 이 객체는 불변이며 여러 스레드에서 공유할 수 있다.
+///
+/// @see TupleCodec
+public final class TupleSorter {
+
+    /// 기본 구간 크기 (행 수)
+    public static final int DEFAULT_RUN_SIZE = 500_000;
+
+    /// 한번에 병합할 최대 구간 수
+    public static final int MAX_FAN_IN = 64;
+
+    private final Comparator<? super Tuple> comparator;
+    private final int runSize;
+    private final Path tempDirectory;
+
+    private TupleSorter(Comparator<? super Tuple> comparator, int runSize, Path tempDirectory) {
+        this.comparator = comparator;
+        this.runSize = runSize;
+        this.tempDirectory = tempDirectory;
+    }
+
+    /// 정렬기를 생성한다.
+    /// @param comparator 튜플 비교자
+    /// @return 정렬기
+    public static TupleSorter of(@NotNull Comparator<? super Tuple> comparator) {
+        return new TupleSorter(comparator, DEFAULT_RUN_SIZE, null);
+    }
+
+    /// 지정한 컬럼들의 값을 차례로 비교하는 비교자를 반환한다.
+    /// 값은 [Comparable]이어야 하며, `null`은 다른 값보다 뒤에 정렬된다.
+    /// 내림차순은 [Comparator#reversed()]를 사용한다.
+    /// @param columns 비교할 컬럼 인덱스
+    /// @return 비교자
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Comparator<Tuple> comparing(int @NotNull ... columns) {
+        int[] indexes = columns.clone();
+        return (a, b) -> {
+            for (int column : indexes) {
+                Object x = a.get(column);
+                Object y = b.get(column);
+                if (x == y) continue;
+                if (x == null) return 1;
+                if (y == null) return -1;
+                int c = ((Comparable) x).compareTo(y);
+                if (c != 0) return c;
+            }
+            return 0;
+        };
+    }
+
+    /// 구간 크기를 변경한 새 정렬기를 반환한다.
+    /// 구간 크기는 메모리에서 한번에 정렬할 행 수이며, 힙 사용량은 대략 이 행 수에 비례한다.
+    /// @param runSize 구간 크기 (행 수)
+    /// @return 새 정렬기
+    public TupleSorter withRunSize(int runSize) {
+        if (runSize <= 0) {
+            throw new IllegalArgumentException("Invalid run size: " + runSize);
+        }
+        return new TupleSorter(comparator, runSize, tempDirectory);
+    }
+
+    /// 임시 파일을 만들 디렉토리를 지정한 새 정렬기를 반환한다.
+    /// 지정하지 않으면 시스템 임시 디렉토리 아래에 정렬마다 디렉토리를 만든다.
+    /// @param tempDirectory 임시 디렉토리
+    /// @return 새 정렬기
+    public TupleSorter withTempDirectory(@NotNull Path tempDirectory) {
+        return new TupleSorter(comparator, runSize, tempDirectory);
+    }
+
+    /// 튜플 비교자
+    /// @return 비교자
+    public Comparator<? super Tuple> comparator() { return comparator; }
+
+    /// 구간 크기
+    /// @return 행 수
+    public int runSize() { return runSize; }
+
+    /// 튜플 스트림을 정렬한다.
+    /// @param tuples 입력 스트림
+    /// @return 정렬된 스트림 (반드시 닫아야 함)
+    /// @throws UncheckedIOException 임시 파일 입출력 오류가 발생한 경우
+    public Stream<Tuple> sort(@NotNull Stream<? extends Tuple> tuples) {
+        return sort(tuples, new Metrics());
+    }
+
+    /// 튜플 스트림을 정렬하면서 진행 상황을 기록한다.
+    /// 입력을 모두 읽고 구간을 내보낸 후에 반환하며, 병합 진행 상황은 반환된 스트림을 소비하는 동안 갱신된다.
+    /// @param tuples 입력 스트림
+    /// @param metrics 진행 상황을 기록할 객체 (다른 스레드에서 조회 가능)
+    /// @return 정렬된 스트림 (반드시 닫아야 함)
+    /// @throws UncheckedIOException 임시 파일 입출력 오류가 발생한 경우
+    public Stream<Tuple> sort(@NotNull Stream<? extends Tuple> tuples, @NotNull Metrics metrics) {
+        Spill spill = new Spill(metrics);
+        try {
+            List<Tuple> run = new ArrayList<>(Math.min(runSize, 1 << 16));
+            Iterator<? extends Tuple> iterator = tuples.iterator();
+            while (iterator.hasNext()) {
+                run.add(iterator.next());
+                metrics.rowsRead.incrementAndGet();
+                if (run.size() == runSize) {
+                    run.sort(comparator);
+                    spill.write(run.iterator());
+                    run.clear();
+                }
+            }
+            run.sort(comparator);
+
+            Iterator<Tuple> sorted;
+            if (spill.runs.isEmpty()) {
+                sorted = run.iterator();
+            } else {
+                if (!run.isEmpty()) {
+                    spill.write(run.iterator());
+                }
+                run = null;
+                while (spill.runs.size() > MAX_FAN_IN) {
+                    // 연속된 구간끼리 병합하여 구간 순서(안정성)를 유지한다.
+                    List<Path> previous = new ArrayList<>(spill.runs);
+                    spill.runs.clear();
+                    for (int i = 0; i < previous.size(); i += MAX_FAN_IN) {
+                        List<Path> group = previous.subList(i, Math.min(i + MAX_FAN_IN, previous.size()));
+                        try (Merger merger = new Merger(group, comparator, spill)) {
+                            spill.write(merger);
+                        }
+                    }
+                    metrics.mergePasses.incrementAndGet();
+                }
+                sorted = new Merger(new ArrayList<>(spill.runs), comparator, spill);
+                metrics.mergePasses.incrementAndGet();
+            }
+
+            Iterator<Tuple> counting = new Iterator<>() {
+                @Override public boolean hasNext() { return sorted.hasNext(); }
+                @Override public Tuple next() {
+                    Tuple tuple = sorted.next();
+                    metrics.rowsEmitted.incrementAndGet();
+                    return tuple;
+                }
+            };
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(counting,
+                            Spliterator.ORDERED | Spliterator.NONNULL), false)
+                    .onClose(() -> {
+                        try {
+                            tuples.close();
+                        } finally {
+                            if (sorted instanceof Merger merger) merger.close();
+                            spill.close();
+                        }
+                    });
+        } catch (IOException e) {
+            UncheckedIOException ex = new UncheckedIOException(e);
+            abort(tuples, spill, ex);
+            throw ex;
+        } catch (RuntimeException | Error e) {
+            abort(tuples, spill, e);
+            throw e;
+        }
+    }
+
+    /// 스트림을 반환하기 전에 실패하면 입력 스트림을 닫고 임시 파일을 삭제한다.
+    private static void abort(Stream<?> tuples, Spill spill, Throwable primary) {
+        try {
+            tuples.close();
+        } catch (RuntimeException e) {
+            primary.addSuppressed(e);
+        } finally {
+            spill.close();
+        }
+    }
+
+    /// 정렬 진행 상황. 값은 정렬 중에도 다른 스레드에서 조회할 수 있다.
+    public static final class Metrics {
+
+        private final AtomicLong rowsRead = new AtomicLong();
+        private final AtomicLong runs = new AtomicLong();
+        private final AtomicLong spilledBytes = new AtomicLong();
+        private final AtomicLong mergePasses = new AtomicLong();
+        private final AtomicLong rowsEmitted = new AtomicLong();
+
+        /// 입력에서 읽은 행 수
+        /// @return 행 수
+        public long rowsRead() { return rowsRead.get(); }
+
+        /// 임시 파일로 내보낸 구간 수 (중간 병합 결과 포함)
+        /// @return 구간 수
+        public long runs() { return runs.get(); }
+
+        /// 임시 파일에 기록한 바이트 수
+        /// @return 바이트 수
+        public long spilledBytes() { return spilledBytes.get(); }
+
+        /// 병합 단계 수 (마지막 병합 포함, 임시 파일을 만들지 않은 경우 `0`)
+        /// @return 병합 단계 수
+        public long mergePasses() { return mergePasses.get(); }
+
+        /// 정렬된 스트림으로 반환한 행 수
+        /// @return 행 수
+        public long rowsEmitted() { return rowsEmitted.get(); }
+
+        @Override
+        public String toString() {
+            return "Metrics{rowsRead=" + rowsRead() + ", runs=" + runs() + ", spilledBytes=" + spilledBytes() +
+                    ", mergePasses=" + mergePasses() + ", rowsEmitted=" + rowsEmitted() + "}";
+        }
+    }
+
+    /// 한 번의 정렬에서 만든 임시 파일들
+    private final class Spill implements Closeable {
+
+        private final Metrics metrics;
+        private final List<Path> runs = new ArrayList<>();
+        private final List<Path> files = new ArrayList<>();
+        private Path directory;
+        private boolean ownDirectory;
+
+        Spill(Metrics metrics) {
+            this.metrics = metrics;
+        }
+
+        /// 정렬된 튜플들을 새 구간 파일로 내보낸다.
+        void write(Iterator<? extends Tuple> sorted) throws IOException {
+            if (directory == null) {
+                ownDirectory = (tempDirectory == null);
+                directory = ownDirectory? Files.createTempDirectory("tuple-sort-"): tempDirectory;
+            }
+            Path file = Files.createTempFile(directory, "run-", ".bin");
+            files.add(file);
+            try (OutputStream out = Files.newOutputStream(file)) {
+                TupleCodec.Encoder encoder = new TupleCodec.Encoder(out);
+                while (sorted.hasNext()) {
+                    encoder.write(sorted.next());
+                }
+                encoder.finish();
+                metrics.spilledBytes.addAndGet(encoder.bytesWritten());
+            }
+            runs.add(file);
+            metrics.runs.incrementAndGet();
+        }
+
+        /// 병합이 끝난 구간 파일을 삭제한다.
+        void delete(Path file) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // close()에서 다시 시도한다.
+            }
+        }
+
+        @Override
+        public void close() {
+            for (Path file : files) {
+                delete(file);
+            }
+            files.clear();
+            if (ownDirectory && directory != null) {
+                delete(directory);
+            }
+        }
+    }
+
+    /// 구간 파일들을 k-way 병합하는 반복자. 같은 값은 앞쪽 구간의 튜플이 먼저 반환된다.
+    private static final class Merger implements Iterator<Tuple>, Closeable {
+
+        private final PriorityQueue<Run> queue;
+        private final List<Run> open = new ArrayList<>();
+        private final Spill spill;
+
+        Merger(List<Path> files, Comparator<? super Tuple> comparator, Spill spill) throws IOException {
+            this.spill = spill;
+            this.queue = new PriorityQueue<>(Math.max(files.size(), 1), (a, b) -> {
+                int c = comparator.compare(a.head, b.head);
+                return (c != 0)? c: Integer.compare(a.index, b.index);
+            });
+            try {
+                for (int i = 0; i < files.size(); i++) {
+                    Run run = new Run(files.get(i), i);
+                    open.add(run);
+                    if (run.advance()) {
+                        queue.add(run);
+                    } else {
+                        finish(run);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        public Tuple next() {
+            Run run = queue.poll();
+            if (run == null) {
+                throw new NoSuchElementException();
+            }
+            Tuple tuple = run.head;
+            try {
+                if (run.advance()) {
+                    queue.add(run);
+                } else {
+                    finish(run);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return tuple;
+        }
+
+        private void finish(Run run) {
+            run.close();
+            open.remove(run);
+            spill.delete(run.file);
+        }
+
+        @Override
+        public void close() {
+            for (Run run : open) {
+                run.close();
+            }
+            open.clear();
+            queue.clear();
+        }
+    }
+
+    /// 병합 중인 구간 파일
+    private static final class Run implements Closeable {
+
+        final Path file;
+        final int index;
+        private final InputStream in;
+        private final TupleCodec.Decoder decoder;
+        Tuple head;
+
+        Run(Path file, int index) throws IOException {
+            this.file = file;
+            this.index = index;
+            // 디코더가 블록 단위로 읽어 버퍼링하므로 파일을 매핑하지 않고 채널에서 바로 읽는다.
+            // 정렬기가 직접 기록한 임시 파일이므로 역직렬화 필터를 적용하지 않는다.
+            this.in = Files.newInputStream(file);
+            try {
+                this.decoder = new TupleCodec.Decoder(in, null);
+            } catch (IOException | RuntimeException e) {
+                in.close();
+                throw e;
+            }
+        }
+
+        /// 다음 튜플을 읽는다.
+        /// @return 다음 튜플이 있으면 `true`
+        boolean advance() throws IOException {
+            head = decoder.read();
+            return head != null;
+        }
+
+        @Override
+        public void close() {
+            try {
+                in.close();
+            } catch (IOException ignored) {
+                // 읽기 전용 파일이므로 닫기 실패는 무시한다.
+            }
+        }
+    }
+}
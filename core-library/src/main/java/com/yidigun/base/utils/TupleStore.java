@@ -0,0 +1,602 @@
+package com.yidigun.base.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Consumer;
+
+/// 같은 [TupleSchema]를 가지는 행(row)을 힙 밖(off-heap)의 direct [ByteBuffer]에 저장하는 추가 전용(append-only) 저장소.
+///
+/// 수천만 개의 작은 튜플을 캐시하는 경우 `List<Tuple>`은 행마다 튜플, 값 배열, 박싱된 숫자 객체를 만들고
+/// GC는 매번 이 객체들을 모두 훑어야 한다. [TupleStore]는 각 행을 고정 길이 슬롯으로 인코딩하여
+/// direct 버퍼 페이지에 저장하므로 힙에는 페이지 객체만 남는다.
+///
+/// ```java
+/// TupleStore store = TupleStore.create(TupleSchema.of("member_no", "name", "amount"),
+///         long.class, String.class, double.class);
+/// int row = store.append(1L, "John", 100.0);
+///
+/// long memberNo = store.getLong(row, 0);        // 박싱 없음
+/// NamedTuple tuple = store.row(row);            // 값을 복사하지 않는 뷰
+///
+/// TupleStore.Cursor cursor = store.cursor();
+/// while (cursor.next()) {
+///     total += cursor.getDouble(2);
+/// }
+/// ```
+///
+/// ## 행 레이아웃
+///
+/// 각 행은 `null` 비트맵과 컬럼별 고정 길이 슬롯으로 이루어진다. 컬럼 타입별 슬롯 크기는 다음과 같다.
+///
+/// | 컬럼 타입 | 슬롯 크기 |
+/// |-----------|-----------|
+/// | `boolean` | 1 |
+/// | `int` | 4 |
+/// | `long`, `double`, [LocalDate] | 8 |
+/// | [Instant] | 12 (초 + 나노초) |
+/// | [String] | 12 (문자열 영역의 위치 + 길이) |
+///
+/// 문자열은 UTF-8로 인코딩하여 별도의 direct 버퍼 영역에 저장하고, 슬롯에는 위치와 길이만 저장한다.
+/// 그 외의 컬럼 타입은 지원하지 않는다.
+///
+/// ## 행 뷰와 스레드 안전성
+///
+/// [#row(int)], [#iterator()], [#forEach(Consumer)]의 행 뷰와 [#cursor()]가 반환하는 [Cursor]는
+/// 값을 복사하지 않고 버퍼에서 직접 읽는 [NamedTuple] 뷰이다.
+/// 저장된 행은 변경되지 않으므로 위치가 고정된 행 뷰는 계속 같은 값을 가진다.
+/// [Cursor]는 [TupleBatch.Cursor]와 마찬가지로 위치를 옮겨가며 재사용하므로 행을 보관하려면 값을 복사해야 한다.
+///
+/// 추가([#append(Object...)])는 한 스레드에서만 호출해야 한다. 읽기는 여러 스레드에서 동시에 할 수 있으며,
+/// 추가가 끝난 행([#size()] 이전의 행)은 다른 스레드에서도 읽을 수 있다.
+///
+/// 버퍼 메모리는 저장소가 더 이상 참조되지 않아 GC될 때 해제된다.
+///
+/// @see TupleBatch
+/// @see TupleSchema
+public final class TupleStore implements Iterable<NamedTuple> {
+
+    /// 기본 페이지 크기 (1MB)
+    public static final int DEFAULT_PAGE_SIZE = 1 << 20;
+
+    // 슬롯 종류
+    private static final byte BOOLEAN = 0;
+    private static final byte INT = 1;
+    private static final byte LONG = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte DATE = 4;
+    private static final byte INSTANT = 5;
+    private static final byte STRING = 6;
+
+    /// 이름 스키마
+    private final TupleSchema schema;
+
+    /// 컬럼별 슬롯 종류
+    private final byte[] kinds;
+
+    /// 컬럼별 슬롯 위치 (행 시작 기준)
+    private final int[] offsets;
+
+    /// 행 크기 (`null` 비트맵 포함)
+    private final int rowWidth;
+
+    /// 페이지당 행 수의 log2
+    private final int pageShift;
+
+    /// 페이지 크기 (바이트)
+    private final int pageSize;
+
+    /// 행 페이지
+    private ByteBuffer[] pages = new ByteBuffer[4];
+
+    /// 문자열 페이지
+    private ByteBuffer[] stringPages = new ByteBuffer[0];
+
+    /// 문자열 페이지 수
+    private int stringPageCount;
+
+    /// 마지막 문자열 페이지의 사용 위치
+    private int stringPosition;
+
+    /// 할당된 버퍼 크기 합계
+    private long allocated;
+
+    /// 행 수. 다른 스레드에 추가된 행을 공개하기 위해 `volatile`로 선언한다.
+    private volatile int size;
+
+    private TupleStore(TupleSchema schema, byte[] kinds, int pageSize) {
+        this.schema = schema;
+        this.kinds = kinds;
+        this.offsets = new int[kinds.length];
+        int offset = (kinds.length + 7) >>> 3;
+        for (int c = 0; c < kinds.length; c++) {
+            offsets[c] = offset;
+            offset += switch (kinds[c]) {
+                case BOOLEAN -> 1;
+                case INT -> 4;
+                case INSTANT, STRING -> 12;
+                default -> 8;
+            };
+        }
+        this.rowWidth = Math.max(offset, 1);
+        this.pageShift = 31 - Integer.numberOfLeadingZeros(Math.max(pageSize / rowWidth, 1));
+        this.pageSize = pageSize;
+    }
+
+    /// 스키마와 컬럼 타입을 지정하여 빈 저장소를 생성한다.
+    /// @param schema 이름 스키마
+    /// @param columnTypes 컬럼 타입 (스키마 크기와 같아야 함)
+    /// @return 저장소
+    /// @throws IllegalArgumentException 컬럼 타입 수가 스키마 크기와 다르거나 지원하지 않는 컬럼 타입인 경우
+    public static TupleStore create(@NotNull TupleSchema schema, @NotNull Class<?>... columnTypes) {
+        return create(DEFAULT_PAGE_SIZE, schema, columnTypes);
+    }
+
+    /// 페이지 크기, 스키마, 컬럼 타입을 지정하여 빈 저장소를 생성한다.
+    /// 행 페이지는 페이지 크기 안에 들어가는 2의 거듭제곱 개수의 행을 저장한다.
+    /// @param pageSize 페이지 크기 (바이트)
+    /// @param schema 이름 스키마
+    /// @param columnTypes 컬럼 타입 (스키마 크기와 같아야 함)
+    /// @return 저장소
+    /// @throws IllegalArgumentException 컬럼 타입 수가 스키마 크기와 다르거나 지원하지 않는 컬럼 타입인 경우
+    public static TupleStore create(int pageSize, @NotNull TupleSchema schema, @NotNull Class<?>... columnTypes) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Invalid page size: " + pageSize);
+        }
+        if (columnTypes.length != schema.size()) {
+            throw new IllegalArgumentException("Column types (" + columnTypes.length +
+                    ") do not match schema size (" + schema.size() + ")");
+        }
+        byte[] kinds = new byte[columnTypes.length];
+        for (int c = 0; c < kinds.length; c++) {
+            Class<?> boxed = PropertyMapUtils.boxedType(columnTypes[c]);
+            if (boxed == Boolean.class) kinds[c] = BOOLEAN;
+            else if (boxed == Integer.class) kinds[c] = INT;
+            else if (boxed == Long.class) kinds[c] = LONG;
+            else if (boxed == Double.class) kinds[c] = DOUBLE;
+            else if (boxed == LocalDate.class) kinds[c] = DATE;
+            else if (boxed == Instant.class) kinds[c] = INSTANT;
+            else if (boxed == String.class) kinds[c] = STRING;
+            else throw new IllegalArgumentException("Unsupported column type: " + columnTypes[c].getName());
+        }
+        return new TupleStore(schema, kinds, pageSize);
+    }
+
+    /// 이름 스키마
+    /// @return 이름 스키마
+    public TupleSchema schema() { return schema; }
+
+    /// 행 수
+    /// @return 행 수
+    public int size() { return size; }
+
+    /// 행이 없는지 확인한다.
+    /// @return 행이 없으면 `true`
+    public boolean isEmpty() { return size == 0; }
+
+    /// 컬럼 수
+    /// @return 컬럼 수
+    public int columnCount() { return kinds.length; }
+
+    /// 컬럼의 저장 타입
+    /// @param column 컬럼 인덱스
+    /// @return `boolean.class`, `int.class`, `long.class`, `double.class`, `LocalDate.class`, `Instant.class` 또는 `String.class`
+    public Class<?> columnType(int column) {
+        return switch (kinds[column]) {
+            case BOOLEAN -> boolean.class;
+            case INT -> int.class;
+            case LONG -> long.class;
+            case DOUBLE -> double.class;
+            case DATE -> LocalDate.class;
+            case INSTANT -> Instant.class;
+            default -> String.class;
+        };
+    }
+
+    /// 행 하나의 크기 (`null` 비트맵 포함, 문자열 내용 제외)
+    /// @return 바이트 수
+    public int rowWidth() { return rowWidth; }
+
+    /// 힙 밖에 할당된 버퍼 크기의 합계
+    /// @return 바이트 수
+    public long offHeapBytes() { return allocated; }
+
+    /// 이름에 해당하는 컬럼 인덱스를 찾는다.
+    /// @param name 컬럼 이름
+    /// @return 컬럼 인덱스
+    /// @throws IllegalArgumentException 컬럼이 없는 경우
+    public int columnIndex(String name) {
+        int index = schema.indexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException("No such column: " + name);
+        }
+        return index;
+    }
+
+    /// 행을 추가한다.
+    /// @param values 컬럼 순서대로 나열한 값 (모자란 컬럼은 `null`)
+    /// @return 추가된 행 번호
+    /// @throws ClassCastException 컬럼 타입에 맞지 않는 값이 전달된 경우
+    public int append(Object... values) {
+        int row = size;
+        ByteBuffer page = pageForAppend(row);
+        int base = (row & ((1 << pageShift) - 1)) * rowWidth;
+        for (int c = 0; c < kinds.length; c++) {
+            Object value = (c < values.length)? values[c]: null;
+            write(page, base, c, value);
+        }
+        size = row + 1;
+        return row;
+    }
+
+    /// 튜플을 행으로 추가한다.
+    /// @param tuple 컬럼 순서대로 값을 가진 튜플 (모자란 컬럼은 `null`)
+    /// @return 추가된 행 번호
+    /// @throws ClassCastException 컬럼 타입에 맞지 않는 값이 전달된 경우
+    public int append(@NotNull Tuple tuple) {
+        int row = size;
+        ByteBuffer page = pageForAppend(row);
+        int base = (row & ((1 << pageShift) - 1)) * rowWidth;
+        int n = tuple.size();
+        for (int c = 0; c < kinds.length; c++) {
+            write(page, base, c, (c < n)? tuple.get(c): null);
+        }
+        size = row + 1;
+        return row;
+    }
+
+    /// 값을 반환한다.
+    /// @param row 행 번호
+    /// @param column 컬럼 인덱스
+    /// @return 값
+    public Object get(int row, int column) {
+        Objects.checkIndex(row, size);
+        return read(row, Objects.checkIndex(column, kinds.length));
+    }
+
+    /// 값이 `null`인지 확인한다.
+    /// @param row 행 번호
+    /// @param column 컬럼 인덱스
+    /// @return `null`이면 `true`
+    public boolean isNull(int row, int column) {
+        Objects.checkIndex(row, size);
+        return isNullAt(row, Objects.checkIndex(column, kinds.length));
+    }
+
+    /// 값을 `int`로 반환한다.
+    /// @param row 행 번호
+    /// @param column 컬럼 인덱스
+    /// @return 값
+    /// @throws ClassCastException `int` 컬럼이 아니거나 값이 `null`인 경우
+    public int getInt(int row, int column) {
+        Objects.checkIndex(row, size);
+        Objects.checkIndex(column, kinds.length);
+        if (kinds[column] != INT || isNullAt(row, column)) {
+            throw Tuple.primitiveCastException(column, read(row, column), int.class);
+        }
+        return page(row).getInt(base(row) + offsets[column]);
+    }
+
+    /// 값을 `long`으로 반환한다.
+    /// @param row 행 번호
+    /// @param column 컬럼 인덱스
+    /// @return 값
+    /// @throws ClassCastException `int`, `long` 컬럼이 아니거나 값이 `null`인 경우
+    public long getLong(int row, int column) {
+        Objects.checkIndex(row, size);
+        Objects.checkIndex(column, kinds.length);
+        byte kind = kinds[column];
+        if ((kind != INT && kind != LONG) || isNullAt(row, column)) {
+            throw Tuple.primitiveCastException(column, read(row, column), long.class);
+        }
+        int position = base(row) + offsets[column];
+        return (kind == INT)? page(row).getInt(position): page(row).getLong(position);
+    }
+
+    /// 값을 `double`로 반환한다.
+    /// @param row 행 번호
+    /// @param column 컬럼 인덱스
+    /// @return 값
+    /// @throws ClassCastException 숫자 컬럼이 아니거나 값이 `null`인 경우
+    public double getDouble(int row, int column) {
+        Objects.checkIndex(row, size);
+        Objects.checkIndex(column, kinds.length);
+        byte kind = kinds[column];
+        if ((kind != INT && kind != LONG && kind != DOUBLE) || isNullAt(row, column)) {
+            throw Tuple.primitiveCastException(column, read(row, column), double.class);
+        }
+        ByteBuffer page = page(row);
+        int position = base(row) + offsets[column];
+        return switch (kind) {
+            case INT -> page.getInt(position);
+            case LONG -> page.getLong(position);
+            default -> page.getDouble(position);
+        };
+    }
+
+    /// 위치가 고정된 행 뷰를 반환한다. 값은 복사되지 않는다.
+    /// @param row 행 번호
+    /// @return 행 뷰
+    public NamedTuple row(int row) {
+        return new Row(Objects.checkIndex(row, size));
+    }
+
+    /// 첫번째 행 이전에 위치한 커서를 반환한다.
+    /// 커서는 생성 시점의 행 수까지만 이동한다.
+    /// @return 커서
+    public Cursor cursor() {
+        return new Cursor(size);
+    }
+
+    /// 행마다 위치가 고정된 뷰를 반환하는 반복자.
+    /// 반복자는 생성 시점의 행 수까지만 반복한다.
+    @Override
+    public @NotNull Iterator<NamedTuple> iterator() {
+        int limit = size;
+        return new Iterator<>() {
+            private int next;
+            @Override public boolean hasNext() { return next < limit; }
+            @Override public NamedTuple next() {
+                if (next >= limit) throw new NoSuchElementException();
+                return new Row(next++);
+            }
+        };
+    }
+
+    /// 위치가 고정된 행 뷰들을 순회한다. [#iterator()]와 같이 생성 시점의 행 수까지만 순회하며,
+    /// 전달된 튜플은 보관해도 된다. 행마다 객체를 만들지 않으려면 [#cursor()]를 사용한다.
+    @Override
+    public void forEach(Consumer<? super NamedTuple> action) {
+        for (int r = 0, limit = size; r < limit; r++) {
+            action.accept(new Row(r));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TupleStore{schema=" + schema.names() + ", size=" + size + ", offHeapBytes=" + allocated + "}";
+    }
+
+    private ByteBuffer page(int row) {
+        return pages[row >>> pageShift];
+    }
+
+    private int base(int row) {
+        return (row & ((1 << pageShift) - 1)) * rowWidth;
+    }
+
+    /// 추가할 행이 들어갈 페이지를 반환한다. 필요하면 페이지를 할당한다.
+    private ByteBuffer pageForAppend(int row) {
+        if (row == Integer.MAX_VALUE) {
+            throw new IllegalStateException("TupleStore is full");
+        }
+        int index = row >>> pageShift;
+        if (index == pages.length) {
+            pages = Arrays.copyOf(pages, pages.length * 2);
+        }
+        ByteBuffer page = pages[index];
+        if (page == null) {
+            page = allocate(rowWidth << pageShift);
+            pages[index] = page;
+        }
+        return page;
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        allocated += capacity;
+        return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+    }
+
+    private void write(ByteBuffer page, int base, int column, Object value) {
+        int position = base + offsets[column];
+        int nullByte = base + (column >>> 3);
+        int nullBit = 1 << (column & 7);
+        if (value == null) {
+            page.put(nullByte, (byte) (page.get(nullByte) | nullBit));
+            return;
+        }
+        page.put(nullByte, (byte) (page.get(nullByte) & ~nullBit));
+        switch (kinds[column]) {
+            case BOOLEAN -> page.put(position, (byte) (((Boolean) value)? 1: 0));
+            case INT -> page.putInt(position, (Integer) value);
+            case LONG -> page.putLong(position, (Long) value);
+            case DOUBLE -> page.putDouble(position, (Double) value);
+            case DATE -> page.putLong(position, ((LocalDate) value).toEpochDay());
+            case INSTANT -> {
+                Instant instant = (Instant) value;
+                page.putLong(position, instant.getEpochSecond());
+                page.putInt(position + 8, instant.getNano());
+            }
+            default -> {
+                byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+                page.putLong(position, writeString(bytes));
+                page.putInt(position + 8, bytes.length);
+            }
+        }
+    }
+
+    /// 문자열 영역에 바이트를 기록하고 위치(`페이지 번호 << 32 | 페이지 내 위치`)를 반환한다.
+    private long writeString(byte[] bytes) {
+        ByteBuffer page = (stringPageCount == 0)? null: stringPages[stringPageCount - 1];
+        if (page == null || bytes.length > page.capacity() - stringPosition) {
+            if (stringPageCount == stringPages.length) {
+                stringPages = Arrays.copyOf(stringPages, Math.max(stringPages.length * 2, 4));
+            }
+            page = allocate(Math.max(pageSize, bytes.length));
+            stringPages[stringPageCount++] = page;
+            stringPosition = 0;
+        }
+        long ref = ((long) (stringPageCount - 1) << 32) | stringPosition;
+        page.put(stringPosition, bytes);
+        stringPosition += bytes.length;
+        return ref;
+    }
+
+    private boolean isNullAt(int row, int column) {
+        return (page(row).get(base(row) + (column >>> 3)) & (1 << (column & 7))) != 0;
+    }
+
+    private Object read(int row, int column) {
+        if (isNullAt(row, column)) {
+            return null;
+        }
+        ByteBuffer page = page(row);
+        int position = base(row) + offsets[column];
+        return switch (kinds[column]) {
+            case BOOLEAN -> page.get(position) != 0;
+            case INT -> page.getInt(position);
+            case LONG -> page.getLong(position);
+            case DOUBLE -> page.getDouble(position);
+            case DATE -> LocalDate.ofEpochDay(page.getLong(position));
+            case INSTANT -> Instant.ofEpochSecond(page.getLong(position), page.getInt(position + 8));
+            default -> {
+                long ref = page.getLong(position);
+                byte[] bytes = new byte[page.getInt(position + 8)];
+                stringPages[(int) (ref >>> 32)].get((int) ref, bytes);
+                yield new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    /// 저장소의 행을 가리키는 [NamedTuple] 뷰. 값은 버퍼에서 직접 읽는다.
+    /// 직렬화할 때는 현재 행의 값을 복사한 [NamedTuple]로 저장된다.
+    abstract class RowView extends NamedTuple {
+
+        @Serial
+        private static final long serialVersionUID = 8687905800887975341L;
+
+        private RowView() {
+            super(schema);
+        }
+
+        /// 현재 행 번호
+        /// @throws IllegalStateException 행에 위치하지 않은 경우
+        abstract int current();
+
+        /// 현재 값이 `null`인지 확인한다.
+        /// @param index 컬럼 인덱스
+        /// @return `null`이면 `true`
+        public boolean isNull(int index) {
+            checkIndex(index);
+            return isNullAt(current(), index);
+        }
+
+        @Override
+        public Object get(int index) {
+            checkIndex(index);
+            return read(current(), index);
+        }
+
+        @Override
+        public int getInt(int index) {
+            checkIndex(index);
+            return TupleStore.this.getInt(current(), index);
+        }
+
+        @Override
+        public long getLong(int index) {
+            checkIndex(index);
+            return TupleStore.this.getLong(current(), index);
+        }
+
+        @Override
+        public double getDouble(int index) {
+            checkIndex(index);
+            return TupleStore.this.getDouble(current(), index);
+        }
+
+        @Override
+        public int size() {
+            return kinds.length;
+        }
+
+        @Override
+        public Object[] toArray() {
+            int r = current();
+            Object[] values = new Object[kinds.length];
+            for (int c = 0; c < kinds.length; c++) {
+                values[c] = read(r, c);
+            }
+            return values;
+        }
+
+        /// 현재 행의 값을 복사한 [NamedTuple]로 직렬화한다.
+        @Serial
+        Object writeReplace() {
+            return new NamedTuple(schema(), toArray(), false);
+        }
+    }
+
+    /// [#next()], [#moveTo(int)]로 위치를 옮겨가며 재사용하는 행 뷰.
+    /// 위치를 옮기면 값(과 `equals`/`hashCode`)이 바뀌므로 보관하려면 값을 복사해야 한다.
+    public final class Cursor extends RowView {
+
+        @Serial
+        private static final long serialVersionUID = -2751906385214871840L;
+
+        /// 이동할 수 있는 행 수
+        private final int limit;
+
+        /// 현재 행 번호
+        private int row = -1;
+
+        private Cursor(int limit) {
+            this.limit = limit;
+        }
+
+        /// 다음 행으로 이동한다.
+        /// @return 다음 행이 있으면 `true`
+        public boolean next() {
+            if (row + 1 < limit) {
+                row++;
+                return true;
+            }
+            row = limit;
+            return false;
+        }
+
+        /// 지정한 행으로 이동한다.
+        /// @param row 행 번호
+        /// @return 이 커서
+        public Cursor moveTo(int row) {
+            this.row = Objects.checkIndex(row, limit);
+            return this;
+        }
+
+        /// 현재 행 번호
+        /// @return 행 번호
+        public int position() { return row; }
+
+        @Override
+        int current() {
+            if (row < 0 || row >= limit) {
+                throw new IllegalStateException("Cursor is not positioned on a row: " + row);
+            }
+            return row;
+        }
+    }
+
+    /// 위치가 고정된 행 뷰
+    private final class Row extends RowView {
+
+        @Serial
+        private static final long serialVersionUID = 5001488326548418018L;
+
+        private final int row;
+
+        private Row(int row) {
+            this.row = row;
+        }
+
+        @Override
+        int current() {
+            return row;
+        }
+    }
+}
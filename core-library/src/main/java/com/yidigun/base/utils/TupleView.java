@@ -0,0 +1,97 @@
+package com.yidigun.base.utils;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.Objects;
+
+/// 다른 튜플의 값 배열 중 일부 범위를 복사 없이 참조하는 튜플.
+/// [Tuple#subTuple(int, int)]가 반환하며, 참조하는 배열은 변경되지 않는 튜플의 값 배열이어야 한다.
+///
+/// 직렬화할 때는 범위의 값만 복사한 [Tuple]로 저장된다.
+final class TupleView extends Tuple {
+
+    @Serial
+    private static final long serialVersionUID = -6620164305917243867L;
+
+    /// 이 개수 이하의 값을 가지는 결과는 뷰를 만드는 대신 복사한다.
+    static final int COPY_THRESHOLD = 8;
+
+    /// 참조하는 값 배열
+    private final Object[] array;
+
+    /// 시작 위치
+    private final int offset;
+
+    /// 값 개수
+    private final int length;
+
+    private TupleView(Object[] array, int offset, int length) {
+        super();
+        this.array = array;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /// 배열의 범위를 참조하는 튜플을 반환한다. 범위가 작으면 값을 복사한 튜플을 반환한다.
+    /// @param array 변경되지 않는 값 배열
+    /// @param offset 시작 위치
+    /// @param length 값 개수
+    /// @return 튜플
+    static Tuple of(Object[] array, int offset, int length) {
+        if (length <= COPY_THRESHOLD) {
+            return new Tuple(Arrays.copyOfRange(array, offset, offset + length), false);
+        }
+        return new TupleView(array, offset, length);
+    }
+
+    @Override
+    public Object get(int index) {
+        checkIndex(index);
+        return array[offset + index];
+    }
+
+    @Override
+    public int size() {
+        return length;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOfRange(array, offset, offset + length);
+    }
+
+    @Override
+    Object[] sharedValues() {
+        return (offset == 0 && length == array.length)? array: toArray();
+    }
+
+    @Override
+    Tuple slice(int startIndex, int endIndex) {
+        return of(array, offset + startIndex, endIndex - startIndex);
+    }
+
+    @Override
+    Tuple frozen() {
+        return this;
+    }
+
+    @Override
+    void copyTo(Object[] dest, int position) {
+        System.arraycopy(array, offset, dest, position, length);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 1;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            h = 31 * h + Objects.hashCode(array[i]);
+        }
+        return h;
+    }
+
+    /// 범위의 값만 복사한 [Tuple]로 직렬화한다.
+    @Serial
+    private Object writeReplace() {
+        return new Tuple(toArray(), false);
+    }
+}
@@ -0,0 +1,87 @@
+package com.yidigun.base;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/// [ApiError.StackTracePolicy]별 `Result.ofNullable(null)` (NOT_FOUND 실패) 처리량과
+/// 오류 로깅([ApiError#getMessage()], [ApiError#toString()], [ApiError#toJson()]) 처리량 비교.
+///
+/// `./gradlew :core-library:test -Pbenchmark=true --tests '*BenchmarkTest'`로 실행한다.
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class ApiErrorBenchmarkTest {
+
+    private static final int ITERATIONS = 500_000;
+
+    @AfterEach
+    public void resetConfig() {
+        ApiErrorConfig.reload();
+    }
+
+    /// 호출 깊이가 있는 서비스 코드에서의 실패를 흉내낸다.
+    private static Result<String> find(int depth, int key) {
+        return (depth == 0)? Result.ofNullable((key < 0)? "found": null): find(depth - 1, key);
+    }
+
+    private static long run() {
+        long failures = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (!find(20, i).success()) failures++;
+        }
+        return failures;
+    }
+
+    @Test
+    public void benchmarkFailures() {
+        for (int round = 0; round < 3; round++) {
+            StringBuilder line = new StringBuilder("[round " + round + "]");
+            for (ApiError.StackTracePolicy policy : ApiError.StackTracePolicy.values()) {
+                ApiError.setStackTracePolicy(policy);
+                long start = System.nanoTime();
+                long failures = run();
+                long elapsed = System.nanoTime() - start;
+                line.append(String.format(" %s: %,d failures/s", policy, failures * 1_000_000_000L / elapsed));
+            }
+            System.out.println(line);
+        }
+    }
+
+    /// 이전 구현처럼 호출할 때마다 환경 변수를 읽고 문자열을 만드는 경우
+    private static String uncachedToString(ApiError error) {
+        String debugMode = System.getenv("DEBUG_MODE");
+        boolean debug = "true".equalsIgnoreCase(debugMode) || "1".equals(debugMode);
+        return debug? error.getClass().getName() + ": " + error.getLocalizedMessage():
+                "ApiError: An error occurred. Please contact support.";
+    }
+
+    @Test
+    public void benchmarkLogging() {
+        ApiError error = ApiError.of(ErrorCode.NOT_FOUND);
+        int iterations = 20_000_000;
+        for (int round = 0; round < 3; round++) {
+            long length = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                length += uncachedToString(error).length();
+            }
+            long uncached = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                length += error.toString().length() + error.getMessage().length();
+            }
+            long cached = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                length += error.toJson().length();
+            }
+            long json = System.nanoTime() - start;
+
+            System.out.printf("[round %d] getenv per call: %,d ops/s, cached toString+getMessage: %,d ops/s, " +
+                            "toJson: %,d ops/s (%d)%n", round,
+                    iterations * 1_000_000_000L / uncached, iterations * 1_000_000_000L / cached,
+                    iterations * 1_000_000_000L / json, length % 10);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.yidigun.base;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ApiErrorTest {
+
+    @AfterEach
+    public void resetConfig() {
+        System.clearProperty(ApiErrorConfig.DEBUG_MODE_PROPERTY);
+        System.clearProperty(ApiErrorConfig.STACK_TRACE_PROPERTY);
+        ApiErrorConfig.reload();
+    }
+
+    @Test
+    public void testStackTracePolicy() {
+        ApiError always = ApiError.of(ErrorCode.NOT_FOUND);
+        assertNotSame(always, ApiError.of(ErrorCode.NOT_FOUND));
+        assertTrue(always.getStackTrace().length > 0);
+
+        ApiError.setStackTracePolicy(ApiError.StackTracePolicy.NEVER);
+        ApiError shared = ApiError.of(ErrorCode.NOT_FOUND);
+        assertSame(shared, ApiError.of(ErrorCode.NOT_FOUND));
+        assertSame(shared, Result.ofNullable(null).error());
+        assertEquals(0, shared.getStackTrace().length);
+        assertEquals("NOT_FOUND", shared.code());
+        assertSame(ApiError.of(ErrorCode.UNKNOWN), Result.failure().error());
+
+        // 공유 객체는 변경할 수 없다.
+        shared.setStackTrace(new Thread().getStackTrace());
+        shared.addSuppressed(new RuntimeException());
+        assertEquals(0, shared.getStackTrace().length);
+        assertEquals(0, shared.getSuppressed().length);
+        assertThrows(IllegalStateException.class, () -> shared.initCause(new RuntimeException()));
+
+        assertSame(always, ApiError.of(always));
+    }
+
+    @Test
+    public void testSampledPolicy() {
+        ApiError.setStackTracePolicy(ApiError.StackTracePolicy.SAMPLED);
+        ApiError.setStackTraceSampleRate(1);
+        assertNotSame(ApiError.of(ErrorCode.NOT_FOUND), ApiError.of(ErrorCode.NOT_FOUND));
+
+        ApiError.setStackTraceSampleRate(Integer.MAX_VALUE);
+        assertEquals(0, ApiError.of(ErrorCode.NOT_FOUND).getStackTrace().length);
+        assertThrows(IllegalArgumentException.class, () -> ApiError.setStackTraceSampleRate(0));
+    }
+
+    @Test
+    public void testAdHocErrorCodeEquality() {
+        assertEquals(ErrorCode.of("CODE", null), ErrorCode.of("CODE", null));
+        assertNotEquals(ErrorCode.UNKNOWN, ErrorCode.of("UNKNOWN_ERROR", "message"));
+        assertNotEquals(ErrorCode.of("UNKNOWN_ERROR", "message"), ErrorCode.UNKNOWN);
+    }
+
+    @Test
+    public void testConfig() {
+        System.setProperty(ApiErrorConfig.DEBUG_MODE_PROPERTY, "true");
+        System.setProperty(ApiErrorConfig.STACK_TRACE_PROPERTY, "never");
+        assertNotEquals(ApiError.StackTracePolicy.NEVER, ApiErrorConfig.current().stackTracePolicy()); // 캐시됨
+
+        ApiErrorConfig config = ApiErrorConfig.reload();
+        assertTrue(config.debugMode());
+        assertEquals(ApiError.StackTracePolicy.NEVER, config.stackTracePolicy());
+        assertSame(config, ApiErrorConfig.current());
+
+        ApiErrorConfig.update(c -> c.withStackTracePolicy(ApiError.StackTracePolicy.SAMPLED).withStackTraceSampleRate(10));
+        assertEquals(ApiError.StackTracePolicy.SAMPLED, ApiError.getStackTracePolicy());
+        assertEquals(10, ApiErrorConfig.current().stackTraceSampleRate());
+        assertTrue(ApiErrorConfig.current().debugMode());
+
+        assertEquals(ApiError.StackTracePolicy.NEVER, ApiErrorConfig.reload().stackTracePolicy());
+        assertThrows(IllegalArgumentException.class, () -> ApiErrorConfig.DEFAULT.withStackTraceSampleRate(0));
+    }
+
+    @Test
+    public void testRendering() {
+        ApiError error = new ApiError("say \"hi\"\n", ErrorCode.of("E01", "m"));
+
+        ApiErrorConfig.update(c -> c.withDebugMode(true));
+        assertEquals("{\"code\":\"E01\",\"message\":\"say \\\"hi\\\"\\n\"}", error.toJson());
+        assertSame(error.toJson(), error.toJson());
+        assertEquals(ApiError.class.getName() + ": say \"hi\"\n", error.toString());
+        assertEquals(error.toJson(), error.appendJson(new StringBuilder()).toString());
+
+        ApiErrorConfig.update(c -> c.withDebugMode(false));
+        assertEquals("ApiError: An error occurred. Please contact support.", error.toString());
+        assertEquals("{\"code\":\"E01\",\"message\":\"An error occurred. Please contact support.\"}", error.toJson());
+
+        ApiErrorConfig.update(c -> c.withDebugMode(true));
+        assertEquals("An unknown error occurred.", new ApiError().getMessage());
+    }
+
+    @Test
+    public void testRenderingFollowsLocale() {
+        // 디버그 모드의 문자열은 지역화된 메시지를 사용하므로 기본 로케일이 바뀌면 다시 만든다.
+        ApiErrorConfig.update(c -> c.withDebugMode(true));
+        ApiError error = new ApiError(ErrorCode.NOT_FOUND);
+        Locale saved = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.ENGLISH);
+            assertEquals(ApiError.class.getName() + ": Requested resources not found.", error.toString());
+            Locale.setDefault(Locale.KOREAN);
+            assertEquals(ApiError.class.getName() + ": 요청한 자원을 찾을 수 없습니다.", error.toString());
+        }
+        finally {
+            Locale.setDefault(saved);
+        }
+    }
+}
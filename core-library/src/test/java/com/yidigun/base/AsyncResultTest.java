@@ -0,0 +1,78 @@
+package com.yidigun.base;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncResultTest {
+
+    @Test
+    public void testCombinators() {
+        AsyncResult<String> name = AsyncResult.supply(() -> Result.of("kim"));
+        AsyncResult<Integer> age = AsyncResult.supply(() -> Result.of(42));
+
+        assertEquals("kim:42", name.zip(age, (n, a) -> n + ":" + a).join().value());
+        assertEquals(3, name.mapValue(String::length).join().value());
+        assertEquals("KIM", name.flatMapResult(n -> Result.of(n.toUpperCase())).join().value());
+        assertEquals(84, age.flatMapAsync(a -> AsyncResult.supply(() -> Result.of(a * 2))).join().value());
+
+        Result<Integer> failed = age.<Integer>mapValue(a -> { throw new ArithmeticException("/ by zero"); }).join();
+        assertFalse(failed.success());
+        assertInstanceOf(ArithmeticException.class, failed.error().getCause());
+        assertEquals(-1, age.<Integer>mapValue(a -> { throw new ArithmeticException("/ by zero"); })
+                .recover(e -> -1).join().value());
+    }
+
+    @Test
+    public void testExceptionsBecomeFailures() {
+        Result<String> thrown = AsyncResult.<String>supply(() -> { throw new IllegalStateException("boom"); }).join();
+        assertFalse(thrown.success());
+        assertInstanceOf(IllegalStateException.class, thrown.error().getCause());
+
+        Result<String> failedFuture = AsyncResult.ofValue(CompletableFuture.<String>failedFuture(new IllegalArgumentException())).join();
+        assertInstanceOf(IllegalArgumentException.class, failedFuture.error().getCause());
+
+        Result<String> timeout = AsyncResult.of(new CompletableFuture<Result<String>>()).join(Duration.ofMillis(10));
+        assertInstanceOf(TimeoutException.class, timeout.error().getCause());
+
+        assertEquals("v", AsyncResult.ofValue(CompletableFuture.completedFuture("v")).join().value());
+        assertFalse(AsyncResult.ofValue(CompletableFuture.completedFuture(null)).join().success());
+    }
+
+    @Test
+    public void testAll() {
+        AsyncResult<List<Integer>> all = AsyncResult.supplyAll(List.<Supplier<Result<Integer>>>of(
+                () -> Result.of(1), () -> Result.of(2), () -> Result.of(3)));
+        assertEquals(List.of(1, 2, 3), all.join().value());
+        assertEquals(List.of(), AsyncResult.all(List.of()).join().value());
+
+        // 실패하면 나머지를 기다리지 않는다.
+        AsyncResult<Integer> pending = AsyncResult.of(new CompletableFuture<>());
+        Result<Integer> bad = Result.failure("bad");
+        AsyncResult<List<Integer>> failed = AsyncResult.all(pending, AsyncResult.completed(bad));
+        assertTrue(failed.isDone());
+        assertSame(bad.error(), failed.join().error());
+    }
+
+    @Test
+    public void testAny() {
+        AsyncResult<Integer> any = AsyncResult.any(
+                AsyncResult.completed(Result.failure("first")),
+                AsyncResult.supply(() -> Result.of(2)),
+                AsyncResult.of(new CompletableFuture<>()));
+        assertEquals(2, any.join().value());
+
+        Result<Integer> first = Result.failure("first");
+        AsyncResult<Integer> none = AsyncResult.supplyAny(List.<Supplier<Result<Integer>>>of(
+                () -> first, () -> Result.failure("second")));
+        assertSame(first.error(), none.join().error());
+        assertThrows(IllegalArgumentException.class, () -> AsyncResult.any(List.of()));
+        assertNotNull(AsyncResult.defaultExecutor());
+    }
+}
@@ -0,0 +1,66 @@
+package com.yidigun.base;
+
+import com.yidigun.base.utils.HttpStatus;
+import com.yidigun.base.utils.SQLStateClass;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/// `values()` 선형 탐색과 조회 테이블([HttpStatus#of(String)], [SQLStateClass#of(String)], [ErrorCodes#lookup])의 처리량 비교.
+///
+/// `./gradlew :core-library:test -Pbenchmark=true --tests '*BenchmarkTest'`로 실행한다.
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class ErrorCodesBenchmarkTest {
+
+    private static final int ITERATIONS = 10_000_000;
+    private static final String[] HTTP = { "200", "201", "404", "500", "503", "302" };
+    private static final String[] SQL = { "23505", "42P01", "40001", "08006", "57014", "XX000" };
+
+    private static HttpStatus linearHttp(String code) {
+        for (HttpStatus status : HttpStatus.values()) {
+            if (status.code().equals(code)) return status;
+        }
+        throw new IllegalArgumentException(code);
+    }
+
+    private static SQLStateClass linearSql(String code) {
+        String clazz = code.substring(0, 2);
+        for (SQLStateClass state : SQLStateClass.values()) {
+            if (state.code().equals(clazz)) return state;
+        }
+        return SQLStateClass.UNKNOWN;
+    }
+
+    private static long opsPerSecond(long start) {
+        return ITERATIONS * 1_000_000_000L / (System.nanoTime() - start);
+    }
+
+    @Test
+    public void benchmarkLookup() {
+        for (int round = 0; round < 3; round++) {
+            int hash = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) hash += linearHttp(HTTP[i % HTTP.length]).ordinal();
+            long linearHttp = opsPerSecond(start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) hash += HttpStatus.of(HTTP[i % HTTP.length]).ordinal();
+            long tableHttp = opsPerSecond(start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) hash += ErrorCodes.lookup(HttpStatus.class, HTTP[i % HTTP.length]).ordinal();
+            long registryHttp = opsPerSecond(start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) hash += linearSql(SQL[i % SQL.length]).ordinal();
+            long linearSql = opsPerSecond(start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) hash += SQLStateClass.of(SQL[i % SQL.length]).ordinal();
+            long tableSql = opsPerSecond(start);
+
+            System.out.printf("[round %d] HttpStatus linear: %,d ops/s, table: %,d ops/s, registry: %,d ops/s; " +
+                            "SQLStateClass linear: %,d ops/s, table: %,d ops/s (%d)%n",
+                    round, linearHttp, tableHttp, registryHttp, linearSql, tableSql, hash % 10);
+        }
+    }
+}
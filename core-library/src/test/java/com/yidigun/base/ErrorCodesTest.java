@@ -0,0 +1,52 @@
+package com.yidigun.base;
+
+import com.yidigun.base.utils.HttpStatus;
+import com.yidigun.base.utils.SQLStateClass;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ErrorCodesTest {
+
+    @Test
+    public void testHttpStatusLookup() {
+        for (HttpStatus status : HttpStatus.values()) {
+            assertSame(status, HttpStatus.of(status.code()));
+            assertSame(status, HttpStatus.of(status.status()));
+        }
+        assertSame(HttpStatus.OK, HttpStatus.of(200));
+        assertTrue(HttpStatus.OK.success());
+        assertFalse(HttpStatus.of("404").success());
+        assertThrows(IllegalArgumentException.class, () -> HttpStatus.of(299));
+        assertThrows(IllegalArgumentException.class, () -> HttpStatus.of(-1));
+        assertThrows(IllegalArgumentException.class, () -> HttpStatus.of(1000));
+        assertThrows(IllegalArgumentException.class, () -> HttpStatus.of("2O0"));
+        assertThrows(IllegalArgumentException.class, () -> HttpStatus.of("0200"));
+        assertThrows(IllegalArgumentException.class, () -> HttpStatus.of((String) null));
+    }
+
+    @Test
+    public void testSQLStateClassLookup() {
+        for (SQLStateClass state : SQLStateClass.values()) {
+            assertSame(state, SQLStateClass.of(state.code() + "000"));
+        }
+        assertSame(SQLStateClass.INTEGRITY_CONSTRAINT_VIOLATION, SQLStateClass.of("23505"));
+        assertSame(SQLStateClass.FEATURE_NOT_SUPPORTED, SQLStateClass.of("0A000"));
+        assertSame(SQLStateClass.UNKNOWN, SQLStateClass.of("ZZ000"));
+        assertSame(SQLStateClass.UNKNOWN, SQLStateClass.of("0a000"));
+        assertSame(SQLStateClass.UNKNOWN, SQLStateClass.of("#1"));
+        assertThrows(IllegalArgumentException.class, () -> SQLStateClass.of("2"));
+    }
+
+    @Test
+    public void testRegistry() {
+        Arrays.stream(HttpStatus.values())
+                .forEach(s -> assertSame(s, ErrorCodes.lookup(HttpStatus.class, s.code())));
+        assertSame(SQLStateClass.DATA_EXCEPTION, ErrorCodes.lookup(SQLStateClass.class, "22"));
+        assertNull(ErrorCodes.lookup(SQLStateClass.class, "22001"));
+        assertNull(ErrorCodes.lookup(SQLStateClass.class, null));
+        assertTrue(ErrorCodes.find(HttpStatus.class, "999").isEmpty());
+    }
+}
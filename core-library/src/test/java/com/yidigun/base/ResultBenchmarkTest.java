@@ -0,0 +1,69 @@
+package com.yidigun.base;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/// [Stream] 호환 메소드(`map`, `flatMap`, `filter`) 연쇄와 [Result] 결합 메소드 연쇄의 처리 시간과 할당량 비교.
+/// 결합 메소드는 JIT의 탈출 분석(escape analysis)으로 중간 결과 객체의 할당이 제거되는지 확인한다.
+///
+/// `./gradlew :core-library:test -Pbenchmark=true --tests '*BenchmarkTest'`로 실행한다.
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class ResultBenchmarkTest {
+
+    private static final int ITERATIONS = 10_000_000;
+
+    /// 실패 결과. [ApiError] 생성 비용을 측정에서 제외하기 위해 미리 만들어 둔다.
+    private static final Result<Long> SKIPPED = Result.failure(ErrorCode.NOT_FOUND);
+
+    private static long streams(int i) {
+        return Result.of(i)
+                .map(v -> v + 1)
+                .filter(v -> v % 3 != 0)
+                .flatMap(v -> Result.of((long) v * 2).successful())
+                .findFirst().orElse(0L);
+    }
+
+    private static long combinators(int i) {
+        return Result.of(i)
+                .mapValue(v -> v + 1)
+                .flatMapResult(v -> (v % 3 != 0)? Result.of((long) v * 2): SKIPPED)
+                .recover(e -> 0L)
+                .value();
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    @Test
+    public void benchmarkCombinators() {
+        for (int round = 0; round < 5; round++) {
+            long bytes = allocatedBytes();
+            long start = System.nanoTime();
+            long streamSum = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                streamSum += streams(i);
+            }
+            long streamTime = System.nanoTime() - start;
+            long streamBytes = allocatedBytes() - bytes;
+
+            bytes = allocatedBytes();
+            start = System.nanoTime();
+            long resultSum = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                resultSum += combinators(i);
+            }
+            long resultTime = System.nanoTime() - start;
+            long resultBytes = allocatedBytes() - bytes;
+
+            assertEquals(streamSum, resultSum);
+            System.out.printf("[round %d] streams: %,d ms (%,d bytes/op), combinators: %,d ms (%,d bytes/op)%n",
+                    round, streamTime / 1_000_000, streamBytes / ITERATIONS,
+                    resultTime / 1_000_000, resultBytes / ITERATIONS);
+        }
+    }
+}
@@ -14,4 +14,30 @@ public class ResultTest {
         assertTrue(result.success());
         assertNull(result.value());
     }
+
+    @Test
+    public void testCombinators() {
+        Result<String> ok = Result.of("42").addAdditionalData("page", 1);
+        Result<String> failed = Result.failure(ErrorCode.NOT_FOUND);
+
+        Result<Integer> mapped = ok.mapValue(Integer::parseInt);
+        assertEquals(42, mapped.value());
+        assertEquals(1, mapped.getAdditionalData("page"));
+        assertSame(ok, ok.mapValue(s -> s));
+        assertSame(failed, failed.mapValue(Integer::parseInt));
+
+        assertEquals(43, ok.flatMapResult(s -> Result.of(Integer.parseInt(s) + 1)).value());
+        assertFalse(ok.flatMapResult(s -> Result.failure("bad")).success());
+        assertSame(failed, failed.flatMapResult(s -> Result.of(1)));
+
+        assertSame(ok, ok.recover(e -> "default"));
+        assertEquals("default", failed.recover(e -> "default").value());
+        assertTrue(failed.recover(e -> "default").success());
+
+        Result<Integer> other = Result.of(8);
+        assertEquals("42/8", ok.zip(other, (a, b) -> a + "/" + b).value());
+        assertSame(failed, failed.zip(other, (a, b) -> a + b));
+        Result<Integer> otherFailed = Result.failure("other");
+        assertSame(otherFailed, ok.zip(otherFailed, (a, b) -> a + b));
+    }
 }
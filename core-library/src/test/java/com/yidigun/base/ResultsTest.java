@@ -0,0 +1,65 @@
+package com.yidigun.base;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResultsTest {
+
+    private static Result<Integer> find(int i) {
+        return (i % 10 == 3)? Result.failure("missing " + i): Result.of(i);
+    }
+
+    @Test
+    public void testCollector() {
+        Results.Partition<Integer> partition = IntStream.range(0, 10_000).parallel()
+                .mapToObj(ResultsTest::find)
+                .collect(Results.collector());
+
+        assertEquals(9_000, partition.successCount());
+        assertEquals(1_000, partition.failureCount());
+        assertEquals(10_000, partition.total());
+        assertFalse(partition.allSucceeded());
+        assertEquals(IntStream.range(0, 10_000).filter(i -> i % 10 != 3).boxed().toList(), partition.values());
+        assertEquals(1_000, partition.errors().size());
+
+        Results.Partition<Object> voids = List.of(Result.of(), Result.of()).stream().collect(Results.collector());
+        assertEquals(2, voids.successCount());
+        assertTrue(voids.values().isEmpty());
+        assertTrue(voids.allSucceeded());
+    }
+
+    @Test
+    public void testSequence() {
+        Result<Integer> failure = Result.failure("first");
+        List<Result<Integer>> results = List.of(Result.of(1), failure, Result.failure("second"));
+        assertSame(failure.error(), Results.sequence(results).error());
+        assertEquals(List.of(1, 2), Results.sequence(List.of(Result.of(1), Result.of(2))).value());
+
+        List<Result<Integer>> many = IntStream.range(0, 10_000).mapToObj(ResultsTest::find).toList();
+        Result<List<Integer>> sequenced = many.parallelStream().collect(Results.sequencing());
+        assertFalse(sequenced.success());
+        assertSame(many.get(3).error(), sequenced.error());
+
+        Result<List<Integer>> all = IntStream.range(0, 1_000).parallel()
+                .mapToObj(Result::of)
+                .collect(Results.sequencing());
+        assertEquals(IntStream.range(0, 1_000).boxed().toList(), all.value());
+    }
+
+    @Test
+    public void testCollectAll() {
+        Result<List<Integer>> collected = IntStream.range(0, 100).parallel()
+                .mapToObj(ResultsTest::find)
+                .collect(Results.collectAll());
+        assertFalse(collected.success());
+        List<?> errors = collected.getAdditionalData(Results.ERRORS, List.class);
+        assertEquals(10, errors.size());
+        assertSame(errors.get(0), collected.error());
+
+        assertEquals(List.of(1, 2), List.of(Result.of(1), Result.of(2)).stream().collect(Results.collectAll()).value());
+    }
+}
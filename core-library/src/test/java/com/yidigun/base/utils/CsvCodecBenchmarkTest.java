@@ -0,0 +1,86 @@
+package com.yidigun.base.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/// [CsvCodec]의 순차 읽기와 메모리 매핑 병렬 읽기의 처리량 비교.
+///
+/// 기본 파일 크기는 1GB이며 `-Dbenchmark.csv.mb=<크기>`로 변경할 수 있다.
+/// `./gradlew :core-library:test -Pbenchmark=true --tests '*BenchmarkTest'`로 실행한다.
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class CsvCodecBenchmarkTest {
+
+    private static final long SIZE = Long.getLong("benchmark.csv.mb", 1024L) * 1024 * 1024;
+
+    @Test
+    public void benchmarkRead(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("benchmark.csv");
+        long rows = generate(file);
+        CsvCodec codec = CsvCodec.of();
+
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            long sequential;
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+                 Stream<NamedTuple> stream = codec.readTuples(reader)) {
+                sequential = stream.count();
+            }
+            long sequentialTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            long parallel = codec.readTuplesParallel(file).count();
+            long parallelTime = System.nanoTime() - start;
+
+            assertEquals(rows, sequential);
+            assertEquals(rows, parallel);
+            System.out.printf("[round %d] %,d MB, sequential: %,d MB/s, parallel: %,d MB/s%n", round,
+                    SIZE >> 20, (SIZE >> 20) * 1_000_000_000L / sequentialTime,
+                    (SIZE >> 20) * 1_000_000_000L / parallelTime);
+        }
+    }
+
+    @Test
+    public void benchmarkReadObjects(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("benchmark.csv");
+        long rows = generate(file);
+        CsvCodec codec = CsvCodec.of();
+
+        long start = System.nanoTime();
+        List<CsvCodecTest.CsvBean> first = codec.readParallel(file, CsvCodecTest.CsvBean.class).limit(1).toList();
+        long count = codec.readParallel(file, CsvCodecTest.CsvBean.class).count();
+        long elapsed = System.nanoTime() - start;
+
+        assertEquals(1, first.size());
+        assertEquals(rows, count);
+        System.out.printf("objects: %,d rows/s%n", rows * 1_000_000_000L / elapsed);
+    }
+
+    /// [#SIZE] 크기 이상의 CSV 파일을 생성한다.
+    private static long generate(Path file) throws IOException {
+        long rows = 0L;
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("name,age,active,score,join_date\n");
+            long written = 0L;
+            while (written < SIZE) {
+                String line = "name-" + rows + "," + (rows % 100) + "," + (rows % 2 == 0) + "," +
+                        rows + ",2024-01-02T03:04:05Z\n";
+                writer.write(line);
+                written += line.length();
+                rows++;
+            }
+        }
+        return rows;
+    }
+}
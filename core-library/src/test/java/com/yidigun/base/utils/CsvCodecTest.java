@@ -0,0 +1,154 @@
+package com.yidigun.base.utils;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvCodecTest {
+
+    @Test
+    public void testReadTuples() {
+        String csv = "name,age,address\n" +
+                "John,30,\"Seoul, Korea\"\n" +
+                "Jane,25\n";
+
+        List<NamedTuple> rows;
+        try (Stream<NamedTuple> stream = CsvCodec.of().readTuples(new StringReader(csv))) {
+            rows = stream.toList();
+        }
+
+        assertEquals(2, rows.size());
+        assertEquals("John", rows.get(0).get("name"));
+        assertEquals("30", rows.get(0).get("age"));
+        assertEquals("Seoul, Korea", rows.get(0).get("address"));
+        assertEquals(2, rows.get(1).size());
+        assertEquals("25", rows.get(1).get("age"));
+        assertNull(rows.get(1).get("address"));
+        assertEquals(0, CsvCodec.of().readTuples(new StringReader("")).count());
+    }
+
+    @Test
+    public void testReadObjects() {
+        String csv = "﻿name,age,active,score,join_date,unknown\n" +
+                "John,30,true,100,2024-01-02T03:04:05Z,x\n" +
+                "Jane,,false,,,y\n";
+
+        List<CsvBean> beans;
+        try (Stream<CsvBean> stream = CsvCodec.of().read(new StringReader(csv), CsvBean.class)) {
+            beans = stream.toList();
+        }
+
+        assertEquals(2, beans.size());
+        assertEquals("John", beans.get(0).getName());
+        assertEquals(30, beans.get(0).getAge());
+        assertTrue(beans.get(0).isActive());
+        assertEquals(100, beans.get(0).getScore());
+        assertEquals(Instant.parse("2024-01-02T03:04:05Z"), beans.get(0).getJoinDate());
+        assertEquals(0, beans.get(1).getAge());
+        assertNull(beans.get(1).getScore());
+        assertNull(beans.get(1).getJoinDate());
+
+        assertThrows(PropertyMapException.class,
+                () -> CsvCodec.of().read(new StringReader("age\nabc\n"), CsvBean.class).toList());
+    }
+
+    @Test
+    public void testCloseOnHeaderError() {
+        // 헤더를 읽지 못하면 스트림을 반환하지 않으므로 입력을 닫아야 한다.
+        AtomicBoolean closed = new AtomicBoolean();
+        Reader reader = new StringReader("\"name,age\n") {
+            @Override
+            public void close() {
+                closed.set(true);
+                super.close();
+            }
+        };
+        assertThrows(UncheckedIOException.class, () -> CsvCodec.of().readTuples(reader));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void testWriteAndReadBack() {
+        List<CsvBean> beans = beans(3);
+        StringWriter writer = new StringWriter();
+
+        assertEquals(3L, CsvCodec.of().write(writer, CsvBean.class, beans));
+        assertTrue(writer.toString().startsWith("name,age,active,score,joinDate\n"));
+        assertEquals(beans, CsvCodec.of().read(new StringReader(writer.toString()), CsvBean.class).toList());
+
+        StringWriter tupleWriter = new StringWriter();
+        List<NamedTuple> tuples = List.of(
+                NamedTuple.of(new String[] { "name", "memo" }, "John", "a, \"quoted\" value", 1),
+                NamedTuple.of(new String[] { "name", "memo" }, "Jane", null, 2));
+        assertEquals(2L, CsvCodec.of('\t').writeTuples(tupleWriter, tuples));
+
+        List<NamedTuple> read = CsvCodec.of('\t').readTuples(new StringReader(tupleWriter.toString())).toList();
+        assertEquals("a, \"quoted\" value", read.get(0).get("memo"));
+        assertEquals("", read.get(1).get("memo"));
+        assertEquals("2", read.get(1).get("index[2]"));
+    }
+
+    @Test
+    public void testReadParallel(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("beans.csv");
+        List<CsvBean> beans = beans(1000);
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            CsvCodec.of().write(writer, CsvBean.class, beans);
+        }
+
+        // 청크가 여러개로 나뉘도록 작은 청크 크기 사용
+        CsvCodec codec = CsvCodec.of().withChunkSize(100);
+        List<NamedTuple> tuples = codec.readTuplesParallel(file).toList();
+        assertEquals(1000, tuples.size());
+        for (int i = 0; i < tuples.size(); i++) {
+            assertEquals("name-" + i, tuples.get(i).get("name"));
+        }
+        assertEquals(beans, codec.readParallel(file, CsvBean.class).toList());
+
+        Path empty = Files.createFile(dir.resolve("empty.csv"));
+        assertEquals(0, codec.readTuplesParallel(empty).count());
+    }
+
+    static List<CsvBean> beans(int count) {
+        Instant now = Instant.parse("2024-01-02T03:04:05Z");
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    CsvBean bean = new CsvBean();
+                    bean.setName("name-" + i);
+                    bean.setAge(i % 100);
+                    bean.setActive(i % 2 == 0);
+                    bean.setScore((i % 3 == 0)? null: i);
+                    bean.setJoinDate(now.plusSeconds(i));
+                    return bean;
+                })
+                .toList();
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class CsvBean {
+        private String name;
+        private int age;
+        private boolean active;
+        private Integer score;
+        private Instant joinDate;
+    }
+}
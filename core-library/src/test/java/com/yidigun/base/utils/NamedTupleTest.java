@@ -2,7 +2,10 @@ package com.yidigun.base.utils;
 
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.io.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 public class NamedTupleTest {
 
@@ -19,4 +22,65 @@ public class NamedTupleTest {
         assertEquals(tuple1, tuple4);
     }
 
+    @Test
+    public void testToMapView() {
+        NamedTuple tuple = NamedTuple.of(new String[] {"name", null, "name", "age"}, "Alice", "x", "dup", 30)
+                .append("extra");
+        Map<String, Object> map = tuple.toMap();
+
+        assertEquals(4, map.size());
+        assertEquals("Alice", map.get("name"));
+        assertEquals("x", map.get("index[1]"));
+        assertEquals(30, map.get("age"));
+        assertEquals("extra", map.get("index[4]"));
+        assertFalse(map.containsKey("index[0]"));
+        assertFalse(map.containsKey("index[2]"));
+        assertNull(map.get("index[5]"));
+        assertNull(map.get(1));
+        assertEquals(List.of("name", "index[1]", "age", "index[4]"), new ArrayList<>(map.keySet()));
+
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("name", "Alice");
+        expected.put("index[1]", "x");
+        expected.put("age", 30);
+        expected.put("index[4]", "extra");
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+
+        List<String> visited = new ArrayList<>();
+        map.forEach((k, v) -> visited.add(k + "=" + v));
+        assertEquals(List.of("name=Alice", "index[1]=x", "age=30", "index[4]=extra"), visited);
+        assertThrows(UnsupportedOperationException.class, () -> map.put("name", "Bob"));
+        assertThrows(UnsupportedOperationException.class, () -> map.entrySet().iterator().next().setValue("Bob"));
+    }
+
+    @Test
+    public void testToMapIndexNameCollision() {
+        // `index[n]` 이름의 컬럼이 있으면 그 컬럼이 우선하고, 이름이 없는 위치의 키는 제외된다.
+        NamedTuple tuple = NamedTuple.of(new String[] {"a", null, "index[1]", "index[4]"}, 1, 2, 3, 4)
+                .append(5);
+        Map<String, Object> map = tuple.toMap();
+
+        assertEquals(List.of("a", "index[1]", "index[4]"), new ArrayList<>(map.keySet()));
+        assertEquals(3, map.size());
+        assertEquals(map.size(), map.entrySet().size());
+        assertEquals(3, map.get("index[1]"));
+        assertEquals(4, map.get("index[4]"));
+        assertEquals(tuple.get("index[1]"), map.get("index[1]"));
+        assertEquals(Map.of("a", 1, "index[1]", 3, "index[4]", 4), map);
+        assertEquals(Map.of("a", 1, "index[1]", 3, "index[4]", 4), Map.copyOf(map));
+    }
+
+    @Test
+    public void testToMapSerialization() throws IOException, ClassNotFoundException {
+        Map<String, Object> map = NamedTuple.of(new String[] {"name", "age"}, "Alice", null).toMap();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(map);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(map, in.readObject());
+        }
+    }
 }
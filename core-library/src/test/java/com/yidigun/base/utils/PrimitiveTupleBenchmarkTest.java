@@ -0,0 +1,44 @@
+package com.yidigun.base.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/// 고 카디널리티 집계에서 박싱된 [Tuple] 키와 기본 타입 튜플 키의 처리량 비교.
+///
+/// `./gradlew :core-library:test -Pbenchmark=true --tests '*BenchmarkTest'`로 실행한다.
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class PrimitiveTupleBenchmarkTest {
+
+    private static final int ROWS = 5_000_000;
+    private static final int KEYS = 1_000_000;
+
+    @Test
+    public void benchmarkAggregation() {
+        for (int round = 0; round < 3; round++) {
+            long boxed = aggregate(i -> Tuple.of(i % KEYS, i % KEYS % 7));
+            long longs = aggregate(i -> LongTuple.ofLongs(i % KEYS, i % KEYS % 7));
+            long mixed = aggregate(i -> MixedTuple.builder().add(i % KEYS).add(i % KEYS % 7).build());
+
+            System.out.printf("[round %d] Tuple: %,d rows/s, LongTuple: %,d rows/s, MixedTuple: %,d rows/s%n",
+                    round, ROWS * 1_000_000_000L / boxed, ROWS * 1_000_000_000L / longs,
+                    ROWS * 1_000_000_000L / mixed);
+        }
+    }
+
+    private static long aggregate(LongFunction<Tuple> key) {
+        long start = System.nanoTime();
+        Map<Tuple, long[]> sums = new HashMap<>();
+        for (long i = 0; i < ROWS; i++) {
+            sums.computeIfAbsent(key.apply(i), k -> new long[1])[0] += i;
+        }
+        long elapsed = System.nanoTime() - start;
+        assertEquals(KEYS, sums.size());
+        return elapsed;
+    }
+}
@@ -0,0 +1,102 @@
+package com.yidigun.base.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrimitiveTupleTest {
+
+    @Test
+    public void testIntTuple() {
+        IntTuple tuple = IntTuple.ofInts(1, 2, 3);
+
+        assertEquals(3, tuple.size());
+        assertEquals(1, tuple.first());
+        assertEquals(2, tuple.getInt(1));
+        assertEquals(3L, tuple.getLong(2));
+        assertEquals(3.0, tuple.getDouble(2));
+        assertEquals(Integer.valueOf(2), tuple.getSecondAs(Integer.class));
+        assertArrayEquals(new Object[] { 1, 2, 3 }, tuple.toArray());
+        assertArrayEquals(new int[] { 2, 3 }, tuple.subTuple(1, 3).toIntArray());
+        assertEquals(6, tuple.intStream().sum());
+        assertEquals(List.of(1, 2, 3), tuple.toList());
+        assertEquals("Tuple[1, 2, 3]", tuple.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> tuple.getInt(3));
+        assertThrows(UnsupportedOperationException.class, () -> tuple.toList().set(0, 9));
+    }
+
+    @Test
+    public void testLongAndDoubleTuple() {
+        LongTuple longs = LongTuple.ofLongs(1L, Long.MAX_VALUE);
+        DoubleTuple doubles = DoubleTuple.ofDoubles(0.5, Double.NaN);
+
+        assertEquals(Long.MAX_VALUE, longs.getLong(1));
+        assertThrows(ClassCastException.class, () -> longs.getInt(0));
+        assertEquals(0.5, doubles.getDouble(0));
+        assertThrows(ClassCastException.class, () -> doubles.getLong(0));
+        assertEquals(DoubleTuple.ofDoubles(0.5, Double.NaN), doubles);
+        assertEquals(Tuple.of(0.5, Double.NaN), doubles);
+        assertEquals(Tuple.of(0.5, Double.NaN).hashCode(), doubles.hashCode());
+    }
+
+    @Test
+    public void testMixedTuple() {
+        MixedTuple tuple = MixedTuple.builder().add(7).add(10_000_000_000L).add("A").add(1.5).add((Object) null).build();
+
+        assertEquals(5, tuple.size());
+        assertEquals(int.class, tuple.typeAt(0));
+        assertEquals(long.class, tuple.typeAt(1));
+        assertEquals(Object.class, tuple.typeAt(2));
+        assertEquals(double.class, tuple.typeAt(3));
+        assertEquals(7, tuple.getInt(0));
+        assertEquals(7L, tuple.getLong(0));
+        assertEquals(10_000_000_000L, tuple.getLong(1));
+        assertEquals(1.5, tuple.getDouble(3));
+        assertEquals("A", tuple.third());
+        assertNull(tuple.fifth());
+        assertThrows(ClassCastException.class, () -> tuple.getInt(1));
+        assertThrows(ClassCastException.class, () -> tuple.getLong(2));
+
+        assertEquals(MixedTuple.of(7, 10_000_000_000L, "A", 1.5, null), tuple);
+        assertEquals(MixedTuple.of(10_000_000_000L, "A"), tuple.subTuple(1, 3));
+        assertEquals(Long.class, tuple.subTuple(1, 3).first().getClass());
+    }
+
+    @Test
+    public void testEqualityAcrossKinds() {
+        Tuple boxed = Tuple.of(1L, 2L);
+        LongTuple longs = LongTuple.ofLongs(1L, 2L);
+        MixedTuple mixed = MixedTuple.of(1L, 2L);
+
+        assertEquals(boxed, longs);
+        assertEquals(longs, boxed);
+        assertEquals(longs, mixed);
+        assertEquals(mixed, boxed);
+        assertEquals(boxed.hashCode(), longs.hashCode());
+        assertEquals(boxed.hashCode(), mixed.hashCode());
+        assertEquals(Tuple.of(1, "a").hashCode(), MixedTuple.of(1, "a").hashCode());
+
+        // 박싱된 값 기준으로 비교하므로 Integer 와 Long 은 같지 않다
+        assertNotEquals(IntTuple.ofInts(1, 2), longs);
+        assertNotEquals(NamedTuple.of(longs, new String[] { "a", "b" }), longs);
+        assertNotEquals(longs, NamedTuple.of(longs, new String[] { "a", "b" }));
+
+        Map<Tuple, Integer> map = new HashMap<>();
+        map.put(longs, 1);
+        assertEquals(1, map.get(Tuple.of(1L, 2L)));
+        assertEquals(1, map.get(mixed));
+    }
+
+    @Test
+    public void testInteropWithTuple() {
+        IntTuple ints = IntTuple.ofInts(1, 2);
+
+        assertEquals(Tuple.of(1, 2, "x"), ints.append("x"));
+        assertEquals(Tuple.of(0, 1, 2), Tuple.of(0).append(ints));
+        assertEquals(2, NamedTuple.of(ints, new String[] { "a", "b" }).get("b"));
+    }
+}
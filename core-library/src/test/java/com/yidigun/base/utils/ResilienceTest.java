@@ -0,0 +1,176 @@
+package com.yidigun.base.utils;
+
+import com.yidigun.base.ApiError;
+import com.yidigun.base.ErrorCode;
+import com.yidigun.base.Result;
+import org.junit.jupiter.api.Test;
+
+import java.net.SocketTimeoutException;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResilienceTest {
+
+    private static final RetryPolicy FAST = RetryPolicy.of(3)
+            .withInitialDelay(Duration.ofMillis(1))
+            .withMaxDelay(Duration.ofMillis(5));
+
+    @Test
+    public void testIsTransient() {
+        assertTrue(Resilience.isTransient(SQLStateClass.CONNECTION_EXCEPTION));
+        assertTrue(Resilience.isTransient(SQLStateClass.TRANSACTION_ROLLBACK));
+        assertTrue(Resilience.isTransient(SQLStateClass.QUERY_TIMEOUT));
+        assertFalse(Resilience.isTransient(SQLStateClass.INTEGRITY_CONSTRAINT_VIOLATION));
+        assertTrue(Resilience.isTransient(HttpStatus.SERVICE_UNAVAILABLE));
+        assertTrue(Resilience.isTransient(HttpStatus.TOO_MANY_REQUESTS));
+        assertFalse(Resilience.isTransient(HttpStatus.NOT_FOUND));
+        assertFalse(Resilience.isTransient(ErrorCode.NOT_FOUND));
+
+        // ApiError는 오류 코드와 원인 예외로 판단한다.
+        assertTrue(Resilience.isTransient(ApiError.of(HttpStatus.SERVICE_UNAVAILABLE)));
+        assertTrue(Resilience.isTransient(new ApiError(new SQLException("deadlock", "40P01"))));
+        assertFalse(Resilience.isTransient(new ApiError(new SQLException("duplicated", "23505"))));
+        assertTrue(Resilience.isTransient(new ApiError(new SocketTimeoutException())));
+        assertTrue(Resilience.isTransient(new ApiError(new SQLTransientConnectionException("vendor"))));
+
+        assertEquals(SQLStateClass.TRANSACTION_ROLLBACK,
+                Resilience.errorClass(new ApiError(new SQLException("deadlock", "40P01"))));
+        assertEquals("NOT_FOUND", Resilience.errorClass(ErrorCode.NOT_FOUND));
+    }
+
+    @Test
+    public void testRetry() {
+        AtomicInteger calls = new AtomicInteger();
+        Result<String> result = Resilience.retrying(FAST).call(() ->
+                (calls.incrementAndGet() < 3)? Result.failure(HttpStatus.SERVICE_UNAVAILABLE): Result.of("ok")).join();
+        assertTrue(result.success());
+        assertEquals("ok", result.value());
+        assertEquals(3, calls.get());
+
+        // 최대 시도 횟수
+        calls.set(0);
+        result = Resilience.retrying(FAST).<String>call(() -> {
+            calls.incrementAndGet();
+            return Result.failure(SQLStateClass.CONNECTION_EXCEPTION);
+        }).join();
+        assertFalse(result.success());
+        assertEquals(SQLStateClass.CONNECTION_EXCEPTION.code(), result.error().code());
+        assertEquals(3, calls.get());
+
+        // 재시도하지 않는 오류
+        calls.set(0);
+        result = Resilience.retrying(FAST).<String>call(() -> {
+            calls.incrementAndGet();
+            return Result.failure(HttpStatus.NOT_FOUND);
+        }).join();
+        assertFalse(result.success());
+        assertEquals(1, calls.get());
+
+        // 예외는 실패 결과로 변환된다.
+        result = Resilience.retrying(FAST).<String>call(() -> {
+            throw new IllegalStateException("boom");
+        }).join();
+        assertInstanceOf(IllegalStateException.class, result.error().getCause());
+
+        // 재시도 조건이나 작업이 예외를 던져도 결과는 완료된다.
+        AtomicInteger checks = new AtomicInteger();
+        RetryPolicy throwing = FAST.withRetryOn(error -> {
+            if (checks.incrementAndGet() > 1) throw new IllegalStateException("retryOn");
+            return true;
+        });
+        result = Resilience.retrying(throwing).<String>call(() -> Result.failure(HttpStatus.SERVICE_UNAVAILABLE))
+                .join(Duration.ofSeconds(5));
+        assertInstanceOf(IllegalStateException.class, result.error().getCause());
+        assertEquals("retryOn", result.error().getCause().getMessage());
+
+        result = Resilience.retrying(FAST).<String>call(() -> { throw new AssertionError("error"); })
+                .join(Duration.ofSeconds(5));
+        assertInstanceOf(AssertionError.class, result.error().getCause());
+
+        // 기본 실행기는 블로킹 작업을 공용 풀에서 실행하지 않는다.
+        assertNotSame(ForkJoinPool.commonPool(), RetryPolicy.DEFAULT.executor());
+    }
+
+    @Test
+    public void testDelay() {
+        RetryPolicy policy = RetryPolicy.of(10)
+                .withInitialDelay(Duration.ofMillis(100))
+                .withMultiplier(2.0)
+                .withMaxDelay(Duration.ofMillis(500))
+                .withJitter(0.0);
+        assertEquals(Duration.ofMillis(100).toNanos(), policy.delayNanos(1));
+        assertEquals(Duration.ofMillis(200).toNanos(), policy.delayNanos(2));
+        assertEquals(Duration.ofMillis(400).toNanos(), policy.delayNanos(3));
+        assertEquals(Duration.ofMillis(500).toNanos(), policy.delayNanos(4));
+
+        long jittered = policy.withJitter(0.5).delayNanos(1);
+        assertTrue(jittered > Duration.ofMillis(50).toNanos() && jittered <= Duration.ofMillis(100).toNanos());
+
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.of(0));
+        assertThrows(IllegalArgumentException.class, () -> policy.withJitter(1.5));
+    }
+
+    @Test
+    public void testCircuitBreaker() {
+        // 시각을 직접 진행시켜 실행 환경의 지연에 영향을 받지 않도록 한다.
+        AtomicLong clock = new AtomicLong();
+        CircuitBreaker breaker = CircuitBreaker.of("test", 2, Duration.ofMillis(50), clock::get);
+        Resilience.Retrying retrying = Resilience.retrying(FAST.withMaxAttempts(1).withCircuitBreaker(breaker));
+
+        AtomicInteger calls = new AtomicInteger();
+        Result<String> unavailable = Result.failure(HttpStatus.SERVICE_UNAVAILABLE);
+        retrying.call(() -> { calls.incrementAndGet(); return unavailable; }).join();
+        assertFalse(breaker.isOpen());
+        retrying.call(() -> { calls.incrementAndGet(); return unavailable; }).join();
+        assertTrue(breaker.isOpen());
+        assertEquals(Set.of("SERVICE_UNAVAILABLE"), breaker.openCircuits());
+
+        // 열려 있는 동안은 호출하지 않는다.
+        Result<String> rejected = retrying.call(() -> { calls.incrementAndGet(); return Result.of("ok"); }).join();
+        assertEquals(CircuitBreaker.CIRCUIT_OPEN.code(), rejected.error().code());
+        assertEquals(2, calls.get());
+
+        // 열린 시간이 지나면 시험 호출을 허용하고, 성공하면 닫는다.
+        clock.addAndGet(Duration.ofMillis(60).toNanos());
+        Result<String> trial = retrying.call(() -> { calls.incrementAndGet(); return Result.of("ok"); }).join();
+        assertTrue(trial.success());
+        assertFalse(breaker.isOpen());
+
+        // 재시도 대상이 아닌 오류는 연속 실패를 끊는다.
+        retrying.call(() -> unavailable).join();
+        retrying.call(() -> Result.<String>failure(HttpStatus.NOT_FOUND)).join();
+        retrying.call(() -> unavailable).join();
+        assertFalse(breaker.isOpen());
+    }
+
+    @Test
+    public void testCircuitBreakerChecksAllCircuits() {
+        AtomicLong clock = new AtomicLong();
+        long elapsed = Duration.ofMillis(40).toNanos();
+
+        // 열린 시간이 지난 회로가 있어도 아직 열려 있는 회로가 있으면 거부한다.
+        for (int i = 0; i < 20; i++) {
+            CircuitBreaker breaker = CircuitBreaker.of("test", 1, Duration.ofMillis(30), clock::get);
+            breaker.onFailure("expired-" + i);
+            clock.addAndGet(elapsed);
+            breaker.onFailure("open-" + i);
+            assertFalse(breaker.tryAcquire());
+        }
+
+        // 열린 시간이 모두 지나면 한 호출만 시험 호출로 허용한다.
+        CircuitBreaker breaker = CircuitBreaker.of("test", 1, Duration.ofMillis(30), clock::get);
+        breaker.onFailure("a");
+        breaker.onFailure("b");
+        assertFalse(breaker.tryAcquire());
+        clock.addAndGet(elapsed);
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+    }
+}
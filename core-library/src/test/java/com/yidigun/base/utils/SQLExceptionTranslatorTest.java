@@ -0,0 +1,124 @@
+package com.yidigun.base.utils;
+
+import com.yidigun.base.ApiError;
+import com.yidigun.base.Result;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SQLExceptionTranslatorTest {
+
+    @Test
+    public void testVendorTables() {
+        SQLExceptionTranslator mysql = SQLExceptionTranslator.of(SQLExceptionTranslator.Vendor.MYSQL);
+        assertEquals(SQLStateClass.QUERY_TIMEOUT, mysql.classify(new SQLException("lock wait", "HY000", 1205)));
+        assertEquals(SQLStateClass.CONNECTION_EXCEPTION, mysql.classify(new SQLException("gone away", "HY000", 2006)));
+        assertEquals(SQLStateClass.QUERY_TIMEOUT, mysql.classify(new SQLException("cancelled", "70100")));
+
+        SQLExceptionTranslator oracle = SQLExceptionTranslator.of("Oracle");
+        assertEquals(SQLStateClass.QUERY_TIMEOUT, oracle.classify(new SQLException("ORA-01013", "72000", 1013)));
+        assertEquals(SQLStateClass.TRANSACTION_ROLLBACK, oracle.classify(new SQLException("ORA-00060", "61000", 60)));
+        assertEquals(SQLStateClass.CONNECTION_TIMEOUT, oracle.classify(new SQLException("ORA-12170", null, 12170)));
+
+        SQLExceptionTranslator postgres = SQLExceptionTranslator.of("PostgreSQL");
+        assertEquals(SQLStateClass.QUERY_TIMEOUT, postgres.classify(new SQLException("canceling statement", "57014")));
+        assertEquals(SQLStateClass.INTEGRITY_CONSTRAINT_VIOLATION, postgres.classify(new SQLException("dup", "23505")));
+
+        // 테이블이 없으면 SQLState로 분류
+        SQLExceptionTranslator generic = SQLExceptionTranslator.generic();
+        assertEquals(SQLStateClass.UNKNOWN, generic.classify(new SQLException("lock wait", "HY000", 1205)));
+        assertEquals(SQLStateClass.QUERY_TIMEOUT, generic.classify(new SQLException("canceling", "57014")));
+        assertEquals(SQLStateClass.QUERY_TIMEOUT, generic.classify(new SQLException("lock timeout", "55P03")));
+        assertEquals(SQLStateClass.OPERATOR_INTERVENTION, generic.classify(new SQLException("shutdown", "57P01")));
+        assertEquals(SQLStateClass.QUERY_TIMEOUT, generic.classify(new SQLTimeoutException("timeout", "HYT00")));
+        assertEquals(SQLStateClass.CONNECTION_TIMEOUT, generic.classify(new SQLTimeoutException("timeout", "08001")));
+        assertEquals(SQLStateClass.QUERY_TIMEOUT, generic.classify(new SQLTimeoutException("timeout")));
+        assertEquals(SQLStateClass.CONNECTION_EXCEPTION, generic.classify(new SQLTransientConnectionException("no state")));
+        assertEquals(SQLStateClass.UNKNOWN, generic.classify(new SQLException("no state")));
+
+        assertSame(generic, SQLExceptionTranslator.of("Unknown DBMS"));
+        assertSame(SQLExceptionTranslator.of("MySQL"), SQLExceptionTranslator.of("MariaDB"));
+    }
+
+    @Test
+    public void testChain() {
+        // getNextException() 체인에서 timeout이 우선한다.
+        SQLException batch = new BatchUpdateException("batch failed", "23505", 0, new int[0]);
+        batch.setNextException(new SQLException("dup", "23505"));
+        batch.setNextException(new SQLException("lock wait", "HY000", 1205));
+        SQLExceptionTranslator mysql = SQLExceptionTranslator.of(SQLExceptionTranslator.Vendor.MYSQL);
+        assertEquals(SQLStateClass.QUERY_TIMEOUT, mysql.classify(batch));
+        assertEquals(SQLStateClass.INTEGRITY_CONSTRAINT_VIOLATION, SQLExceptionTranslator.generic().classify(batch));
+
+        // 상태가 없는 예외는 다음 예외로 분류
+        SQLException wrapper = new SQLException("wrapper");
+        wrapper.setNextException(new SQLException("deadlock", "40P01"));
+        assertEquals(SQLStateClass.TRANSACTION_ROLLBACK, SQLStateClass.of(wrapper));
+        assertEquals(SQLStateClass.CONNECTION_EXCEPTION,
+                SQLStateClass.of(new SQLException("wrapper", new SQLException("refused", "08001"))));
+    }
+
+    @Test
+    public void testTranslate() {
+        SQLException e = new SQLException("lock wait", "HY000", 1205);
+        ApiError error = SQLExceptionTranslator.of(SQLExceptionTranslator.Vendor.MYSQL).translate(e);
+        assertSame(SQLStateClass.QUERY_TIMEOUT, error.errorCode());
+        assertSame(e, error.getCause());
+        assertTrue(Resilience.isTransient(error));
+        assertEquals(SQLStateClass.QUERY_TIMEOUT, Resilience.errorClass(error));
+        // 변환하지 않은 PostgreSQL statement_timeout도 timeout으로 분류된다.
+        assertEquals(SQLStateClass.QUERY_TIMEOUT, Resilience.errorClass(new ApiError(new SQLException("canceling", "57014"))));
+
+        Result<String> result = SQLExceptionTranslator.generic().failure(new SQLException("dup", "23505"));
+        assertSame(SQLStateClass.INTEGRITY_CONSTRAINT_VIOLATION, result.error().errorCode());
+    }
+
+    @Test
+    public void testDataSource() throws SQLException {
+        AtomicInteger connections = new AtomicInteger();
+        DataSource dataSource = (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { DataSource.class }, (proxy, method, args) -> switch (method.getName()) {
+                    case "getConnection" -> {
+                        connections.incrementAndGet();
+                        yield DriverManager.getConnection("jdbc:h2:mem:translator");
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+
+        SQLExceptionTranslator translator = SQLExceptionTranslator.of(dataSource);
+        assertSame(SQLExceptionTranslator.of(SQLExceptionTranslator.Vendor.H2), translator);
+        assertSame(translator, SQLExceptionTranslator.of(dataSource));
+        assertEquals(1, connections.get());
+
+        // 실제 H2 오류
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            assertSame(translator, SQLExceptionTranslator.of(connection));
+            statement.execute("CREATE TABLE T (ID INT PRIMARY KEY)");
+            statement.execute("INSERT INTO T VALUES (1)");
+            SQLException e = assertThrows(SQLException.class, () -> statement.execute("INSERT INTO T VALUES (1)"));
+            assertEquals(SQLStateClass.INTEGRITY_CONSTRAINT_VIOLATION, translator.classify(e));
+        }
+    }
+
+    @Test
+    public void testRegister() {
+        SQLExceptionTranslator.register("acme db", e -> (e.getErrorCode() == 42)? SQLStateClass.QUERY_TIMEOUT: null);
+        try {
+            SQLExceptionTranslator acme = SQLExceptionTranslator.of("ACME DB 3.1");
+            assertEquals(SQLStateClass.QUERY_TIMEOUT, acme.classify(new SQLException("slow", "HY000", 42)));
+            assertEquals(SQLStateClass.DATA_EXCEPTION, acme.classify(new SQLException("bad", "22001", 1)));
+            assertSame(acme, SQLExceptionTranslator.of("acme db"));
+        } finally {
+            SQLExceptionTranslator.unregister("acme db");
+        }
+        assertSame(SQLExceptionTranslator.generic(), SQLExceptionTranslator.of("ACME DB 3.1"));
+    }
+}
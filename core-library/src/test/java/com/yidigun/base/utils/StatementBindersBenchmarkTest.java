@@ -0,0 +1,65 @@
+package com.yidigun.base.utils;
+
+import com.yidigun.base.beans.examples.Member;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.*;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/// [StatementBinder]와 [PropertyMap] 기반 바인딩의 처리량 비교.
+///
+/// `./gradlew :core-library:test -Pbenchmark=true --tests '*BenchmarkTest'`로 실행한다.
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class StatementBindersBenchmarkTest {
+
+    private static final int ROWS = 200_000;
+    private static final String[] COLUMNS = { "memberNo", "name", "registerDate", "createDate", "updateDate" };
+
+    @Test
+    public void benchmarkInsert() throws SQLException {
+        List<Member> members = StatementBindersTest.members(1, ROWS + 1);
+        StatementBinder<Member> binder = StatementBinders.insert(Member.class, "member").withChunkSize(1000);
+
+        for (int round = 0; round < 3; round++) {
+            long propertyMap = run(binder.sql(), conn -> {
+                try (PreparedStatement ps = conn.prepareStatement(binder.sql())) {
+                    int pending = 0;
+                    for (Member member : members) {
+                        PropertyMap map = PropertyMaps.of(member);
+                        for (int i = 0; i < COLUMNS.length; i++) {
+                            Object value = map.get(COLUMNS[i]);
+                            ps.setObject(i + 1, (value instanceof java.time.Instant instant)?
+                                    Timestamp.from(instant): value);
+                        }
+                        ps.addBatch();
+                        if (++pending == 1000) { ps.executeBatch(); pending = 0; }
+                    }
+                    if (pending > 0) ps.executeBatch();
+                }
+            });
+            long bound = run(binder.sql(), conn -> assertEquals(ROWS, binder.executeBatch(conn, members).value()));
+
+            System.out.printf("[round %d] PropertyMap: %,d rows/s, StatementBinder: %,d rows/s%n",
+                    round, ROWS * 1_000_000_000L / propertyMap, ROWS * 1_000_000_000L / bound);
+        }
+    }
+
+    interface SqlWork {
+        void run(Connection connection) throws SQLException;
+    }
+
+    private static long run(String sql, SqlWork work) throws SQLException {
+        try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:")) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE member (member_no BIGINT PRIMARY KEY, name VARCHAR(100), " +
+                        "register_date TIMESTAMP, create_date TIMESTAMP, update_date TIMESTAMP)");
+            }
+            long start = System.nanoTime();
+            work.run(conn);
+            return System.nanoTime() - start;
+        }
+    }
+}
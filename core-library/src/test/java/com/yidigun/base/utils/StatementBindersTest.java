@@ -0,0 +1,141 @@
+package com.yidigun.base.utils;
+
+import com.yidigun.base.Result;
+import com.yidigun.base.beans.examples.Member;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.*;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StatementBindersTest {
+
+    private Connection connection;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:binders;DB_CLOSE_DELAY=-1");
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE member (" +
+                    "member_no BIGINT PRIMARY KEY, name VARCHAR(100), register_date TIMESTAMP, " +
+                    "create_date TIMESTAMP, update_date TIMESTAMP)");
+        }
+    }
+
+    @AfterEach
+    public void tearDown() throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("DROP TABLE member");
+        }
+        connection.close();
+    }
+
+    static List<Member> members(long from, long to) {
+        Instant now = Instant.now();
+        return LongStream.range(from, to)
+                .mapToObj(no -> Member.builder()
+                        .memberNo(no)
+                        .name("member-" + no)
+                        .registerDate(now)
+                        .createDate(now)
+                        .build())
+                .toList();
+    }
+
+    @Test
+    public void testInsertSql() {
+        StatementBinder<Member> binder = StatementBinders.insert(Member.class, "member");
+
+        assertEquals(List.of("member_no", "name", "register_date", "create_date", "update_date"), binder.columns());
+        assertEquals("INSERT INTO member (member_no, name, register_date, create_date, update_date) " +
+                "VALUES (?, ?, ?, ?, ?)", binder.sql());
+        assertEquals(StatementBinders.DEFAULT_CHUNK_SIZE, binder.chunkSize());
+        assertEquals(100, binder.withChunkSize(100).chunkSize());
+        assertThrows(IllegalArgumentException.class, () -> binder.withChunkSize(0));
+        assertThrows(PropertyMapException.class, () -> StatementBinders.insert(Member.class, "member", "noSuchProperty"));
+    }
+
+    @Test
+    public void testExecuteBatch() throws SQLException {
+        StatementBinder<Member> binder = StatementBinders.insert(Member.class, "member").withChunkSize(100);
+
+        Result<Long> result = binder.executeBatch(connection, members(1, 251));
+
+        assertTrue(result.success());
+        assertEquals(250L, result.value());
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*), COUNT(update_date), MAX(name) FROM member")) {
+            assertTrue(rs.next());
+            assertEquals(250, rs.getInt(1));
+            assertEquals(0, rs.getInt(2));
+            assertEquals("member-99", rs.getString(3));
+        }
+    }
+
+    @Test
+    public void testChunkFailure() {
+        StatementBinder<Member> binder = StatementBinders.insert(Member.class, "member").withChunkSize(100);
+
+        // 두번째 청크에서 PK 중복 발생
+        List<Member> duplicated = new java.util.ArrayList<>(members(1, 151));
+        duplicated.add(members(1, 2).get(0));
+
+        Result<Long> result = binder.executeBatch(connection, duplicated);
+
+        assertFalse(result.success());
+        assertEquals(SQLStateClass.INTEGRITY_CONSTRAINT_VIOLATION.code(), result.error().code());
+        assertInstanceOf(SQLException.class, result.error().getCause());
+        assertEquals(1, result.getAdditionalData(StatementBinder.FAILED_CHUNK));
+        assertTrue(result.getAdditionalDataAs(StatementBinder.COMPLETED_ROWS, Long.class) >= 100L);
+    }
+
+    @Test
+    public void testTranslator() {
+        StatementBinder<Member> binder = StatementBinders.insert(Member.class, "member");
+        assertNull(binder.translator());
+        assertSame(binder, binder.withTranslator(null));
+
+        // 지정한 변환기로 분류하며, 분류된 오류 코드는 재시도 판단에도 그대로 사용된다.
+        // 전역 등록 없이 이 테스트에서만 사용하는 변환기
+        SQLExceptionTranslator translator = SQLExceptionTranslator.of(
+                e -> (e.getErrorCode() == 23505)? SQLStateClass.QUERY_TIMEOUT: null);
+        StatementBinder<Member> translating = binder.withTranslator(translator);
+        assertSame(translator, translating.translator());
+        assertSame(translator, translating.withChunkSize(10).translator());
+
+        List<Member> duplicated = new java.util.ArrayList<>(members(1, 3));
+        duplicated.add(members(1, 2).get(0));
+        Result<Long> result = translating.executeBatch(connection, duplicated);
+        assertFalse(result.success());
+        assertSame(SQLStateClass.QUERY_TIMEOUT, result.error().errorCode());
+        assertEquals(SQLStateClass.QUERY_TIMEOUT, Resilience.errorClass(result.error()));
+        assertTrue(Resilience.isTransient(result.error()));
+    }
+
+    @Test
+    public void testTranslatorResolvedOnce() {
+        // 변환기를 지정하지 않으면 처음 실패했을 때 한번만 DBMS를 확인한다.
+        java.util.concurrent.atomic.AtomicInteger metaData = new java.util.concurrent.atomic.AtomicInteger();
+        Connection counting = (Connection) java.lang.reflect.Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("getMetaData")) metaData.incrementAndGet();
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (java.lang.reflect.InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        StatementBinder<Member> binder = StatementBinders.insert(Member.class, "member");
+        List<Member> duplicated = List.of(members(1, 2).get(0), members(1, 2).get(0));
+        for (int i = 0; i < 3; i++) {
+            Result<Long> result = binder.executeBatch(counting, duplicated);
+            assertSame(SQLStateClass.INTEGRITY_CONSTRAINT_VIOLATION, result.error().errorCode());
+        }
+        assertEquals(1, metaData.get());
+    }
+}
@@ -0,0 +1,23 @@
+package com.yidigun.base.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StringUtilsTest {
+
+    @Test
+    public void testSplitTrimmed() {
+        assertArrayEquals(new String[] { "a", "b" }, StringUtils.splitTrimmed("a | b", "|"));
+        assertArrayEquals(new String[] { "a", "b" }, StringUtils.splitTrimmed("a::b::", " :: "));
+        assertArrayEquals(new String[] { "", "a" }, StringUtils.splitTrimmed(", a", ","));
+        assertArrayEquals(new String[0], StringUtils.splitTrimmed("  ", ","));
+        assertArrayEquals(new String[0], StringUtils.splitTrimmed(null, ","));
+    }
+
+    @Test
+    public void testCompileDelimiterPattern() {
+        assertArrayEquals(new String[] { "a", "b" }, StringUtils.compileDelimiterPattern(".").split("a . b"));
+        assertArrayEquals(new String[] { "a", "b" }, StringUtils.compileDelimiterPattern("|").split("a|b"));
+    }
+}
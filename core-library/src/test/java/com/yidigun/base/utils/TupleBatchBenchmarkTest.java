@@ -0,0 +1,64 @@
+package com.yidigun.base.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/// `List<NamedTuple>`과 [TupleBatch]의 메모리 사용량 및 스캔 처리량 비교.
+///
+/// `./gradlew :core-library:test -Pbenchmark=true --tests '*BenchmarkTest'`로 실행한다.
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class TupleBatchBenchmarkTest {
+
+    private static final int ROWS = 500_000;
+    private static final TupleSchema SCHEMA = TupleSchema.of("member_no", "product_no", "amount", "quantity");
+
+    @Test
+    public void benchmarkMemoryAndScan() {
+        long before = usedMemory();
+        List<NamedTuple> list = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            list.add(NamedTuple.of(SCHEMA, (long) i, (long) (i % 1000), i * 0.5, i % 10));
+        }
+        long listBytes = usedMemory() - before;
+
+        before = usedMemory();
+        TupleBatch.Builder builder = TupleBatch.builder(SCHEMA, long.class, long.class, double.class, int.class);
+        for (int i = 0; i < ROWS; i++) {
+            builder.addRow((long) i, (long) (i % 1000), i * 0.5, i % 10);
+        }
+        TupleBatch batch = builder.build();
+        long batchBytes = usedMemory() - before;
+
+        System.out.printf("memory: List<NamedTuple> %,d bytes, TupleBatch %,d bytes%n", listBytes, batchBytes);
+
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            double listSum = 0.0;
+            for (NamedTuple tuple : list) {
+                if ((Long) tuple.get("product_no") < 500L) listSum += (Double) tuple.get("amount");
+            }
+            long listTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            double batchSum = batch.sumDouble("amount", batch.filterLong("product_no", n -> n < 500L));
+            long batchTime = System.nanoTime() - start;
+
+            assertEquals(listSum, batchSum);
+            System.out.printf("[round %d] scan List<NamedTuple>: %,d us, TupleBatch: %,d us%n",
+                    round, listTime / 1000, batchTime / 1000);
+        }
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,140 @@
+package com.yidigun.base.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TupleBatchTest {
+
+    private static final TupleSchema SCHEMA = TupleSchema.of("member_no", "name", "amount", "count");
+
+    private static TupleBatch sample() {
+        return TupleBatch.builder(SCHEMA, long.class, String.class, double.class, Integer.class)
+                .addRow(1L, "John", 100.0, 1)
+                .addRow(2L, "Jane", 250.5, null)
+                .addRow(3L, null, 50.0, 3)
+                .addRow(4L, "Mike")
+                .build();
+    }
+
+    @Test
+    public void testBuildAndRead() {
+        TupleBatch batch = sample();
+
+        assertEquals(4, batch.size());
+        assertEquals(4, batch.columnCount());
+        assertEquals(long.class, batch.columnType(0));
+        assertEquals(Object.class, batch.columnType(1));
+        assertEquals(double.class, batch.columnType(2));
+        assertEquals(int.class, batch.columnType(3));
+        assertEquals("Jane", batch.get(1, 1));
+        assertNull(batch.get(1, 3));
+        assertNull(batch.get(3, 2));
+
+        NamedTuple row = batch.row(1);
+        assertEquals(2L, row.get("member_no"));
+        assertEquals(NamedTuple.of(SCHEMA, 2L, "Jane", 250.5, null), row);
+        assertEquals(NamedTuple.of(SCHEMA, 2L, "Jane", 250.5, null).hashCode(), row.hashCode());
+        assertEquals("NamedTuple{member_no=2, name=Jane, amount=250.5, count=null}", row.toString());
+        assertEquals(batch.toList(), new ArrayList<>(batch.toList()));
+        assertEquals(batch.toList().get(2), batch.row(2));
+        assertThrows(ClassCastException.class,
+                () -> TupleBatch.builder(SCHEMA, long.class, String.class, double.class, int.class)
+                        .addRow("wrong"));
+    }
+
+    @Test
+    public void testCursor() {
+        TupleBatch batch = sample();
+        TupleBatch.Cursor cursor = batch.cursor();
+
+        assertThrows(IllegalStateException.class, () -> cursor.get(0));
+        long sum = 0L;
+        while (cursor.next()) {
+            sum += cursor.getLong(0);
+            assertEquals(cursor.getLong(0), cursor.getDouble(0));
+        }
+        assertEquals(10L, sum);
+        assertFalse(cursor.next());
+
+        cursor.moveTo(1);
+        assertTrue(cursor.isNull(3));
+        assertThrows(ClassCastException.class, () -> cursor.getInt(3));
+        assertEquals(250.5, cursor.getDouble(2));
+        assertEquals(1, cursor.moveTo(0).getInt(3));
+
+        List<Object> names = new ArrayList<>();
+        batch.forEach(row -> names.add(row.get("name")));
+        assertEquals(java.util.Arrays.asList("John", "Jane", null, "Mike"), names);
+
+        // forEach와 row()는 행마다 고정된 뷰를 반환하므로 보관해도 값이 바뀌지 않는다.
+        List<NamedTuple> rows = new ArrayList<>();
+        batch.forEach(rows::add);
+        assertEquals(batch.toList(), rows);
+        assertFalse(batch.row(0) instanceof TupleBatch.Cursor);
+    }
+
+    @Test
+    public void testColumnOperations() {
+        TupleBatch batch = sample();
+
+        int[] large = batch.filterDouble("amount", a -> a >= 100.0);
+        assertArrayEquals(new int[] { 0, 1 }, large);
+        assertArrayEquals(new int[] { 1 }, batch.filterLong("member_no", n -> n % 2 == 0, large));
+        assertArrayEquals(new int[] { 2 }, batch.filter("name", v -> v == null, null));
+
+        assertEquals(10L, batch.sumLong("member_no", null));
+        assertEquals(4L, batch.sumLong("count", null));
+        assertEquals(350.5, batch.sumDouble("amount", large));
+        assertEquals(OptionalLong.of(1L), batch.minLong("count", null));
+        assertEquals(OptionalLong.of(3L), batch.maxLong("count", null));
+        assertEquals(OptionalDouble.of(50.0), batch.minDouble("amount", null));
+        assertEquals(OptionalLong.empty(), batch.maxLong("count", new int[] { 1 }));
+        assertThrows(IllegalArgumentException.class, () -> batch.sumLong("name", null));
+        assertThrows(IllegalArgumentException.class, () -> batch.sumLong("amount", null));
+        assertThrows(IllegalArgumentException.class, () -> batch.sumLong("no_such_column", null));
+
+        TupleBatch taken = batch.take(new int[] { 3, 1 });
+        assertEquals(2, taken.size());
+        assertEquals("Mike", taken.get(0, 1));
+        assertNull(taken.get(0, 2));
+        assertNull(taken.get(1, 3));
+        assertEquals(250.5, taken.sumDouble("amount", null));
+    }
+
+    @Test
+    public void testOfTuples() {
+        List<NamedTuple> tuples = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            tuples.add(NamedTuple.of(SCHEMA, (long) i, "name-" + i, (i % 10 == 0)? null: i * 1.5, i));
+        }
+        TupleBatch batch = TupleBatch.of(tuples);
+
+        assertEquals(long.class, batch.columnType(0));
+        assertEquals(double.class, batch.columnType(2));
+        assertEquals(int.class, batch.columnType(3));
+        assertEquals(tuples, batch.toList());
+        assertEquals(20, batch.filter("amount", v -> v == null, null).length);
+        assertThrows(IllegalArgumentException.class,
+                () -> TupleBatch.of(List.of(NamedTuple.of(SCHEMA, 1L), NamedTuple.of(TupleSchema.of("x"), 1L))));
+
+        // 이름 없는 값이 더 있는 튜플은 값을 잃지 않도록 거부한다.
+        NamedTuple wider = NamedTuple.of(SCHEMA, 1L, "John", 1.0, 1).append("extra");
+        assertThrows(IllegalArgumentException.class, () -> TupleBatch.of(List.of(wider)));
+    }
+
+    @Test
+    public void testBuilderReuse() {
+        TupleBatch.Builder builder = TupleBatch.builder(SCHEMA, long.class, String.class, double.class, int.class)
+                .addRow(1L, "John", 1.0, 1);
+        TupleBatch batch = builder.build();
+        assertThrows(IllegalStateException.class, () -> builder.addRow(2L, "Jane", 2.0, 2));
+        assertThrows(IllegalStateException.class, builder::build);
+        assertEquals(1, batch.size());
+    }
+}
@@ -0,0 +1,63 @@
+package com.yidigun.base.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.*;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/// [TupleCodec]과 [ObjectOutputStream]의 직렬화 크기 및 처리량 비교.
+///
+/// `./gradlew :core-library:test -Pbenchmark=true --tests '*BenchmarkTest'`로 실행한다.
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class TupleCodecBenchmarkTest {
+
+    private static final int ROWS = 500_000;
+
+    @Test
+    public void benchmarkSerialization() throws Exception {
+        TupleSchema schema = TupleSchema.of("member_no", "region", "score", "updated_at");
+        List<Tuple> tuples = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            tuples.add(NamedTuple.of(schema, (long) i, "REGION_" + (i % 100), i * 0.5,
+                    Instant.ofEpochSecond(1_700_000_000L + i)));
+        }
+
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            ByteArrayOutputStream codecOut = new ByteArrayOutputStream();
+            TupleCodec.write(codecOut, tuples);
+            long codecWrite = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            List<Tuple> codecRead = TupleCodec.read(new ByteArrayInputStream(codecOut.toByteArray()));
+            long codecReadTime = System.nanoTime() - start;
+            assertEquals(ROWS, codecRead.size());
+
+            start = System.nanoTime();
+            ByteArrayOutputStream javaOut = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(new BufferedOutputStream(javaOut))) {
+                oos.writeObject(tuples);
+            }
+            long javaWrite = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            List<?> javaRead;
+            try (ObjectInputStream ois = new ObjectInputStream(
+                    new BufferedInputStream(new ByteArrayInputStream(javaOut.toByteArray())))) {
+                javaRead = (List<?>) ois.readObject();
+            }
+            long javaReadTime = System.nanoTime() - start;
+            assertEquals(ROWS, javaRead.size());
+
+            System.out.printf("[round %d] TupleCodec: %,d bytes, write %,d rows/s, read %,d rows/s | " +
+                            "ObjectOutputStream: %,d bytes, write %,d rows/s, read %,d rows/s%n",
+                    round, codecOut.size(), ROWS * 1_000_000_000L / codecWrite, ROWS * 1_000_000_000L / codecReadTime,
+                    javaOut.size(), ROWS * 1_000_000_000L / javaWrite, ROWS * 1_000_000_000L / javaReadTime);
+        }
+    }
+}
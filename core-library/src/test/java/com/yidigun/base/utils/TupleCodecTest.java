@@ -0,0 +1,194 @@
+package com.yidigun.base.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TupleCodecTest {
+
+    private static List<Tuple> samples() {
+        TupleSchema schema = TupleSchema.of("no", "name", "score");
+        return List.of(
+                Tuple.of(1, 2L, 3.5, "text", null, true, (short) 7, (byte) -1, 'c', 1.5f),
+                Tuple.of(new BigDecimal("12.3400"), Instant.ofEpochSecond(-10L, 999), LocalDate.of(2024, 2, 29)),
+                Tuple.of(Integer.MIN_VALUE, Long.MAX_VALUE, Double.NaN, "한글", "x".repeat(100)),
+                NamedTuple.of(schema, 1L, "Kim", 90.5),
+                NamedTuple.of(schema, 2L, "Lee", 80.0),
+                IntTuple.ofInts(-1, 0, Integer.MAX_VALUE),
+                LongTuple.ofLongs(Long.MIN_VALUE, 42L),
+                DoubleTuple.ofDoubles(0.1, -0.0),
+                MixedTuple.of(1L, "A", 2.5),
+                Tuple.of(Tuple.of(1, "nested"), NamedTuple.of(schema, 3L, "Park", 70.0)),
+                Tuple.of(),
+                Tuple.of(Thread.State.RUNNABLE));
+    }
+
+    private static byte[] encode(List<Tuple> tuples) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(tuples.size(), TupleCodec.write(out, tuples));
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        List<Tuple> tuples = samples();
+        List<Tuple> read = TupleCodec.read(new ByteArrayInputStream(encode(tuples)));
+
+        assertEquals(tuples, read);
+        assertInstanceOf(IntTuple.class, read.get(5));
+        assertInstanceOf(LongTuple.class, read.get(6));
+        assertInstanceOf(DoubleTuple.class, read.get(7));
+        assertInstanceOf(MixedTuple.class, read.get(8));
+        assertInstanceOf(Integer.class, read.get(0).get(0));
+        assertInstanceOf(Short.class, read.get(0).get(6));
+        assertEquals(new BigDecimal("12.3400"), read.get(1).get(0));
+        assertEquals(0L, Double.doubleToRawLongBits(read.get(7).getDouble(1)) ^ Double.doubleToRawLongBits(-0.0));
+    }
+
+    @Test
+    public void testSchemaSharedAcrossRows() throws IOException {
+        List<Tuple> read = TupleCodec.read(new ByteArrayInputStream(encode(samples())));
+
+        NamedTuple first = (NamedTuple) read.get(3);
+        NamedTuple second = (NamedTuple) read.get(4);
+        assertSame(first.schema(), second.schema());
+        assertSame(TupleSchema.of("no", "name", "score"), first.schema());
+        assertEquals("Lee", second.get("name"));
+    }
+
+    @Test
+    public void testStringDeduplication() throws IOException {
+        List<Tuple> repeated = new ArrayList<>();
+        List<Tuple> distinct = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            repeated.add(Tuple.of("SEOUL_CENTRAL"));
+            distinct.add(Tuple.of(String.format("SEOUL_%07d", i)));
+        }
+
+        byte[] bytes = encode(repeated);
+        assertTrue(bytes.length < encode(distinct).length / 4);
+        assertEquals(repeated, TupleCodec.read(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    public void testEncoderDecoder() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TupleCodec.Encoder encoder = new TupleCodec.Encoder(out);
+        encoder.write(Tuple.of(1));
+        encoder.write(Tuple.of("a"));
+        encoder.finish();
+        assertEquals(out.size(), encoder.bytesWritten());
+        assertThrows(IllegalStateException.class, () -> encoder.write(Tuple.of(2)));
+
+        TupleCodec.Decoder decoder = new TupleCodec.Decoder(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(Tuple.of(1), decoder.read());
+        assertEquals(Tuple.of("a"), decoder.read());
+        assertNull(decoder.read());
+        assertNull(decoder.read());
+    }
+
+    @Test
+    public void testStream() throws IOException {
+        List<Tuple> tuples = samples();
+        try (Stream<Tuple> stream = TupleCodec.stream(new ByteArrayInputStream(encode(tuples)))) {
+            assertEquals(tuples, stream.toList());
+        }
+    }
+
+    @Test
+    public void testByteBuffer() throws IOException {
+        List<Tuple> tuples = samples();
+        ByteBuffer buffer = TupleCodec.encode(tuples);
+        ByteBuffer direct = ByteBuffer.allocateDirect(buffer.remaining()).put(buffer.duplicate()).flip();
+
+        assertEquals(tuples, TupleCodec.decode(buffer));
+        assertEquals(tuples, TupleCodec.decode(direct));
+        assertFalse(direct.hasRemaining());
+
+        // 위치는 스트림 끝 표시 다음으로 이동하므로 이어서 기록된 스트림을 읽을 수 있다.
+        ByteBuffer first = TupleCodec.encode(List.of(Tuple.of(1)));
+        ByteBuffer second = TupleCodec.encode(List.of(Tuple.of("a")));
+        ByteBuffer both = ByteBuffer.allocate(first.remaining() + second.remaining()).put(first).put(second).flip();
+        assertEquals(List.of(Tuple.of(1)), TupleCodec.decode(both));
+        assertEquals(first.capacity(), both.position());
+        assertEquals(List.of(Tuple.of("a")), TupleCodec.decode(both));
+    }
+
+    @Test
+    public void testFileChannel(@TempDir Path dir) throws IOException {
+        List<Tuple> tuples = samples();
+        Path file = dir.resolve("spill.bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE, StandardOpenOption.READ)) {
+            TupleCodec.write(channel, tuples);
+            long end = channel.position();
+            TupleCodec.write(channel, List.of(Tuple.of("next")));
+
+            // 기록한 위치에서 읽는다.
+            channel.position(0L);
+            assertEquals(tuples, TupleCodec.read(channel));
+            assertEquals(end, channel.position());
+            assertEquals(List.of(Tuple.of("next")), TupleCodec.read(channel));
+            assertEquals(channel.size(), channel.position());
+
+            // 작은 구간으로 나누어 매핑해도 같은 결과를 읽는다.
+            channel.position(0L);
+            assertEquals(tuples, TupleCodec.read(channel, 64));
+            assertEquals(end, channel.position());
+            assertEquals(List.of(Tuple.of("next")), TupleCodec.read(channel, 7));
+            assertEquals(channel.size(), channel.position());
+        }
+    }
+
+    @Test
+    public void testSerializationFilter() throws IOException {
+        List<Tuple> tuples = List.of(Tuple.of(new ArrayList<>(List.of(1, 2))));
+        byte[] bytes = encode(tuples);
+
+        // 기본 필터는 허용하지 않은 클래스를 거부한다.
+        assertThrows(InvalidClassException.class, () -> TupleCodec.read(new ByteArrayInputStream(bytes)));
+
+        ObjectInputFilter filter = ObjectInputFilter.Config.createFilter("java.lang.*;java.util.ArrayList;!*");
+        TupleCodec.Decoder decoder = new TupleCodec.Decoder(new ByteArrayInputStream(bytes), filter);
+        assertEquals(tuples.get(0), decoder.read());
+    }
+
+    @Test
+    public void testCorruptedStream() throws IOException {
+        byte[] bytes = encode(samples());
+
+        byte[] badHeader = bytes.clone();
+        badHeader[0] = 0;
+        assertThrows(StreamCorruptedException.class, () -> TupleCodec.read(new ByteArrayInputStream(badHeader)));
+
+        byte[] truncated = java.util.Arrays.copyOf(bytes, bytes.length / 2);
+        assertThrows(EOFException.class, () -> TupleCodec.read(new ByteArrayInputStream(truncated)));
+
+        // 크기가 남은 입력보다 크면 배열을 할당하지 않고 거부한다.
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new DataOutputStream(out).writeInt(TupleCodec.MAGIC);
+        out.write(new byte[] { 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 0 });
+        byte[] oversized = out.toByteArray();
+        assertThrows(StreamCorruptedException.class, () -> TupleCodec.decode(ByteBuffer.wrap(oversized)));
+        assertThrows(EOFException.class, () -> TupleCodec.read(new ByteArrayInputStream(oversized)));
+    }
+
+    @Test
+    public void testNotSerializable() {
+        List<Tuple> tuples = List.of(Tuple.of(new Object()));
+        assertThrows(NotSerializableException.class, () -> TupleCodec.write(new ByteArrayOutputStream(), tuples));
+    }
+}
@@ -0,0 +1,56 @@
+package com.yidigun.base.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/// 중첩 루프 조인과 [TupleJoins] 해시 조인(순차, 병렬 조회)의 처리량 비교.
+///
+/// `./gradlew :core-library:test -Pbenchmark=true --tests '*BenchmarkTest'`로 실행한다.
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class TupleJoinsBenchmarkTest {
+
+    private static final int LEFT = 200_000;
+    private static final int RIGHT = 5_000;
+
+    @Test
+    public void benchmarkJoin() {
+        TupleSchema orderSchema = TupleSchema.of("order_no", "member_no", "amount");
+        TupleSchema memberSchema = TupleSchema.of("member_no", "name");
+        List<Tuple> orders = IntStream.range(0, LEFT)
+                .mapToObj(i -> (Tuple) NamedTuple.of(orderSchema, (long) i, (long) (i % (RIGHT * 2)), i * 0.5))
+                .toList();
+        List<Tuple> members = IntStream.range(0, RIGHT)
+                .mapToObj(i -> (Tuple) NamedTuple.of(memberSchema, (long) i, "member-" + i))
+                .toList();
+
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            List<Tuple> nested = new ArrayList<>();
+            for (Tuple order : orders) {
+                for (Tuple member : members) {
+                    if (order.get(1).equals(member.get(0))) nested.add(order.append(member));
+                }
+            }
+            long nestedTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            List<Tuple> hashed = TupleJoins.hash(orders.stream(), members, 1, 0).toList();
+            long hashTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            List<Tuple> parallel = TupleJoins.hash(orders.parallelStream(), members, 1, 0).toList();
+            long parallelTime = System.nanoTime() - start;
+
+            assertEquals(nested, hashed);
+            assertEquals(nested.size(), parallel.size());
+            System.out.printf("[round %d] nested loop: %,d ms, hash join: %,d ms, parallel probe: %,d ms%n",
+                    round, nestedTime / 1_000_000, hashTime / 1_000_000, parallelTime / 1_000_000);
+        }
+    }
+}
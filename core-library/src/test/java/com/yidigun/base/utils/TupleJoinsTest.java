@@ -0,0 +1,129 @@
+package com.yidigun.base.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TupleJoinsTest {
+
+    private static final TupleSchema ORDER = TupleSchema.of("order_no", "member_no", "amount");
+    private static final TupleSchema MEMBER = TupleSchema.of("member_no", "name");
+
+    private static final List<NamedTuple> ORDERS = List.of(
+            NamedTuple.of(ORDER, 1L, 10, 100.0),
+            NamedTuple.of(ORDER, 2L, 20, 200.0),
+            NamedTuple.of(ORDER, 3L, 10, 300.0),
+            NamedTuple.of(ORDER, 4L, 99, 400.0),
+            NamedTuple.of(ORDER, 5L, null, 500.0));
+
+    private static final List<NamedTuple> MEMBERS = List.of(
+            NamedTuple.of(MEMBER, 10L, "Kim"),
+            NamedTuple.of(MEMBER, 20L, "Lee"),
+            NamedTuple.of(MEMBER, 20L, "Lee2"),
+            NamedTuple.of(MEMBER, 30L, "Park"),
+            NamedTuple.of(MEMBER, null, "Nobody"));
+
+    /// 중첩 루프로 구한 기대 결과
+    private static List<Tuple> nestedLoop(List<? extends Tuple> left, List<? extends Tuple> right, int leftKey, int rightKey) {
+        List<Tuple> result = new ArrayList<>();
+        for (Tuple l : left) {
+            for (Tuple r : right) {
+                Object a = l.get(leftKey);
+                Object b = r.get(rightKey);
+                if (a != null && b != null && ((Number) a).longValue() == ((Number) b).longValue()) {
+                    result.add(l.append(r));
+                }
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void testHashJoin() {
+        List<Tuple> joined = TupleJoins.hash(ORDERS.stream(), MEMBERS, 1, 0).toList();
+
+        assertEquals(nestedLoop(ORDERS, MEMBERS, 1, 0), joined);
+        assertEquals(4, joined.size());
+        NamedTuple first = (NamedTuple) joined.get(0);
+        assertEquals("Kim", first.get("name"));
+        assertEquals(100.0, first.get("amount"));
+        assertEquals(ORDER.append(3, MEMBER), first.schema());
+        assertEquals(List.of("Lee", "Lee2"), joined.stream().filter(t -> t.get(0).equals(2L)).map(t -> t.get(4)).toList());
+    }
+
+    @Test
+    public void testParallelProbe() {
+        List<Tuple> left = IntStream.range(0, 50_000).mapToObj(i -> Tuple.of(i, i % 1000)).toList();
+        List<Tuple> right = IntStream.range(0, 500).mapToObj(i -> Tuple.of((long) i * 2, "r" + i)).toList();
+
+        TupleJoins.HashIndex index = TupleJoins.index(right, 0);
+        List<Tuple> sequential = index.join(left.stream(), 1).toList();
+        List<Tuple> parallel = index.join(left.parallelStream(), 1).toList();
+
+        assertEquals(25_000, sequential.size());
+        assertEquals(sequential, parallel);
+        assertEquals(Tuple.of(2, 2, 2L, "r1"), sequential.get(1));
+        assertEquals(List.of(Tuple.of(4L, "r2")), index.get(4));
+    }
+
+    @Test
+    public void testCompositeKeys() {
+        List<Tuple> left = List.of(Tuple.of("A", 1, "x"), Tuple.of("A", 2, "y"), Tuple.of("B", 1, "z"));
+        List<Tuple> right = List.of(Tuple.of(1L, "A", 10), Tuple.of(1L, "B", 20), Tuple.of(2L, "B", 30));
+
+        List<Tuple> joined = TupleJoins.hash(left.stream(), right, new int[] { 0, 1 }, new int[] { 1, 0 }).toList();
+
+        assertEquals(List.of(Tuple.of("A", 1, "x", 1L, "A", 10), Tuple.of("B", 1, "z", 1L, "B", 20)), joined);
+        assertThrows(IllegalArgumentException.class,
+                () -> TupleJoins.hash(left.stream(), right, new int[] { 0 }, new int[] { 1, 0 }));
+    }
+
+    @Test
+    public void testMergeJoin() {
+        List<NamedTuple> orders = new ArrayList<>(ORDERS);
+        orders.sort(TupleSorter.comparing(1));
+        List<NamedTuple> members = new ArrayList<>(MEMBERS);
+        members.sort(TupleSorter.comparing(0));
+
+        boolean[] closed = { false, false };
+        try (Stream<Tuple> joined = TupleJoins.merge(orders.stream().onClose(() -> closed[0] = true),
+                members.stream().onClose(() -> closed[1] = true), 1, 0)) {
+            assertEquals(nestedLoop(orders, members, 1, 0), joined.toList());
+        }
+        assertTrue(closed[0] && closed[1]);
+    }
+
+    @Test
+    public void testMergeJoinDuplicateKeys() {
+        List<Tuple> left = List.of(Tuple.of(1), Tuple.of(2), Tuple.of(2), Tuple.of(3), Tuple.of(5));
+        List<Tuple> right = List.of(Tuple.of(2, "a"), Tuple.of(2, "b"), Tuple.of(4, "c"), Tuple.of(5, "d"));
+
+        assertEquals(nestedLoop(left, right, 0, 0), TupleJoins.merge(left.stream(), right.stream(), 0, 0).toList());
+        assertEquals(List.of(), TupleJoins.merge(left.stream(), Stream.empty(), 0, 0).toList());
+    }
+
+    @Test
+    public void testMergeJoinCompositeNullKeys() {
+        // 여러 컬럼 키에 null이 있어도 그 뒤의 키는 조인된다.
+        List<Tuple> rows = List.of(Tuple.of(1, null), Tuple.of(2, "x"));
+        int[] keys = { 0, 1 };
+        assertEquals(TupleJoins.hash(rows.stream(), rows, keys, keys).toList(),
+                TupleJoins.merge(rows.stream(), rows.stream(), keys, keys).toList());
+        assertEquals(List.of(Tuple.of(2, "x", 2, "x")), TupleJoins.merge(rows.stream(), rows.stream(), keys, keys).toList());
+
+        List<Tuple> left = new ArrayList<>(List.of(Tuple.of(1, "a"), Tuple.of(1, null), Tuple.of(2, null),
+                Tuple.of(2, "b"), Tuple.of(3, "c"), Tuple.of(null, "c")));
+        List<Tuple> right = new ArrayList<>(List.of(Tuple.of(1, null, 10), Tuple.of(2, "b", 20), Tuple.of(2, "b", 21),
+                Tuple.of(3, null, 30), Tuple.of(3, "c", 31), Tuple.of(null, null, 40)));
+        left.sort(TupleSorter.comparing(0, 1));
+        right.sort(TupleSorter.comparing(0, 1));
+        List<Tuple> merged = TupleJoins.merge(left.stream(), right.stream(), keys, keys).toList();
+        assertEquals(TupleJoins.hash(left.stream(), right, keys, keys).toList(), merged);
+        assertEquals(3, merged.size());
+    }
+}
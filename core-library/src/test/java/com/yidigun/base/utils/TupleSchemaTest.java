@@ -0,0 +1,139 @@
+package com.yidigun.base.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TupleSchemaTest {
+
+    @Test
+    public void testInterning() {
+        TupleSchema schema = TupleSchema.of("name", "age", "address");
+
+        assertSame(schema, TupleSchema.of("name", "age", "address"));
+        assertSame(schema, TupleSchema.parse("name, age, address", ","));
+        assertSame(TupleSchema.EMPTY, TupleSchema.of());
+        assertNotSame(schema, TupleSchema.of("name", "age"));
+    }
+
+    @Test
+    public void testConcurrentInterning() throws Exception {
+        // 여러 스레드에서 동시에 처음 등록해도 하나의 인스턴스만 공유된다.
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int round = 0; round < 100; round++) {
+                String[] names = { "concurrent", "round" + round };
+                List<Callable<TupleSchema>> tasks = Collections.nCopies(4, () -> TupleSchema.of(names));
+                Set<TupleSchema> schemas = Collections.newSetFromMap(new IdentityHashMap<>());
+                for (Future<TupleSchema> future : executor.invokeAll(tasks)) {
+                    schemas.add(future.get());
+                }
+                assertEquals(1, schemas.size());
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testParse() {
+        TupleSchema schema = TupleSchema.of("id", "name", "email");
+
+        assertSame(schema, TupleSchema.parse(" id , name,email ", ","));
+        assertSame(schema, TupleSchema.parse("id|name|email", "|"));
+        assertSame(schema, TupleSchema.parse("id.name.email", "."));
+        assertSame(schema, TupleSchema.parse("id  name\temail", " "));
+        assertSame(schema, TupleSchema.parse("id, name, email,,", ","));
+        assertSame(TupleSchema.parse("a, b", ","), TupleSchema.parse("a, b", ","));
+        assertArrayEquals(new String[] { "a", "", "b" }, TupleSchema.parse("a,,b", ",").names().toArray());
+        assertEquals(1, TupleSchema.parse("a.b", "|").size());
+
+        // 캐시가 가득 차도 결과는 같다.
+        for (int i = 0; i < 2048; i++) {
+            assertEquals(List.of("p" + i, "q"), TupleSchema.parse("p" + i + ", q", ",").names());
+        }
+        assertSame(schema, TupleSchema.parse(" id , name,email ", ","));
+    }
+
+    @Test
+    public void testIndexOf() {
+        String[] names = new String[40];
+        Arrays.setAll(names, i -> "column" + i);
+        names[5] = null;
+        names[7] = "column3"; // 중복
+        TupleSchema schema = TupleSchema.of(names);
+
+        assertEquals(40, schema.size());
+        assertEquals(0, schema.indexOf("column0"));
+        assertEquals(39, schema.indexOf("column39"));
+        assertEquals(3, schema.indexOf("column3"));
+        assertEquals(-1, schema.indexOf("column5"));
+        assertEquals(-1, schema.indexOf(""));
+        assertEquals(-1, schema.indexOf(null));
+        assertNull(schema.name(5));
+        assertNull(schema.name(40));
+    }
+
+    @Test
+    public void testDerivedSchemas() {
+        TupleSchema schema = TupleSchema.of("a", "b", "c");
+        TupleSchema other = TupleSchema.of("x", "y");
+
+        TupleSchema appended = schema.append(4, other);
+        assertSame(appended, schema.append(4, other));
+        assertEquals(Arrays.asList("a", "b", "c", null, "x", "y"), appended.names());
+        assertEquals(Arrays.asList("a", "x", "y"), schema.append(1, other).names());
+
+        assertSame(schema.subSchema(1, 3), schema.subSchema(1, 3));
+        assertSame(TupleSchema.of("b", "c"), schema.subSchema(1, 10));
+        assertSame(TupleSchema.EMPTY, schema.subSchema(3, 5));
+        assertSame(schema, schema.truncate(5));
+        assertSame(TupleSchema.of("a"), schema.truncate(1));
+    }
+
+    @Test
+    public void testNamedTupleSharesSchema() {
+        TupleSchema schema = TupleSchema.of("name", "age");
+        NamedTuple t1 = NamedTuple.of(schema, "Alice", 30);
+        NamedTuple t2 = NamedTuple.of(new String[] { "name", "age" }, "Bob", 40, "Seoul");
+        NamedTuple t3 = NamedTuple.of(schema, "Carol");
+
+        assertSame(schema, t1.schema());
+        assertSame(schema, t2.schema());
+        assertSame(TupleSchema.of("name"), t3.schema());
+        assertEquals(40, t2.get("age"));
+        assertEquals("Seoul", t2.get("index[2]"));
+        assertNull(t2.get("index[3]"));
+        assertNull(t2.get("index[x]"));
+        assertEquals(t1, NamedTuple.of("name,age", ",", "Alice", 30));
+
+        NamedTuple joined = t1.append(t3);
+        assertEquals("Carol", joined.get(2));
+        assertEquals("Alice", joined.get("name"));
+        assertSame(joined.schema(), t1.append(t3).schema());
+        assertSame(TupleSchema.of("age"), t2.subTuple(1, 3).schema());
+    }
+
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        TupleSchema schema = TupleSchema.of("name", "age");
+        NamedTuple tuple = NamedTuple.of(schema, "Alice", 30);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(schema);
+            out.writeObject(tuple);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertSame(schema, in.readObject());
+            NamedTuple read = (NamedTuple) in.readObject();
+            assertEquals(tuple, read);
+            assertSame(schema, read.schema());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.yidigun.base.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/// [Comparator] 정렬과 [TupleSort]의 정렬 시간 비교 (1M 행, `long` 컬럼 + 문자열 컬럼).
+///
+/// `./gradlew :core-library:test -Pbenchmark=true --tests '*BenchmarkTest'`로 실행한다.
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class TupleSortBenchmarkTest {
+
+    private static final int ROWS = 1_000_000;
+
+    @Test
+    public void benchmarkSort() {
+        TupleSchema schema = TupleSchema.of("id", "group", "amount", "name");
+        SplittableRandom random = new SplittableRandom(42);
+        List<Tuple> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(NamedTuple.of(schema, (long) i, random.nextInt(1_000), random.nextLong(), "name-" + random.nextInt(50_000)));
+        }
+        TupleSort.SortSpec numeric = TupleSort.SortSpec.asc(1).thenDesc(2);
+        TupleSort.SortSpec mixed = TupleSort.SortSpec.asc(3).thenAsc(1);
+
+        for (int round = 0; round < 3; round++) {
+            List<Tuple> expected = new ArrayList<>(rows);
+            long start = System.nanoTime();
+            expected.sort(numeric.comparator());
+            long comparatorTime = System.nanoTime() - start;
+
+            List<Tuple> actual = new ArrayList<>(rows);
+            start = System.nanoTime();
+            TupleSort.sort(actual, numeric);
+            long radixTime = System.nanoTime() - start;
+            assertEquals(expected, actual);
+
+            expected = new ArrayList<>(rows);
+            start = System.nanoTime();
+            expected.sort(mixed.comparator());
+            long mixedComparatorTime = System.nanoTime() - start;
+
+            actual = new ArrayList<>(rows);
+            start = System.nanoTime();
+            TupleSort.sort(actual, mixed);
+            long mixedTime = System.nanoTime() - start;
+            assertEquals(expected, actual);
+
+            System.out.printf("[round %d] int/long keys - comparator: %,d ms, TupleSort: %,d ms; " +
+                            "string/int keys - comparator: %,d ms, TupleSort: %,d ms%n",
+                    round, comparatorTime / 1_000_000, radixTime / 1_000_000,
+                    mixedComparatorTime / 1_000_000, mixedTime / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.yidigun.base.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TupleSortTest {
+
+    private static final TupleSchema SCHEMA = TupleSchema.of("id", "score", "rate", "name");
+
+    private static List<Tuple> rows(int count) {
+        SplittableRandom random = new SplittableRandom(7);
+        List<Tuple> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Long score = (random.nextInt(10) == 0)? null: random.nextLong(-50, 50);
+            Double rate = (random.nextInt(10) == 0)? null: (random.nextInt(20) - 10) * 0.5;
+            String name = (random.nextInt(10) == 0)? null: "name-" + random.nextInt(30);
+            rows.add(NamedTuple.of(SCHEMA, i, score, rate, name));
+        }
+        return rows;
+    }
+
+    private static void assertSorted(List<Tuple> rows, TupleSort.SortSpec spec) {
+        List<Tuple> expected = new ArrayList<>(rows);
+        expected.sort(spec.comparator());
+        List<Tuple> actual = new ArrayList<>(rows);
+        TupleSort.sort(actual, spec);
+        assertEquals(expected, actual, spec.toString());
+    }
+
+    @Test
+    public void testSortMatchesComparator() {
+        List<Tuple> rows = rows(20_000);
+        assertSorted(rows, TupleSort.SortSpec.asc(1));
+        assertSorted(rows, TupleSort.SortSpec.desc(1).nullsFirst());
+        assertSorted(rows, TupleSort.SortSpec.asc(2).thenDesc(1));
+        assertSorted(rows, TupleSort.SortSpec.desc(3).thenAsc(2).nullsFirst().thenDesc(0));
+        assertSorted(rows, TupleSort.SortSpec.asc(3).nullsFirst().thenDesc(1));
+    }
+
+    @Test
+    public void testPrimitiveTuples() {
+        List<Tuple> rows = new ArrayList<>(List.of(
+                IntTuple.ofInts(3, -1), IntTuple.ofInts(-2, 5), IntTuple.ofInts(3, -7),
+                LongTuple.ofLongs(Long.MIN_VALUE, 0), LongTuple.ofLongs(Long.MAX_VALUE, 1),
+                MixedTuple.builder().add(0).add(2L).build()));
+        TupleSort.sort(rows, TupleSort.SortSpec.asc(0).thenDesc(1));
+        assertEquals(List.of(Long.MIN_VALUE, -2L, 0L, 3L, 3L, Long.MAX_VALUE),
+                rows.stream().map(t -> t.getLong(0)).toList());
+        assertEquals(-1, rows.get(3).get(1));
+
+        List<Tuple> doubles = new ArrayList<>(List.of(
+                DoubleTuple.ofDoubles(1.5), DoubleTuple.ofDoubles(Double.NaN), DoubleTuple.ofDoubles(-0.0),
+                DoubleTuple.ofDoubles(0.0), DoubleTuple.ofDoubles(Double.NEGATIVE_INFINITY), DoubleTuple.ofDoubles(-3.25)));
+        TupleSort.sort(doubles, TupleSort.SortSpec.asc(0));
+        assertEquals(List.of(Double.NEGATIVE_INFINITY, -3.25, -0.0, 0.0, 1.5, Double.NaN),
+                doubles.stream().map(Tuple::first).toList());
+    }
+
+    @Test
+    public void testMixedNumbers() {
+        // 정수와 실수가 섞인 컬럼은 double로 비교한다.
+        List<Tuple> rows = new ArrayList<>(List.of(
+                Tuple.of(2.5), Tuple.of(1), DoubleTuple.ofDoubles(-1.5), Tuple.of(3L), Tuple.of((Object) null),
+                IntTuple.ofInts(2), Tuple.of(1.0f), MixedTuple.builder().add(-2L).build()));
+        assertSorted(rows, TupleSort.SortSpec.asc(0));
+        assertSorted(rows, TupleSort.SortSpec.desc(0).nullsFirst());
+        TupleSort.sort(rows, TupleSort.SortSpec.asc(0));
+        assertEquals(Arrays.asList(-2L, -1.5, 1, 1.0f, 2, 2.5, 3L, null), rows.stream().map(Tuple::first).toList());
+
+        // 숫자가 아닌 값이 섞이면 비교할 수 없다.
+        List<Tuple> invalid = new ArrayList<>(List.of(Tuple.of(1), Tuple.of(2.0), Tuple.of("3")));
+        assertThrows(ClassCastException.class, () -> TupleSort.sort(invalid, TupleSort.SortSpec.asc(0)));
+    }
+
+    @Test
+    public void testOrderAndStability() {
+        List<Tuple> rows = List.of(Tuple.of("b", 1), Tuple.of("a", 2), Tuple.of("b", 3), Tuple.of(null, 4), Tuple.of("a", 5));
+        assertArrayEquals(new int[] { 1, 4, 0, 2, 3 }, TupleSort.order(rows, TupleSort.SortSpec.asc(0)));
+        assertArrayEquals(new int[] { 3, 0, 2, 1, 4 }, TupleSort.order(rows, TupleSort.SortSpec.desc(0).nullsFirst()));
+        assertArrayEquals(new int[0], TupleSort.order(List.of(), TupleSort.SortSpec.asc(0)));
+    }
+
+    @Test
+    public void testErrors() {
+        List<Tuple> rows = new ArrayList<>(List.of(Tuple.of(1, new Object()), Tuple.of(2, new Object())));
+        assertThrows(ClassCastException.class, () -> TupleSort.sort(rows, TupleSort.SortSpec.asc(1)));
+        assertThrows(IndexOutOfBoundsException.class, () -> TupleSort.sort(rows, TupleSort.SortSpec.asc(2)));
+        assertThrows(IllegalArgumentException.class, () -> TupleSort.SortSpec.asc(-1));
+        assertEquals("SortSpec[1 ASC, 0 DESC NULLS FIRST]", TupleSort.SortSpec.asc(1).thenDesc(0).nullsFirst().toString());
+    }
+}
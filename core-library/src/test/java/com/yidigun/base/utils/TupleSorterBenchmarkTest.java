@@ -0,0 +1,49 @@
+package com.yidigun.base.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/// [TupleSorter]의 외부 정렬 처리량 측정.
+/// 입력은 지연 생성되므로 힙 사용량은 구간 크기에 비례한다.
+///
+/// `./gradlew :core-library:test -Pbenchmark=true --tests '*BenchmarkTest'`로 실행한다.
+/// 행 수는 `-Dbenchmark.sort.rows`로 지정할 수 있다 (기본값 5,000,000).
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class TupleSorterBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.sort.rows", 5_000_000);
+    private static final TupleSchema SCHEMA = TupleSchema.of("member_no", "region", "amount");
+
+    @Test
+    public void benchmarkExternalSort() {
+        TupleSorter sorter = TupleSorter.of(TupleSorter.comparing(1, 2)).withRunSize(250_000);
+        for (int round = 0; round < 2; round++) {
+            SplittableRandom random = new SplittableRandom(round);
+            Stream<Tuple> input = IntStream.range(0, ROWS)
+                    .mapToObj(i -> NamedTuple.of(SCHEMA, (long) i, "REGION_" + random.nextInt(200), random.nextDouble()));
+
+            TupleSorter.Metrics metrics = new TupleSorter.Metrics();
+            long start = System.nanoTime();
+            long count = 0L;
+            Tuple previous = null;
+            try (Stream<Tuple> sorted = sorter.sort(input, metrics)) {
+                for (Tuple tuple : (Iterable<Tuple>) sorted::iterator) {
+                    assertTrue(previous == null || sorter.comparator().compare(previous, tuple) <= 0);
+                    previous = tuple;
+                    count++;
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+
+            assertEquals(ROWS, count);
+            System.out.printf("[round %d] %,d rows/s, %s%n", round, ROWS * 1_000_000_000L / elapsed, metrics);
+        }
+    }
+}
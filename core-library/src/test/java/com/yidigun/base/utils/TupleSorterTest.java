@@ -0,0 +1,117 @@
+package com.yidigun.base.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TupleSorterTest {
+
+    private static final TupleSchema SCHEMA = TupleSchema.of("key", "seq", "name");
+
+    private static List<Tuple> rows(int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Tuple> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(NamedTuple.of(SCHEMA, random.nextInt(100), i, "name-" + (i % 37)));
+        }
+        return rows;
+    }
+
+    private static long fileCount(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    public void testExternalSortIsStable(@TempDir Path dir) throws IOException {
+        List<Tuple> rows = rows(10_000);
+        List<Tuple> expected = new ArrayList<>(rows);
+        expected.sort(TupleSorter.comparing(0));
+
+        TupleSorter sorter = TupleSorter.of(TupleSorter.comparing(0)).withRunSize(700).withTempDirectory(dir);
+        TupleSorter.Metrics metrics = new TupleSorter.Metrics();
+        try (Stream<Tuple> sorted = sorter.sort(rows.stream(), metrics)) {
+            assertTrue(fileCount(dir) > 0);
+            assertEquals(expected, sorted.toList());
+        }
+
+        assertEquals(0, fileCount(dir));
+        assertEquals(10_000, metrics.rowsRead());
+        assertEquals(10_000, metrics.rowsEmitted());
+        assertEquals(15, metrics.runs());
+        assertEquals(1, metrics.mergePasses());
+        assertTrue(metrics.spilledBytes() > 0);
+    }
+
+    @Test
+    public void testMultiPassMerge(@TempDir Path dir) throws IOException {
+        List<Tuple> rows = rows(20_000);
+        Comparator<Tuple> comparator = TupleSorter.comparing(2, 0).reversed();
+        List<Tuple> expected = new ArrayList<>(rows);
+        expected.sort(comparator);
+
+        TupleSorter.Metrics metrics = new TupleSorter.Metrics();
+        TupleSorter sorter = TupleSorter.of(comparator).withRunSize(100).withTempDirectory(dir);
+        try (Stream<Tuple> sorted = sorter.sort(rows.stream(), metrics)) {
+            assertEquals(expected, sorted.toList());
+        }
+
+        assertEquals(0, fileCount(dir));
+        assertTrue(metrics.mergePasses() > 1);
+        assertTrue(metrics.runs() > 200);
+    }
+
+    @Test
+    public void testInMemorySort(@TempDir Path dir) throws IOException {
+        TupleSorter.Metrics metrics = new TupleSorter.Metrics();
+        TupleSorter sorter = TupleSorter.of(TupleSorter.comparing(0)).withTempDirectory(dir);
+        try (Stream<Tuple> sorted = sorter.sort(Stream.of(Tuple.of(3), Tuple.of((Object) null), Tuple.of(1)), metrics)) {
+            assertEquals(List.of(Tuple.of(1), Tuple.of(3), Tuple.of((Object) null)), sorted.toList());
+        }
+        assertEquals(0, fileCount(dir));
+        assertEquals(0, metrics.runs());
+        assertEquals(0, metrics.mergePasses());
+    }
+
+    @Test
+    public void testCloseDeletesUnreadRuns(@TempDir Path dir) throws IOException {
+        TupleSorter sorter = TupleSorter.of(TupleSorter.comparing(0)).withRunSize(10).withTempDirectory(dir);
+        boolean[] inputClosed = { false };
+        Stream<Tuple> input = IntStream.range(0, 100).mapToObj(i -> Tuple.of(100 - i))
+                .onClose(() -> inputClosed[0] = true);
+        try (Stream<Tuple> sorted = sorter.sort(input)) {
+            assertEquals(Tuple.of(1), sorted.findFirst().orElseThrow());
+        }
+        assertTrue(inputClosed[0]);
+        assertEquals(0, fileCount(dir));
+    }
+
+    @Test
+    public void testCloseOnFailure(@TempDir Path dir) throws IOException {
+        // 정렬 스트림을 반환하기 전에 실패하면 입력 스트림을 닫고 임시 파일을 삭제한다.
+        TupleSorter sorter = TupleSorter.of(TupleSorter.comparing(0)).withRunSize(10).withTempDirectory(dir);
+        boolean[] inputClosed = { false };
+        Stream<Tuple> input = IntStream.range(0, 100).mapToObj(i -> {
+                    if (i == 50) throw new IllegalStateException("broken input");
+                    return Tuple.of(i);
+                })
+                .onClose(() -> inputClosed[0] = true);
+        assertThrows(IllegalStateException.class, () -> sorter.sort(input));
+        assertTrue(inputClosed[0]);
+        assertEquals(0, fileCount(dir));
+    }
+
+    @Test
+    public void testInvalidRunSize() {
+        assertThrows(IllegalArgumentException.class, () -> TupleSorter.of(TupleSorter.comparing(0)).withRunSize(0));
+    }
+}
@@ -0,0 +1,88 @@
+package com.yidigun.base.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/// 힙의 `List<Tuple>`과 [TupleStore]의 메모리 사용량, 추가, 임의 접근, 순회 처리량 비교.
+///
+/// `./gradlew :core-library:test -Pbenchmark=true --tests '*BenchmarkTest'`로 실행한다.
+/// 행 수는 `-Dbenchmark.store.rows`로 지정할 수 있다 (기본값 2,000,000).
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class TupleStoreBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.store.rows", 2_000_000);
+    private static final TupleSchema SCHEMA = TupleSchema.of("member_no", "product_no", "amount", "quantity");
+
+    @Test
+    public void benchmarkStore() {
+        for (int round = 0; round < 3; round++) {
+            long before = usedMemory();
+            long start = System.nanoTime();
+            List<Tuple> list = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                list.add(NamedTuple.of(SCHEMA, (long) i, (long) (i % 1000), i * 0.5, i % 10));
+            }
+            long listAppend = System.nanoTime() - start;
+            long listBytes = usedMemory() - before;
+
+            before = usedMemory();
+            start = System.nanoTime();
+            TupleStore store = TupleStore.create(SCHEMA, long.class, long.class, double.class, int.class);
+            for (int i = 0; i < ROWS; i++) {
+                store.append((long) i, (long) (i % 1000), i * 0.5, i % 10);
+            }
+            long storeAppend = System.nanoTime() - start;
+            long storeBytes = usedMemory() - before;
+
+            SplittableRandom random = new SplittableRandom(round);
+            int[] rows = random.ints(ROWS, 0, ROWS).toArray();
+
+            start = System.nanoTime();
+            double listRandom = 0.0;
+            for (int row : rows) listRandom += list.get(row).getDouble(2);
+            long listRandomTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            double storeRandom = 0.0;
+            for (int row : rows) storeRandom += store.getDouble(row, 2);
+            long storeRandomTime = System.nanoTime() - start;
+            assertEquals(listRandom, storeRandom);
+
+            start = System.nanoTime();
+            long listScan = 0L;
+            for (Tuple tuple : list) listScan += tuple.getLong(1);
+            long listScanTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            long storeScan = 0L;
+            TupleStore.Cursor cursor = store.cursor();
+            while (cursor.next()) storeScan += cursor.getLong(1);
+            long storeScanTime = System.nanoTime() - start;
+            assertEquals(listScan, storeScan);
+
+            System.out.printf("[round %d] heap: List<Tuple> %,d bytes, TupleStore %,d bytes (+%,d off-heap) | " +
+                            "append: %,d / %,d rows/s | random: %,d / %,d rows/s | scan: %,d / %,d rows/s%n",
+                    round, listBytes, storeBytes, store.offHeapBytes(),
+                    rate(listAppend), rate(storeAppend), rate(listRandomTime), rate(storeRandomTime),
+                    rate(listScanTime), rate(storeScanTime));
+        }
+    }
+
+    private static long rate(long nanos) {
+        return ROWS * 1_000_000_000L / Math.max(nanos, 1L);
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
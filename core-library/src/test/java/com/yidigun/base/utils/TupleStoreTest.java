@@ -0,0 +1,126 @@
+package com.yidigun.base.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TupleStoreTest {
+
+    private static final TupleSchema SCHEMA =
+            TupleSchema.of("no", "name", "amount", "count", "active", "birth", "updated");
+
+    private static TupleStore store(int pageSize) {
+        return TupleStore.create(pageSize, SCHEMA, long.class, String.class, double.class, int.class,
+                boolean.class, LocalDate.class, Instant.class);
+    }
+
+    @Test
+    public void testAppendAndGet() {
+        TupleStore store = store(TupleStore.DEFAULT_PAGE_SIZE);
+        Instant now = Instant.ofEpochSecond(1_700_000_000L, 123_456_789);
+        assertEquals(0, store.append(1L, "홍길동", 10.5, 3, true, LocalDate.of(1990, 1, 2), now));
+        assertEquals(1, store.append(NamedTuple.of(SCHEMA, 2L, null, 20.0)));
+
+        assertEquals(2, store.size());
+        assertEquals(1L, store.getLong(0, 0));
+        assertEquals("홍길동", store.get(0, 1));
+        assertEquals(10.5, store.getDouble(0, 2));
+        assertEquals(3, store.getInt(0, 3));
+        assertEquals(3L, store.getLong(0, 3));
+        assertEquals(true, store.get(0, 4));
+        assertEquals(LocalDate.of(1990, 1, 2), store.get(0, 5));
+        assertEquals(now, store.get(0, 6));
+
+        assertTrue(store.isNull(1, 1));
+        assertNull(store.get(1, 3));
+        assertThrows(ClassCastException.class, () -> store.getInt(1, 3));
+        assertThrows(ClassCastException.class, () -> store.getInt(0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(2, 0));
+        assertThrows(ClassCastException.class, () -> store.append("not a long"));
+    }
+
+    @Test
+    public void testRowViews() {
+        TupleStore store = store(TupleStore.DEFAULT_PAGE_SIZE);
+        store.append(1L, "a", 1.0, 1, false, null, null);
+        store.append(2L, "b", 2.0, 2, true, null, null);
+
+        NamedTuple row = store.row(1);
+        NamedTuple expected = NamedTuple.of(SCHEMA, 2L, "b", 2.0, 2, true, null, null);
+        assertEquals(expected, row);
+        assertEquals(expected.hashCode(), row.hashCode());
+        assertEquals("b", row.get("name"));
+        assertEquals(2L, row.getLong(0));
+
+        List<Object> names = new ArrayList<>();
+        for (NamedTuple tuple : store) {
+            names.add(tuple.get("name"));
+        }
+        assertEquals(List.of("a", "b"), names);
+
+        TupleStore.Cursor cursor = store.cursor();
+        assertThrows(IllegalStateException.class, () -> cursor.get(0));
+        double sum = 0.0;
+        while (cursor.next()) {
+            sum += cursor.getDouble(2);
+        }
+        assertEquals(3.0, sum);
+        assertEquals(1L, cursor.moveTo(0).getLong(0));
+
+        // forEach와 row()는 행마다 고정된 뷰를 반환한다.
+        List<NamedTuple> rows = new ArrayList<>();
+        store.forEach(rows::add);
+        assertEquals(List.of(store.row(0), store.row(1)), rows);
+        assertNotEquals(rows.get(0), rows.get(1));
+        assertFalse(store.row(0) instanceof TupleStore.Cursor);
+    }
+
+    @Test
+    public void testManyPages() {
+        TupleStore store = store(256);
+        for (int i = 0; i < 10_000; i++) {
+            store.append((long) i, "name-" + i, i * 0.5, i, (i % 2) == 0, null, null);
+        }
+
+        assertEquals(10_000, store.size());
+        assertTrue(store.offHeapBytes() >= (long) store.rowWidth() * 10_000);
+        for (int i = 0; i < 10_000; i += 997) {
+            assertEquals((long) i, store.getLong(i, 0));
+            assertEquals("name-" + i, store.get(i, 1));
+        }
+
+        String large = "x".repeat(1000);
+        int row = store.append(0L, large);
+        assertEquals(large, store.get(row, 1));
+    }
+
+    @Test
+    public void testUnsupportedColumnType() {
+        assertThrows(IllegalArgumentException.class,
+                () -> TupleStore.create(TupleSchema.of("a"), Object.class));
+        assertThrows(IllegalArgumentException.class,
+                () -> TupleStore.create(TupleSchema.of("a", "b"), long.class));
+    }
+
+    @Test
+    public void testSerializeRow() throws IOException, ClassNotFoundException {
+        TupleStore store = store(TupleStore.DEFAULT_PAGE_SIZE);
+        store.append(1L, "a", 1.0, 1, false, LocalDate.of(2024, 1, 1), null);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(store.row(0));
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Object read = in.readObject();
+            assertEquals(NamedTuple.class, read.getClass());
+            assertEquals(store.row(0), read);
+        }
+    }
+}
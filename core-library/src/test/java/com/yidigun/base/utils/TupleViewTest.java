@@ -0,0 +1,130 @@
+package com.yidigun.base.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TupleViewTest {
+
+    private static Object[] range(int start, int end) {
+        return IntStream.range(start, end).boxed().toArray();
+    }
+
+    @Test
+    public void testSubTupleView() {
+        Tuple tuple = Tuple.of(range(0, 100));
+        Tuple sub = tuple.subTuple(10, 60);
+
+        assertInstanceOf(TupleView.class, sub);
+        assertEquals(Tuple.of(range(10, 60)), sub);
+        assertEquals(sub, Tuple.of(range(10, 60)));
+        assertEquals(Tuple.of(range(10, 60)).hashCode(), sub.hashCode());
+        assertEquals(10, sub.first());
+        assertEquals(59, sub.getInt(49));
+        assertThrows(IndexOutOfBoundsException.class, () -> sub.get(50));
+
+        Tuple subSub = sub.subTuple(5, 45);
+        assertInstanceOf(TupleView.class, subSub);
+        assertEquals(Tuple.of(range(15, 55)), subSub);
+
+        // 작은 결과는 복사된다
+        assertFalse(tuple.subTuple(0, 3) instanceof TupleView);
+        assertEquals(Tuple.of(0, 1, 2), tuple.subTuple(0, 3));
+    }
+
+    @Test
+    public void testConcatChain() {
+        Tuple tuple = Tuple.of(range(0, 10));
+        for (int i = 10; i < 10_000; i += 10) {
+            tuple = tuple.append(Tuple.of(range(i, i + 10)));
+        }
+
+        assertInstanceOf(ConcatTuple.class, tuple);
+        assertEquals(Tuple.of(range(0, 10_000)), tuple);
+        assertEquals(Tuple.of(range(0, 10_000)).hashCode(), tuple.hashCode());
+        assertEquals(9_999, tuple.get(9_999));
+
+        Tuple appended = Tuple.of(range(0, 20)).append(range(20, 30));
+        assertEquals(Tuple.of(range(0, 30)), appended);
+        assertEquals(Tuple.of(1, 2, 3), Tuple.of(1).append(2, 3));
+    }
+
+    @Test
+    public void testConcatSliceWithoutFlatten() {
+        Tuple left = Tuple.of(range(0, 20));
+        Tuple right = Tuple.of(range(20, 40));
+        Tuple concat = left.append(right);
+
+        assertEquals(Tuple.of(range(22, 38)), concat.subTuple(22, 38));
+        assertEquals(Tuple.of(range(2, 18)), concat.subTuple(2, 18));
+        assertEquals(Tuple.of(range(10, 30)), concat.subTuple(10, 30));
+    }
+
+    @Test
+    public void testNamedTupleView() {
+        NamedTuple left = NamedTuple.of(TupleSchema.of("a", "b", "c", "d", "e", "f"), range(0, 6));
+        NamedTuple right = NamedTuple.of(TupleSchema.of("g", "h", "i", "j", "k"), range(6, 11));
+        NamedTuple joined = left.append(right);
+
+        NamedTuple expected = NamedTuple.of(TupleSchema.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k"), range(0, 11));
+        assertInstanceOf(NamedTupleView.class, joined);
+        assertEquals(expected, joined);
+        assertEquals(joined, expected);
+        assertEquals(expected.hashCode(), joined.hashCode());
+        assertEquals(8, joined.get("i"));
+        assertNotEquals(Tuple.of(range(0, 11)), joined);
+
+        NamedTuple sub = joined.subTuple(1, 10);
+        assertEquals(expected.subTuple(1, 10), sub);
+        assertEquals(2, sub.get("c"));
+        assertEquals(expected.append(1, 2), joined.append(1, 2));
+        assertEquals("NamedTuple{b=1, c=2, d=3, e=4, f=5, g=6, h=7, i=8, j=9}", sub.toString());
+    }
+
+    @Test
+    public void testCursorIsCopied() {
+        TupleSchema schema = TupleSchema.of("a", "b");
+        TupleBatch batch = TupleBatch.builder(schema, long.class, long.class)
+                .addRow(1L, 2L)
+                .addRow(3L, 4L)
+                .build();
+        TupleBatch.Cursor cursor = batch.cursor();
+        assertTrue(cursor.next());
+
+        Tuple appended = Tuple.of(range(0, 10)).append(cursor);
+        NamedTuple sub = cursor.subTuple(1, 2);
+        assertTrue(cursor.next());
+
+        assertEquals(1L, appended.get(10));
+        assertEquals(2L, sub.get("b"));
+    }
+
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        Tuple view = Tuple.of(range(0, 100)).subTuple(10, 30);
+        Tuple concat = Tuple.of(range(0, 10)).append(Tuple.of(range(10, 20)));
+        NamedTuple named = NamedTuple.of(TupleSchema.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j"), range(0, 10))
+                .append(NamedTuple.of(TupleSchema.of("k"), 10));
+
+        TupleBatch batch = TupleBatch.builder(TupleSchema.of("a", "b"), long.class, String.class)
+                .addRow(1L, "x")
+                .build();
+        TupleBatch.Cursor cursor = batch.cursor();
+        assertTrue(cursor.next());
+
+        for (Tuple tuple : new Tuple[] { view, concat, named, batch.row(0), cursor }) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(tuple);
+            }
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                Object read = in.readObject();
+                assertEquals(tuple, read);
+                assertTrue(read.getClass() == Tuple.class || read.getClass() == NamedTuple.class);
+            }
+        }
+    }
+}